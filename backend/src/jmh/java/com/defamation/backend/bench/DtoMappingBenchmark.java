@@ -0,0 +1,92 @@
+package com.defamation.backend.bench;
+
+import com.defamation.backend.domain.Case;
+import com.defamation.backend.domain.ClassificationRequest;
+import com.defamation.backend.service.JsonListParser;
+import com.defamation.backend.service.ingest.CaseRow;
+import com.defamation.backend.web.dto.CaseDto;
+import com.defamation.backend.web.dto.ClassificationRequestDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> DTO (participants / case_names 문자열 리스트 파싱 포함)
+ * - caseNames: json(배열) / text(JSON 아님, 예외 없이 단일 값) / malformed('[' 로 시작하지만 깨진 값, 예외 fallback)
+ * - cacheMiss: true 면 행마다 다른 문자열이라 JsonListParser 캐시를 못 탐
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DtoMappingBenchmark {
+
+    // JsonListParser 캐시(4096)보다 커야 cacheMiss=true 가 항상 miss
+    private static final int POOL = 8192;
+
+    @Param({"json", "text", "malformed"})
+    public String caseNames;
+
+    @Param({"false", "true"})
+    public boolean cacheMiss;
+
+    private JsonListParser parser;
+    private Case[] cases;
+    private ClassificationRequest[] requests;
+    private int next;
+
+    @Setup
+    public void setup() {
+        parser = new JsonListParser(Fixtures.OM);
+        List<CaseRow> rows = Fixtures.rows();
+        int n = cacheMiss ? POOL : rows.size();
+        cases = new Case[n];
+        requests = new ClassificationRequest[n];
+        for (int i = 0; i < n; i++) {
+            CaseRow r = rows.get(i % rows.size());
+            String suffix = cacheMiss ? "#" + i : "";
+            String names = switch (caseNames) {
+                case "text" -> "명예훼손" + suffix;
+                case "malformed" -> "[명예훼손" + suffix;
+                default -> cacheMiss ? r.caseNames().replaceFirst("]$", ",\"" + suffix + "\"]") : r.caseNames();
+            };
+            String participants = cacheMiss
+                    ? r.participants().replaceFirst("]$", ",\"" + suffix + "\"]")
+                    : r.participants();
+
+            cases[i] = Case.builder()
+                    .id((long) i).rawId(r.rawId())
+                    .problemSituation(r.problemSituation()).participants(participants)
+                    .caseNames(names).caseType(r.caseType()).courtLevel(r.courtLevel())
+                    .defendant(r.defendant()).label(r.label())
+                    .sentenceType(r.sentenceType()).sentenceValue(r.sentenceValue())
+                    .sentenceSuspension(r.sentenceSuspension())
+                    .sentenceAdditionalOrder(r.sentenceAdditionalOrder())
+                    .sentenceReason(r.sentenceReason()).sentenceJudgment(r.sentenceJudgment())
+                    .build();
+            requests[i] = ClassificationRequest.builder()
+                    .id((long) i).problemSituation(r.problemSituation()).modelId(1L)
+                    .caseNames(names).sentenceType(r.sentenceType())
+                    .sentenceAdditionalOrder(r.sentenceAdditionalOrder())
+                    .sentenceReason(r.sentenceReason()).sentenceJudgment(r.sentenceJudgment())
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void caseDtoFrom(Blackhole bh) {
+        bh.consume(CaseDto.from(cases[next()], parser));
+    }
+
+    @Benchmark
+    public void classificationRequestDtoFrom(Blackhole bh) {
+        bh.consume(ClassificationRequestDto.from(requests[next()], parser));
+    }
+
+    private int next() {
+        int i = next;
+        next = i + 1 == cases.length ? 0 : i + 1;
+        return i;
+    }
+}
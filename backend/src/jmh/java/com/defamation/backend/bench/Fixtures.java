@@ -0,0 +1,103 @@
+package com.defamation.backend.bench;
+
+import com.defamation.backend.service.ingest.CaseJsonlReader;
+import com.defamation.backend.service.ingest.CaseRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 입력: test_dataset.jsonl (jmh.dataset 시스템 프로퍼티로 경로 지정)
+ * 같은 파일을 CaseJsonlReader 로 읽으므로 적재 경로와 같은 값이 들어감
+ */
+public final class Fixtures {
+
+    public static final ObjectMapper OM = new ObjectMapper();
+
+    private static volatile List<CaseRow> rows;
+
+    private Fixtures() {
+    }
+
+    public static List<CaseRow> rows() {
+        List<CaseRow> r = rows;
+        if (r == null) {
+            synchronized (Fixtures.class) {
+                if (rows == null) rows = load(dataset());
+                r = rows;
+            }
+        }
+        return r;
+    }
+
+    public static Path dataset() {
+        Path p = Paths.get(System.getProperty("jmh.dataset", "../test_dataset.jsonl"));
+        if (!Files.exists(p)) {
+            throw new IllegalStateException("벤치마크 데이터셋이 없습니다: " + p.toAbsolutePath());
+        }
+        return p;
+    }
+
+    /**
+     * 행의 정답 값으로 만든 모델 출력 형식 JSON (generated_text)
+     */
+    public static String verdictJson(CaseRow row) {
+        Map<String, Object> sentence = new LinkedHashMap<>();
+        sentence.put("형종", row.sentenceType());
+        sentence.put("벌금액", won(row.sentenceValue()));
+        sentence.put("집행유예_기간_월", null);
+        sentence.put("추가_조건", row.sentenceAdditionalOrder());
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("판단", row.sentenceJudgment());
+        root.put("형량", sentence);
+        root.put("양형이유", row.sentenceReason());
+        try {
+            root.put("죄명", OM.readValue(row.caseNames(), List.class));
+            return OM.writeValueAsString(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 질의: 문제상황 앞부분 (첫 문장 정도)
+     */
+    public static List<String> queries(int count) {
+        List<String> out = new ArrayList<>(count);
+        for (CaseRow row : rows()) {
+            if (out.size() == count) break;
+            String s = row.problemSituation();
+            out.add(s.substring(0, Math.min(60, s.length())));
+        }
+        return out;
+    }
+
+    // "70만 원" -> 700000
+    private static Long won(String value) {
+        if (value == null) return null;
+        String digits = value.replaceAll("[^0-9]", "");
+        if (digits.isEmpty()) return null;
+        long n = Long.parseLong(digits);
+        return value.contains("만") ? n * 10_000 : n;
+    }
+
+    private static List<CaseRow> load(Path file) {
+        List<CaseRow> out = new ArrayList<>();
+        try (CaseJsonlReader reader = new CaseJsonlReader(file, OM)) {
+            CaseRow row;
+            while ((row = reader.next()) != null) out.add(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+}
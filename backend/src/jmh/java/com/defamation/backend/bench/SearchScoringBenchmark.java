@@ -0,0 +1,95 @@
+package com.defamation.backend.bench;
+
+import com.defamation.backend.service.ingest.CaseRow;
+import com.defamation.backend.service.retrieval.Bm25Index;
+import com.defamation.backend.service.retrieval.Passage;
+import com.defamation.backend.service.retrieval.PassageSplitter;
+import com.defamation.backend.service.retrieval.ScoredDocs;
+import com.defamation.backend.service.search.NgramInvertedIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 점수 계산
+ * - ngramSearch: /api/cases 의 memory 백엔드 역색인 (문제상황 + 피고인 + 양형이유 + 죄명)
+ * - likeScan: 같은 문서를 LIKE '%q%' 처럼 선형 스캔 (역색인과 비교 기준)
+ * - bm25Top200: 패시지 BM25 (하이브리드 검색의 문장당 top-k)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SearchScoringBenchmark {
+
+    private static final List<String> KEYWORDS = List.of(
+            "명예훼손", "허위사실", "단체 대화방", "카카오톡", "교회", "인터넷 카페", "모욕", "페이스북 게시글");
+
+    private NgramInvertedIndex ngram;
+    private List<String> docs;
+    private Bm25Index bm25;
+    private Path bm25File;
+    private String[] sentences;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        List<CaseRow> rows = Fixtures.rows();
+
+        ngram = new NgramInvertedIndex();
+        docs = new ArrayList<>(rows.size());
+        List<String> passages = new ArrayList<>();
+        for (CaseRow r : rows) {
+            String doc = String.join(" ", r.problemSituation(), Objects.toString(r.defendant(), ""),
+                    Objects.toString(r.sentenceReason(), ""), Objects.toString(r.caseNames(), ""));
+            ngram.add(r.rawId(), doc);
+            docs.add(doc.toLowerCase(Locale.ROOT));
+            for (Passage p : PassageSplitter.passages(String.valueOf(r.rawId()), r.problemSituation(), 400)) {
+                passages.add(p.text());
+            }
+        }
+
+        bm25File = Files.createTempFile("bench-bm25", ".bin");
+        Bm25Index.build(passages, bm25File, Bm25Index.DEFAULT_K1, Bm25Index.DEFAULT_B);
+        bm25 = Bm25Index.open(bm25File);
+
+        sentences = Fixtures.queries(64).toArray(String[]::new);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(bm25File);
+    }
+
+    @Benchmark
+    public List<NgramInvertedIndex.Hit> ngramSearch(Cursor c) {
+        String q = KEYWORDS.get(c.next++ % KEYWORDS.size());
+        return ngram.search(q);
+    }
+
+    @Benchmark
+    public int likeScan(Cursor c) {
+        String q = KEYWORDS.get(c.next++ % KEYWORDS.size()).toLowerCase(Locale.ROOT);
+        int hits = 0;
+        for (String doc : docs) {
+            if (doc.contains(q)) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public ScoredDocs bm25Top200(Cursor c) {
+        String q = sentences[c.next++ % sentences.length];
+        return bm25.search(q, 200);
+    }
+}
@@ -0,0 +1,45 @@
+package com.defamation.backend.bench;
+
+import com.defamation.backend.service.ingest.CaseRow;
+import com.defamation.backend.service.retrieval.PassageTokenizer;
+import com.defamation.backend.service.search.KoreanNgramTokenizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한국어 토크나이저 (문제상황 전체 1건 기준)
+ * - ngram: 목록 검색 역색인용 문자 bigram
+ * - bm25: 패시지 검색용 단어 토큰
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class TokenizerBenchmark {
+
+    private String[] texts;
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<CaseRow> rows = Fixtures.rows();
+        texts = rows.stream().map(CaseRow::problemSituation).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<String> ngram() {
+        return KoreanNgramTokenizer.tokenize(nextText());
+    }
+
+    @Benchmark
+    public List<String> bm25() {
+        return PassageTokenizer.tokenize(nextText());
+    }
+
+    private String nextText() {
+        String t = texts[next];
+        next = next + 1 == texts.length ? 0 : next + 1;
+        return t;
+    }
+}
@@ -0,0 +1,68 @@
+package com.defamation.backend.bench;
+
+import com.defamation.backend.domain.ClassificationRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * VerdictParser 이전의 추출 방식 (readTree -> 키 조회 -> 죄명 재직렬화). 비교 기준으로만 보관
+ */
+final class TreeVerdictExtractor {
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    /**
+     * @return 실패 사유 (성공이면 null)
+     */
+    String extractFields(ClassificationRequest req, String generatedText) {
+        JsonNode root;
+        try {
+            root = om.readTree(generatedText);
+        } catch (Exception e) {
+            return "invalid_json";
+        }
+        if (root == null || !root.isObject()) {
+            return "not_object";
+        }
+
+        req.setSentenceJudgment(text(root, "판단"));
+
+        JsonNode s = root.path("형량");
+        req.setSentenceType(text(s, "형종"));
+        req.setSentenceValue(longOrNull(s, "벌금액"));
+        req.setSentenceSuspension(intOrNull(s, "집행유예_기간_월"));
+        req.setSentenceAdditionalOrder(text(s, "추가_조건"));
+        req.setSentenceReason(text(root, "양형이유"));
+
+        JsonNode crimes = root.get("죄명");
+        if (crimes != null && crimes.isArray()) {
+            try {
+                req.setCaseNames(om.writeValueAsString(crimes));
+            } catch (Exception e) {
+                return "case_names";
+            }
+        }
+        return req.getSentenceJudgment() == null ? "missing_judgment" : null;
+    }
+
+    private static String text(JsonNode node, String key) {
+        if (node == null) return null;
+        JsonNode v = node.get(key);
+        if (v == null || v.isNull()) return null;
+        return v.asText();
+    }
+
+    private static Long longOrNull(JsonNode node, String key) {
+        if (node == null) return null;
+        JsonNode v = node.get(key);
+        if (v == null || v.isNull()) return null;
+        try { return v.asLong(); } catch (Exception e) { return null; }
+    }
+
+    private static Integer intOrNull(JsonNode node, String key) {
+        if (node == null) return null;
+        JsonNode v = node.get(key);
+        if (v == null || v.isNull()) return null;
+        try { return v.asInt(); } catch (Exception e) { return null; }
+    }
+}
@@ -0,0 +1,66 @@
+package com.defamation.backend.bench;
+
+import com.defamation.backend.domain.ClassificationRequest;
+import com.defamation.backend.service.VerdictParser;
+import com.defamation.backend.service.ingest.CaseRow;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * generated_text -> ClassificationRequest 필드 추출: 트리(readTree) vs 스트리밍(VerdictParser)
+ * - json: 모델이 순수 JSON 을 낸 경우
+ * - fenced: ```json 코드 블록 + 뒤에 설명 문장 (트리 방식은 실패)
+ * - text: JSON 이 아닌 경우 (실패 경로)
+ * -prof gc 로 돌리면 op 당 할당량도 비교 가능
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class VerdictParsingBenchmark {
+
+    @Param({"json", "fenced", "text"})
+    public String output;
+
+    private TreeVerdictExtractor tree;
+    private String[] texts;
+    private int next;
+
+    @Setup
+    public void setup() {
+        tree = new TreeVerdictExtractor();
+
+        List<CaseRow> rows = Fixtures.rows();
+        texts = new String[rows.size()];
+        for (int i = 0; i < texts.length; i++) {
+            String json = Fixtures.verdictJson(rows.get(i));
+            texts[i] = switch (output) {
+                case "fenced" -> "```json\n" + json + "\n```\n위 판단은 제공된 사실관계에 근거합니다.";
+                case "text" -> "판단: " + rows.get(i).sentenceJudgment() + "\n양형이유: " + rows.get(i).sentenceReason();
+                default -> json;
+            };
+        }
+    }
+
+    @Benchmark
+    public void tree(Blackhole bh) {
+        ClassificationRequest req = ClassificationRequest.builder().modelId(1L).build();
+        bh.consume(tree.extractFields(req, nextText()));
+        bh.consume(req);
+    }
+
+    @Benchmark
+    public void streaming(Blackhole bh) {
+        ClassificationRequest req = ClassificationRequest.builder().modelId(1L).build();
+        bh.consume(VerdictParser.parse(nextText(), req));
+        bh.consume(req);
+    }
+
+    private String nextText() {
+        String t = texts[next];
+        next = next + 1 == texts.length ? 0 : next + 1;
+        return t;
+    }
+}
@@ -0,0 +1,54 @@
+package com.defamation.backend.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * --key=value 형식 인자 (같은 key 를 여러 번 주면 모두 보관, 예: --set)
+ */
+final class Args {
+
+    private final Map<String, List<String>> values = new LinkedHashMap<>();
+
+    Args(String[] args) {
+        for (String a : args) {
+            if (!a.startsWith("--")) throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + a);
+            int eq = a.indexOf('=');
+            String key = eq < 0 ? a.substring(2) : a.substring(2, eq);
+            String value = eq < 0 ? "true" : a.substring(eq + 1);
+            values.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+    }
+
+    String get(String key, String def) {
+        List<String> v = values.get(key);
+        return v == null ? def : v.get(v.size() - 1);
+    }
+
+    List<String> all(String key) {
+        return values.getOrDefault(key, List.of());
+    }
+
+    double getDouble(String key, double def) {
+        String v = get(key, null);
+        return v == null ? def : Double.parseDouble(v);
+    }
+
+    boolean getBoolean(String key, boolean def) {
+        String v = get(key, null);
+        return v == null ? def : Boolean.parseBoolean(v);
+    }
+
+    Duration getDuration(String key, String def) {
+        return duration(get(key, def));
+    }
+
+    static Duration duration(String value) {
+        return DurationStyle.detectAndParse(value.trim());
+    }
+}
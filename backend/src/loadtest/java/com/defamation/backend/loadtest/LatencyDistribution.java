@@ -0,0 +1,45 @@
+package com.defamation.backend.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * mock 모델 서버 응답 지연 분포
+ * - fixed:800ms
+ * - uniform:300ms:2s
+ * - lognormal:800ms:4s  (중앙값, p99) LLM 생성 시간처럼 꼬리가 긴 분포
+ */
+public interface LatencyDistribution {
+
+    long sampleMillis();
+
+    static LatencyDistribution parse(String spec) {
+        String[] p = spec.trim().split(":");
+        switch (p[0].toLowerCase()) {
+            case "fixed" -> {
+                long ms = millis(p, 1);
+                return () -> ms;
+            }
+            case "uniform" -> {
+                long lo = millis(p, 1);
+                long hi = millis(p, 2);
+                if (hi < lo) throw new IllegalArgumentException("uniform 상한이 하한보다 작습니다: " + spec);
+                return () -> ThreadLocalRandom.current().nextLong(lo, hi + 1);
+            }
+            case "lognormal" -> {
+                long median = millis(p, 1);
+                long p99 = millis(p, 2);
+                if (median <= 0 || p99 < median) throw new IllegalArgumentException("lognormal 은 0 < 중앙값 <= p99: " + spec);
+                // p99 = median * exp(2.326 * sigma)
+                double mu = Math.log(median);
+                double sigma = Math.log((double) p99 / median) / 2.3263;
+                return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec + " (fixed | uniform | lognormal)");
+        }
+    }
+
+    private static long millis(String[] parts, int i) {
+        if (parts.length <= i) throw new IllegalArgumentException("지연 분포 인자가 부족합니다: " + String.join(":", parts));
+        return Args.duration(parts[i]).toMillis();
+    }
+}
@@ -0,0 +1,280 @@
+package com.defamation.backend.loadtest;
+
+import com.defamation.backend.BackendApplication;
+import com.defamation.backend.service.ingest.CaseJsonlReader;
+import com.defamation.backend.service.ingest.CaseRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재현 가능한 부하 테스트
+ * 1) test_dataset.jsonl 로 mock 모델 서버(/predict) 기동
+ * 2) 백엔드를 h2 프로필로 같은 JVM 에 기동 (cases 는 데이터셋으로 적재, 모델 주소는 mock) - --target 을 주면 생략
+ * 3) predict / cases 검색 / 이력 목록을 정해진 RPS 로 open-loop 발사
+ * 4) 엔드포인트별 처리량 + HDR 지연 백분위 출력, JSON/.hgrm 저장
+ *
+ * ./gradlew loadTest -PloadArgs="--rps=50 --duration=2m --latency=lognormal:800ms:4s --error-rate=0.02"
+ *
+ * --dataset=../test_dataset.jsonl     mock 응답 / predict 입력 / cases 적재에 사용
+ * --rps=20 --duration=60s --warmup=10s --arrivals=constant|poisson
+ * --mix=predict:1,cases:6,history:3   엔드포인트 가중치
+ * --latency=lognormal:800ms:4s        mock 지연 분포 (fixed:D | uniform:D:D | lognormal:중앙값:p99)
+ * --error-rate=0.0                    mock 이 500 을 낼 확률
+ * --mock-port=0
+ * --target=http://host:8080           이미 떠 있는 백엔드에 부하 (그 백엔드의 모델 주소를 mock URL 로 맞춰야 함)
+ * --model-id=1 --unique-inputs=true   unique-inputs 면 예측 캐시 적중 없이 매번 mock 호출
+ * --request-timeout=120s --max-inflight=5000
+ * --threads=platform|virtual|compare  내장 백엔드의 요청/블로킹 작업 스레드 (virtual 은 Java 21+, compare 는 차례로 둘 다)
+ * --set=key=value                     내장 백엔드 속성 (여러 번, 예: --set=defamation.cache.enabled=false)
+ * --out=build/reports/loadtest
+ */
+public final class LoadTest {
+
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        ObjectMapper om = new ObjectMapper();
+
+        Path dataset = Paths.get(args.get("dataset", "../test_dataset.jsonl")).toAbsolutePath().normalize();
+        List<CaseRow> rows = readRows(dataset, om);
+        if (rows.isEmpty()) throw new IllegalStateException("데이터셋이 비어 있습니다: " + dataset);
+
+        String threads = args.get("threads", "platform").toLowerCase();
+        List<String> modes = "compare".equals(threads) ? List.of("platform", "virtual") : List.of(threads);
+        for (String mode : modes) {
+            if (!mode.equals("platform") && !mode.equals("virtual")) {
+                throw new IllegalArgumentException("--threads 는 platform | virtual | compare: " + threads);
+            }
+            if (mode.equals("virtual") && !LoadThreads.virtualAvailable()) {
+                throw new IllegalStateException("가상 스레드는 Java 21 이상이 필요합니다 (-PjavaVersion=21). 현재: "
+                        + Runtime.version());
+            }
+        }
+        if (modes.size() > 1 && args.get("target", null) != null) {
+            throw new IllegalArgumentException("--threads=compare 는 내장 백엔드에서만 (--target 과 같이 쓸 수 없음)");
+        }
+
+        List<Run> runs = new ArrayList<>();
+        for (String mode : modes) {
+            runs.add(runOnce(args, argv, rows, dataset, om, mode));
+        }
+        if (runs.size() > 1) compare(runs);
+    }
+
+    /**
+     * mock 서버 + (내장) 백엔드를 새로 띄워서 한 번 실행
+     */
+    private static Run runOnce(Args args, String[] argv, List<CaseRow> rows, Path dataset, ObjectMapper om,
+                               String threads) throws Exception {
+        long modelId = Long.parseLong(args.get("model-id", "1"));
+        LatencyDistribution latency = LatencyDistribution.parse(args.get("latency", "lognormal:800ms:4s"));
+        double errorRate = args.getDouble("error-rate", 0.0);
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        ConfigurableApplicationContext backend = null;
+        try (MockPredictServer mock = new MockPredictServer(Integer.parseInt(args.get("mock-port", "0")),
+                latency, errorRate, rows, om)) {
+            System.out.println("mock model server: " + mock.url());
+
+            String target = args.get("target", null);
+            if (target == null) {
+                backend = startBackend(args, dataset, modelId, mock.url(), threads.equals("virtual"));
+                target = "http://127.0.0.1:" + ((WebServerApplicationContext) backend).getWebServer().getPort();
+            }
+            System.out.println("target backend: " + target + " (" + threads + " threads)");
+
+            double rps = args.getDouble("rps", 20);
+            Duration duration = args.getDuration("duration", "60s");
+            Duration warmup = args.getDuration("warmup", "10s");
+            Duration timeout = args.getDuration("request-timeout", "120s");
+            String mix = args.get("mix", "predict:1,cases:6,history:3");
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(LoadThreads.executor("loadtest-client-"))
+                    .build();
+            Traffic traffic = new Traffic(target, rows, om, modelId, args.getBoolean("unique-inputs", true),
+                    timeout, Traffic.parseMix(mix));
+            OpenLoopDriver driver = new OpenLoopDriver(client, traffic, rps,
+                    "poisson".equalsIgnoreCase(args.get("arrivals", "constant")),
+                    Integer.parseInt(args.get("max-inflight", "5000")));
+
+            System.out.printf("running: %.1f rps, warmup %s, duration %s, mix %s%n", rps, warmup, duration, mix);
+            // 발생기/mock 은 (Java 21 이면) 가상 스레드라 플랫폼 스레드 최대치는 거의 백엔드 몫
+            threadBean.resetPeakThreadCount();
+            OpenLoopDriver.Result result = driver.run(warmup, duration, timeout);
+            Run run = new Run(threads, result, threadBean.getPeakThreadCount());
+
+            print(run, mock);
+            write(Paths.get(args.get("out", "build/reports/loadtest")), run, mock, argv, om);
+            return run;
+        } finally {
+            if (backend != null) backend.close();
+        }
+    }
+
+    private static List<CaseRow> readRows(Path dataset, ObjectMapper om) throws IOException {
+        List<CaseRow> rows = new ArrayList<>();
+        try (CaseJsonlReader reader = new CaseJsonlReader(dataset, om)) {
+            CaseRow row;
+            while ((row = reader.next()) != null) rows.add(row);
+        }
+        return rows;
+    }
+
+    private static ConfigurableApplicationContext startBackend(Args args, Path dataset, long modelId, String mockUrl,
+                                                               boolean virtualThreads) throws IOException {
+        Path work = Files.createTempDirectory("defamation-loadtest");
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("server.port", "0");
+        props.put("defamation.model-endpoints." + modelId, mockUrl);
+        // application.yaml 의 외부 모델 주소로 헬스 프로브가 나가지 않게
+        props.put("defamation.routing.health-path", "");
+        props.put("defamation.ingest.checkpoint-dir", work.resolve("ingest").toString());
+        props.put("defamation.log-writer.spill-path", work.resolve("spill.jsonl").toString());
+        props.put("logging.level.root", "WARN");
+        props.put("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        for (String kv : args.all("set")) {
+            int eq = kv.indexOf('=');
+            if (eq <= 0) throw new IllegalArgumentException("--set 은 key=value 형식이어야 합니다: " + kv);
+            props.put(kv.substring(0, eq), kv.substring(eq + 1));
+        }
+
+        System.out.println("starting backend (h2) and importing " + dataset);
+        // CaseImportRunner 가 기동 중에 데이터셋을 cases 로 적재 (끝난 뒤에 준비 완료)
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("h2")
+                .properties(props)
+                .run("--import-cases=" + dataset);
+    }
+
+    private static void print(Run run, MockPredictServer mock) {
+        OpenLoopDriver.Result r = run.result();
+        double seconds = r.duration().toMillis() / 1000.0;
+        System.out.println();
+        System.out.printf("%-8s %8s %8s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "sent", "done", "errors", "drop", "thrpt/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long total = 0;
+        for (Map.Entry<Traffic.Endpoint, OpenLoopDriver.EndpointResult> e : r.endpoints().entrySet()) {
+            OpenLoopDriver.EndpointResult er = e.getValue();
+            if (er.sent() == 0 && er.dropped() == 0) continue;
+            Histogram h = er.latencyMicros();
+            total += er.completed();
+            System.out.printf("%-8s %8d %8d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    e.getKey().name().toLowerCase(), er.sent(), er.completed(), er.errors(), er.dropped(),
+                    er.completed() / seconds, ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9),
+                    h.getMaxValue() / 1000.0, er.statuses());
+        }
+        System.out.printf("%ntotal throughput %.1f req/s (target %.1f), late dispatches %d, unfinished %d%n",
+                total / seconds, r.targetRps(), r.lateDispatches(), r.unfinished());
+        System.out.printf("threads: %s, peak platform threads %d%n", run.threads(), run.peakThreads());
+        System.out.printf("mock model: %d requests, %d items, %d injected errors%n",
+                mock.requests.sum(), mock.items.sum(), mock.errors.sum());
+    }
+
+    private static void write(Path dir, Run run, MockPredictServer mock, String[] argv,
+                              ObjectMapper om) throws IOException {
+        OpenLoopDriver.Result r = run.result();
+        Files.createDirectories(dir);
+        String stamp = LocalDateTime.now().format(STAMP) + "-" + run.threads();
+        double seconds = r.duration().toMillis() / 1000.0;
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<Traffic.Endpoint, OpenLoopDriver.EndpointResult> e : r.endpoints().entrySet()) {
+            OpenLoopDriver.EndpointResult er = e.getValue();
+            if (er.sent() == 0 && er.dropped() == 0) continue;
+            String name = e.getKey().name().toLowerCase();
+            Histogram h = er.latencyMicros();
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("sent", er.sent());
+            m.put("completed", er.completed());
+            m.put("errors", er.errors());
+            m.put("dropped", er.dropped());
+            m.put("throughputPerSec", er.completed() / seconds);
+            m.put("statuses", er.statuses());
+            Map<String, Object> pct = new LinkedHashMap<>();
+            for (double p : new double[]{50, 75, 90, 95, 99, 99.9, 99.99}) pct.put("p" + p, ms(h, p));
+            pct.put("max", h.getMaxValue() / 1000.0);
+            pct.put("mean", h.getMean() / 1000.0);
+            m.put("latencyMs", pct);
+            endpoints.put(name, m);
+
+            // HdrHistogram 플로터 등에서 바로 열 수 있는 백분위 분포 (ms 단위)
+            try (PrintStream ps = new PrintStream(Files.newOutputStream(dir.resolve(stamp + "-" + name + ".hgrm")))) {
+                h.outputPercentileDistribution(ps, 1000.0);
+            }
+        }
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("args", List.of(argv));
+        root.put("threads", run.threads());
+        root.put("peakPlatformThreads", run.peakThreads());
+        root.put("targetRps", r.targetRps());
+        root.put("durationSec", seconds);
+        root.put("lateDispatches", r.lateDispatches());
+        root.put("unfinished", r.unfinished());
+        root.put("mock", Map.of("requests", mock.requests.sum(), "items", mock.items.sum(),
+                "errors", mock.errors.sum()));
+        root.put("endpoints", endpoints);
+
+        Path out = dir.resolve(stamp + ".json");
+        om.writerWithDefaultPrettyPrinter().writeValue(out.toFile(), root);
+        System.out.println("report: " + out.toAbsolutePath());
+    }
+
+    /**
+     * 같은 부하의 스레드 모델별 결과를 나란히
+     */
+    private static void compare(List<Run> runs) {
+        System.out.println();
+        System.out.println("=== thread model comparison ===");
+        System.out.printf("%-8s %-9s %9s %9s %9s %9s %7s %7s%n",
+                "endpoint", "threads", "thrpt/s", "p50 ms", "p99 ms", "max ms", "errors", "drop");
+        for (Traffic.Endpoint e : Traffic.Endpoint.values()) {
+            for (Run run : runs) {
+                OpenLoopDriver.EndpointResult er = run.result().endpoints().get(e);
+                if (er == null || (er.sent() == 0 && er.dropped() == 0)) continue;
+                Histogram h = er.latencyMicros();
+                double seconds = run.result().duration().toMillis() / 1000.0;
+                System.out.printf("%-8s %-9s %9.1f %9.1f %9.1f %9.1f %7d %7d%n",
+                        e.name().toLowerCase(), run.threads(), er.completed() / seconds,
+                        ms(h, 50), ms(h, 99), h.getMaxValue() / 1000.0, er.errors(), er.dropped());
+            }
+        }
+        for (Run run : runs) {
+            System.out.printf("peak platform threads (%s): %d%n", run.threads(), run.peakThreads());
+        }
+    }
+
+    private record Run(String threads, OpenLoopDriver.Result result, int peakThreads) {
+    }
+
+    private static double ms(Histogram h, double percentile) {
+        return h.getTotalCount() == 0 ? 0 : h.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.defamation.backend.loadtest;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 부하 발생기 / mock 서버 쪽 작업 스레드
+ * Java 21 이상이면 가상 스레드 -> 같은 JVM 의 플랫폼 스레드 수가 백엔드 것만 남아서 스레드 모델 비교가 쉬워짐
+ */
+final class LoadThreads {
+
+    private LoadThreads() {
+    }
+
+    static boolean virtualAvailable() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    static Executor executor(String prefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+        executor.setDaemon(true);
+        executor.setVirtualThreads(virtualAvailable());
+        return executor;
+    }
+}
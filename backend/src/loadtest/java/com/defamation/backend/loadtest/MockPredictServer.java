@@ -0,0 +1,142 @@
+package com.defamation.backend.loadtest;
+
+import com.defamation.backend.service.ingest.CaseRow;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 FastAPI 모델 서버 대역
+ * - POST /predict {"inputs": "..."} -> {"generated_text": "..."} ({"inputs": [..]} 배치도 지원)
+ * - generated_text 는 데이터셋 행의 정답으로 만든 모델 출력 형식 JSON
+ * - 응답마다 latency 분포에서 뽑은 만큼 대기, errorRate 확률로 500
+ * - GET /openapi.json: 라우터 헬스 프로브용
+ */
+final class MockPredictServer implements AutoCloseable {
+
+    private final ObjectMapper om;
+    private final HttpServer server;
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final List<String> verdicts;
+
+    final LongAdder requests = new LongAdder();
+    final LongAdder items = new LongAdder();
+    final LongAdder errors = new LongAdder();
+
+    MockPredictServer(int port, LatencyDistribution latency, double errorRate, List<CaseRow> rows, ObjectMapper om)
+            throws IOException {
+        this.om = om;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.verdicts = rows.stream().map(this::verdictJson).toList();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        server.createContext("/predict", this::handle);
+        server.createContext("/openapi.json", ex -> send(ex, 200, "{}"));
+        // 응답 지연은 sleep 이라 요청당 스레드 (모델 서버처럼 동시에 여러 건 처리)
+        server.setExecutor(LoadThreads.executor("mock-predict-"));
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/predict";
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        requests.increment();
+        JsonNode inputs = om.readTree(ex.getRequestBody()).path("inputs");
+
+        long wait = latency.sampleMillis();
+        if (wait > 0) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        if (rnd.nextDouble() < errorRate) {
+            errors.increment();
+            send(ex, 500, "{\"detail\": \"mock model error\"}");
+            return;
+        }
+
+        Object generated;
+        if (inputs.isArray()) {
+            List<String> out = new ArrayList<>(inputs.size());
+            for (int i = 0; i < inputs.size(); i++) out.add(verdicts.get(rnd.nextInt(verdicts.size())));
+            generated = out;
+        } else {
+            generated = verdicts.get(rnd.nextInt(verdicts.size()));
+        }
+        items.add(inputs.isArray() ? inputs.size() : 1);
+        send(ex, 200, om.writeValueAsString(Map.of("generated_text", generated)));
+    }
+
+    private static void send(HttpExchange ex, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private String verdictJson(CaseRow row) {
+        Map<String, Object> sentence = new LinkedHashMap<>();
+        sentence.put("형종", row.sentenceType());
+        sentence.put("벌금액", won(row.sentenceValue()));
+        sentence.put("집행유예_기간_월", null);
+        sentence.put("추가_조건", row.sentenceAdditionalOrder());
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("판단", row.sentenceJudgment());
+        root.put("형량", sentence);
+        root.put("양형이유", row.sentenceReason());
+        root.put("죄명", caseNames(row.caseNames()));
+        try {
+            return om.writeValueAsString(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // JSON 배열 문자열이 아니면 그대로 1개짜리 목록
+    private List<?> caseNames(String value) {
+        if (value == null || value.isBlank()) return List.of();
+        try {
+            return om.readValue(value, List.class);
+        } catch (IOException e) {
+            return List.of(value);
+        }
+    }
+
+    // "70만 원" -> 700000
+    private static Long won(String value) {
+        if (value == null) return null;
+        String digits = value.replaceAll("[^0-9]", "");
+        if (digits.isEmpty()) return null;
+        long n = Long.parseLong(digits);
+        return value.contains("만") ? n * 10_000 : n;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,144 @@
+package com.defamation.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * open-loop 부하 발생기
+ * - 요청 발사 시각은 응답과 무관하게 미리 정해진 일정 (constant 간격 또는 poisson 도착)
+ * - 지연은 "보냈어야 할 시각"부터 측정 -> 서버가 밀려서 발사가 늦어져도 그 대기가 지연에 포함됨 (coordinated omission 방지)
+ * - warmup 동안 보낸 요청은 기록하지 않음
+ */
+final class OpenLoopDriver {
+
+    // 1us ~ 10min, 유효숫자 3자리
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final HttpClient client;
+    private final Traffic traffic;
+    private final double rps;
+    private final boolean poisson;
+    private final int maxInflight;
+
+    private final Map<Traffic.Endpoint, Stats> stats = new EnumMap<>(Traffic.Endpoint.class);
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder lateDispatches = new LongAdder();
+
+    OpenLoopDriver(HttpClient client, Traffic traffic, double rps, boolean poisson, int maxInflight) {
+        if (rps <= 0) throw new IllegalArgumentException("rps 는 0보다 커야 합니다.");
+        this.client = client;
+        this.traffic = traffic;
+        this.rps = rps;
+        this.poisson = poisson;
+        this.maxInflight = maxInflight;
+        for (Traffic.Endpoint e : Traffic.Endpoint.values()) stats.put(e, new Stats());
+    }
+
+    Result run(Duration warmup, Duration duration, Duration drainTimeout) {
+        long meanIntervalNanos = (long) (1_000_000_000L / rps);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        long intended = start;
+        for (long seq = 0; intended < end; seq++) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            // 1ms 넘게 늦게 발사됨 = 발생기 자체가 밀림 (지연은 intended 기준이라 결과에는 반영됨)
+            if (now - intended > 1_000_000) lateDispatches.increment();
+
+            fire(traffic.pick(), seq, intended, intended >= measureFrom);
+
+            intended += poisson
+                    ? (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos)
+                    : meanIntervalNanos;
+        }
+
+        // 진행 중 요청 마무리 대기 (끝나지 않은 건 timeout 으로 집계)
+        long drainUntil = System.nanoTime() + drainTimeout.toNanos();
+        while (inflight.get() > 0 && System.nanoTime() < drainUntil) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        int unfinished = inflight.get();
+
+        Map<Traffic.Endpoint, EndpointResult> out = new EnumMap<>(Traffic.Endpoint.class);
+        stats.forEach((e, s) -> out.put(e, s.result()));
+        return new Result(duration, rps, out, lateDispatches.sum(), unfinished);
+    }
+
+    private void fire(Traffic.Endpoint endpoint, long seq, long intended, boolean measured) {
+        Stats s = stats.get(endpoint);
+        if (inflight.incrementAndGet() > maxInflight) {
+            // 발생기 쪽 동시 요청 상한 초과: 보내지 않고 따로 집계 (서버 과부하 신호)
+            inflight.decrementAndGet();
+            if (measured) s.dropped.increment();
+            return;
+        }
+        if (measured) s.sent.increment();
+
+        client.sendAsync(traffic.request(endpoint, seq), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((resp, err) -> {
+                    inflight.decrementAndGet();
+                    if (!measured) return;
+                    long micros = (System.nanoTime() - intended) / 1000;
+                    s.latency.recordValue(Math.min(Math.max(micros, 1), HIGHEST_MICROS));
+                    String status = err != null ? failure(err) : String.valueOf(resp.statusCode());
+                    s.statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+                    if (err != null || resp.statusCode() >= 400) s.errors.increment();
+                });
+    }
+
+    private static String failure(Throwable err) {
+        Throwable t = err.getCause() != null ? err.getCause() : err;
+        return t instanceof HttpTimeoutException ? "timeout" : t.getClass().getSimpleName();
+    }
+
+    private static final class Stats {
+        final Recorder latency = new Recorder(HIGHEST_MICROS, 3);
+        final LongAdder sent = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        EndpointResult result() {
+            Map<String, Long> byStatus = new TreeMap<>();
+            statuses.forEach((k, v) -> byStatus.put(k, v.sum()));
+            return new EndpointResult(sent.sum(), errors.sum(), dropped.sum(), byStatus, latency.getIntervalHistogram());
+        }
+    }
+
+    /**
+     * @param latencyMicros 측정 구간에 완료된 요청의 지연 (intended 발사 시각 기준, us)
+     */
+    record EndpointResult(long sent, long errors, long dropped, Map<String, Long> statuses,
+                          Histogram latencyMicros) {
+
+        long completed() {
+            return latencyMicros.getTotalCount();
+        }
+    }
+
+    /**
+     * @param lateDispatches 발생기가 예정보다 1ms 이상 늦게 발사한 횟수 (많으면 발생기 쪽 병목)
+     * @param unfinished     drain 시간 안에 끝나지 않은 요청 수
+     */
+    record Result(Duration duration, double targetRps, Map<Traffic.Endpoint, EndpointResult> endpoints,
+                  long lateDispatches, int unfinished) {
+    }
+}
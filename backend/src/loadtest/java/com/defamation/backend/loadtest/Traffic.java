@@ -0,0 +1,129 @@
+package com.defamation.backend.loadtest;
+
+import com.defamation.backend.service.ingest.CaseRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 엔드포인트별 요청 생성 + 가중치 혼합
+ * - predict: 데이터셋 문제상황을 inputs 로 (uniqueInputs 면 뒤에 번호를 붙여 예측 캐시를 피함)
+ * - cases: /api/cases 검색 (키워드 + offset 또는 cursor 페이지)
+ * - history: /api/classification-requests 목록 (검색어 없이 페이지 넘김 / 가끔 검색)
+ */
+final class Traffic {
+
+    enum Endpoint { PREDICT, CASES, HISTORY }
+
+    private static final List<String> KEYWORDS = List.of(
+            "명예훼손", "허위사실", "모욕", "단체 대화방", "카카오톡", "인터넷 카페", "페이스북", "교회",
+            "아파트", "유튜브", "댓글", "문자메시지");
+
+    private final String baseUrl;
+    private final List<CaseRow> rows;
+    private final ObjectMapper om;
+    private final long modelId;
+    private final boolean uniqueInputs;
+    private final Duration timeout;
+
+    private final Endpoint[] table;
+
+    Traffic(String baseUrl, List<CaseRow> rows, ObjectMapper om, long modelId, boolean uniqueInputs,
+            Duration timeout, Map<Endpoint, Integer> weights) {
+        this.baseUrl = baseUrl;
+        this.rows = rows;
+        this.om = om;
+        this.modelId = modelId;
+        this.uniqueInputs = uniqueInputs;
+        this.timeout = timeout;
+
+        List<Endpoint> t = new ArrayList<>();
+        weights.forEach((e, w) -> {
+            for (int i = 0; i < w; i++) t.add(e);
+        });
+        if (t.isEmpty()) throw new IllegalArgumentException("mix 가중치 합이 0입니다.");
+        this.table = t.toArray(Endpoint[]::new);
+    }
+
+    /**
+     * "predict:1,cases:6,history:3"
+     */
+    static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> out = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) continue;
+            String[] kv = part.trim().split(":");
+            Endpoint e = Endpoint.valueOf(kv[0].trim().toUpperCase());
+            int w = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1;
+            if (w < 0) throw new IllegalArgumentException("mix 가중치는 0 이상이어야 합니다: " + part);
+            out.put(e, w);
+        }
+        return out;
+    }
+
+    Endpoint pick() {
+        return table[ThreadLocalRandom.current().nextInt(table.length)];
+    }
+
+    HttpRequest request(Endpoint e, long seq) {
+        return switch (e) {
+            case PREDICT -> predict(seq);
+            case CASES -> get("/api/cases", listQuery(true));
+            case HISTORY -> get("/api/classification-requests", listQuery(false));
+        };
+    }
+
+    private HttpRequest predict(long seq) {
+        CaseRow row = rows.get(ThreadLocalRandom.current().nextInt(rows.size()));
+        String inputs = uniqueInputs ? row.problemSituation() + " #" + seq : row.problemSituation();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("inputs", inputs);
+        body.put("modelId", modelId);
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/defamation/predict"))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(om.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * cases 는 대부분 검색, history 는 대부분 검색어 없는 페이지 넘김 (화면 사용 패턴)
+     * 절반은 offset(page), 절반은 cursor 첫 페이지
+     */
+    private String listQuery(boolean mostlySearch) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        StringBuilder q = new StringBuilder("size=10");
+        if (rnd.nextDouble() < (mostlySearch ? 0.8 : 0.2)) {
+            q.append("&q=").append(URLEncoder.encode(KEYWORDS.get(rnd.nextInt(KEYWORDS.size())), StandardCharsets.UTF_8));
+        }
+        if (rnd.nextBoolean()) {
+            q.append("&page=").append(rnd.nextInt(5));
+        } else {
+            q.append("&cursor=");
+        }
+        return q.toString();
+    }
+
+    private HttpRequest get(String path, String query) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path + "?" + query))
+                .timeout(timeout)
+                .GET()
+                .build();
+    }
+}
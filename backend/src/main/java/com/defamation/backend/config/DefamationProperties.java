@@ -4,7 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Getter
@@ -14,8 +16,357 @@ public class DefamationProperties {
 
     /**
      * modelId -> FastAPI URL (/predict)
+     * models.endpoint_url / replica_urls 가 비어 있는 모델의 기본값 (ModelRegistry)
      * application.yml:
      * defamation.model-endpoints.1 = "https://xxx.ngrok-free.dev/predict"
      */
     private Map<Long, String> modelEndpoints = new HashMap<>();
+
+    /**
+     * modelId -> 복제본 URL 목록 (있으면 model-endpoints 대신 사용)
+     * defamation.model-replicas.1[0] = "http://gpu-a:8000/predict"
+     */
+    private Map<Long, List<String>> modelReplicas = new HashMap<>();
+
+    /**
+     * models 테이블 기반 모델 레지스트리 갱신
+     */
+    private Registry modelRegistry = new Registry();
+
+    /**
+     * 복제본 선택 / 헬스 체크 / 헤지 요청
+     */
+    private Routing routing = new Routing();
+
+    /**
+     * modelId 별 동시 호출 상한(bulkhead) / 적응형 동시성 제한 / 서킷 브레이커
+     */
+    private Guard guard = new Guard();
+
+    /**
+     * 모델 서버 호출용 HTTP 클라이언트(커넥션 풀/타임아웃) 설정
+     */
+    private Http http = new Http();
+
+    /**
+     * 예측 결과 캐시 설정
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * modelId -> 마이크로 배칭 설정 (없는 modelId 는 배칭 없이 1건씩 호출)
+     * defamation.batching.1.max-batch-size = 8
+     */
+    private Map<Long, Batching> batching = new HashMap<>();
+
+    /**
+     * 스트리밍 predict 용 OpenAI 호환(vLLM) 업스트림
+     */
+    private Streaming streaming = new Streaming();
+
+    /**
+     * classification_requests 비동기(write-behind) 저장
+     */
+    private LogWriter logWriter = new LogWriter();
+
+    /**
+     * 판례/분류 로그 검색 백엔드
+     */
+    private Search search = new Search();
+
+    /**
+     * 목록 페이지네이션 (cursor 모드 총 개수 캐시)
+     */
+    private Paging paging = new Paging();
+
+    /**
+     * cases 테이블 JSONL 일괄 적재 설정
+     */
+    private Ingest ingest = new Ingest();
+
+    /**
+     * 패시지 검색 인덱스 (BM25 / dense) 설정
+     */
+    private Retrieval retrieval = new Retrieval();
+
+    /**
+     * 번들된 SPA 정적 파일 서빙 (메모리 캐시 / 압축본 / Cache-Control / SPA fallback)
+     */
+    private StaticAssets staticAssets = new StaticAssets();
+
+    /**
+     * problem_situation SimHash 기반 근접 중복 탐지 (predict 결과 재사용 / 검색 결과 묶기)
+     */
+    private NearDuplicate nearDuplicate = new NearDuplicate();
+
+    /**
+     * /api/export JSONL 스트리밍 (재학습용 덤프)
+     */
+    private Export export = new Export();
+
+    /**
+     * 일 x 모델 예측 집계 (/api/stats)
+     */
+    private Analytics analytics = new Analytics();
+
+    @Getter
+    @Setter
+    public static class Http {
+        // endpoint(호스트)별 최대 커넥션 수
+        private int maxConnectionsPerEndpoint = 50;
+        // 커넥션 대기열 최대 길이 (넘으면 즉시 실패)
+        private int maxPendingAcquires = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        // 소켓에서 아무것도 안 읽히는 최대 시간
+        private Duration readTimeout = Duration.ofSeconds(60);
+        // 요청 1건 전체(생성 포함) 상한
+        private Duration overallTimeout = Duration.ofSeconds(90);
+    }
+
+    @Getter
+    @Setter
+    public static class Registry {
+        // models 의 max(version)/행 수를 확인하는 주기 (0 이면 폴링 안 함, 관리자 API 로만 갱신)
+        private Duration pollInterval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Routing {
+        // least-outstanding: 진행 중 요청 수가 적은 쪽 / ewma: 최근 지연 * (진행 중 + 1) 이 작은 쪽
+        private String strategy = "least-outstanding";
+        // 지연 EWMA 가중치 (새 샘플 비중)
+        private double ewmaAlpha = 0.3;
+
+        // 연속 실패 N번이면 ejectDuration 동안 제외 (프로브가 성공하면 바로 복귀)
+        private int ejectAfterFailures = 3;
+        private Duration ejectDuration = Duration.ofSeconds(30);
+
+        // 헬스 프로브 (복제본 URL 의 path 만 바꿔서 GET, 비우면 프로브 안 함)
+        // FastAPI 기본 제공 /openapi.json 으로 프로세스 생존만 확인
+        private String healthPath = "/openapi.json";
+        private Duration probeInterval = Duration.ofSeconds(5);
+        private Duration probeTimeout = Duration.ofSeconds(2);
+
+        // 헤지: 첫 요청이 p(hedgePercentile) 지연을 넘기면 다른 복제본에 한 번 더, 먼저 온 응답 사용
+        private boolean hedgeEnabled = true;
+        private double hedgePercentile = 0.95;
+        // 샘플이 hedgeMinSamples 개 모이기 전에는 hedgeInitialDelay 사용
+        private int hedgeMinSamples = 20;
+        private Duration hedgeInitialDelay = Duration.ofSeconds(10);
+        private Duration hedgeMinDelay = Duration.ofMillis(50);
+    }
+
+    @Getter
+    @Setter
+    public static class Guard {
+        private boolean enabled = true;
+        // bulkhead: modelId 당 진행 중 호출 상한 (적응형 limit 도 이 이상은 안 올라감)
+        private int maxConcurrent = 64;
+
+        // 적응형 limit (AIMD): 지연이 최소 지연 * rttTolerance 를 넘거나 실패하면 limit *= backoffRatio,
+        // 아니면 limit 을 절반 이상 쓰고 있을 때 성공 1건당 +1/limit
+        private boolean adaptive = true;
+        private int initialLimit = 16;
+        private int minLimit = 2;
+        private double backoffRatio = 0.9;
+        private double rttTolerance = 2.0;
+        // 최소 지연 기준을 다시 잡는 주기 (모델/부하가 바뀌는 경우)
+        private Duration minRttReset = Duration.ofMinutes(1);
+
+        // 서킷 브레이커: 최근 windowSize 건 중 실패(느린 호출 포함) 비율이 넘으면 openDuration 동안 즉시 503
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private Duration slowCallThreshold = Duration.ofSeconds(30);
+        private Duration openDuration = Duration.ofSeconds(30);
+        // half-open 에서 시험 삼아 보낼 호출 수 (전부 성공하면 닫힘)
+        private int halfOpenCalls = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        // in-process tier
+        private int maxEntries = 10_000;
+        private Duration ttl = Duration.ofHours(6);
+        // classification_requests 테이블 tier (input_hash 조회)
+        private boolean dbTierEnabled = false;
+        private Duration dbMaxAge = Duration.ofDays(7);
+    }
+
+    /**
+     * 배치 요청: {"inputs": [..]} -> {"generated_text": [..]} (같은 순서)
+     */
+    @Getter
+    @Setter
+    public static class Batching {
+        private boolean enabled = true;
+        // 배치 엔드포인트 (비우면 model-endpoints 의 URL 사용)
+        private String url;
+        private int maxBatchSize = 8;
+        // 첫 요청 후 배치를 채우려고 기다리는 최대 시간
+        private Duration linger = Duration.ofMillis(20);
+        // 대기열 상한 (넘으면 즉시 거절)
+        private int maxQueueDepth = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class Streaming {
+        // 예: http://localhost:8000/v1 (chat/completions 를 붙여서 호출)
+        private String baseUrl;
+        private String apiKey;
+        // modelId -> vLLM 에 올라간 served model name
+        private Map<Long, String> models = new HashMap<>();
+        private String systemPrompt;
+        private int maxTokens = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class LogWriter {
+        // false 면 요청 스레드에서 바로 JPA save
+        private boolean enabled = true;
+        private int queueCapacity = 10_000;
+        // multi-row INSERT 1번에 넣을 최대 행 수
+        private int batchSize = 200;
+        // 큐가 비어 있을 때 flusher 가 깨어나는 주기
+        private Duration flushInterval = Duration.ofMillis(200);
+        // 큐가 가득 찼을 때 호출자가 기다리는 최대 시간 (넘으면 spill 파일로)
+        private Duration offerTimeout = Duration.ofMillis(50);
+        // DB 장애/큐 초과 시 기록을 보관하는 파일 (JSONL)
+        private String spillPath = "./data/classification-spill.jsonl";
+        private Duration replayInterval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        // mysql: FULLTEXT(ngram) MATCH ... AGAINST / memory: JVM 역색인 (H2 등)
+        private String backend = "mysql";
+        // memory 백엔드: 새 행 증분 적재 최소 간격
+        private Duration syncInterval = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Paging {
+        // 근사 총 개수(COUNT 결과) 재사용 시간
+        private Duration totalCacheTtl = Duration.ofSeconds(30);
+        private int totalCacheMaxEntries = 1000;
+        // 목록 size 상한 (1 ~ maxPageSize 밖이면 400)
+        private int maxPageSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Ingest {
+        // multi-row upsert 1번에 넣을 행 수
+        private int batchSize = 500;
+        // 동시에 upsert 하는 청크 수
+        private int parallelism = 4;
+        // 관리 API 로 적재할 수 있는 파일의 기준 디렉터리 (밖의 경로는 거부)
+        private String baseDir = ".";
+        // 재개용 체크포인트 파일 위치
+        private String checkpointDir = "./data/ingest";
+        private Duration progressLogInterval = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Retrieval {
+        // bm25.bin + mapping.jsonl 위치 (scripts/build_bm25_index.py 의 OUT 과 같은 구조)
+        private String bm25IndexDir = "./data/index_passage_bm25";
+        // cases 테이블에서 패시지를 만들 때 패시지 최대 글자 수
+        private int passageChars = 400;
+        // 기동 시 인덱스가 없으면 cases 테이블로 빌드
+        private boolean buildOnStart = false;
+
+        // vectors.npy + mapping.jsonl 위치 (scripts/build_dense_index.py 의 OUT)
+        private String denseIndexDir = "./data/index_passage_dense";
+        // IVF 리스트 수 (0 = 4 * sqrt(n))
+        private int denseNlist = 0;
+        // 질의당 훑을 리스트 수
+        private int denseNprobe = 16;
+        // int8 후보를 k * refine 개 뽑아서 float32 로 재계산
+        private int denseRefine = 4;
+        private int denseTrainSample = 50_000;
+        private int denseTrainIterations = 10;
+        // 검색/학습 스레드 수 (0 = CPU 코어 수)
+        private int denseThreads = 0;
+        // false 면 Vector API 가 있어도 스칼라 커널
+        private boolean simd = true;
+        // 기본 임베더(HashingQueryEmbedder stub) 차원 (bge-m3 = 1024)
+        private int embedderDim = 1024;
+
+        // 유사 판례(/api/cases/similar): 문장별 BM25/dense top-k -> RRF -> 사건당 상한 -> 사건 점수
+        private int topkBm25 = 200;
+        private int topkDense = 200;
+        private int rrfK = 60;
+        // 사건 집계에 쓰는 최대 패시지 수
+        private int candidates = 60;
+        private int perCaseCap = 3;
+        private int topCases = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class StaticAssets {
+        // 기동 시 off-heap 에 올려 둘 파일 크기 상한 / 전체 상한 (넘는 파일은 기본 리소스 핸들러가 서빙)
+        private long maxFileBytes = 32L * 1024 * 1024;
+        private long maxTotalBytes = 256L * 1024 * 1024;
+        // .gz 빌드 산출물이 없으면 기동 시 gzip 을 만들어 둠 (이 크기 이상인 텍스트 계열만)
+        private int gzipMinBytes = 1024;
+        // 해시가 붙은 /assets/* 파일의 max-age (immutable)
+        private Duration immutableMaxAge = Duration.ofDays(365);
+        // SPA fallback(index.html) 에서 뺄 백엔드 경로
+        private List<String> spaExcludes = List.of("/api/", "/actuator", "/swagger-ui", "/v3/api-docs",
+                "/healthz", "/error");
+    }
+
+    @Getter
+    @Setter
+    public static class NearDuplicate {
+        private boolean enabled = true;
+        // 해밍 거리 이하를 근접 중복으로 봄 (밴드 수 = maxDistance + 1, 최대 15)
+        private int maxDistance = 3;
+        // 같은 모델의 근접 중복 요청이 캐시/DB 에 있으면 모델 호출 없이 그 결과 재사용
+        // (다른 입력의 판단을 돌려주는 것이라 켜는 쪽이 명시적으로 선택해야 함)
+        private boolean reuseVerdict = false;
+        // 새로 적재된 cases 를 인덱스에 반영하는 주기 (0 이면 기동 시 1번만)
+        private Duration syncInterval = Duration.ofMinutes(1);
+        // 메모리에 들고 있을 classification_requests 서명 수 (넘으면 오래된 것부터)
+        private int maxRequestEntries = 200_000;
+        // simhash 가 비어 있는 기존 행 채우기 (POST /api/admin/near-duplicates/backfill) 배치 크기
+        private int backfillBatchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Export {
+        // MySQL 이 아닌 DB(h2 등)에서 한 번에 가져올 행 수. MySQL 은 항상 행 단위 스트리밍
+        private int fetchSize = 1000;
+        // 내보내기 1건의 비동기 응답 상한 (spring.mvc.async.request-timeout 대신 적용)
+        private Duration timeout = Duration.ofHours(2);
+        // 동시에 진행할 수 있는 내보내기 수 (넘으면 503). 1건당 DB 커넥션 1개를 끝까지 잡음
+        private int maxConcurrent = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Analytics {
+        // false 면 저장 시 증분 집계를 하지 않음 (/api/stats 는 테이블에 있는 값만)
+        private boolean enabled = true;
+        // 메모리 증분을 prediction_daily_stats 에 더하는 주기
+        private Duration flushInterval = Duration.ofSeconds(10);
+        // 백필(POST /api/admin/stats/backfill) 한 번에 GROUP BY 할 id 구간 크기
+        private long backfillChunk = 50_000;
+        // /api/stats 한 번에 조회할 수 있는 최대 일 수
+        private int maxRangeDays = 366;
+    }
 }
@@ -0,0 +1,47 @@
+package com.defamation.backend.config;
+
+import com.defamation.backend.service.export.ExportPermits;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 요청별 비동기 타임아웃
+ * - spring.mvc.async.request-timeout(120s)은 predict 기준이라 수백만 행 StreamingResponseBody 내보내기는 중간에 끊김
+ * - 컨트롤러가 TIMEOUT_ATTRIBUTE 에 Duration 을 넣어 두면, 비동기 처리 시작 직전(startAsync 전)에 그 값으로 바꿈
+ * - PERMIT_ATTRIBUTE 의 내보내기 자리는 비동기 요청이 끝나면 반납 (스트림 본문이 실행되지 못한 경우 포함)
+ */
+@Configuration
+public class ExportAsyncConfig implements WebMvcConfigurer {
+
+    public static final String TIMEOUT_ATTRIBUTE = ExportAsyncConfig.class.getName() + ".timeout";
+    public static final String PERMIT_ATTRIBUTE = ExportAsyncConfig.class.getName() + ".permit";
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timeout instanceof Duration d && request instanceof AsyncWebRequest async) {
+                    async.setTimeout(d.toMillis());
+                }
+            }
+
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                Object permit = request.getAttribute(PERMIT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (permit instanceof ExportPermits.Permit p) {
+                    p.close();
+                }
+            }
+        });
+    }
+}
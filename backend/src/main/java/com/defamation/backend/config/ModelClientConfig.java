@@ -0,0 +1,50 @@
+package com.defamation.backend.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI 모델 서버 호출용 WebClient
+ * - 호스트별 커넥션 풀 (maxConnections 는 remote address 단위로 적용됨)
+ * - connect / read / 전체 응답 타임아웃
+ */
+@Configuration
+public class ModelClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider modelConnectionProvider(DefamationProperties props) {
+        DefamationProperties.Http http = props.getHttp();
+        return ConnectionProvider.builder("model-endpoints")
+                .maxConnections(http.getMaxConnectionsPerEndpoint())
+                .pendingAcquireMaxCount(http.getMaxPendingAcquires())
+                .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+                .maxIdleTime(http.getMaxIdleTime())
+                .build();
+    }
+
+    @Bean
+    public WebClient modelWebClient(WebClient.Builder builder,
+                                    ConnectionProvider modelConnectionProvider,
+                                    DefamationProperties props) {
+        DefamationProperties.Http http = props.getHttp();
+        long readTimeoutMs = http.getReadTimeout().toMillis();
+
+        HttpClient client = HttpClient.create(modelConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .responseTimeout(http.getOverallTimeout())
+                .doOnConnected(conn -> conn.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(client))
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.defamation.backend.config;
+
+import com.defamation.backend.service.retrieval.HashingQueryEmbedder;
+import com.defamation.backend.service.retrieval.QueryEmbedder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RetrievalConfig {
+
+    /**
+     * 질의 임베더 기본값 (stub). 실제 임베더 빈을 등록하면 그쪽이 사용됨
+     */
+    @Bean
+    @ConditionalOnMissingBean(QueryEmbedder.class)
+    public QueryEmbedder queryEmbedder(DefamationProperties props) {
+        return new HashingQueryEmbedder(props.getRetrieval().getEmbedderDim());
+    }
+}
@@ -0,0 +1,29 @@
+package com.defamation.backend.config;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactor 체인 안의 블로킹 작업(저장 큐 적재, 유사 판례 검색, 캐시 DB 조회)을 돌릴 스케줄러
+ * - spring.threads.virtual.enabled=true (Java 21+, vt 프로필): 작업당 가상 스레드
+ *   Tomcat 요청 스레드 / applicationTaskExecutor 는 같은 속성으로 Spring Boot 가 가상 스레드로 바꿈
+ * - 그 외: boundedElastic
+ */
+@Configuration
+public class ThreadingConfig {
+
+    @Bean
+    public Scheduler blockingScheduler(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("blocking-vt-");
+            executor.setVirtualThreads(true);
+            return Schedulers.fromExecutor(executor);
+        }
+        return Schedulers.boundedElastic();
+    }
+}
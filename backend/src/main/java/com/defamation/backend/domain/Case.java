@@ -2,6 +2,7 @@ package com.defamation.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -66,10 +67,15 @@ public class Case {
     @Column(name="sentence_judgment")
     private String sentenceJudgment;
 
+    // problem_situation 의 SimHash (근접 중복 탐지, 짧으면 NULL)
+    @Column(name="simhash")
+    private Long simhash;
+
     @Builder.Default
     @Column(name="is_deleted", nullable=false)
     private Boolean isDeleted = false;
 
+    @ColumnDefault("CURRENT_TIMESTAMP") // ddl-auto(h2 프로필)용, MySQL 은 schema.sql
     @Column(name="created_at", insertable=false, updatable=false)
     private LocalDateTime createdAt;
 }
@@ -2,6 +2,7 @@ package com.defamation.backend.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -51,11 +52,32 @@ public class ClassificationRequest {
     @Column(name = "sentence_judgment", length = 20)
     private String sentenceJudgment;
 
+    // 예측 캐시용: 정규화 입력 해시 + 모델 원문 출력
+    @Column(name = "input_hash", length = 64)
+    private String inputHash;
+
+    @Lob
+    @Column(name = "generated_text", columnDefinition = "LONGTEXT")
+    private String generatedText;
+
+    // predict(withSimilar) 때 같이 찾은 유사 판례 case_id 목록 (JSON 문자열)
+    @Column(name = "similar_case_ids", columnDefinition = "json")
+    private String similarCaseIds;
+
+    // problem_situation 의 SimHash (근접 중복 탐지, 짧으면 NULL)
+    @Column(name = "simhash")
+    private Long simhash;
+
+    // 모델 호출 없이 근접 중복 요청의 결과를 재사용했으면 그 요청의 input_hash (재사용 후보에서 제외)
+    @Column(name = "reused_input_hash", length = 64)
+    private String reusedInputHash;
+
     @Builder.Default
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;
 
     // DB default CURRENT_TIMESTAMP 사용
+    @ColumnDefault("CURRENT_TIMESTAMP") // ddl-auto(h2 프로필)용, MySQL 은 schema.sql
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
 }
@@ -1,5 +1,6 @@
 package com.defamation.backend.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
@@ -27,6 +28,30 @@ public class Model {
     private String displayName;
 
     // enabled = 1/0
+    @Builder.Default
     @Column(nullable = false)
     private Boolean enabled = true;
+
+    // ---- 라우팅 (ModelRegistry 가 읽음, 목록 API 에는 안 나감) ----
+
+    // /predict URL (NULL 이면 defamation.model-endpoints)
+    @JsonIgnore
+    @Column(name = "endpoint_url", length = 500)
+    private String endpointUrl;
+
+    // 복제본 URL 목록 JSON 문자열 (있으면 endpoint_url 대신)
+    @JsonIgnore
+    @Column(name = "replica_urls", columnDefinition = "json")
+    private String replicaUrls;
+
+    // 동시 호출 상한 (NULL 이면 defamation.guard.max-concurrent)
+    @JsonIgnore
+    @Column(name = "max_concurrent")
+    private Integer maxConcurrent;
+
+    // 행을 고칠 때마다 +1 -> 레지스트리 폴링이 감지
+    @JsonIgnore
+    @Builder.Default
+    @Column(nullable = false)
+    private Long version = 0L;
 }
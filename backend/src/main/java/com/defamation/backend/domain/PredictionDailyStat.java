@@ -0,0 +1,63 @@
+package com.defamation.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * prediction_daily_stats (일 x 모델 예측 집계)
+ * 읽기/쓰기는 PredictionAnalytics 의 JdbcTemplate 로만 함. 엔티티는 ddl-auto(h2 프로필) 테이블 생성용
+ */
+@Entity
+@Table(name = "prediction_daily_stats")
+@IdClass(PredictionDailyStat.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class PredictionDailyStat {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "model_id")
+    private Long modelId;
+
+    @ColumnDefault("0") @Column(nullable = false) private long predictions;
+    @ColumnDefault("0") @Column(nullable = false) private long guilty;
+    @ColumnDefault("0") @Column(name = "not_guilty", nullable = false) private long notGuilty;
+    @ColumnDefault("0") @Column(name = "other_judgment", nullable = false) private long otherJudgment;
+    @ColumnDefault("0") @Column(name = "parse_failures", nullable = false) private long parseFailures;
+
+    @ColumnDefault("0") @Column(nullable = false) private long fines;
+    @ColumnDefault("0") @Column(name = "fine_sum", nullable = false) private long fineSum;
+    @ColumnDefault("0") @Column(name = "fine_max", nullable = false) private long fineMax;
+
+    @ColumnDefault("0") @Column(name = "fine_le_500k", nullable = false) private long fineLe500k;
+    @ColumnDefault("0") @Column(name = "fine_le_1m", nullable = false) private long fineLe1m;
+    @ColumnDefault("0") @Column(name = "fine_le_2m", nullable = false) private long fineLe2m;
+    @ColumnDefault("0") @Column(name = "fine_le_3m", nullable = false) private long fineLe3m;
+    @ColumnDefault("0") @Column(name = "fine_le_5m", nullable = false) private long fineLe5m;
+    @ColumnDefault("0") @Column(name = "fine_le_10m", nullable = false) private long fineLe10m;
+    @ColumnDefault("0") @Column(name = "fine_le_20m", nullable = false) private long fineLe20m;
+    @ColumnDefault("0") @Column(name = "fine_gt_20m", nullable = false) private long fineGt20m;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private Long modelId;
+    }
+}
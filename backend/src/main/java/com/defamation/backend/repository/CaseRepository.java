@@ -5,22 +5,100 @@ import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 public interface CaseRepository extends JpaRepository<Case, Long> {
 
+    // 목록용 컬럼 (CaseSummaryView). sentence_reason 은 아직 전체 본문 (CaseSummaryView 참고)
+    String SUMMARY_JPQL = """
+        SELECT c.id AS id, c.rawId AS rawId, c.problemSituation AS problemSituation,
+               c.participants AS participants, c.caseNames AS caseNames, c.caseType AS caseType,
+               c.courtLevel AS courtLevel, c.defendant AS defendant, c.label AS label,
+               c.sentenceType AS sentenceType, c.sentenceValue AS sentenceValue,
+               c.sentenceSuspension AS sentenceSuspension, c.sentenceJudgment AS sentenceJudgment,
+               c.sentenceReason AS sentenceReason, c.createdAt AS createdAt
+        FROM Case c
+    """;
+
+    String SUMMARY_SQL = """
+        SELECT c.id AS id, c.raw_id AS rawId, c.problem_situation AS problemSituation,
+               c.participants AS participants, c.case_names AS caseNames, c.case_type AS caseType,
+               c.court_level AS courtLevel, c.defendant AS defendant, c.label AS label,
+               c.sentence_type AS sentenceType, c.sentence_value AS sentenceValue,
+               c.sentence_suspension AS sentenceSuspension, c.sentence_judgment AS sentenceJudgment,
+               c.sentence_reason AS sentenceReason, c.created_at AS createdAt
+        FROM cases c
+    """;
+
     /**
-     * 실제 판례 검색/페이징
+     * 실제 판례 목록 (검색어 없음)
      * is_deleted = false 만
      */
-    @Query("""
-        SELECT c FROM Case c
+    @Query(value = SUMMARY_JPQL + """
         WHERE c.isDeleted = false
-          AND (
-            :q IS NULL OR :q = '' OR
-            c.problemSituation LIKE %:q% OR
-            c.defendant LIKE %:q% OR
-            c.caseNames LIKE %:q%
-          )
         ORDER BY c.createdAt DESC
+    """, countQuery = "SELECT COUNT(c) FROM Case c WHERE c.isDeleted = false")
+    Page<CaseSummaryView> browse(Pageable pageable);
+
+    /**
+     * 실제 판례 전문 검색 (ftx_cases_text ngram FULLTEXT 인덱스 사용)
+     * 관련도 내림차순
+     */
+    @Query(value = SUMMARY_SQL + """
+        WHERE c.is_deleted = 0
+          AND MATCH(c.problem_situation, c.defendant, c.sentence_reason, c.case_names) AGAINST (:q IN NATURAL LANGUAGE MODE)
+        ORDER BY MATCH(c.problem_situation, c.defendant, c.sentence_reason, c.case_names) AGAINST (:q IN NATURAL LANGUAGE MODE) DESC,
+                 c.created_at DESC
+    """, countQuery = """
+        SELECT COUNT(*) FROM cases c
+        WHERE c.is_deleted = 0
+          AND MATCH(c.problem_situation, c.defendant, c.sentence_reason, c.case_names) AGAINST (:q IN NATURAL LANGUAGE MODE)
+    """, nativeQuery = true)
+    Page<CaseSummaryView> fullTextSearch(@Param("q") String q, Pageable pageable);
+
+    /**
+     * 실제 판례 keyset 페이지 ((created_at, id) 보다 뒤)
+     */
+    @Query(SUMMARY_JPQL + """
+        WHERE c.isDeleted = false
+          AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+        ORDER BY c.createdAt DESC, c.id DESC
+    """)
+    List<CaseSummaryView> seek(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 실제 판례 전문 검색 + keyset 페이지 (최신순)
+     */
+    @Query(value = SUMMARY_SQL + """
+        WHERE c.is_deleted = 0
+          AND MATCH(c.problem_situation, c.defendant, c.sentence_reason, c.case_names) AGAINST (:q IN NATURAL LANGUAGE MODE)
+          AND (c.created_at < :createdAt OR (c.created_at = :createdAt AND c.id < :id))
+        ORDER BY c.created_at DESC, c.id DESC
+    """, nativeQuery = true)
+    List<CaseSummaryView> seekFullText(@Param("q") String q, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 목록 projection 을 id 로 (JVM 역색인 결과 조회용)
+     */
+    @Query(SUMMARY_JPQL + """
+        WHERE c.isDeleted = false AND c.id IN :ids
     """)
-    Page<Case> search(@Param("q") String q, Pageable pageable);
+    List<CaseSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByIsDeletedFalse();
+
+    @Query(value = """
+        SELECT COUNT(*) FROM cases c
+        WHERE c.is_deleted = 0
+          AND MATCH(c.problem_situation, c.defendant, c.sentence_reason, c.case_names) AGAINST (:q IN NATURAL LANGUAGE MODE)
+    """, nativeQuery = true)
+    long countFullText(@Param("q") String q);
+
+    /**
+     * JVM 역색인 증분 적재용 (id 오름차순)
+     */
+    List<Case> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -0,0 +1,28 @@
+package com.defamation.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판례 목록용 projection
+ * - sentence_additional_order 는 제외
+ * - sentence_reason 은 전체 본문: 배포된 static/ 번들의 판결 이유 모달이 목록 값을 그대로 보여주므로,
+ *   상세 조회(/api/cases/{id})로 다시 불러오는 화면이 빌드되기 전까지는 미리보기로 자르지 않음
+ */
+public interface CaseSummaryView {
+
+    Long getId();
+    Long getRawId();
+    String getProblemSituation();
+    String getParticipants();
+    String getCaseNames();
+    String getCaseType();
+    Integer getCourtLevel();
+    String getDefendant();
+    Integer getLabel();
+    String getSentenceType();
+    String getSentenceValue();
+    String getSentenceSuspension();
+    String getSentenceJudgment();
+    String getSentenceReason();
+    LocalDateTime getCreatedAt();
+}
@@ -5,20 +5,104 @@ import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface ClassificationRequestRepository extends JpaRepository<ClassificationRequest, Long> {
 
+    // 목록용 컬럼 (ClassificationRequestSummaryView). sentence_reason 은 아직 전체 본문 (ClassificationRequestSummaryView 참고)
+    String SUMMARY_JPQL = """
+        SELECT r.id AS id, r.problemSituation AS problemSituation, r.modelId AS modelId,
+               r.caseNames AS caseNames, r.sentenceType AS sentenceType, r.sentenceValue AS sentenceValue,
+               r.sentenceSuspension AS sentenceSuspension, r.sentenceJudgment AS sentenceJudgment,
+               r.sentenceReason AS sentenceReason, r.createdAt AS createdAt
+        FROM ClassificationRequest r
+    """;
+
+    String SUMMARY_SQL = """
+        SELECT r.id AS id, r.problem_situation AS problemSituation, r.model_id AS modelId,
+               r.case_names AS caseNames, r.sentence_type AS sentenceType, r.sentence_value AS sentenceValue,
+               r.sentence_suspension AS sentenceSuspension, r.sentence_judgment AS sentenceJudgment,
+               r.sentence_reason AS sentenceReason, r.created_at AS createdAt
+        FROM classification_requests r
+    """;
+
     /**
-     * 최근 모델 분류 로그 검색/페이징
+     * 최근 모델 분류 로그 목록 (검색어 없음)
      * is_deleted = false 만
      */
-    @Query("""
-        SELECT r FROM ClassificationRequest r
+    @Query(value = SUMMARY_JPQL + """
         WHERE r.isDeleted = false
-          AND (
-            :q IS NULL OR :q = '' OR
-            r.problemSituation LIKE %:q%
-          )
         ORDER BY r.createdAt DESC
+    """, countQuery = "SELECT COUNT(r) FROM ClassificationRequest r WHERE r.isDeleted = false")
+    Page<ClassificationRequestSummaryView> browse(Pageable pageable);
+
+    /**
+     * 모델 분류 로그 전문 검색 (ftx_cls_text ngram FULLTEXT 인덱스 사용)
+     * 관련도 내림차순
+     */
+    @Query(value = SUMMARY_SQL + """
+        WHERE r.is_deleted = 0
+          AND MATCH(r.problem_situation, r.sentence_reason, r.sentence_additional_order) AGAINST (:q IN NATURAL LANGUAGE MODE)
+        ORDER BY MATCH(r.problem_situation, r.sentence_reason, r.sentence_additional_order) AGAINST (:q IN NATURAL LANGUAGE MODE) DESC,
+                 r.created_at DESC
+    """, countQuery = """
+        SELECT COUNT(*) FROM classification_requests r
+        WHERE r.is_deleted = 0
+          AND MATCH(r.problem_situation, r.sentence_reason, r.sentence_additional_order) AGAINST (:q IN NATURAL LANGUAGE MODE)
+    """, nativeQuery = true)
+    Page<ClassificationRequestSummaryView> fullTextSearch(@Param("q") String q, Pageable pageable);
+
+    /**
+     * 모델 분류 로그 keyset 페이지 ((created_at, id) 보다 뒤)
+     */
+    @Query(SUMMARY_JPQL + """
+        WHERE r.isDeleted = false
+          AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
     """)
-    Page<ClassificationRequest> search(@Param("q") String q, Pageable pageable);
+    List<ClassificationRequestSummaryView> seek(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * 모델 분류 로그 전문 검색 + keyset 페이지 (최신순)
+     */
+    @Query(value = SUMMARY_SQL + """
+        WHERE r.is_deleted = 0
+          AND MATCH(r.problem_situation, r.sentence_reason, r.sentence_additional_order) AGAINST (:q IN NATURAL LANGUAGE MODE)
+          AND (r.created_at < :createdAt OR (r.created_at = :createdAt AND r.id < :id))
+        ORDER BY r.created_at DESC, r.id DESC
+    """, nativeQuery = true)
+    List<ClassificationRequestSummaryView> seekFullText(@Param("q") String q, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 목록 projection 을 id 로 (JVM 역색인 결과 조회용)
+     */
+    @Query(SUMMARY_JPQL + """
+        WHERE r.isDeleted = false AND r.id IN :ids
+    """)
+    List<ClassificationRequestSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByIsDeletedFalse();
+
+    @Query(value = """
+        SELECT COUNT(*) FROM classification_requests r
+        WHERE r.is_deleted = 0
+          AND MATCH(r.problem_situation, r.sentence_reason, r.sentence_additional_order) AGAINST (:q IN NATURAL LANGUAGE MODE)
+    """, nativeQuery = true)
+    long countFullText(@Param("q") String q);
+
+    /**
+     * JVM 역색인 증분 적재용 (id 오름차순)
+     */
+    List<ClassificationRequest> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 예측 캐시 DB tier: 같은 모델/입력 해시의 가장 최근 결과
+     */
+    Optional<ClassificationRequest> findFirstByModelIdAndInputHashAndIsDeletedFalseOrderByIdDesc(
+            Long modelId, String inputHash);
 }
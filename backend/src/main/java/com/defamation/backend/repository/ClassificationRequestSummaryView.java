@@ -0,0 +1,23 @@
+package com.defamation.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분류 로그 목록용 projection
+ * - sentence_additional_order / generated_text 는 제외
+ * - sentence_reason 은 전체 본문: 배포된 static/ 번들의 판결 이유 모달이 목록 값을 그대로 보여주므로,
+ *   상세 조회(/api/classification-requests/{id})로 다시 불러오는 화면이 빌드되기 전까지는 미리보기로 자르지 않음
+ */
+public interface ClassificationRequestSummaryView {
+
+    Long getId();
+    String getProblemSituation();
+    Long getModelId();
+    String getCaseNames();
+    String getSentenceType();
+    Long getSentenceValue();
+    Integer getSentenceSuspension();
+    String getSentenceJudgment();
+    String getSentenceReason();
+    LocalDateTime getCreatedAt();
+}
@@ -2,6 +2,7 @@ package com.defamation.backend.repository;
 
 import com.defamation.backend.domain.Model;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +12,11 @@ public interface ModelRepository extends JpaRepository<Model, Long> {
     List<Model> findByEnabledTrueOrderByIdAsc();
 
     Optional<Model> findByName(String name);
+
+    @Query("select m.id as id, m.name as name, m.displayName as displayName, m.enabled as enabled"
+            + " from Model m where m.enabled = true order by m.id")
+    List<ModelSummary> findEnabledSummaries();
+
+    @Query("select coalesce(max(m.version), 0) as maxVersion, count(m) as modelCount from Model m")
+    ModelVersionStamp versionStamp();
 }
@@ -0,0 +1,12 @@
+package com.defamation.backend.repository;
+
+/**
+ * models 의 기본 컬럼만 (라우팅 컬럼을 못 읽는 상황에서도 목록은 내려주기 위함)
+ */
+public interface ModelSummary {
+
+    Long getId();
+    String getName();
+    String getDisplayName();
+    Boolean getEnabled();
+}
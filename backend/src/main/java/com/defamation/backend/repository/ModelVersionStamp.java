@@ -0,0 +1,11 @@
+package com.defamation.backend.repository;
+
+/**
+ * models 테이블 변경 감지용 (ModelRegistry 폴링)
+ * - 행을 고칠 때 version 을 올리면 maxVersion 이, 추가/삭제는 modelCount 가 바뀜
+ */
+public interface ModelVersionStamp {
+
+    long getMaxVersion();
+    long getModelCount();
+}
@@ -1,36 +1,178 @@
 package com.defamation.backend.service;
 
 import com.defamation.backend.repository.CaseRepository;
+import com.defamation.backend.repository.CaseSummaryView;
+import com.defamation.backend.service.dedup.NearDuplicateService;
+import com.defamation.backend.service.retrieval.HybridSearchService;
+import com.defamation.backend.service.metrics.DefamationMetrics;
+import com.defamation.backend.service.search.SearchBackend;
 import com.defamation.backend.web.dto.CaseDto;
+import com.defamation.backend.web.dto.PageCursor;
 import com.defamation.backend.web.dto.PageResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.defamation.backend.web.dto.SimilarCaseDto;
+import com.defamation.backend.web.dto.SimilarCasesResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class CaseService {
 
+    private final SearchBackend searchBackend;
+    private final TotalCountCache totalCountCache;
     private final CaseRepository caseRepository;
-    private final ObjectMapper om = new ObjectMapper();
+    private final JsonListParser jsonListParser;
+    private final DefamationMetrics metrics;
+    private final HybridSearchService hybridSearchService;
+    private final NearDuplicateService nearDuplicates;
 
     /**
      * 실제 판례 검색/페이지네이션
      */
-    public PageResponse<CaseDto> searchCases(String q, int page, int size) {
+    public PageResponse<CaseDto> searchCases(String q, int page, int size, boolean collapse) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<CaseDto> result = caseRepository.search(q, pageable)
-                .map(c -> CaseDto.from(c, om));
+        Page<CaseSummaryView> rows = metrics.search("cases", "page", () -> searchBackend.searchCases(q, pageable));
+        Page<CaseDto> result = metrics.mapping("case_summary", () -> rows.map(c -> CaseDto.summary(c, jsonListParser)));
 
         return PageResponse.<CaseDto>builder()
-                .items(result.getContent())
+                .items(collapse ? collapse(result.getContent()) : result.getContent())
                 .page(page)
                 .size(size)
                 .totalElements(result.getTotalElements())
                 .totalPages(result.getTotalPages())
+                .hasNext(result.hasNext())
+                .totalExact(true)
+                .build();
+    }
+
+    /**
+     * 실제 판례 cursor(keyset) 페이지네이션
+     * - (created_at, id) 기준이라 깊은 페이지도 OFFSET 스캔 없음
+     * - 총 개수는 기본적으로 캐시된 근사값 (exactTotal=true 면 매번 COUNT)
+     */
+    public PageResponse<CaseDto> seekCases(String q, String cursor, int size, boolean exactTotal, boolean collapse) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<CaseSummaryView> rows = metrics.search("cases", "cursor", () -> searchBackend.seekCases(q, after, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<CaseSummaryView> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CaseSummaryView last = page.get(page.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        long total = exactTotal
+                ? searchBackend.countCases(q)
+                : totalCountCache.get("cases", q, () -> searchBackend.countCases(q));
+
+        List<CaseDto> items = metrics.mapping("case_summary",
+                () -> page.stream().map(c -> CaseDto.summary(c, jsonListParser)).toList());
+        return PageResponse.<CaseDto>builder()
+                .items(collapse ? collapse(items) : items)
+                .page(0)
+                .size(size)
+                .totalElements(total)
+                .totalPages(size <= 0 ? 0 : (int) ((total + size - 1) / size))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalExact(exactTotal)
                 .build();
     }
+
+    /**
+     * 근접 중복 묶기 (페이지 안에서만)
+     * - 앞쪽(정렬상 먼저 나온) 판례에 nearDuplicateIds 를 달고, 같은 페이지의 그 중복들은 목록에서 뺌
+     * - 페이지 경계/총 개수는 그대로라 페이지 크기보다 적게 올 수 있음
+     */
+    private List<CaseDto> collapse(List<CaseDto> items) {
+        Set<Long> covered = new HashSet<>();
+        List<CaseDto> out = new ArrayList<>(items.size());
+        for (CaseDto dto : items) {
+            if (covered.contains(dto.getId())) continue;
+            List<Long> near = nearDuplicates.nearCases(dto.getId());
+            dto.setNearDuplicateIds(near);
+            covered.addAll(near);
+            out.add(dto);
+        }
+        return out;
+    }
+
+    /**
+     * 실제 판례 상세 (전체 본문 포함, 삭제된 건 제외)
+     */
+    public Optional<CaseDto> getCase(Long id) {
+        return caseRepository.findById(id)
+                .filter(c -> !Boolean.TRUE.equals(c.getIsDeleted()))
+                .map(c -> metrics.mapping("case_detail", () -> CaseDto.from(c, jsonListParser)));
+    }
+
+    /**
+     * 하이브리드(BM25 + dense, RRF) 유사 판례 검색
+     * - 사건 요약은 상위 사건들만 한 번에 IN 조회
+     */
+    public SimilarCasesResponse similarCases(String query, int k) {
+        long started = System.nanoTime();
+        HybridSearchService.Result result = metrics.search("cases", "similar", () -> hybridSearchService.search(query, k));
+
+        long loadStarted = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (HybridSearchService.CaseHit hit : result.cases()) {
+            Long id = parseId(hit.caseId());
+            if (id != null) ids.add(id);
+        }
+        Map<Long, CaseSummaryView> summaries = ids.isEmpty() ? Map.of()
+                : caseRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(CaseSummaryView::getId, Function.identity()));
+
+        List<SimilarCaseDto> items = new ArrayList<>(result.cases().size());
+        int rank = 1;
+        for (HybridSearchService.CaseHit hit : result.cases()) {
+            Long id = parseId(hit.caseId());
+            CaseSummaryView view = id == null ? null : summaries.get(id);
+            items.add(SimilarCaseDto.builder()
+                    .rank(rank++)
+                    .caseId(hit.caseId())
+                    .score(hit.score())
+                    .caseSummary(view == null ? null : CaseDto.summary(view, jsonListParser))
+                    .evidence(hit.evidence().stream()
+                            .map(e -> new SimilarCaseDto.Evidence(e.pid(), e.text(), e.score()))
+                            .toList())
+                    .build());
+        }
+
+        Map<String, Double> timings = new LinkedHashMap<>(result.timingsMs());
+        long now = System.nanoTime();
+        timings.put("load", (now - loadStarted) / 1e6);
+        timings.put("total", (now - started) / 1e6);
+
+        return SimilarCasesResponse.builder()
+                .items(items)
+                .denseUsed(result.denseUsed())
+                .sentences(result.sentences())
+                .timingsMs(timings)
+                .build();
+    }
+
+    private static Long parseId(String caseId) {
+        try {
+            return Long.valueOf(caseId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
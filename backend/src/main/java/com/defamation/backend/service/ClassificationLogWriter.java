@@ -0,0 +1,372 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.ClassificationRequest;
+import com.defamation.backend.repository.ClassificationRequestRepository;
+import com.defamation.backend.service.analytics.PredictionAnalytics;
+import com.defamation.backend.service.metrics.DefamationMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * classification_requests write-behind 저장기
+ * - 요청 스레드는 bounded 큐에 넣기만 함 (가득 차면 offerTimeout 만큼 대기 = backpressure)
+ * - 백그라운드 flusher 가 모아서 multi-row INSERT
+ * - 큐 초과/DB 장애 시 spill 파일(JSONL)에 남기고, 나중에 재적재
+ * - 종료 시 큐를 모두 비운 뒤 멈춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClassificationLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO classification_requests
+              (problem_situation, model_id, case_names, sentence_type, sentence_value, sentence_suspension,
+               sentence_additional_order, sentence_reason, sentence_judgment, input_hash, generated_text,
+               similar_case_ids, simhash, reused_input_hash, is_deleted, created_at)
+            VALUES\s""";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?)";
+
+    private final DefamationProperties props;
+    private final JdbcTemplate jdbcTemplate;
+    private final ClassificationRequestRepository clsRepo;
+    private final ObjectMapper objectMapper;
+    private final DefamationMetrics metrics;
+    private final PredictionAnalytics analytics;
+
+    // 파일 I/O 를 잡고 있는 락이라 synchronized 대신 (가상 스레드가 캐리어를 붙잡지 않게)
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong lastFlushLagMillis = new AtomicLong();
+
+    private BlockingQueue<ClassificationRequest> queue;
+    private Thread flusher;
+    private volatile boolean running;
+    private long lastReplayAttempt;
+
+    /**
+     * 저장 요청 (비동기). 큐가 가득 차면 잠깐 기다리고, 그래도 안 되면 spill
+     */
+    public void submit(ClassificationRequest req) {
+        if (req.getCreatedAt() == null) {
+            req.setCreatedAt(LocalDateTime.now());
+        }
+        if (!props.getLogWriter().isEnabled()) {
+            analytics.saveAndRecord(List.of(req), () -> clsRepo.save(req));
+            return;
+        }
+        if (!running) {
+            // 기동 전/종료 후에는 직접 저장
+            writeOrSpill(List.of(req));
+            return;
+        }
+
+        enqueued.increment();
+        try {
+            if (queue.offer(req, props.getLogWriter().getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        spill(List.of(req));
+    }
+
+    public Stats stats() {
+        return new Stats(
+                queue == null ? 0 : queue.size(),
+                enqueued.sum(), written.sum(), spilled.sum(), replayed.sum(), dropped.sum(), failedFlushes.sum(),
+                lastFlushMillis.get(), lastFlushLagMillis.get(),
+                Files.exists(spillPath()));
+    }
+
+    // ---------- lifecycle ----------
+
+    @Override
+    public void start() {
+        DefamationProperties.LogWriter cfg = props.getLogWriter();
+        queue = new ArrayBlockingQueue<>(Math.max(1, cfg.getQueueCapacity()));
+        running = true;
+        flusher = new Thread(this::runFlusher, "cls-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher == null) return;
+        flusher.interrupt();
+        try {
+            flusher.join(Duration.ofSeconds(30).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // join 타임아웃 등으로 남은 게 있으면 파일로
+        List<ClassificationRequest> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) spill(rest);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 먼저 멈춘 뒤(진행 중 요청 종료 후) 마지막으로 flush
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // ---------- flusher ----------
+
+    private void runFlusher() {
+        DefamationProperties.LogWriter cfg = props.getLogWriter();
+        List<ClassificationRequest> batch = new ArrayList<>(cfg.getBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                ClassificationRequest first = running
+                        ? queue.poll(cfg.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS)
+                        : queue.poll();
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, cfg.getBatchSize() - 1);
+                    writeOrSpill(batch);
+                    batch.clear();
+                }
+                if (running) maybeReplaySpill(cfg);
+            } catch (InterruptedException e) {
+                // stop() 이 깨운 경우: 남은 큐를 마저 비우고 종료
+            } catch (RuntimeException e) {
+                log.error("classification log flusher error", e);
+            }
+        }
+    }
+
+    private void writeOrSpill(List<ClassificationRequest> rows) {
+        long start = System.nanoTime();
+        try {
+            insert(rows);
+            DefamationMetrics.stop(metrics.save("success"), start);
+            metrics.savedRows(rows.size());
+            written.add(rows.size());
+            lastFlushMillis.set((System.nanoTime() - start) / 1_000_000);
+            LocalDateTime oldest = rows.get(0).getCreatedAt();
+            if (oldest != null) {
+                lastFlushLagMillis.set(Duration.between(oldest, LocalDateTime.now()).toMillis());
+            }
+        } catch (RuntimeException e) {
+            DefamationMetrics.stop(metrics.save("failed"), start);
+            failedFlushes.increment();
+            log.warn("classification log insert failed ({} rows), spilling: {}", rows.size(), e.getMessage());
+            spill(rows);
+        }
+    }
+
+    private void insert(List<ClassificationRequest> rows) {
+        analytics.saveAndRecord(rows, () -> insertRows(rows));
+    }
+
+    private void insertRows(List<ClassificationRequest> rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW);
+        }
+
+        jdbcTemplate.update(sql.toString(), ps -> {
+            int idx = 1;
+            for (ClassificationRequest r : rows) {
+                ps.setObject(idx++, r.getProblemSituation());
+                ps.setObject(idx++, r.getModelId());
+                ps.setObject(idx++, r.getCaseNames());
+                ps.setObject(idx++, r.getSentenceType());
+                ps.setObject(idx++, r.getSentenceValue());
+                ps.setObject(idx++, r.getSentenceSuspension());
+                ps.setObject(idx++, r.getSentenceAdditionalOrder());
+                ps.setObject(idx++, r.getSentenceReason());
+                ps.setObject(idx++, r.getSentenceJudgment());
+                ps.setObject(idx++, r.getInputHash());
+                ps.setObject(idx++, r.getGeneratedText());
+                ps.setObject(idx++, r.getSimilarCaseIds());
+                ps.setObject(idx++, r.getSimhash());
+                ps.setObject(idx++, r.getReusedInputHash());
+                ps.setObject(idx++, r.getCreatedAt());
+            }
+        });
+    }
+
+    // ---------- spill ----------
+
+    private Path spillPath() {
+        return Paths.get(props.getLogWriter().getSpillPath());
+    }
+
+    private void spill(List<ClassificationRequest> rows) {
+        Path path = spillPath();
+        spillLock.lock();
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            try (BufferedWriter w = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ClassificationRequest r : rows) {
+                    w.write(objectMapper.writeValueAsString(r));
+                    w.newLine();
+                }
+            }
+            spilled.add(rows.size());
+        } catch (IOException e) {
+            dropped.add(rows.size());
+            log.error("classification log spill failed, {} rows dropped", rows.size(), e);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    /**
+     * spill 파일이 있으면 주기적으로 DB 재적재 시도
+     * - 처리 중인 파일은 .replaying 으로 옮겨서 새 spill 과 분리
+     * - 중간에 DB 가 실패하면 남은 줄을 spill 파일로 되돌림
+     */
+    private void maybeReplaySpill(DefamationProperties.LogWriter cfg) {
+        long now = System.currentTimeMillis();
+        if (now - lastReplayAttempt < cfg.getReplayInterval().toMillis()) return;
+        lastReplayAttempt = now;
+
+        Path path = spillPath();
+        Path replaying = path.resolveSibling(path.getFileName() + ".replaying");
+        if (!Files.exists(replaying)) {
+            if (!Files.exists(path)) return;
+            spillLock.lock();
+            try {
+                Files.move(path, replaying, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.warn("cannot rotate spill file: {}", e.getMessage());
+                return;
+            } finally {
+                spillLock.unlock();
+            }
+        }
+
+        List<String> lines = new ArrayList<>(cfg.getBatchSize());
+        List<ClassificationRequest> batch = new ArrayList<>(cfg.getBatchSize());
+        try (BufferedReader r = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = r.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    batch.add(objectMapper.readValue(line, ClassificationRequest.class));
+                    lines.add(line);
+                } catch (IOException e) {
+                    dropped.increment();
+                    log.warn("unreadable spill line dropped: {}", e.getMessage());
+                    continue;
+                }
+                if (batch.size() >= cfg.getBatchSize() && !replayBatch(batch, lines)) {
+                    restoreSpill(lines, r);
+                    break;
+                }
+            }
+            if (!batch.isEmpty() && !replayBatch(batch, lines)) {
+                restoreSpill(lines, r);
+            }
+        } catch (IOException e) {
+            log.warn("spill replay aborted: {}", e.getMessage());
+            return;
+        }
+        try {
+            Files.deleteIfExists(replaying);
+        } catch (IOException e) {
+            log.warn("cannot delete replayed spill file: {}", e.getMessage());
+        }
+    }
+
+    private boolean replayBatch(List<ClassificationRequest> batch, List<String> lines) {
+        try {
+            insert(batch);
+            replayed.add(batch.size());
+            lines.clear();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("spill replay failed, will retry later: {}", e.getMessage());
+            return false;
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * 실패한 배치 + 아직 안 읽은 줄을 spill 파일 뒤에 다시 붙임
+     */
+    private void restoreSpill(List<String> pending, BufferedReader rest) throws IOException {
+        spillLock.lock();
+        try (BufferedWriter w = Files.newBufferedWriter(spillPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (String l : pending) {
+                w.write(l);
+                w.newLine();
+            }
+            String line;
+            while ((line = rest.readLine()) != null) {
+                if (line.isBlank()) continue;
+                w.write(line);
+                w.newLine();
+            }
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final int queueDepth;
+        private final long enqueued;
+        private final long written;
+        private final long spilled;
+        private final long replayed;
+        private final long dropped;
+        private final long failedFlushes;
+        private final long lastFlushMillis;
+        private final long lastFlushLagMillis;
+        private final boolean spillPending;
+    }
+}
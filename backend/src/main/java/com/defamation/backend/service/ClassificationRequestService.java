@@ -1,29 +1,40 @@
 package com.defamation.backend.service;
 
 import com.defamation.backend.repository.ClassificationRequestRepository;
+import com.defamation.backend.repository.ClassificationRequestSummaryView;
+import com.defamation.backend.service.metrics.DefamationMetrics;
+import com.defamation.backend.service.search.SearchBackend;
 import com.defamation.backend.web.dto.ClassificationRequestDto;
+import com.defamation.backend.web.dto.PageCursor;
 import com.defamation.backend.web.dto.PageResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class ClassificationRequestService {
 
-    private final ClassificationRequestRepository repo;
-    private final ObjectMapper om = new ObjectMapper();
+    private final SearchBackend searchBackend;
+    private final TotalCountCache totalCountCache;
+    private final ClassificationRequestRepository requestRepository;
+    private final JsonListParser jsonListParser;
+    private final DefamationMetrics metrics;
 
     /**
      * 모델 분류 요청 히스토리 검색/페이지네이션
      */
     public PageResponse<ClassificationRequestDto> searchRequests(String q, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<ClassificationRequestDto> result = repo.search(q, pageable)
-                .map(r -> ClassificationRequestDto.from(r, om));
+        Page<ClassificationRequestSummaryView> rows =
+                metrics.search("requests", "page", () -> searchBackend.searchRequests(q, pageable));
+        Page<ClassificationRequestDto> result = metrics.mapping("request_summary",
+                () -> rows.map(r -> ClassificationRequestDto.summary(r, jsonListParser)));
 
         return PageResponse.<ClassificationRequestDto>builder()
                 .items(result.getContent())
@@ -31,6 +42,53 @@ public class ClassificationRequestService {
                 .size(size)
                 .totalElements(result.getTotalElements())
                 .totalPages(result.getTotalPages())
+                .hasNext(result.hasNext())
+                .totalExact(true)
+                .build();
+    }
+
+    /**
+     * 모델 분류 요청 히스토리 cursor(keyset) 페이지네이션
+     * - (created_at, id) 기준이라 깊은 페이지도 OFFSET 스캔 없음
+     * - 총 개수는 기본적으로 캐시된 근사값 (exactTotal=true 면 매번 COUNT)
+     */
+    public PageResponse<ClassificationRequestDto> seekRequests(String q, String cursor, int size, boolean exactTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<ClassificationRequestSummaryView> rows =
+                metrics.search("requests", "cursor", () -> searchBackend.seekRequests(q, after, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<ClassificationRequestSummaryView> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ClassificationRequestSummaryView last = page.get(page.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        long total = exactTotal
+                ? searchBackend.countRequests(q)
+                : totalCountCache.get("classification_requests", q, () -> searchBackend.countRequests(q));
+
+        return PageResponse.<ClassificationRequestDto>builder()
+                .items(metrics.mapping("request_summary",
+                        () -> page.stream().map(r -> ClassificationRequestDto.summary(r, jsonListParser)).toList()))
+                .page(0)
+                .size(size)
+                .totalElements(total)
+                .totalPages(size <= 0 ? 0 : (int) ((total + size - 1) / size))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalExact(exactTotal)
                 .build();
     }
+
+    /**
+     * 모델 분류 로그 상세 (전체 본문 포함, 삭제된 건 제외)
+     */
+    public Optional<ClassificationRequestDto> getRequest(Long id) {
+        return requestRepository.findById(id)
+                .filter(r -> !Boolean.TRUE.equals(r.getIsDeleted()))
+                .map(r -> metrics.mapping("request_detail", () -> ClassificationRequestDto.from(r, jsonListParser)));
+    }
 }
@@ -1,7 +1,8 @@
 package com.defamation.backend.service;
 
-import com.defamation.backend.domain.Model;
 import com.defamation.backend.repository.ModelRepository;
+import com.defamation.backend.service.registry.ModelRegistry;
+import com.defamation.backend.web.dto.ModelDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,12 +12,31 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DefamationModelService {
 
+    private final ModelRegistry modelRegistry;
     private final ModelRepository modelRepository;
 
     /**
-     * enabled = true 인 모델 목록 조회
+     * enabled = true 인 모델 목록 조회 (DB 대신 레지스트리 스냅샷)
+     * 레지스트리가 아직 테이블을 못 읽었으면 기본 컬럼만 직접 조회 (빈 목록으로 속이지 않음)
      */
-    public List<Model> getEnabledModels() {
-        return modelRepository.findByEnabledTrueOrderByIdAsc();
+    public List<ModelDto> getEnabledModels() {
+        if (!modelRegistry.isLoaded()) {
+            return modelRepository.findEnabledSummaries().stream()
+                    .map(m -> ModelDto.builder()
+                            .id(m.getId())
+                            .name(m.getName())
+                            .displayName(m.getDisplayName())
+                            .enabled(m.getEnabled())
+                            .build())
+                    .toList();
+        }
+        return modelRegistry.enabledModels().stream()
+                .map(e -> ModelDto.builder()
+                        .id(e.id())
+                        .name(e.name())
+                        .displayName(e.displayName())
+                        .enabled(e.enabled())
+                        .build())
+                .toList();
     }
 }
@@ -2,98 +2,275 @@ package com.defamation.backend.service;
 
 import com.defamation.backend.config.DefamationProperties;
 import com.defamation.backend.domain.ClassificationRequest;
-import com.defamation.backend.repository.ClassificationRequestRepository;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.defamation.backend.service.dedup.NearDuplicateService;
+import com.defamation.backend.service.guard.ModelCallGuard;
+import com.defamation.backend.service.metrics.DefamationMetrics;
+import com.defamation.backend.service.retrieval.IndexNotReadyException;
+import com.defamation.backend.service.routing.ModelRouter;
+import com.defamation.backend.web.dto.SimilarCaseDto;
+import com.defamation.backend.web.dto.SimilarCasesResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DefamationPredictService {
 
     private final DefamationProperties props;
-    private final ClassificationRequestRepository clsRepo;
 
-    private final ObjectMapper om = new ObjectMapper();
-    private final RestTemplate rt = new RestTemplate();
+    private final WebClient modelWebClient;
+    private final PredictionCache predictionCache;
+    private final PredictBatcher predictBatcher;
+    private final ClassificationLogWriter logWriter;
+    private final CaseService caseService;
+    private final ModelRouter modelRouter;
+    private final ModelCallGuard modelCallGuard;
+    private final NearDuplicateService nearDuplicates;
+    private final DefamationMetrics metrics;
+    private final ObjectMapper objectMapper;
+    // 블로킹 작업용 (ThreadingConfig: 가상 스레드 또는 boundedElastic)
+    private final Scheduler blockingScheduler;
 
-    public String predictAndSave(Long modelId, String inputs) {
-        String url = props.getModelEndpoints().get(modelId);
+    /**
+     * FastAPI 호출 → 결과 파싱/저장까지 논블로킹으로 수행
+     * - HTTP 대기 중에는 스레드를 점유하지 않음
+     * - 저장은 write-behind 큐에 넣기만 함 (큐가 찼을 때만 잠깐 대기)
+     * - 캐시 히트면 모델 호출/저장 없이 바로 반환
+     */
+    public Mono<String> predictAndSave(Long modelId, String inputs) {
+        return predict(modelId, inputs).map(Prediction::generatedText);
+    }
 
+    /**
+     * predictAndSave + 근접 중복 정보 (캐시 히트거나 근접 중복이 없으면 nearDuplicate == null)
+     */
+    public Mono<Prediction> predict(Long modelId, String inputs) {
         // ✅ 지원 여부 체크
-        if (url == null || url.isBlank()) {
-            throw new UnsupportedModelException(modelId);
+        if (!modelRouter.supports(modelId)) {
+            return Mono.error(new UnsupportedModelException(modelId));
         }
 
-        // FastAPI body는 inputs만
-        Map<String, Object> body = Map.of("inputs", inputs);
+        // 같은 (모델, 입력)은 캐시/진행 중 호출 재사용
+        PredictionCache.CacheKey key = PredictionCache.CacheKey.of(modelId, inputs);
+        return timed(modelId, "plain", Mono.defer(() -> {
+            AtomicReference<NearDuplicateService.Match> near = new AtomicReference<>();
+            return predictionCache.getOrLoad(key, () -> Mono.defer(() -> {
+                        long sig = nearDuplicates.signature(inputs);
+                        return reuseOrCall(modelId, inputs, key, sig, near)
+                                .flatMap(generatedText -> Mono.fromCallable(() -> {
+                                            save(modelId, inputs, key, generatedText, null, sig, reusedFrom(near));
+                                            return generatedText;
+                                        })
+                                        .subscribeOn(blockingScheduler));
+                    }))
+                    .map(generatedText -> new Prediction(generatedText, near.get()));
+        }));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+    /**
+     * predict + 유사 판례 (RAG 모드)
+     * - 유사 판례 검색은 모델 호출과 동시에 시작 (blockingScheduler), 둘 다 끝나면 같이 반환
+     * - 검색이 모델보다 빠르면 전체 지연 = 모델 호출 시간
+     * - 저장 행에는 찾은 case_id 목록도 기록 (캐시 히트면 기존과 같이 저장 없음)
+     * - 인덱스가 아직 없거나 검색이 실패해도 predict 결과는 그대로 반환 (유사 판례만 빈 목록)
+     */
+    public Mono<PredictionWithSimilar> predictWithSimilar(Long modelId, String inputs, int similarK) {
+        if (!modelRouter.supports(modelId)) {
+            return Mono.error(new UnsupportedModelException(modelId));
+        }
+
+        // 모델 저장 경로와 응답 양쪽에서 구독하므로 1번만 실행되게 cache
+        Mono<SimilarCasesResponse> similar = Mono.fromCallable(() -> caseService.similarCases(inputs, similarK))
+                .subscribeOn(blockingScheduler)
+                .onErrorResume(e -> {
+                    if (!(e instanceof IndexNotReadyException)) {
+                        log.warn("similar case retrieval failed: {}", e.toString());
+                    }
+                    return Mono.just(SimilarCasesResponse.builder()
+                            .items(List.of())
+                            .timingsMs(Map.of())
+                            .build());
+                })
+                .cache();
 
-        ResponseEntity<Map> resp = rt.postForEntity(url, entity, Map.class);
+        PredictionCache.CacheKey key = PredictionCache.CacheKey.of(modelId, inputs);
+        return timed(modelId, "similar", Mono.defer(() -> {
+            AtomicReference<NearDuplicateService.Match> near = new AtomicReference<>();
+            Mono<String> generated = predictionCache.getOrLoad(key, () -> Mono.defer(() -> {
+                long sig = nearDuplicates.signature(inputs);
+                return reuseOrCall(modelId, inputs, key, sig, near)
+                        .zipWith(similar)
+                        .flatMap(t -> Mono.fromCallable(() -> {
+                                    save(modelId, inputs, key, t.getT1(), caseIdsJson(t.getT2()), sig, reusedFrom(near));
+                                    return t.getT1();
+                                })
+                                .subscribeOn(blockingScheduler));
+            }));
+
+            // zip 이 generated 를 먼저 구독(모델 호출 시작) 하고 바로 similar 도 구독
+            return Mono.zip(generated, similar, (g, s) -> new PredictionWithSimilar(g, s, near.get()));
+        }));
+    }
 
-        if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) {
-            throw new RuntimeException("FastAPI 응답이 비정상입니다.");
+    /**
+     * 같은 모델의 근접 중복 요청 결과가 캐시/DB 에 있으면 그대로, 없으면 모델 호출
+     * - near 에는 찾은 근접 중복을 기록 (응답의 near_duplicate_of)
+     */
+    private Mono<String> reuseOrCall(Long modelId, String inputs, PredictionCache.CacheKey key, long sig,
+                                     AtomicReference<NearDuplicateService.Match> near) {
+        NearDuplicateService.Match match = nearDuplicates.nearestRequest(modelId, key.getInputHash(), sig);
+        if (match == null) {
+            return callModel(modelId, inputs);
         }
+        near.set(match);
+        Mono<String> call = Mono.defer(() -> {
+            metrics.nearDuplicate(modelId, "called");
+            return callModel(modelId, inputs);
+        });
+        if (!props.getNearDuplicate().isReuseVerdict()) {
+            return call;
+        }
+        return predictionCache.peek(new PredictionCache.CacheKey(modelId, match.inputHash()))
+                .doOnNext(v -> {
+                    near.set(match.reused());
+                    metrics.nearDuplicate(modelId, "reused");
+                })
+                .switchIfEmpty(call);
+    }
 
-        String generatedText = String.valueOf(resp.getBody().get("generated_text")).trim();
+    private static String reusedFrom(AtomicReference<NearDuplicateService.Match> near) {
+        NearDuplicateService.Match m = near.get();
+        return m != null && m.verdictReused() ? m.inputHash() : null;
+    }
 
-        // ---------- 저장 ----------
+    /**
+     * predict 전체 시간/결과 (캐시 히트 포함) - 구독 시점부터
+     */
+    private <T> Mono<T> timed(Long modelId, String mode, Mono<T> call) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return call
+                    .doOnSuccess(v -> DefamationMetrics.stop(metrics.predict(modelId, mode, "success"), started))
+                    .doOnError(e -> DefamationMetrics.stop(metrics.predict(modelId, mode, outcome(e)), started));
+        });
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof ModelCallGuard.UpstreamUnavailableException
+                || e instanceof PredictBatcher.QueueFullException) {
+            return "rejected";
+        }
+        return "error";
+    }
+
+    /**
+     * modelId 단위 보호(브레이커/동시성 제한) 안에서 모델 호출
+     * - 배칭: 배치 대기열 진입 1건을 보호
+     * - 그 외: router 가 시도(첫 요청/헤지)마다 보호
+     */
+    private Mono<String> callModel(Long modelId, String inputs) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            // 배칭 설정된 모델이면 배치 대기열로 (URL 이 바뀌면 batcher 가 lane 을 새로 만듦)
+            Mono<String> call = predictBatcher.isEnabled(modelId)
+                    ? modelCallGuard.guard(modelId,
+                            () -> predictBatcher.submit(modelId, modelRouter.primaryUrl(modelId), inputs))
+                    // 복제본 선택/헤지는 router 가, 여기서는 한 복제본에 대한 호출만
+                    : modelRouter.call(modelId, url -> post(url, inputs));
+            return call
+                    .doOnSuccess(v -> DefamationMetrics.stop(metrics.upstream(modelId, "success"), started))
+                    .doOnError(e -> {
+                        // guard 가 호출 전에 거절한 건 upstream 호출이 아님
+                        if (!(e instanceof ModelCallGuard.UpstreamUnavailableException)) {
+                            DefamationMetrics.stop(metrics.upstream(modelId, "error"), started);
+                        }
+                    });
+        });
+    }
+
+    private Mono<String> post(String url, String inputs) {
+        // FastAPI body는 inputs만
+        Map<String, Object> body = Map.of("inputs", inputs);
+
+        return modelWebClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(status -> !status.is2xxSuccessful(),
+                        r -> Mono.error(new ModelCallGuard.UpstreamStatusException(r.statusCode().value())))
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .switchIfEmpty(Mono.error(new RuntimeException("FastAPI 응답이 비정상입니다.")))
+                .timeout(props.getHttp().getOverallTimeout())
+                .map(resp -> String.valueOf(resp.get("generated_text")).trim());
+    }
+
+    /**
+     * 스트리밍 등 다른 경로에서 생성이 끝난 결과 저장
+     */
+    public Mono<Void> saveResult(Long modelId, String inputs, String generatedText) {
+        return Mono.<Void>fromRunnable(() -> save(modelId, inputs, PredictionCache.CacheKey.of(modelId, inputs),
+                        generatedText, null, nearDuplicates.signature(inputs), null))
+                .subscribeOn(blockingScheduler);
+    }
+
+    private void save(Long modelId, String inputs, PredictionCache.CacheKey key, String generatedText,
+                      String similarCaseIds, long sig, String reusedInputHash) {
         ClassificationRequest req = ClassificationRequest.builder()
                 .problemSituation(inputs)
                 .modelId(modelId)
+                .inputHash(key.getInputHash())
+                .generatedText(generatedText)
+                .similarCaseIds(similarCaseIds)
+                .simhash(sig == 0 ? null : sig)
+                .reusedInputHash(reusedInputHash)
                 .build();
 
-        try {
-            JsonNode root = om.readTree(generatedText);
-
-            req.setSentenceJudgment(text(root, "판단"));
-
-            JsonNode s = root.path("형량");
-            req.setSentenceType(text(s, "형종"));
-            req.setSentenceValue(longOrNull(s, "벌금액"));
-            req.setSentenceSuspension(intOrNull(s, "집행유예_기간_월"));
-            req.setSentenceAdditionalOrder(text(s, "추가_조건"));
-            req.setSentenceReason(text(root, "양형이유"));
-
-            JsonNode crimes = root.get("죄명");
-            if (crimes != null && crimes.isArray()) {
-                req.setCaseNames(om.writeValueAsString(crimes));
-            }
-        } catch (Exception ignore) {
-            // 파싱 실패해도 최소 입력/모델ID는 저장
+        long parseStarted = System.nanoTime();
+        VerdictParser.Result parsed = VerdictParser.parse(generatedText, req);
+        DefamationMetrics.stop(metrics.parse(modelId), parseStarted);
+        // 코드 펜스/잘림/"70만 원" 같은 보정이 얼마나 들어가는지
+        for (String artifact : parsed.artifacts()) {
+            metrics.parseArtifact(modelId, artifact);
+        }
+        if (!parsed.ok()) {
+            // 파싱 실패해도 최소 입력/모델ID는 저장 (실패 건수만 집계)
+            metrics.parseFailure(modelId, parsed.failure());
+        } else if (reusedInputHash == null) {
+            // 모델이 직접 만든 결과만 근접 중복 재사용 후보로 (재사용 결과는 거리가 누적되므로 제외)
+            nearDuplicates.addRequest(key, sig);
         }
 
-        clsRepo.save(req);
-        return generatedText;
+        // write-behind: 큐에 넣고 바로 반환 (실제 INSERT 는 flusher 가 모아서)
+        logWriter.submit(req);
     }
 
-    private static String text(JsonNode node, String key) {
-        if (node == null) return null;
-        JsonNode v = node.get(key);
-        if (v == null || v.isNull()) return null;
-        return v.asText();
+    private String caseIdsJson(SimilarCasesResponse similar) {
+        if (similar.getItems() == null || similar.getItems().isEmpty()) return null;
+        try {
+            return objectMapper.writeValueAsString(similar.getItems().stream().map(SimilarCaseDto::getCaseId).toList());
+        } catch (Exception e) {
+            return null;
+        }
     }
 
-    private static Long longOrNull(JsonNode node, String key) {
-        if (node == null) return null;
-        JsonNode v = node.get(key);
-        if (v == null || v.isNull()) return null;
-        try { return v.asLong(); } catch (Exception e) { return null; }
+    public record Prediction(String generatedText, NearDuplicateService.Match nearDuplicate) {
     }
 
-    private static Integer intOrNull(JsonNode node, String key) {
-        if (node == null) return null;
-        JsonNode v = node.get(key);
-        if (v == null || v.isNull()) return null;
-        try { return v.asInt(); } catch (Exception e) { return null; }
+    public record PredictionWithSimilar(String generatedText, SimilarCasesResponse similar,
+                                        NearDuplicateService.Match nearDuplicate) {
     }
 
     // ✅ 지원 안 하는 modelId면 튕기는 예외
@@ -0,0 +1,122 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 스트리밍 predict
+ * - vLLM(OpenAI 호환) chat/completions 를 stream=true 로 호출
+ * - 토큰은 그대로 "token" 이벤트로 릴레이
+ * - 판결 JSON 필드가 닫히는 대로 "field" 이벤트
+ * - 생성 완료 시 저장 후 "done" 이벤트
+ */
+@Service
+@RequiredArgsConstructor
+public class DefamationStreamService {
+
+    private final DefamationProperties props;
+    private final WebClient modelWebClient;
+    private final DefamationPredictService predictService;
+    private final ObjectMapper objectMapper;
+
+    public Flux<ServerSentEvent<Object>> stream(Long modelId, String inputs) {
+        DefamationProperties.Streaming cfg = props.getStreaming();
+        String servedModel = cfg.getModels().get(modelId);
+
+        // ✅ 지원 여부 체크
+        if (cfg.getBaseUrl() == null || cfg.getBaseUrl().isBlank() || servedModel == null) {
+            return Flux.error(new DefamationPredictService.UnsupportedModelException(modelId));
+        }
+
+        return Flux.defer(() -> {
+            StringBuilder full = new StringBuilder();
+            VerdictStreamParser parser = new VerdictStreamParser();
+
+            Flux<ServerSentEvent<Object>> tokens = upstreamTokens(cfg, servedModel, inputs)
+                    .concatMapIterable(token -> {
+                        full.append(token);
+                        List<ServerSentEvent<Object>> out = new ArrayList<>();
+                        out.add(event("token", token));
+                        for (VerdictStreamParser.Field f : parser.feed(token)) {
+                            out.add(event("field", f));
+                        }
+                        return out;
+                    });
+
+            Mono<ServerSentEvent<Object>> done = Mono.defer(() -> {
+                String generatedText = full.toString().trim();
+                return predictService.saveResult(modelId, inputs, generatedText)
+                        .thenReturn(event("done", Map.of("generated_text", generatedText)));
+            });
+
+            return tokens.concatWith(done);
+        });
+    }
+
+    private Flux<String> upstreamTokens(DefamationProperties.Streaming cfg, String servedModel, String inputs) {
+        List<Map<String, String>> messages = new ArrayList<>();
+        if (cfg.getSystemPrompt() != null && !cfg.getSystemPrompt().isBlank()) {
+            messages.add(Map.of("role", "system", "content", cfg.getSystemPrompt()));
+        }
+        messages.add(Map.of("role", "user", "content", inputs));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", servedModel);
+        body.put("messages", messages);
+        body.put("max_tokens", cfg.getMaxTokens());
+        body.put("stream", true);
+
+        return modelWebClient.post()
+                .uri(cfg.getBaseUrl() + "/chat/completions")
+                .headers(h -> {
+                    if (cfg.getApiKey() != null && !cfg.getApiKey().isBlank()) h.setBearerAuth(cfg.getApiKey());
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(status -> !status.is2xxSuccessful(),
+                        r -> Mono.error(new RuntimeException("모델 스트림 응답이 비정상입니다.")))
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .map(ServerSentEvent::data)
+                .filter(Objects::nonNull)
+                .takeWhile(data -> !"[DONE]".equals(data.trim()))
+                .map(this::deltaContent)
+                .filter(token -> !token.isEmpty())
+                .timeout(props.getHttp().getReadTimeout());
+    }
+
+    /**
+     * chat.completion.chunk 의 choices[0].delta.content (completions 면 choices[0].text)
+     */
+    private String deltaContent(String data) {
+        try {
+            JsonNode choice = objectMapper.readTree(data).path("choices").path(0);
+            JsonNode content = choice.path("delta").path("content");
+            if (content.isTextual()) return content.asText();
+            return choice.path("text").asText("");
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.defamation.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TEXT/JSON 컬럼(participants, case_names)의 문자열 리스트 파서
+ * - '[' 로 시작하지 않으면 예외 없이 바로 단일 값 리스트
+ * - 짧은 값(죄명 등 반복이 많은 값)은 파싱 결과를 캐시해서 행마다 다시 파싱하지 않음
+ * - Spring 공용 ObjectMapper 사용
+ */
+@Component
+public class JsonListParser {
+
+    private static final int MAX_CACHED_LENGTH = 256;
+    private static final int MAX_CACHE_ENTRIES = 4096;
+
+    private final ObjectReader reader;
+    private final Map<String, List<String>> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return size() > MAX_CACHE_ENTRIES;
+        }
+    };
+
+    public JsonListParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(new TypeReference<List<String>>() {});
+    }
+
+    public List<String> parse(String jsonOrText) {
+        if (jsonOrText == null || jsonOrText.isBlank()) return Collections.emptyList();
+
+        // JSON 배열이 아니면 그냥 문자열 (예외 경로 안 탐)
+        if (jsonOrText.strip().charAt(0) != '[') return List.of(jsonOrText);
+
+        boolean cacheable = jsonOrText.length() <= MAX_CACHED_LENGTH;
+        if (cacheable) {
+            synchronized (cache) {
+                List<String> hit = cache.get(jsonOrText);
+                if (hit != null) return hit;
+            }
+        }
+
+        List<String> parsed;
+        try {
+            List<String> raw = reader.readValue(jsonOrText);
+            parsed = raw == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(raw));
+        } catch (Exception e) {
+            // '[' 로 시작하지만 JSON 이 아닌 경우 fallback
+            parsed = List.of(jsonOrText);
+        }
+
+        if (cacheable) {
+            synchronized (cache) {
+                cache.put(jsonOrText, parsed);
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,175 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.guard.ModelCallGuard;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * modelId 별 마이크로 배칭
+ * - 요청을 최대 N건 또는 T ms 동안 모아서 한 번의 배치 요청으로 전송
+ * - 결과는 같은 순서로 각 호출자에게 돌려줌
+ * - 대기열이 가득 차면 QueueFullException 으로 즉시 거절
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PredictBatcher {
+
+    private final DefamationProperties props;
+    private final WebClient modelWebClient;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "predict-batcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public boolean isEnabled(Long modelId) {
+        DefamationProperties.Batching cfg = props.getBatching().get(modelId);
+        return cfg != null && cfg.isEnabled();
+    }
+
+    /**
+     * 배치 대기열에 넣고, 배치 응답 중 내 결과만 받음
+     * - defaultUrl 은 매 호출 레지스트리에서 받은 값. 바뀌면 (레지스트리 reload) 새 lane 으로
+     */
+    public Mono<String> submit(Long modelId, String defaultUrl, String inputs) {
+        return Mono.defer(() -> {
+            Lane lane = lane(modelId, defaultUrl);
+            CompletableFuture<String> result = new CompletableFuture<>();
+            if (!lane.offer(new Pending(inputs, result))) {
+                return Mono.error(new QueueFullException(modelId));
+            }
+            return Mono.fromFuture(result);
+        });
+    }
+
+    private Lane lane(Long modelId, String defaultUrl) {
+        DefamationProperties.Batching cfg = props.getBatching().get(modelId);
+        String url = (cfg.getUrl() == null || cfg.getUrl().isBlank()) ? defaultUrl : cfg.getUrl();
+        Lane lane = lanes.get(modelId);
+        if (lane != null && Objects.equals(lane.url, url)) return lane;
+        // URL 이 바뀌면 새 lane (이전 lane 에 이미 들어간 요청은 그쪽 타이머가 이전 URL 로 보내고 끝남)
+        return lanes.compute(modelId, (id, old) ->
+                old != null && Objects.equals(old.url, url) ? old : new Lane(id, cfg, url));
+    }
+
+    public int queueDepth(Long modelId) {
+        Lane lane = lanes.get(modelId);
+        return lane == null ? 0 : lane.queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        lanes.values().forEach(l -> l.failAll(new IllegalStateException("서버 종료 중입니다.")));
+    }
+
+    private record Pending(String inputs, CompletableFuture<String> result) {}
+
+    private final class Lane {
+        private final Long modelId;
+        private final String url;
+        private final int maxBatchSize;
+        private final long lingerNanos;
+        private final BlockingQueue<Pending> queue;
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+        Lane(Long modelId, DefamationProperties.Batching cfg, String url) {
+            this.modelId = modelId;
+            this.url = url;
+            this.maxBatchSize = Math.max(1, cfg.getMaxBatchSize());
+            this.lingerNanos = cfg.getLinger().toNanos();
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, cfg.getMaxQueueDepth()));
+        }
+
+        boolean offer(Pending p) {
+            if (!queue.offer(p)) return false;
+            if (queue.size() >= maxBatchSize) {
+                // 배치가 찼으면 linger 를 기다리지 않고 바로 전송
+                timer.execute(this::flush);
+            } else if (flushScheduled.compareAndSet(false, true)) {
+                timer.schedule(this::flush, lingerNanos, TimeUnit.NANOSECONDS);
+            }
+            return true;
+        }
+
+        /**
+         * timer 스레드에서만 호출됨 (drain 은 직렬)
+         */
+        private void flush() {
+            flushScheduled.set(false);
+            while (queue.size() > 0) {
+                List<Pending> batch = new ArrayList<>(maxBatchSize);
+                queue.drainTo(batch, maxBatchSize);
+                if (batch.isEmpty()) break;
+                send(batch);
+                // 남은 게 배치 하나가 안 되면 다음 linger 까지 기다림
+                if (queue.size() < maxBatchSize) break;
+            }
+            if (!queue.isEmpty() && flushScheduled.compareAndSet(false, true)) {
+                timer.schedule(this::flush, lingerNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void send(List<Pending> batch) {
+            List<String> inputs = batch.stream().map(Pending::inputs).toList();
+
+            modelWebClient.post()
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("inputs", inputs))
+                    .retrieve()
+                    .onStatus(status -> !status.is2xxSuccessful(),
+                            r -> Mono.error(new ModelCallGuard.UpstreamStatusException(r.statusCode().value())))
+                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                    .timeout(props.getHttp().getOverallTimeout())
+                    .subscribe(
+                            body -> fanOut(batch, body),
+                            e -> batch.forEach(p -> p.result().completeExceptionally(e)),
+                            () -> batch.forEach(p -> p.result()
+                                    .completeExceptionally(new RuntimeException("FastAPI 응답이 비정상입니다."))));
+        }
+
+        private void fanOut(List<Pending> batch, Map<String, Object> body) {
+            Object generated = body.get("generated_text");
+            if (!(generated instanceof List<?> outputs) || outputs.size() != batch.size()) {
+                log.warn("batch response size mismatch (modelId={}, sent={})", modelId, batch.size());
+                RuntimeException e = new RuntimeException("FastAPI 배치 응답이 비정상입니다.");
+                batch.forEach(p -> p.result().completeExceptionally(e));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(String.valueOf(outputs.get(i)).trim());
+            }
+        }
+
+        void failAll(Exception e) {
+            List<Pending> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            rest.forEach(p -> p.result().completeExceptionally(e));
+        }
+    }
+
+    // ✅ 배치 대기열 초과 시 거절
+    public static class QueueFullException extends RuntimeException {
+        public QueueFullException(Long modelId) {
+            super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요. (model: " + modelId + ")");
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.ClassificationRequest;
+import com.defamation.backend.repository.ClassificationRequestRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * (modelId, 정규화 입력 해시) 기준 예측 결과 캐시
+ * - 1차: in-process LRU (크기/TTL 제한)
+ * - 2차(옵션): classification_requests.input_hash 조회
+ * - 같은 키의 동시 요청은 upstream 호출 1번으로 합침 (single-flight)
+ */
+@Component
+@RequiredArgsConstructor
+public class PredictionCache {
+
+    private static final Pattern WS = Pattern.compile("\\s+");
+
+    private final DefamationProperties props;
+    private final ClassificationRequestRepository clsRepo;
+    private final Scheduler blockingScheduler;
+
+    private final Map<CacheKey, Mono<String>> inflight = new ConcurrentHashMap<>();
+    private final LinkedHashMap<CacheKey, Entry> lru = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, Entry> eldest) {
+            if (size() > props.getCache().getMaxEntries()) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder dbHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * 캐시에 있으면 바로 반환, 없으면 loader 를 (키당 1번만) 실행해서 채움
+     */
+    public Mono<String> getOrLoad(CacheKey key, Supplier<Mono<String>> loader) {
+        if (!props.getCache().isEnabled()) {
+            return Mono.defer(loader);
+        }
+        return Mono.defer(() -> {
+            String cached = getLocal(key);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+
+            Sinks.One<String> sink = Sinks.one();
+            Mono<String> shared = sink.asMono();
+            Mono<String> running = inflight.putIfAbsent(key, shared);
+            if (running != null) {
+                coalesced.increment();
+                return running;
+            }
+
+            // 첫 getLocal 이후 다른 로더가 putLocal -> inflight 제거까지 끝냈을 수 있음: 다시 보고 있으면 로드 안 함
+            String loaded = getLocal(key);
+            if (loaded != null) {
+                hits.increment();
+                inflight.remove(key, shared);
+                sink.tryEmitValue(loaded);
+                return shared;
+            }
+
+            misses.increment();
+            loadFromDb(key)
+                    .switchIfEmpty(Mono.defer(loader))
+                    .subscribe(
+                            v -> {
+                                putLocal(key, v);
+                                inflight.remove(key, shared);
+                                sink.tryEmitValue(v);
+                            },
+                            e -> {
+                                inflight.remove(key, shared);
+                                sink.tryEmitError(e);
+                            },
+                            () -> {
+                                // 값 없이 끝난 경우 (onNext 에서 이미 제거됐으면 no-op)
+                                if (inflight.remove(key, shared)) sink.tryEmitEmpty();
+                            });
+            return shared;
+        });
+    }
+
+    /**
+     * 다른 키의 결과 재사용용 조회 (근접 중복). single-flight/로더 없이 있으면 값, 없으면 empty
+     * - DB 는 db-tier 설정과 무관하게 조회 (db-max-age 는 동일하게 적용)
+     */
+    public Mono<String> peek(CacheKey key) {
+        return Mono.defer(() -> {
+            String cached = props.getCache().isEnabled() ? getLocal(key) : null;
+            return cached != null ? Mono.just(cached) : findInDb(key);
+        });
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (lru) {
+            size = lru.size();
+        }
+        return new Stats(size, hits.sum(), dbHits.sum(), misses.sum(), coalesced.sum(),
+                evictions.sum(), expirations.sum(), inflight.size());
+    }
+
+    public void clear() {
+        synchronized (lru) {
+            lru.clear();
+        }
+    }
+
+    private String getLocal(CacheKey key) {
+        synchronized (lru) {
+            Entry e = lru.get(key);
+            if (e == null) return null;
+            if (e.expiresAt < System.nanoTime()) {
+                lru.remove(key);
+                expirations.increment();
+                return null;
+            }
+            return e.value;
+        }
+    }
+
+    private void putLocal(CacheKey key, String value) {
+        long expiresAt = System.nanoTime() + props.getCache().getTtl().toNanos();
+        synchronized (lru) {
+            lru.put(key, new Entry(value, expiresAt));
+        }
+    }
+
+    private Mono<String> loadFromDb(CacheKey key) {
+        if (!props.getCache().isDbTierEnabled()) {
+            return Mono.empty();
+        }
+        return findInDb(key).doOnNext(v -> dbHits.increment());
+    }
+
+    private Mono<String> findInDb(CacheKey key) {
+        LocalDateTime minCreatedAt = LocalDateTime.now().minus(props.getCache().getDbMaxAge());
+        return Mono.fromCallable(() -> clsRepo
+                        .findFirstByModelIdAndInputHashAndIsDeletedFalseOrderByIdDesc(key.getModelId(), key.getInputHash())
+                        .filter(r -> r.getGeneratedText() != null)
+                        .filter(r -> r.getCreatedAt() == null || r.getCreatedAt().isAfter(minCreatedAt))
+                        .map(ClassificationRequest::getGeneratedText)
+                        .orElse(null))
+                .subscribeOn(blockingScheduler);
+    }
+
+    /**
+     * 공백/유니코드 정규화 후 SHA-256 (hex)
+     */
+    public static String hash(String inputs) {
+        String normalized = WS.matcher(Normalizer.normalize(inputs == null ? "" : inputs, Normalizer.Form.NFC))
+                .replaceAll(" ")
+                .trim();
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class CacheKey {
+        private final Long modelId;
+        private final String inputHash;
+
+        public static CacheKey of(Long modelId, String inputs) {
+            return new CacheKey(modelId, hash(inputs));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey k)) return false;
+            return modelId.equals(k.modelId) && inputHash.equals(k.inputHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * modelId.hashCode() + inputHash.hashCode();
+        }
+    }
+
+    private record Entry(String value, long expiresAt) {}
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final int size;
+        private final long hits;
+        private final long dbHits;
+        private final long misses;
+        private final long coalesced;
+        private final long evictions;
+        private final long expirations;
+        private final int inflight;
+    }
+}
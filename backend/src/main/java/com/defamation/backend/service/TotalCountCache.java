@@ -0,0 +1,38 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 총 개수(COUNT(*)) 캐시
+ * cursor 모드에서 페이지마다 COUNT 를 다시 돌리지 않도록 TTL 동안 재사용
+ */
+@Component
+@RequiredArgsConstructor
+public class TotalCountCache {
+
+    private final DefamationProperties props;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public long get(String scope, String q, LongSupplier counter) {
+        String key = scope + "|" + (q == null ? "" : q.trim());
+        long now = System.nanoTime();
+
+        Entry e = entries.get(key);
+        if (e != null && e.expiresAt > now) return e.total;
+
+        long total = counter.getAsLong();
+        if (entries.size() >= props.getPaging().getTotalCacheMaxEntries()) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(total, now + props.getPaging().getTotalCacheTtl().toNanos()));
+        return total;
+    }
+
+    private record Entry(long total, long expiresAt) {}
+}
@@ -0,0 +1,306 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.domain.ClassificationRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * generated_text(판결 JSON) -> ClassificationRequest 필드 (트리 없이 스트리밍 파서로 바로 바인딩)
+ * - '{' 앞의 잡음(```json, "다음은 결과입니다:")과 루트 객체가 닫힌 뒤의 텍스트(``` 등)는 무시
+ * - 후행 쉼표 / 작은따옴표 / 문자열 안 줄바꿈 같은 LLM 출력 흔한 오류 허용
+ * - 벌금액 "70만 원", "1,500,000원", "1억 5천만 원" / 집행유예 "2년", "1년 6개월" 도 숫자로
+ * - 도중에 끊기거나 깨져도 그 전까지 읽은 필드는 유지
+ * 결과의 artifacts 로 어떤 보정이 들어갔는지 집계 (defamation.predict.parse.artifacts)
+ */
+public final class VerdictParser {
+
+    private static final JsonFactory JSON = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .build();
+
+    private VerdictParser() {
+    }
+
+    /**
+     * @return failure 가 null 이면 성공 (판단 필드까지 읽음)
+     */
+    public static Result parse(String text, ClassificationRequest req) {
+        List<String> artifacts = new ArrayList<>(2);
+        if (text == null) return new Result("invalid_json", artifacts);
+
+        int start = text.indexOf('{');
+        if (start < 0) return new Result("invalid_json", artifacts);
+        if (start > 0) {
+            artifacts.add(text.lastIndexOf("```", start) >= 0 ? "code_fence" : "leading_text");
+        }
+
+        Binder binder = new Binder(req, artifacts);
+        int end;
+        try (JsonParser p = JSON.createParser(text.toCharArray(), start, text.length() - start)) {
+            binder.root(p);
+            end = start + (int) p.currentTokenLocation().getCharOffset() + 1;
+        } catch (JsonEOFException e) {
+            artifacts.add("truncated");
+            return binder.result();
+        } catch (IOException e) {
+            artifacts.add("syntax_error");
+            return binder.result();
+        }
+
+        if (hasTrailingText(text, end)) artifacts.add("trailing_text");
+        return binder.result();
+    }
+
+    /**
+     * 루트 객체 뒤에 공백/코드 펜스 말고 다른 내용이 있는지
+     */
+    private static boolean hasTrailingText(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || c == '`') continue;
+            return true;
+        }
+        return false;
+    }
+
+    private static final class Binder {
+        final ClassificationRequest req;
+        final List<String> artifacts;
+        boolean anyField;
+
+        Binder(ClassificationRequest req, List<String> artifacts) {
+            this.req = req;
+            this.artifacts = artifacts;
+        }
+
+        void root(JsonParser p) throws IOException {
+            if (p.nextToken() != JsonToken.START_OBJECT) throw new IOException("not an object");
+            object(p, true);
+        }
+
+        /**
+         * 루트와 형량 객체를 같은 방식으로 (형량 필드가 루트에 평평하게 와도 받아줌)
+         */
+        void object(JsonParser p, boolean root) throws IOException {
+            JsonToken t;
+            while ((t = p.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken v = p.nextToken();
+                switch (name) {
+                    case "판단" -> req.setSentenceJudgment(bind(text(p, v)));
+                    case "양형이유" -> req.setSentenceReason(bind(text(p, v)));
+                    case "형종" -> req.setSentenceType(bind(text(p, v)));
+                    case "추가_조건" -> req.setSentenceAdditionalOrder(bind(text(p, v)));
+                    case "벌금액" -> req.setSentenceValue(bind(amount(p, v)));
+                    case "집행유예_기간_월" -> req.setSentenceSuspension(bind(months(p, v)));
+                    case "죄명" -> req.setCaseNames(bind(caseNames(p, v)));
+                    case "형량" -> {
+                        if (root && v == JsonToken.START_OBJECT) object(p, false);
+                        else p.skipChildren();
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            if (t != JsonToken.END_OBJECT) throw new IOException("unexpected token " + t);
+        }
+
+        <T> T bind(T value) {
+            if (value != null) anyField = true;
+            return value;
+        }
+
+        String text(JsonParser p, JsonToken v) throws IOException {
+            if (v == JsonToken.VALUE_NULL) return null;
+            if (v.isScalarValue()) return p.getText();
+            p.skipChildren();
+            return null;
+        }
+
+        Long amount(JsonParser p, JsonToken v) throws IOException {
+            switch (v) {
+                case VALUE_NUMBER_INT -> {
+                    return p.getLongValue();
+                }
+                case VALUE_NUMBER_FLOAT -> {
+                    return Math.round(p.getDoubleValue());
+                }
+                case VALUE_STRING -> {
+                    Long won = parseWon(p.getText());
+                    if (won != null) artifacts.add("amount_text");
+                    return won;
+                }
+                default -> {
+                    p.skipChildren();
+                    return null;
+                }
+            }
+        }
+
+        Integer months(JsonParser p, JsonToken v) throws IOException {
+            switch (v) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                    return p.getIntValue();
+                }
+                case VALUE_STRING -> {
+                    Integer m = parseMonths(p.getText());
+                    if (m != null) artifacts.add("period_text");
+                    return m;
+                }
+                default -> {
+                    p.skipChildren();
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * 죄명 배열을 다시 직렬화하지 않고 읽으면서 바로 JSON 배열 문자열로 (문자열 하나면 1개짜리 배열)
+         */
+        String caseNames(JsonParser p, JsonToken v) throws IOException {
+            if (v == JsonToken.VALUE_STRING) {
+                artifacts.add("case_names_text");
+                return appendQuoted(new StringBuilder("["), p.getText()).append(']').toString();
+            }
+            if (v != JsonToken.START_ARRAY) {
+                p.skipChildren();
+                return null;
+            }
+            StringBuilder sb = new StringBuilder(32).append('[');
+            boolean first = true;
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (t == null) throw new JsonEOFException(p, null, "case names");
+                if (!t.isScalarValue() || t == JsonToken.VALUE_NULL) {
+                    p.skipChildren();
+                    continue;
+                }
+                if (!first) sb.append(',');
+                appendQuoted(sb, p.getText());
+                first = false;
+            }
+            return sb.append(']').toString();
+        }
+
+        Result result() {
+            String failure = null;
+            if (req.getSentenceJudgment() == null) {
+                failure = anyField ? "missing_judgment" : "invalid_json";
+            }
+            return new Result(failure, artifacts);
+        }
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder sb, String s) {
+        sb.append('"');
+        JsonStringEncoder.getInstance().quoteAsString(s, sb);
+        return sb.append('"');
+    }
+
+    // ---------- 한국어 금액 / 기간 ----------
+
+    /**
+     * "700000", "700,000원", "70만 원", "1억 5천만원", "칠십만 원" -> 원 단위
+     * 숫자가 하나도 없으면 null
+     */
+    static Long parseWon(String s) {
+        if (s == null) return null;
+        long total = 0;      // 억/만 단위까지 확정된 값
+        long section = 0;    // 만 미만 자리 (천/백/십 적용)
+        long number = -1;    // 아직 단위가 붙지 않은 숫자
+        boolean any = false;
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            int digit = digit(c);
+            if (digit >= 0) {
+                number = (number < 0 ? 0 : number) * 10 + digit;
+                any = true;
+                continue;
+            }
+            if (c == ',' && number >= 0) continue;
+            switch (c) {
+                case '십' -> { section += (number < 0 ? 1 : number) * 10; number = -1; any = true; }
+                case '백' -> { section += (number < 0 ? 1 : number) * 100; number = -1; any = true; }
+                case '천' -> { section += (number < 0 ? 1 : number) * 1000; number = -1; any = true; }
+                case '만' -> { total += unit(section, number) * 10_000L; section = 0; number = -1; any = true; }
+                case '억' -> { total += unit(section, number) * 100_000_000L; section = 0; number = -1; any = true; }
+                default -> {
+                    // 소수점("1.5억")은 지원하지 않음. 공백/원 말고 다른 글자("일금")가 오면 앞 숫자는 버림
+                    if (c == '.') return null;
+                    if (!Character.isWhitespace(c) && c != '원') number = -1;
+                }
+            }
+        }
+        if (!any) return null;
+        return total + section + Math.max(number, 0);
+    }
+
+    private static long unit(long section, long number) {
+        long v = section + Math.max(number, 0);
+        return v == 0 ? 1 : v;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        return switch (c) {
+            case '영', '공' -> 0;
+            case '일' -> 1;
+            case '이' -> 2;
+            case '삼' -> 3;
+            case '사' -> 4;
+            case '오' -> 5;
+            case '육', '륙' -> 6;
+            case '칠' -> 7;
+            case '팔' -> 8;
+            case '구' -> 9;
+            default -> -1;
+        };
+    }
+
+    /**
+     * "24", "24개월", "2년", "1년 6개월" -> 개월 수 (숫자가 없으면 null)
+     */
+    static Integer parseMonths(String s) {
+        if (s == null) return null;
+        int months = 0;
+        int number = -1;
+        boolean any = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                number = (number < 0 ? 0 : number) * 10 + (c - '0');
+                any = true;
+            } else if (c == '년' && number >= 0) {
+                months += number * 12;
+                number = -1;
+            } else if (c == '개' || c == '월') {
+                if (number >= 0) months += number;
+                number = -1;
+            }
+        }
+        if (!any) return null;
+        return months + Math.max(number, 0);
+    }
+
+    /**
+     * @param failure   null 이면 성공. invalid_json (읽은 필드 없음) / missing_judgment
+     * @param artifacts 보정된 LLM 출력 특성 (code_fence, leading_text, trailing_text, truncated, syntax_error,
+     *                  amount_text, period_text, case_names_text)
+     */
+    public record Result(String failure, List<String> artifacts) {
+        public boolean ok() {
+            return failure == null;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.defamation.backend.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 생성 중인 판결 JSON 을 토큰 단위로 받아서 닫힌 필드부터 꺼내주는 파서
+ * - 값이 끝난 필드는 "판단", "형량.형종" 처럼 경로로 반환
+ * - 최상위 배열(죄명)은 배열이 닫힐 때 리스트로 반환
+ * - '{' 앞의 잡음(```json 등)은 건너뛰고, 루트 객체가 닫히면 이후 입력은 무시
+ * 요청 1건 전용 (thread-safe 아님)
+ */
+public class VerdictStreamParser {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean started;
+    private boolean finished;
+    private boolean failed;
+
+    private int depth;
+    private int collectingDepth = -1;
+    private String collectingPath;
+    private List<Object> collecting;
+
+    public VerdictStreamParser() {
+        try {
+            this.parser = JSON.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    public List<Field> feed(String chunk) {
+        if (finished || failed || chunk == null || chunk.isEmpty()) return List.of();
+
+        String s = chunk;
+        if (!started) {
+            int brace = s.indexOf('{');
+            if (brace < 0) return List.of();
+            started = true;
+            s = s.substring(brace);
+        }
+
+        List<Field> out = new ArrayList<>();
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            JsonToken t;
+            while (!finished && (t = parser.nextToken()) != null && t != JsonToken.NOT_AVAILABLE) {
+                onToken(t, out);
+            }
+        } catch (IOException e) {
+            // JSON 이 깨지면 더 이상 필드는 못 뽑음 (토큰 릴레이는 계속)
+            failed = true;
+        }
+        return out;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    private void onToken(JsonToken t, List<Field> out) throws IOException {
+        switch (t) {
+            case START_OBJECT -> depth++;
+            case START_ARRAY -> {
+                depth++;
+                if (collecting == null) {
+                    collecting = new ArrayList<>();
+                    collectingDepth = depth;
+                    collectingPath = path(parser.getParsingContext().getParent());
+                }
+            }
+            case END_ARRAY -> {
+                if (collecting != null && depth == collectingDepth) {
+                    if (collectingPath != null) out.add(new Field(collectingPath, collecting));
+                    collecting = null;
+                    collectingDepth = -1;
+                }
+                depth--;
+            }
+            case END_OBJECT -> {
+                depth--;
+                if (depth == 0) finished = true;
+            }
+            case FIELD_NAME -> { }
+            default -> {
+                if (!t.isScalarValue()) return;
+                Object value = scalar(t);
+                if (collecting != null) {
+                    if (depth == collectingDepth) collecting.add(value);
+                } else {
+                    String path = path(parser.getParsingContext());
+                    if (path != null) out.add(new Field(path, value));
+                }
+            }
+        }
+    }
+
+    private Object scalar(JsonToken t) throws IOException {
+        return switch (t) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    /**
+     * 객체 필드 이름만으로 이루어진 경로 (배열 안쪽이면 null)
+     */
+    private static String path(JsonStreamContext ctx) {
+        Deque<String> names = new ArrayDeque<>();
+        for (JsonStreamContext c = ctx; c != null && !c.inRoot(); c = c.getParent()) {
+            if (!c.inObject() || c.getCurrentName() == null) return null;
+            names.addFirst(c.getCurrentName());
+        }
+        return names.isEmpty() ? null : String.join(".", names);
+    }
+
+    public record Field(String name, Object value) {}
+}
@@ -0,0 +1,57 @@
+package com.defamation.backend.service.analytics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (일, 모델) 하나의 아직 flush 안 된 증분
+ * - LongAdder / LongAccumulator 라 저장 스레드끼리 같은 칸을 올려도 경합이 셀 단위로 흩어짐
+ * - drain 은 필드별 sumThenReset: 그 사이에 들어온 증분은 이번 또는 다음 flush 로 가고 사라지지 않음
+ */
+final class DailyCounter {
+
+    private final LongAdder predictions = new LongAdder();
+    private final LongAdder guilty = new LongAdder();
+    private final LongAdder notGuilty = new LongAdder();
+    private final LongAdder otherJudgment = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+    private final LongAdder fines = new LongAdder();
+    private final LongAdder fineSum = new LongAdder();
+    private final LongAccumulator fineMax = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] fineHistogram = new LongAdder[StatCounts.BUCKETS];
+
+    DailyCounter() {
+        for (int i = 0; i < fineHistogram.length; i++) fineHistogram[i] = new LongAdder();
+    }
+
+    void add(StatCounts c) {
+        if (c.predictions() != 0) predictions.add(c.predictions());
+        if (c.guilty() != 0) guilty.add(c.guilty());
+        if (c.notGuilty() != 0) notGuilty.add(c.notGuilty());
+        if (c.otherJudgment() != 0) otherJudgment.add(c.otherJudgment());
+        if (c.parseFailures() != 0) parseFailures.add(c.parseFailures());
+        if (c.fines() != 0) {
+            fines.add(c.fines());
+            fineSum.add(c.fineSum());
+            fineMax.accumulate(c.fineMax());
+            for (int i = 0; i < fineHistogram.length; i++) {
+                if (c.fineHistogram()[i] != 0) fineHistogram[i].add(c.fineHistogram()[i]);
+            }
+        }
+    }
+
+    StatCounts drain() {
+        long[] hist = new long[fineHistogram.length];
+        for (int i = 0; i < hist.length; i++) hist[i] = fineHistogram[i].sumThenReset();
+        return new StatCounts(predictions.sumThenReset(), guilty.sumThenReset(), notGuilty.sumThenReset(),
+                otherJudgment.sumThenReset(), parseFailures.sumThenReset(), fines.sumThenReset(),
+                fineSum.sumThenReset(), fineMax.getThenReset(), hist);
+    }
+
+    StatCounts peek() {
+        long[] hist = new long[fineHistogram.length];
+        for (int i = 0; i < hist.length; i++) hist[i] = fineHistogram[i].sum();
+        return new StatCounts(predictions.sum(), guilty.sum(), notGuilty.sum(), otherJudgment.sum(),
+                parseFailures.sum(), fines.sum(), fineSum.sum(), fineMax.get(), hist);
+    }
+}
@@ -0,0 +1,315 @@
+package com.defamation.backend.service.analytics;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.ClassificationRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * classification_requests 예측 집계 (일, 모델 단위)
+ * - 저장될 때마다 메모리 카운터(DailyCounter)만 올리고, flushInterval 마다 prediction_daily_stats 에 더함
+ * - /api/stats 는 원본 테이블 대신 집계 테이블(일 x 모델 행) + 아직 안 쓴 증분으로 응답
+ * - backfill: 기존 행을 id 구간별 GROUP BY 로 다시 채움 (한 번만 돌리는 용도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PredictionAnalytics {
+
+    // StatCounts.FINE_BOUNDS 와 같은 순서
+    private static final String[] FINE_COLUMNS = {"fine_le_500k", "fine_le_1m", "fine_le_2m", "fine_le_3m",
+            "fine_le_5m", "fine_le_10m", "fine_le_20m", "fine_gt_20m"};
+    private static final String UPSERT = """
+            INSERT INTO prediction_daily_stats
+              (stat_date, model_id, predictions, guilty, not_guilty, other_judgment, parse_failures, fines, fine_sum,
+               fine_max, %1$s)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, %2$s)
+            ON DUPLICATE KEY UPDATE
+              predictions = predictions + VALUES(predictions),
+              guilty = guilty + VALUES(guilty),
+              not_guilty = not_guilty + VALUES(not_guilty),
+              other_judgment = other_judgment + VALUES(other_judgment),
+              parse_failures = parse_failures + VALUES(parse_failures),
+              fines = fines + VALUES(fines),
+              fine_sum = fine_sum + VALUES(fine_sum),
+              fine_max = GREATEST(fine_max, VALUES(fine_max)),
+              %3$s""".formatted(
+            String.join(", ", FINE_COLUMNS),
+            String.join(", ", Collections.nCopies(FINE_COLUMNS.length, "?")),
+            String.join(",\n  ", Arrays.stream(FINE_COLUMNS).map(c -> c + " = " + c + " + VALUES(" + c + ")").toList()));
+
+    private final DefamationProperties props;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Key, DailyCounter> pending = new ConcurrentHashMap<>();
+    // 저장+집계 반영(읽기 락) 과 백필의 기준 id 잡기(쓰기 락)가 섞이지 않게
+    private final ReentrantReadWriteLock saveLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock backfillLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    void start() {
+        Duration interval = props.getAnalytics().getFlushInterval();
+        if (!props.getAnalytics().isEnabled() || interval == null || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "analytics-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * ClassificationLogWriter 가 먼저 멈추며 남은 행을 저장한 뒤 마지막 flush
+     */
+    @PreDestroy
+    void stop() {
+        if (flusher != null) flusher.shutdownNow();
+        flushQuietly();
+    }
+
+    /**
+     * 저장과 집계 반영을 한 묶음으로 (백필이 기준 id 를 잡는 순간에는 잠깐 대기)
+     * save 가 예외로 끝나면 집계하지 않음
+     */
+    public void saveAndRecord(List<ClassificationRequest> rows, Runnable save) {
+        saveLock.readLock().lock();
+        try {
+            save.run();
+            record(rows);
+        } finally {
+            saveLock.readLock().unlock();
+        }
+    }
+
+    private void record(List<ClassificationRequest> rows) {
+        if (!props.getAnalytics().isEnabled()) return;
+        for (ClassificationRequest r : rows) {
+            if (r.getModelId() == null) continue;
+            LocalDateTime createdAt = r.getCreatedAt() == null ? LocalDateTime.now() : r.getCreatedAt();
+            pending.computeIfAbsent(new Key(createdAt.toLocalDate(), r.getModelId()), k -> new DailyCounter())
+                    .add(StatCounts.of(r));
+        }
+    }
+
+    /**
+     * 메모리 증분을 집계 테이블에 더함. 실패하면 증분을 되돌려서 다음 flush 때 다시
+     * - 지난 날짜 칸도 그대로 둠 (일 x 모델 수라 작고, 늦게 재적재된 spill 행이 다시 쓸 수 있음)
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<Key, StatCounts>> drained = new ArrayList<>();
+            for (Map.Entry<Key, DailyCounter> e : pending.entrySet()) {
+                StatCounts c = e.getValue().drain();
+                if (!c.isEmpty()) drained.add(Map.entry(e.getKey(), c));
+            }
+            if (drained.isEmpty()) return 0;
+            try {
+                upsert(drained);
+            } catch (RuntimeException ex) {
+                for (Map.Entry<Key, StatCounts> e : drained) pending.get(e.getKey()).add(e.getValue());
+                throw ex;
+            }
+            return drained.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("analytics flush failed, will retry: {}", e.toString());
+        }
+    }
+
+    private void upsert(List<Map.Entry<Key, StatCounts>> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Map.Entry<Key, StatCounts> e : rows) {
+            StatCounts c = e.getValue();
+            Object[] a = new Object[10 + StatCounts.BUCKETS];
+            int i = 0;
+            a[i++] = Date.valueOf(e.getKey().day());
+            a[i++] = e.getKey().modelId();
+            a[i++] = c.predictions();
+            a[i++] = c.guilty();
+            a[i++] = c.notGuilty();
+            a[i++] = c.otherJudgment();
+            a[i++] = c.parseFailures();
+            a[i++] = c.fines();
+            a[i++] = c.fineSum();
+            a[i++] = c.fineMax();
+            for (long b : c.fineHistogram()) a[i++] = b;
+            args.add(a);
+        }
+        jdbcTemplate.batchUpdate(UPSERT, args);
+    }
+
+    /**
+     * [from, to] 일자의 (일, 모델) 집계 + 아직 flush 안 된 증분 (modelId == null 이면 전체 모델)
+     * - 읽는 행 수 = 일 수 x 모델 수 (원본 테이블 크기와 무관)
+     */
+    public Map<Key, StatCounts> daily(LocalDate from, LocalDate to, Long modelId) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM prediction_daily_stats WHERE stat_date BETWEEN ? AND ?");
+        List<Object> args = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to)));
+        if (modelId != null) {
+            sql.append(" AND model_id = ?");
+            args.add(modelId);
+        }
+        Map<Key, StatCounts> out = new TreeMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            out.put(new Key(rs.getDate("stat_date").toLocalDate(), rs.getLong("model_id")), counts(rs));
+        }, args.toArray());
+
+        for (Map.Entry<Key, DailyCounter> e : pending.entrySet()) {
+            Key k = e.getKey();
+            if (k.day().isBefore(from) || k.day().isAfter(to)) continue;
+            if (modelId != null && !modelId.equals(k.modelId())) continue;
+            StatCounts c = e.getValue().peek();
+            if (!c.isEmpty()) out.merge(k, c, StatCounts::plus);
+        }
+        return out;
+    }
+
+    private static StatCounts counts(ResultSet rs) throws SQLException {
+        long[] hist = new long[StatCounts.BUCKETS];
+        for (int i = 0; i < hist.length; i++) hist[i] = rs.getLong(FINE_COLUMNS[i]);
+        return new StatCounts(rs.getLong("predictions"), rs.getLong("guilty"), rs.getLong("not_guilty"),
+                rs.getLong("other_judgment"), rs.getLong("parse_failures"), rs.getLong("fines"),
+                rs.getLong("fine_sum"), rs.getLong("fine_max"), hist);
+    }
+
+    /**
+     * 기존 classification_requests 로 집계 테이블 다시 채우기
+     * 1) 저장을 잠깐 막고 기준 id(현재 max id) 를 잡은 뒤, 집계 테이블과 메모리 증분을 비움
+     *    (그때까지의 증분은 모두 기준 id 이하 행이라 아래 2) 에 다시 포함됨)
+     * 2) 저장은 바로 다시 흐르고(기준 id 초과 행은 평소처럼 증분), 기준 id 이하를 id 구간별 GROUP BY 로 더함
+     * 도중에는 /api/stats 가 일부만 보임. 실패하면 다시 돌리면 됨 (1) 에서 비우고 시작)
+     */
+    public BackfillResult backfill() {
+        if (!backfillLock.tryLock()) {
+            throw new BackfillInProgressException();
+        }
+        try {
+            long started = System.nanoTime();
+            long cutoff;
+            flushLock.lock();
+            try {
+                saveLock.writeLock().lock();
+                try {
+                    Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM classification_requests",
+                            Long.class);
+                    cutoff = max == null ? 0 : max;
+                    pending.clear();
+                    jdbcTemplate.update("DELETE FROM prediction_daily_stats");
+                } finally {
+                    saveLock.writeLock().unlock();
+                }
+            } finally {
+                flushLock.unlock();
+            }
+
+            long chunk = Math.max(1, props.getAnalytics().getBackfillChunk());
+            long groups = 0;
+            for (long after = 0; after < cutoff; after += chunk) {
+                // (일, 모델, 판단 값) 묶음을 Java 쪽 분류로 (일, 모델) 에 합침
+                Map<Key, StatCounts> merged = new TreeMap<>();
+                jdbcTemplate.query(backfillSql(),
+                        rs -> {
+                            merged.merge(new Key(rs.getDate("d").toLocalDate(), rs.getLong("model_id")),
+                                    backfillCounts(rs), StatCounts::plus);
+                        },
+                        after, Math.min(cutoff, after + chunk));
+                if (!merged.isEmpty()) upsert(new ArrayList<>(merged.entrySet()));
+                groups += merged.size();
+            }
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+            log.info("analytics backfill: up to id {} ({} day/model groups) in {} ms", cutoff, groups, elapsedMs);
+            return new BackfillResult(cutoff, groups, elapsedMs);
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    /**
+     * 판단 값 그대로 GROUP BY (값 종류가 적음). 분류는 StatCounts.of 가 함
+     * (SQL TRIM 은 공백만 떼므로 개행/탭이 붙은 값을 실시간 집계와 다르게 분류하게 됨)
+     */
+    private static String backfillSql() {
+        StringBuilder sql = new StringBuilder("""
+                SELECT CAST(created_at AS DATE) AS d, model_id, sentence_judgment,
+                  COUNT(*) AS predictions,
+                  SUM(CASE WHEN sentence_value > 0 THEN 1 ELSE 0 END) AS fines,
+                  COALESCE(SUM(CASE WHEN sentence_value > 0 THEN sentence_value END), 0) AS fine_sum,
+                  COALESCE(MAX(CASE WHEN sentence_value > 0 THEN sentence_value END), 0) AS fine_max""");
+        long lower = 0;
+        for (int i = 0; i < FINE_COLUMNS.length; i++) {
+            sql.append(",\n  SUM(CASE WHEN sentence_value > ").append(lower);
+            if (i < StatCounts.FINE_BOUNDS.length) {
+                sql.append(" AND sentence_value <= ").append(StatCounts.FINE_BOUNDS[i]);
+                lower = StatCounts.FINE_BOUNDS[i];
+            }
+            sql.append(" THEN 1 ELSE 0 END) AS ").append(FINE_COLUMNS[i]);
+        }
+        sql.append("""
+
+                FROM classification_requests
+                WHERE is_deleted = 0 AND id > ? AND id <= ?
+                GROUP BY CAST(created_at AS DATE), model_id, sentence_judgment""");
+        return sql.toString();
+    }
+
+    private static StatCounts backfillCounts(ResultSet rs) throws SQLException {
+        long[] hist = new long[StatCounts.BUCKETS];
+        for (int i = 0; i < hist.length; i++) hist[i] = rs.getLong(FINE_COLUMNS[i]);
+        return StatCounts.of(rs.getString("sentence_judgment"), rs.getLong("predictions"), rs.getLong("fines"),
+                rs.getLong("fine_sum"), rs.getLong("fine_max"), hist);
+    }
+
+    public record Key(LocalDate day, Long modelId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key o) {
+            int c = day.compareTo(o.day);
+            return c != 0 ? c : modelId.compareTo(o.modelId);
+        }
+    }
+
+    public record BackfillResult(long upToId, long groups, long elapsedMs) {
+    }
+
+    // ✅ 백필은 한 번에 하나만
+    public static class BackfillInProgressException extends RuntimeException {
+        public BackfillInProgressException() {
+            super("예측 집계 백필이 이미 진행 중입니다.");
+        }
+    }
+}
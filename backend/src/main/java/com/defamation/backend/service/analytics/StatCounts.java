@@ -0,0 +1,87 @@
+package com.defamation.backend.service.analytics;
+
+import com.defamation.backend.domain.ClassificationRequest;
+
+import java.util.Arrays;
+
+/**
+ * (일, 모델) 하나의 집계 값. 더하기만 하므로 어느 순서로 합쳐도 같음
+ *
+ * @param otherJudgment 판단이 유죄/무죄 이외의 값
+ * @param parseFailures 판단 필드를 못 읽은 건 (sentence_judgment 가 비어 있음)
+ * @param fines         벌금액(sentence_value)이 있는 건
+ * @param fineHistogram FINE_BOUNDS 구간별 건수 (마지막 칸은 상한 초과)
+ */
+public record StatCounts(long predictions, long guilty, long notGuilty, long otherJudgment, long parseFailures,
+                         long fines, long fineSum, long fineMax, long[] fineHistogram) {
+
+    // 벌금 구간 상한 (원, 이하). 컬럼 fine_le_500k ... fine_le_20m, fine_gt_20m 과 같은 순서
+    public static final long[] FINE_BOUNDS = {500_000, 1_000_000, 2_000_000, 3_000_000, 5_000_000, 10_000_000,
+            20_000_000};
+    public static final int BUCKETS = FINE_BOUNDS.length + 1;
+    public static final StatCounts EMPTY = new StatCounts(0, 0, 0, 0, 0, 0, 0, 0, new long[BUCKETS]);
+
+    public static final String GUILTY = "유죄";
+    public static final String NOT_GUILTY = "무죄";
+
+    public static int bucket(long fine) {
+        for (int i = 0; i < FINE_BOUNDS.length; i++) {
+            if (fine <= FINE_BOUNDS[i]) return i;
+        }
+        return FINE_BOUNDS.length;
+    }
+
+    /**
+     * 행 1건 (백필도 판단 값별 묶음을 of(judgment, ...) 로 분류하므로 기준이 같음)
+     */
+    public static StatCounts of(ClassificationRequest r) {
+        long[] hist = new long[BUCKETS];
+        Long fine = r.getSentenceValue();
+        boolean hasFine = fine != null && fine > 0;
+        if (hasFine) hist[bucket(fine)] = 1;
+        return of(r.getSentenceJudgment(), 1, hasFine ? 1 : 0, hasFine ? fine : 0, hasFine ? fine : 0, hist);
+    }
+
+    /**
+     * 판단 값이 같은 predictions 건 묶음
+     * - 앞뒤 공백(strip, 개행/탭/전각 공백 포함)을 떼고 유죄/무죄/그 외/빈 값으로 분류
+     */
+    public static StatCounts of(String sentenceJudgment, long predictions, long fines, long fineSum, long fineMax,
+                                long[] fineHistogram) {
+        String judgment = sentenceJudgment == null ? "" : sentenceJudgment.strip();
+        boolean guilty = GUILTY.equals(judgment);
+        boolean notGuilty = NOT_GUILTY.equals(judgment);
+        boolean empty = judgment.isEmpty();
+        return new StatCounts(predictions,
+                guilty ? predictions : 0,
+                notGuilty ? predictions : 0,
+                !empty && !guilty && !notGuilty ? predictions : 0,
+                empty ? predictions : 0,
+                fines, fineSum, fineMax, fineHistogram);
+    }
+
+    public StatCounts plus(StatCounts o) {
+        long[] hist = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) hist[i] = fineHistogram[i] + o.fineHistogram[i];
+        return new StatCounts(predictions + o.predictions, guilty + o.guilty, notGuilty + o.notGuilty,
+                otherJudgment + o.otherJudgment, parseFailures + o.parseFailures, fines + o.fines,
+                fineSum + o.fineSum, Math.max(fineMax, o.fineMax), hist);
+    }
+
+    public boolean isEmpty() {
+        return predictions == 0 && fines == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof StatCounts c && predictions == c.predictions && guilty == c.guilty
+                && notGuilty == c.notGuilty && otherJudgment == c.otherJudgment && parseFailures == c.parseFailures
+                && fines == c.fines && fineSum == c.fineSum && fineMax == c.fineMax
+                && Arrays.equals(fineHistogram, c.fineHistogram);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(predictions) + Arrays.hashCode(fineHistogram);
+    }
+}
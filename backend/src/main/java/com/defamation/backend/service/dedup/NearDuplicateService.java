@@ -0,0 +1,295 @@
+package com.defamation.backend.service.dedup;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.PredictionCache;
+import com.defamation.backend.service.ingest.CasesImportedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * problem_situation 근접 중복 탐지
+ * - cases / classification_requests 의 simhash 컬럼을 밴드 인덱스(SimHashIndex)에 올려 둠
+ * - predict: 같은 모델의 근접 중복 요청을 찾아 그 결과를 재사용할 수 있게 (DefamationPredictService)
+ * - /api/cases?collapse=true: 근접 중복 판례를 한 건으로 묶기 (CaseService)
+ * - 새 cases 는 syncInterval 마다 id 기준으로 이어서 읽음, 요청 서명은 저장 시점에 바로 추가
+ * - 일괄 적재는 같은 id 의 서명을 바꾸거나 지우므로 (upsert) 끝나면 cases 인덱스를 다시 만듦
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearDuplicateService {
+
+    private static final int LOAD_CHUNK = 5000;
+
+    private final DefamationProperties props;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ReentrantLock backfillLock = new ReentrantLock();
+    private volatile SimHashIndex<Long> cases;
+    private SimHashIndex<PredictionCache.CacheKey> requests;
+    private volatile boolean ready;
+    private long lastCaseId;
+    private ScheduledExecutorService syncer;
+
+    @PostConstruct
+    void start() {
+        DefamationProperties.NearDuplicate cfg = props.getNearDuplicate();
+        cases = new SimHashIndex<>(cfg.getMaxDistance(), 0);
+        requests = new SimHashIndex<>(cfg.getMaxDistance(), cfg.getMaxRequestEntries());
+        if (!cfg.isEnabled()) return;
+
+        // 기동을 막지 않도록 첫 적재도 백그라운드에서 (다 읽기 전에는 근접 중복 없음으로 동작)
+        syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "near-dup-sync");
+            t.setDaemon(true);
+            return t;
+        });
+        syncer.execute(this::initialLoad);
+        Duration interval = cfg.getSyncInterval();
+        if (interval != null && !interval.isZero() && !interval.isNegative()) {
+            syncer.scheduleWithFixedDelay(this::syncCases, interval.toMillis(), interval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (syncer != null) syncer.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return props.getNearDuplicate().isEnabled();
+    }
+
+    /**
+     * 입력 서명 (비활성/너무 짧으면 0)
+     */
+    public long signature(String inputs) {
+        return isEnabled() ? SimHash.of(inputs) : 0;
+    }
+
+    /**
+     * 같은 모델로 예측된 가장 가까운 요청 (입력이 완전히 같은 건 캐시가 처리하므로 제외)
+     */
+    public Match nearestRequest(Long modelId, String inputHash, long sig) {
+        if (sig == 0 || !isEnabled()) return null;
+        for (SimHashIndex.Match<PredictionCache.CacheKey> m : requests.near(sig, props.getNearDuplicate().getMaxDistance())) {
+            PredictionCache.CacheKey k = m.key();
+            if (k.getModelId().equals(modelId) && !k.getInputHash().equals(inputHash)) {
+                return new Match(k.getInputHash(), m.distance(), false);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 모델이 직접 만들고 파싱까지 성공한 예측만 재사용 후보로
+     * (재사용한 결과까지 넣으면 A->B->C 로 이어지며 maxDistance 를 넘는 입력이 A 의 결과를 받게 됨)
+     */
+    public void addRequest(PredictionCache.CacheKey key, long sig) {
+        if (sig != 0 && isEnabled()) requests.put(key, sig);
+    }
+
+    /**
+     * caseId 와 근접 중복인 다른 판례 id (가까운 순). 서명이 없으면 빈 목록
+     */
+    public List<Long> nearCases(Long caseId) {
+        Long sig = cases.signature(caseId);
+        if (sig == null || !isEnabled()) return List.of();
+        List<Long> out = new ArrayList<>();
+        for (SimHashIndex.Match<Long> m : cases.near(sig, props.getNearDuplicate().getMaxDistance())) {
+            if (!m.key().equals(caseId)) out.add(m.key());
+        }
+        return out;
+    }
+
+    public Stats stats() {
+        return new Stats(isEnabled(), ready, props.getNearDuplicate().getMaxDistance(), cases.size(), requests.size());
+    }
+
+    /**
+     * simhash 가 비어 있는 기존 행 채우기 (이미 있는 행은 건드리지 않음) 후 인덱스 다시 적재
+     * - id 순으로 한 번만 훑음 (짧아서 서명이 없는 행은 계속 NULL)
+     */
+    public BackfillResult backfill() {
+        if (!backfillLock.tryLock()) {
+            throw new BackfillInProgressException();
+        }
+        try {
+            int batch = Math.max(1, props.getNearDuplicate().getBackfillBatchSize());
+            long[] c = fill("cases", batch);
+            long[] r = fill("classification_requests", batch);
+            initialLoad();
+            return new BackfillResult(c[0], c[1], r[0], r[1]);
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    private long[] fill(String table, int batch) {
+        long scanned = 0;
+        long signed = 0;
+        long after = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT id, problem_situation FROM " + table
+                            + " WHERE simhash IS NULL AND is_deleted = 0 AND id > ? ORDER BY id LIMIT ?",
+                    (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2)}, after, batch);
+            if (rows.isEmpty()) break;
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                long sig = SimHash.of((String) row[1]);
+                if (sig != 0) updates.add(new Object[]{sig, row[0]});
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE " + table + " SET simhash = ? WHERE id = ?", updates);
+            }
+            scanned += rows.size();
+            signed += updates.size();
+            after = (Long) rows.get(rows.size() - 1)[0];
+        }
+        log.info("near-dup backfill {}: scanned={}, signed={}", table, scanned, signed);
+        return new long[]{scanned, signed};
+    }
+
+    /**
+     * cases 인덱스는 새로 만들어 통째 교체 (읽는 쪽은 교체 전 인덱스를 그대로 씀)
+     */
+    private void initialLoad() {
+        syncLock.lock();
+        try {
+            DefamationProperties.NearDuplicate cfg = props.getNearDuplicate();
+            SimHashIndex<Long> c = new SimHashIndex<>(cfg.getMaxDistance(), 0);
+            long last = loadCases(c, 0);
+
+            // 요청 인덱스는 교체하지 않고 이어서 넣음 (적재 중에 저장된 요청 서명이 빠지지 않게)
+            // 최근 것이 남도록 오래된 것부터 (상한을 넘으면 먼저 넣은 것부터 빠짐)
+            Timestamp minCreatedAt = Timestamp.valueOf(LocalDateTime.now().minus(props.getCache().getDbMaxAge()));
+            List<Object[]> rows = jdbcTemplate.query("""
+                            SELECT model_id, input_hash, simhash FROM classification_requests
+                            WHERE is_deleted = 0 AND simhash IS NOT NULL AND input_hash IS NOT NULL
+                              AND sentence_judgment IS NOT NULL AND reused_input_hash IS NULL AND created_at >= ?
+                            ORDER BY id DESC LIMIT ?""",
+                    (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getLong(3)},
+                    minCreatedAt, cfg.getMaxRequestEntries());
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                Object[] row = rows.get(i);
+                requests.put(new PredictionCache.CacheKey((Long) row[0], (String) row[1]), (Long) row[2]);
+            }
+            cases = c;
+            lastCaseId = last;
+            ready = true;
+            log.info("near-dup index loaded: cases={}, requests={}", c.size(), requests.size());
+        } catch (RuntimeException e) {
+            log.warn("near-dup index load failed: {}", e.toString());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 일괄 적재 완료: 동기화 스레드에서 cases 인덱스를 다시 만듦 (적재 스레드를 붙잡지 않음)
+     * - 새 서술이 짧아 서명이 NULL 이 된 행도 빠지도록 이어 넣지 않고 통째 교체
+     */
+    @EventListener
+    public void onCasesImported(CasesImportedEvent event) {
+        if (syncer != null) syncer.execute(this::reloadCases);
+    }
+
+    private void reloadCases() {
+        if (!ready) {
+            initialLoad();
+            return;
+        }
+        syncLock.lock();
+        try {
+            SimHashIndex<Long> c = new SimHashIndex<>(props.getNearDuplicate().getMaxDistance(), 0);
+            long last = loadCases(c, 0);
+            cases = c;
+            lastCaseId = last;
+            log.info("near-dup case index reloaded after import: cases={}", c.size());
+        } catch (RuntimeException e) {
+            log.warn("near-dup case reload failed: {}", e.toString());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void syncCases() {
+        if (!ready) {
+            initialLoad();
+            return;
+        }
+        syncLock.lock();
+        try {
+            lastCaseId = loadCases(cases, lastCaseId);
+        } catch (RuntimeException e) {
+            log.warn("near-dup case sync failed: {}", e.toString());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private long loadCases(SimHashIndex<Long> index, long after) {
+        long last = after;
+        while (true) {
+            List<long[]> rows = jdbcTemplate.query("""
+                            SELECT id, simhash FROM cases
+                            WHERE is_deleted = 0 AND simhash IS NOT NULL AND id > ?
+                            ORDER BY id LIMIT ?""",
+                    (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)}, last, LOAD_CHUNK);
+            for (long[] row : rows) index.put(row[0], row[1]);
+            if (rows.isEmpty()) return last;
+            last = rows.get(rows.size() - 1)[0];
+            if (rows.size() < LOAD_CHUNK) return last;
+        }
+    }
+
+    /**
+     * @param inputHash     근접 중복 요청의 input_hash
+     * @param verdictReused 모델 호출 없이 그 요청의 결과를 그대로 썼는지
+     */
+    public record Match(String inputHash, int distance, boolean verdictReused) {
+        public Match reused() {
+            return new Match(inputHash, distance, true);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private final boolean enabled;
+        private final boolean ready;
+        private final int maxDistance;
+        private final int cases;
+        private final int requests;
+    }
+
+    public record BackfillResult(long casesScanned, long casesSigned, long requestsScanned, long requestsSigned) {
+    }
+
+    // ✅ 백필은 한 번에 하나만
+    public static class BackfillInProgressException extends RuntimeException {
+        public BackfillInProgressException() {
+            super("근접 중복 서명 백필이 이미 진행 중입니다.");
+        }
+    }
+}
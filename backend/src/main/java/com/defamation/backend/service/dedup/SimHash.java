@@ -0,0 +1,73 @@
+package com.defamation.backend.service.dedup;
+
+import com.defamation.backend.service.search.KoreanNgramTokenizer;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * problem_situation 의 64비트 SimHash
+ * - 비식별 표기(피해자 D, C교회, 피고인 A 등 대문자 1~2자)는 지우고 어절별 글자 3-gram 으로 shingle
+ * - shingle 해시(FNV-1a + murmur fmix)를 등장 횟수로 가중해 비트별 다수결
+ * - 글자 몇 개/이름만 다른 서술은 해밍 거리 0~3 안에 들어옴
+ */
+public final class SimHash {
+
+    // shingle 이 이보다 적으면 서명이 불안정해서 만들지 않음 (0 반환)
+    static final int MIN_SHINGLES = 8;
+    private static final int SHINGLE = 3;
+    private static final Pattern PLACEHOLDER = Pattern.compile("(?<![A-Za-z])[A-Z]{1,2}(?![A-Za-z])");
+
+    private SimHash() {
+    }
+
+    /**
+     * @return 서명 (0 이면 너무 짧아서 없음)
+     */
+    public static long of(String text) {
+        if (text == null || text.isBlank()) return 0;
+        String normalized = PLACEHOLDER.matcher(Normalizer.normalize(text, Normalizer.Form.NFC)).replaceAll(" ");
+        List<String> shingles = KoreanNgramTokenizer.tokenize(normalized, SHINGLE);
+        if (shingles.size() < MIN_SHINGLES) return 0;
+
+        Map<String, Integer> tf = new HashMap<>(shingles.size() * 2);
+        for (String s : shingles) tf.merge(s, 1, Integer::sum);
+
+        int[] v = new int[64];
+        for (Map.Entry<String, Integer> e : tf.entrySet()) {
+            long h = hash(e.getKey());
+            int w = e.getValue();
+            for (int bit = 0; bit < 64; bit++) {
+                v[bit] += ((h >>> bit) & 1) != 0 ? w : -w;
+            }
+        }
+        long sig = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (v[bit] > 0) sig |= 1L << bit;
+        }
+        // 실제 서명이 0 이 되는 경우는 "없음" 과 구분되게 1비트만 세움
+        return sig == 0 ? 1 : sig;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // FNV 는 하위 비트 분산이 약해서 한 번 더 섞음
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,162 @@
+package com.defamation.backend.service.dedup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SimHash 밴드 인덱스 (해밍 거리 maxDistance 이하 후보 찾기)
+ * - 64비트를 maxDistance + 1 개 밴드로 나누면, 거리가 maxDistance 이하인 두 서명은 적어도 한 밴드가 완전히 같음
+ *   -> 밴드 값으로 버킷을 찾고 후보만 실제 거리 계산 (전체 스캔 없음)
+ * - 버킷은 불변 배열을 통째 교체 (읽기는 락 없음, 쓰기만 락)
+ * - maxEntries 를 넘으면 먼저 넣은 것부터 제거
+ */
+public final class SimHashIndex<K> {
+
+    private final int maxDistance;
+    private final int bands;
+    private final int maxEntries;
+    private final List<Map<Long, Object[]>> buckets;
+    private final Map<K, Long> signatures = new ConcurrentHashMap<>();
+    private final ArrayDeque<K> insertionOrder = new ArrayDeque<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public SimHashIndex(int maxDistance, int maxEntries) {
+        if (maxDistance < 0 || maxDistance > 15) {
+            throw new IllegalArgumentException("maxDistance 는 0~15: " + maxDistance);
+        }
+        this.maxDistance = maxDistance;
+        this.bands = maxDistance + 1;
+        this.maxEntries = maxEntries;
+        List<Map<Long, Object[]>> b = new ArrayList<>(bands);
+        for (int i = 0; i < bands; i++) b.add(new ConcurrentHashMap<>());
+        this.buckets = List.copyOf(b);
+    }
+
+    public int maxDistance() {
+        return maxDistance;
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    public Long signature(K key) {
+        return signatures.get(key);
+    }
+
+    /**
+     * 같은 키가 다른 서명으로 있으면 교체. sig == 0 (서명 없음) 은 무시
+     */
+    public void put(K key, long sig) {
+        if (sig == 0) return;
+        writeLock.lock();
+        try {
+            Long old = signatures.get(key);
+            if (old != null) {
+                if (old == sig) return;
+                unlink(key, old);
+                insertionOrder.remove(key);
+            }
+            signatures.put(key, sig);
+            insertionOrder.addLast(key);
+            for (int b = 0; b < bands; b++) {
+                buckets.get(b).merge(band(sig, b), new Object[]{key}, SimHashIndex::concat);
+            }
+            while (maxEntries > 0 && signatures.size() > maxEntries) {
+                K eldest = insertionOrder.pollFirst();
+                if (eldest == null) break;
+                Long s = signatures.remove(eldest);
+                if (s != null) unlink(eldest, s);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        writeLock.lock();
+        try {
+            Long s = signatures.remove(key);
+            if (s == null) return;
+            unlink(key, s);
+            insertionOrder.remove(key);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 거리 limit(<= maxDistance) 이하인 키, 가까운 순
+     */
+    public List<Match<K>> near(long sig, int limit) {
+        if (sig == 0) return List.of();
+        int max = Math.min(limit, maxDistance);
+        Set<Object> seen = new HashSet<>();
+        List<Match<K>> out = new ArrayList<>();
+        for (int b = 0; b < bands; b++) {
+            Object[] bucket = buckets.get(b).get(band(sig, b));
+            if (bucket == null) continue;
+            for (Object o : bucket) {
+                if (!seen.add(o)) continue;
+                @SuppressWarnings("unchecked") K key = (K) o;
+                Long s = signatures.get(key);
+                if (s == null) continue;
+                int d = SimHash.distance(sig, s);
+                if (d <= max) out.add(new Match<>(key, d));
+            }
+        }
+        out.sort(Comparator.comparingInt(Match::distance));
+        return out;
+    }
+
+    private void unlink(K key, long sig) {
+        for (int b = 0; b < bands; b++) {
+            buckets.get(b).computeIfPresent(band(sig, b), (k, arr) -> without(arr, key));
+        }
+    }
+
+    /**
+     * b 번째 밴드 값 (마지막 밴드가 나머지 비트를 가짐). 상위 비트에 밴드 번호를 넣어 밴드끼리 안 섞이게
+     */
+    long band(long sig, int b) {
+        int width = 64 / bands;
+        int from = b * width;
+        int to = b == bands - 1 ? 64 : from + width;
+        int len = to - from;
+        long value = len == 64 ? sig : (sig >>> from) & ((1L << len) - 1);
+        return len == 64 ? value : value | ((long) b << len);
+    }
+
+    private static Object[] concat(Object[] a, Object[] b) {
+        Object[] out = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+
+    private static Object[] without(Object[] arr, Object key) {
+        int idx = -1;
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i].equals(key)) {
+                idx = i;
+                break;
+            }
+        }
+        if (idx < 0) return arr;
+        if (arr.length == 1) return null;
+        Object[] out = new Object[arr.length - 1];
+        System.arraycopy(arr, 0, out, 0, idx);
+        System.arraycopy(arr, idx + 1, out, idx, arr.length - idx - 1);
+        return out;
+    }
+
+    public record Match<K>(K key, int distance) {
+    }
+}
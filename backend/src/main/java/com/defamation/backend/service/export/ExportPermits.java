@@ -0,0 +1,70 @@
+package com.defamation.backend.service.export;
+
+import com.defamation.backend.config.DefamationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시 내보내기 수 제한
+ * - 내보내기 1건은 끝날 때까지 커넥션 풀의 커넥션 1개와 비동기 스레드 1개를 잡고 있음
+ * - max-concurrent 를 넘으면 기다리지 않고 바로 거절 (503 + Retry-After)
+ */
+@Component
+public class ExportPermits {
+
+    private static final Duration BUSY_RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final Semaphore permits;
+
+    public ExportPermits(DefamationProperties props) {
+        this.permits = new Semaphore(Math.max(1, props.getExport().getMaxConcurrent()));
+    }
+
+    /**
+     * 자리가 없으면 ExportBusyException
+     */
+    public Permit acquire() {
+        if (!permits.tryAcquire()) {
+            throw new ExportBusyException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요.", BUSY_RETRY_AFTER);
+        }
+        return new Permit();
+    }
+
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 스트림 종료와 비동기 요청 완료 양쪽에서 닫으므로 여러 번 닫아도 1번만 반납
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) permits.release();
+        }
+    }
+
+    // ✅ 동시 내보내기 초과 시 즉시 실패 (503 + Retry-After)
+    public static class ExportBusyException extends RuntimeException {
+
+        private final Duration retryAfter;
+
+        public ExportBusyException(String message, Duration retryAfter) {
+            super(message);
+            this.retryAfter = retryAfter;
+        }
+
+        public long retryAfterSeconds() {
+            return Math.max(1, retryAfter.toSeconds());
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.defamation.backend.service.export;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.JsonListParser;
+import com.defamation.backend.service.metrics.DefamationMetrics;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * cases / classification_requests 를 JSONL 로 내보내기 (merged_dataset.jsonl 과 같은 키)
+ * - forward-only / read-only 커서로 한 행씩 읽어서 바로 JsonGenerator 로 씀 -> 행 수와 무관하게 메모리 일정
+ * - MySQL(Connector/J) 은 fetchSize = Integer.MIN_VALUE 일 때만 결과를 모아 두지 않고 스트리밍
+ * - 클라이언트가 끊기면 쿼리를 취소 (스트리밍 결과는 닫을 때 남은 행을 다 읽기 때문)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JsonlExportService {
+
+    private static final String CASES_SQL = """
+            SELECT raw_id, problem_situation, participants, case_names, case_type, court_level, defendant, label,
+                   sentence_type, sentence_value, sentence_suspension, sentence_additional_order, sentence_reason,
+                   sentence_judgment
+            FROM cases
+            WHERE is_deleted = 0""";
+
+    private static final String REQUESTS_SQL = """
+            SELECT id, model_id, problem_situation, case_names, sentence_type, sentence_value, sentence_suspension,
+                   sentence_additional_order, sentence_reason, sentence_judgment, input_hash, created_at%s
+            FROM classification_requests
+            WHERE is_deleted = 0""";
+
+    private final DefamationProperties props;
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonListParser jsonListParser;
+    private final ObjectMapper objectMapper;
+    private final DefamationMetrics metrics;
+
+    /**
+     * 필터 검증 + 쿼리 준비 (잘못된 필터는 응답을 쓰기 전에 IllegalArgumentException)
+     */
+    public Query cases(Filter filter) {
+        if (filter.modelId() != null) {
+            throw new IllegalArgumentException("modelId 는 classification-requests 내보내기에서만 쓸 수 있습니다.");
+        }
+        StringBuilder sql = new StringBuilder(CASES_SQL);
+        List<Object> args = new ArrayList<>();
+        filter.appendTo(sql, args);
+        if (filter.label() != null) {
+            sql.append(" AND label = ?");
+            args.add(filter.label());
+        }
+        sql.append(" ORDER BY id");
+
+        return new Query("cases", sql.toString(), args, (rs, gen) -> {
+            gen.writeStringField("problem_situation", rs.getString("problem_situation"));
+            writeList(gen, "participants", rs.getString("participants"));
+            gen.writeNumberField("raw_id", rs.getLong("raw_id"));
+            writeList(gen, "case_names", rs.getString("case_names"));
+            gen.writeStringField("case_type", rs.getString("case_type"));
+            gen.writeNumberField("court_level", rs.getInt("court_level"));
+            gen.writeStringField("defendant", rs.getString("defendant"));
+            gen.writeNumberField("label", rs.getInt("label"));
+            gen.writeStringField("sentence_type", rs.getString("sentence_type"));
+            gen.writeStringField("sentence_value", rs.getString("sentence_value"));
+            gen.writeStringField("sentence_suspension", rs.getString("sentence_suspension"));
+            gen.writeStringField("sentence_additional_order", rs.getString("sentence_additional_order"));
+            gen.writeStringField("sentence_reason", rs.getString("sentence_reason"));
+            gen.writeStringField("sentence_judgment", rs.getString("sentence_judgment"));
+        });
+    }
+
+    /**
+     * 예측 이력: cases 와 겹치는 키는 같은 이름, 나머지는 id / model_id / input_hash / created_at
+     * - includeGenerated 면 모델 원문 출력(generated_text)도
+     */
+    public Query classificationRequests(Filter filter, boolean includeGenerated) {
+        if (filter.label() != null) {
+            throw new IllegalArgumentException("label 은 cases 내보내기에서만 쓸 수 있습니다.");
+        }
+        // 원문 출력은 행마다 길어서 필요할 때만 읽음
+        StringBuilder sql = new StringBuilder(REQUESTS_SQL.formatted(includeGenerated ? ", generated_text" : ""));
+        List<Object> args = new ArrayList<>();
+        filter.appendTo(sql, args);
+        if (filter.modelId() != null) {
+            sql.append(" AND model_id = ?");
+            args.add(filter.modelId());
+        }
+        sql.append(" ORDER BY id");
+
+        return new Query("classification_requests", sql.toString(), args, (rs, gen) -> {
+            gen.writeNumberField("id", rs.getLong("id"));
+            gen.writeNumberField("model_id", rs.getLong("model_id"));
+            gen.writeStringField("problem_situation", rs.getString("problem_situation"));
+            writeList(gen, "case_names", rs.getString("case_names"));
+            gen.writeStringField("sentence_type", rs.getString("sentence_type"));
+            writeLong(gen, "sentence_value", rs, "sentence_value");
+            writeLong(gen, "sentence_suspension", rs, "sentence_suspension");
+            gen.writeStringField("sentence_additional_order", rs.getString("sentence_additional_order"));
+            gen.writeStringField("sentence_reason", rs.getString("sentence_reason"));
+            gen.writeStringField("sentence_judgment", rs.getString("sentence_judgment"));
+            gen.writeStringField("input_hash", rs.getString("input_hash"));
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            gen.writeStringField("created_at", createdAt == null ? null : createdAt.toLocalDateTime().toString());
+            if (includeGenerated) {
+                gen.writeStringField("generated_text", rs.getString("generated_text"));
+            }
+        });
+    }
+
+    /**
+     * @return 쓴 행 수
+     */
+    public long write(Query query, OutputStream out) {
+        String target = query.target();
+        String sql = query.sql();
+        List<Object> args = query.args();
+        RowWriter writer = query.writer();
+        long started = System.nanoTime();
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(fetchSize(con));
+                for (int i = 0; i < args.size(); i++) ps.setObject(i + 1, args.get(i));
+
+                long count = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+                    // 응답 스트림은 호출한 쪽이 닫음 / 줄 사이 기본 구분자(공백) 대신 '\n' 만
+                    gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    gen.setRootValueSeparator(null);
+                    try {
+                        while (rs.next()) {
+                            gen.writeStartObject();
+                            writer.write(rs, gen);
+                            gen.writeEndObject();
+                            gen.writeRaw('\n');
+                            count++;
+                        }
+                        gen.close();
+                    } catch (IOException e) {
+                        // 클라이언트 끊김: rs 를 닫기 전에 취소해야 남은 행을 다 읽지 않음
+                        cancelQuietly(ps);
+                        log.info("export {} aborted after {} rows: {}", target, count, e.toString());
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return count;
+            }
+        });
+        long count = rows == null ? 0 : rows;
+        metrics.exportedRows(target, count);
+        log.info("export {}: {} rows in {} ms", target, count, (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    private int fetchSize(Connection con) throws SQLException {
+        String product = con.getMetaData().getDatabaseProductName();
+        return product != null && product.toLowerCase().contains("mysql")
+                ? Integer.MIN_VALUE
+                : props.getExport().getFetchSize();
+    }
+
+    private static void cancelQuietly(PreparedStatement ps) {
+        try {
+            ps.cancel();
+        } catch (SQLException e) {
+            log.debug("export query cancel failed: {}", e.toString());
+        }
+    }
+
+    private void writeList(JsonGenerator gen, String name, String json) throws IOException {
+        gen.writeArrayFieldStart(name);
+        for (String v : jsonListParser.parse(json)) gen.writeString(v);
+        gen.writeEndArray();
+    }
+
+    private static void writeLong(JsonGenerator gen, String name, ResultSet rs, String column)
+            throws IOException, SQLException {
+        long v = rs.getLong(column);
+        if (rs.wasNull()) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeNumberField(name, v);
+        }
+    }
+
+    @FunctionalInterface
+    interface RowWriter {
+        void write(ResultSet rs, JsonGenerator gen) throws IOException, SQLException;
+    }
+
+    public record Query(String target, String sql, List<Object> args, RowWriter writer) {
+    }
+
+    /**
+     * 공통 필터 (null 이면 조건 없음). from/to 는 created_at 날짜 기준 양 끝 포함
+     */
+    public record Filter(LocalDate from, LocalDate to, Long modelId, String judgment, Integer label) {
+
+        void appendTo(StringBuilder sql, List<Object> args) {
+            if (from != null && to != null && from.isAfter(to)) {
+                throw new IllegalArgumentException("from 이 to 보다 늦습니다.");
+            }
+            if (from != null) {
+                sql.append(" AND created_at >= ?");
+                args.add(Timestamp.valueOf(from.atStartOfDay()));
+            }
+            if (to != null) {
+                sql.append(" AND created_at < ?");
+                args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+            }
+            if (judgment != null && !judgment.isBlank()) {
+                sql.append(" AND sentence_judgment = ?");
+                args.add(judgment.strip());
+            }
+        }
+    }
+}
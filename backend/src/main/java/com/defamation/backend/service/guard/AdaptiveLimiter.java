@@ -0,0 +1,95 @@
+package com.defamation.backend.service.guard;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 기반 AIMD 동시성 제한 + 고정 상한(bulkhead)
+ * - 진행 중 호출이 floor(limit) 이상이면 즉시 거절
+ * - 성공 지연이 최소 지연 * tolerance 이하이고 limit 을 절반 이상 쓰는 중이면 +1/limit (RTT 당 약 +1)
+ * - 지연이 그보다 크거나 실패하면 limit *= backoff
+ */
+final class AdaptiveLimiter {
+
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoff;
+    private final double tolerance;
+    private final long minRttResetNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    // onSuccess/onDrop 안에서만 (synchronized)
+    private long minRttNanos = Long.MAX_VALUE;
+    private long minRttSince;
+
+    final LongAdder rejected = new LongAdder();
+
+    AdaptiveLimiter(boolean adaptive, int initialLimit, int minLimit, int maxLimit,
+                    double backoff, double tolerance, long minRttResetNanos) {
+        this.adaptive = adaptive;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(minLimit, this.maxLimit));
+        this.backoff = backoff;
+        this.tolerance = tolerance;
+        this.minRttResetNanos = minRttResetNanos;
+        this.limit = adaptive ? Math.max(this.minLimit, Math.min(initialLimit, this.maxLimit)) : this.maxLimit;
+    }
+
+    /**
+     * @return 진행 중 호출 수 (획득 직전 기준), 거절이면 -1
+     */
+    int tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) return current;
+        }
+    }
+
+    void release() {
+        inflight.decrementAndGet();
+    }
+
+    synchronized void onSuccess(long rttNanos, int inflightAtStart) {
+        if (!adaptive) return;
+        long now = System.nanoTime();
+        if (rttNanos < minRttNanos || now - minRttSince > minRttResetNanos) {
+            minRttNanos = rttNanos;
+            minRttSince = now;
+        }
+
+        if (rttNanos > minRttNanos * tolerance) {
+            limit = Math.max(minLimit, limit * backoff);
+        } else if (inflightAtStart * 2 >= limit) {
+            // 안 쓰는 여유분까지 늘리지는 않음
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    synchronized void onDrop() {
+        if (!adaptive) return;
+        limit = Math.max(minLimit, limit * backoff);
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int maxLimit() {
+        return maxLimit;
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+
+    synchronized long minRttNanos() {
+        return minRttNanos == Long.MAX_VALUE ? -1 : minRttNanos;
+    }
+}
@@ -0,0 +1,116 @@
+package com.defamation.backend.service.guard;
+
+/**
+ * 최근 N건 실패율 기반 서킷 브레이커
+ * CLOSED -(실패율 초과)-> OPEN -(openDuration 경과)-> HALF_OPEN -(시험 호출 전부 성공)-> CLOSED
+ * HALF_OPEN -(시험 호출 하나라도 실패)-> OPEN
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // half-open 시험 호출이 다 나가 있을 때 안내할 재시도 간격
+    private static final long HALF_OPEN_RETRY_NANOS = 1_000_000_000L;
+
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int count;
+    private int failures;
+    private long openedAt;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+    private long opens;
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos, int halfOpenCalls) {
+        this.outcomes = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+    }
+
+    /**
+     * @return 0 이면 호출 허용, 아니면 다시 시도할 때까지 남은 시간 (나노초)
+     */
+    synchronized long tryAcquire(long now) {
+        if (state == State.OPEN) {
+            long remaining = openNanos - (now - openedAt);
+            if (remaining > 0) return remaining;
+            state = State.HALF_OPEN;
+            halfOpenIssued = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssued >= halfOpenCalls) return HALF_OPEN_RETRY_NANOS;
+            halfOpenIssued++;
+        }
+        return 0;
+    }
+
+    /**
+     * 허용받았지만 실제로 호출하지 않은 경우 (동시성 제한 거절 / 취소)
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenIssued > 0) halfOpenIssued--;
+    }
+
+    synchronized void onResult(boolean failure, long now) {
+        switch (state) {
+            case HALF_OPEN -> {
+                if (failure) {
+                    open(now);
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    reset();
+                }
+            }
+            case CLOSED -> {
+                if (count == outcomes.length) {
+                    if (outcomes[next]) failures--;
+                } else {
+                    count++;
+                }
+                outcomes[next] = failure;
+                if (failure) failures++;
+                next = (next + 1) % outcomes.length;
+
+                if (count >= minimumCalls && (double) failures / count >= failureRateThreshold) {
+                    open(now);
+                }
+            }
+            case OPEN -> {
+                // 열리기 전에 나간 호출의 늦은 결과는 무시
+            }
+        }
+    }
+
+    synchronized void reset() {
+        state = State.CLOSED;
+        next = 0;
+        count = 0;
+        failures = 0;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+        opens++;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized double failureRate() {
+        return count == 0 ? 0 : (double) failures / count;
+    }
+
+    synchronized long opens() {
+        return opens;
+    }
+}
@@ -0,0 +1,190 @@
+package com.defamation.backend.service.guard;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.PredictBatcher;
+import com.defamation.backend.service.registry.ModelRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * modelId 별 upstream 호출 보호
+ * 1) 서킷 브레이커: 열려 있으면 호출 없이 바로 UpstreamUnavailableException (Retry-After = 남은 시간)
+ * 2) 동시성 제한: 진행 중 호출이 limit(적응형, maxConcurrent 이하) 이상이면 바로 거절
+ *    maxConcurrent 는 models.max_concurrent 가 있으면 그 값 (레지스트리 갱신 시 새 lane 으로 교체)
+ * 3) 결과(성공 지연/실패/느린 호출)를 limiter 와 브레이커에 반영
+ *    실패는 upstream 장애(5xx/429/타임아웃/연결 오류)만. 잘못된 입력의 4xx 는 자리만 반납
+ * 모델이 멈춰도 호출자가 쌓이지 않고 빨리 실패하므로 다른 API 까지 같이 느려지지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ModelCallGuard {
+
+    // 동시성 제한 거절 시 안내할 재시도 간격
+    private static final Duration LIMIT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final DefamationProperties props;
+    private final ModelRegistry modelRegistry;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public <T> Mono<T> guard(Long modelId, Supplier<Mono<T>> call) {
+        if (!props.getGuard().isEnabled()) {
+            return Mono.defer(call);
+        }
+        return Mono.defer(() -> {
+            Lane lane = lane(modelId);
+            long now = System.nanoTime();
+
+            long wait = lane.breaker.tryAcquire(now);
+            if (wait > 0) {
+                lane.breakerRejected.increment();
+                return Mono.error(new UpstreamUnavailableException(modelId,
+                        "모델 서버가 응답하지 않아 잠시 요청을 받지 않습니다.", Duration.ofNanos(wait)));
+            }
+
+            int inflightAtStart = lane.limiter.tryAcquire();
+            if (inflightAtStart < 0) {
+                lane.breaker.release();
+                return Mono.error(new UpstreamUnavailableException(modelId,
+                        "요청이 많아 처리할 수 없습니다.", LIMIT_RETRY_AFTER));
+            }
+
+            long slowNanos = props.getGuard().getSlowCallThreshold().toNanos();
+            AtomicBoolean finished = new AtomicBoolean();
+            return Mono.defer(call)
+                    .doOnSuccess(v -> {
+                        if (!finished.compareAndSet(false, true)) return;
+                        long elapsed = System.nanoTime() - now;
+                        lane.limiter.onSuccess(elapsed, inflightAtStart);
+                        lane.breaker.onResult(elapsed > slowNanos, System.nanoTime());
+                    })
+                    .doOnError(e -> {
+                        if (!finished.compareAndSet(false, true)) return;
+                        if (!isUpstreamFailure(e)) {
+                            lane.breaker.release();
+                            return;
+                        }
+                        lane.limiter.onDrop();
+                        lane.breaker.onResult(true, System.nanoTime());
+                    })
+                    .doOnCancel(() -> {
+                        if (finished.compareAndSet(false, true)) lane.breaker.release();
+                    })
+                    .doFinally(signal -> lane.limiter.release());
+        });
+    }
+
+    public List<Snapshot> snapshot() {
+        List<Snapshot> out = new ArrayList<>();
+        new TreeMap<>(lanes).forEach((id, lane) -> {
+            long minRtt = lane.limiter.minRttNanos();
+            out.add(new Snapshot(id, lane.breaker.state().name(),
+                    Math.round(lane.breaker.failureRate() * 1000) / 1000.0, lane.breaker.opens(),
+                    lane.limiter.limit(), lane.limiter.maxLimit(), lane.limiter.inflight(),
+                    minRtt < 0 ? null : minRtt / 1_000_000,
+                    lane.limiter.rejected.sum(), lane.breakerRejected.sum()));
+        });
+        return out;
+    }
+
+    /**
+     * 브레이커 강제 닫기 (upstream 복구를 확인한 경우)
+     */
+    public boolean reset(Long modelId) {
+        Lane lane = lanes.get(modelId);
+        if (lane == null) return false;
+        lane.breaker.reset();
+        log.info("model call guard reset (model={})", modelId);
+        return true;
+    }
+
+    private Lane lane(Long modelId) {
+        int max = modelRegistry.maxConcurrent(modelId, props.getGuard().getMaxConcurrent());
+        Lane lane = lanes.get(modelId);
+        if (lane != null && lane.maxConcurrent == max) return lane;
+        // 상한이 바뀌면 새 lane (이전 lane 으로 시작한 호출은 그쪽에 반납되고 끝남)
+        return lanes.compute(modelId, (id, old) ->
+                old != null && old.maxConcurrent == max ? old : new Lane(props.getGuard(), max));
+    }
+
+    private static final class Lane {
+        final int maxConcurrent;
+        final AdaptiveLimiter limiter;
+        final CircuitBreaker breaker;
+        final LongAdder breakerRejected = new LongAdder();
+
+        Lane(DefamationProperties.Guard cfg, int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+            this.limiter = new AdaptiveLimiter(cfg.isAdaptive(), cfg.getInitialLimit(), cfg.getMinLimit(),
+                    maxConcurrent, cfg.getBackoffRatio(), cfg.getRttTolerance(),
+                    cfg.getMinRttReset().toNanos());
+            this.breaker = new CircuitBreaker(cfg.getWindowSize(), cfg.getMinimumCalls(),
+                    cfg.getFailureRateThreshold(), cfg.getOpenDuration().toNanos(), cfg.getHalfOpenCalls());
+        }
+    }
+
+    /**
+     * @param minRttMs limiter 가 기준으로 삼는 최소 지연 (샘플 없으면 null)
+     */
+    public record Snapshot(Long modelId, String breakerState, double failureRate, long breakerOpens,
+                           int limit, int maxConcurrent, int inflight, Long minRttMs,
+                           long limitRejected, long breakerRejected) {
+    }
+
+    /**
+     * upstream 장애로 셀 오류인지 (limiter/브레이커, 복제본 배제)
+     * - 5xx, 429, 타임아웃, 연결 오류 등 -> 장애
+     * - 그 밖의 4xx (요청 내용 문제), 우리 쪽 배치 대기열 초과 -> 장애 아님
+     */
+    public static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof PredictBatcher.QueueFullException) return false;
+        Integer status = null;
+        if (e instanceof UpstreamStatusException u) status = u.getStatus();
+        else if (e instanceof WebClientResponseException w) status = w.getStatusCode().value();
+        if (status == null) return true;
+        return status >= 500 || status == 429;
+    }
+
+    // ✅ 모델 서버가 2xx 가 아닌 상태로 응답 (상태 코드로 장애 여부 판단)
+    @Getter
+    public static class UpstreamStatusException extends RuntimeException {
+        private final int status;
+
+        public UpstreamStatusException(int status) {
+            super("FastAPI 응답이 비정상입니다. (HTTP " + status + ")");
+            this.status = status;
+        }
+    }
+
+    // ✅ 브레이커 open / 동시성 초과 시 즉시 실패 (503 + Retry-After)
+    public static class UpstreamUnavailableException extends RuntimeException {
+        private final Duration retryAfter;
+
+        public UpstreamUnavailableException(Long modelId, String message, Duration retryAfter) {
+            super(message + " 잠시 후 다시 시도해 주세요. (model: " + modelId + ")");
+            this.retryAfter = retryAfter;
+        }
+
+        /**
+         * Retry-After 헤더 값 (초, 최소 1)
+         */
+        public long retryAfterSeconds() {
+            return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        }
+    }
+}
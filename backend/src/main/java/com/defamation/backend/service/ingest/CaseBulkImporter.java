@@ -0,0 +1,414 @@
+package com.defamation.backend.service.ingest;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.dedup.SimHash;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * cases JSONL 일괄 적재기
+ * - CaseJsonlReader 로 한 줄씩 읽어서 batchSize 행씩 청크로 묶음
+ * - 청크마다 raw_id(uq_cases_raw_id) 기준 multi-row upsert, parallelism 개까지 동시에
+ * - 읽기가 쓰기보다 앞서가지 않도록 대기 청크 수를 제한 (메모리 상한)
+ * - 앞에서부터 연속으로 끝난 줄 번호를 체크포인트 파일에 남겨서 실패 후 그 지점부터 재개
+ * - 한 번에 하나의 적재만 실행
+ * - 끝나면 CasesImportedEvent 발행 (갱신된 행을 JVM 내 색인이 다시 읽도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CaseBulkImporter {
+
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO cases
+              (raw_id, problem_situation, participants, case_names, case_type, court_level, defendant, label,
+               sentence_type, sentence_value, sentence_suspension, sentence_additional_order, sentence_reason,
+               sentence_judgment, simhash)
+            VALUES\s""";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+              problem_situation = VALUES(problem_situation),
+              participants = VALUES(participants),
+              case_names = VALUES(case_names),
+              case_type = VALUES(case_type),
+              court_level = VALUES(court_level),
+              defendant = VALUES(defendant),
+              label = VALUES(label),
+              sentence_type = VALUES(sentence_type),
+              sentence_value = VALUES(sentence_value),
+              sentence_suspension = VALUES(sentence_suspension),
+              sentence_additional_order = VALUES(sentence_additional_order),
+              sentence_reason = VALUES(sentence_reason),
+              sentence_judgment = VALUES(sentence_judgment),
+              simhash = VALUES(simhash)""";
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long CHECKPOINT_INTERVAL_MILLIS = 1000;
+
+    private final DefamationProperties props;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher events;
+
+    private final AtomicReference<Job> current = new AtomicReference<>();
+
+    /**
+     * 관리 API 용 경로 확인: ingest.base-dir 밖이거나 없는 파일이면 IllegalArgumentException
+     */
+    public Path resolve(String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("path 가 필요합니다.");
+        }
+        Path base = Paths.get(props.getIngest().getBaseDir()).toAbsolutePath().normalize();
+        Path file = base.resolve(path).toAbsolutePath().normalize();
+        if (!file.startsWith(base)) {
+            throw new IllegalArgumentException("허용되지 않은 경로입니다: " + path);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("파일이 없습니다: " + path);
+        }
+        return file;
+    }
+
+    /**
+     * 백그라운드로 적재 시작 (관리 API)
+     */
+    public Progress start(Path file, boolean resume) {
+        Job job = begin(file);
+        Thread t = new Thread(() -> execute(job, resume), "case-import");
+        t.setDaemon(true);
+        t.start();
+        return job.snapshot();
+    }
+
+    /**
+     * 현재 스레드에서 끝까지 적재 (CLI)
+     */
+    public Progress run(Path file, boolean resume) {
+        Job job = begin(file);
+        execute(job, resume);
+        return job.snapshot();
+    }
+
+    /**
+     * 진행 중이거나 마지막으로 끝난 적재 상태 (없으면 null)
+     */
+    public Progress progress() {
+        Job job = current.get();
+        return job == null ? null : job.snapshot();
+    }
+
+    private synchronized Job begin(Path file) {
+        Job prev = current.get();
+        if (prev != null && prev.state == State.RUNNING) {
+            throw new ImportInProgressException("이미 적재가 진행 중입니다: " + prev.file);
+        }
+        Job job = new Job(file.toAbsolutePath().normalize());
+        current.set(job);
+        return job;
+    }
+
+    // ---------- 실행 ----------
+
+    private void execute(Job job, boolean resume) {
+        DefamationProperties.Ingest cfg = props.getIngest();
+        int batchSize = Math.max(1, cfg.getBatchSize());
+        int parallelism = Math.max(1, cfg.getParallelism());
+
+        Path checkpoint = checkpointPath(job.file);
+        long startLine = resume ? loadCheckpoint(checkpoint, job.file) : 0;
+        job.startLine = startLine;
+        job.committedLine.set(startLine);
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "case-import-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        Semaphore inflight = new Semaphore(parallelism * 2);
+
+        log.info("cases 적재 시작: {} (재개 줄 {}, batch {}, 병렬 {})", job.file, startLine, batchSize, parallelism);
+        try (CaseJsonlReader reader = new CaseJsonlReader(job.file, objectMapper)) {
+            reader.skipLines(startLine);
+
+            long chunkIndex = 0;
+            long lastLog = System.currentTimeMillis();
+            List<CaseRow> chunk = new ArrayList<>(batchSize);
+            while (job.error.get() == null) {
+                CaseRow row = reader.next();
+                if (row != null) chunk.add(row);
+                job.linesRead.set(reader.lineNumber());
+                job.skipped.set(reader.skipped());
+
+                if (chunk.size() >= batchSize || (row == null && !chunk.isEmpty())) {
+                    inflight.acquire();
+                    long idx = chunkIndex++;
+                    long endLine = reader.lineNumber();
+                    List<CaseRow> rows = chunk;
+                    pool.execute(() -> {
+                        try {
+                            upsert(rows);
+                            job.rowsWritten.addAndGet(rows.size());
+                            job.chunkDone(idx, endLine, checkpoint);
+                        } catch (RuntimeException e) {
+                            job.error.compareAndSet(null, e.getMessage());
+                            log.error("cases 적재 청크 실패 (줄 ~{})", endLine, e);
+                        } finally {
+                            inflight.release();
+                        }
+                    });
+                    chunk = new ArrayList<>(batchSize);
+                }
+                if (row == null) {
+                    // 마지막 청크 뒤의 빈 줄/건너뛴 줄까지 완료 처리
+                    job.chunkDone(chunkIndex++, reader.lineNumber(), checkpoint);
+                    break;
+                }
+
+                long now = System.currentTimeMillis();
+                if (now - lastLog >= cfg.getProgressLogInterval().toMillis()) {
+                    lastLog = now;
+                    Progress p = job.snapshot();
+                    log.info("cases 적재 중: {}줄 읽음, {}행 저장, {}줄 건너뜀 ({} rows/s)",
+                            p.linesRead(), p.rowsWritten(), p.skipped(), Math.round(p.rowsPerSecond()));
+                }
+            }
+            if (reader.lastError() != null && reader.skipped() > 0) {
+                log.warn("cases 적재: {}줄 건너뜀 (마지막 사유: {})", reader.skipped(), reader.lastError());
+            }
+        } catch (IOException e) {
+            job.error.compareAndSet(null, e.getMessage());
+            log.error("cases 적재 파일 읽기 실패: {}", job.file, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.error.compareAndSet(null, "interrupted");
+        } finally {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(1, TimeUnit.HOURS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        job.finishedAt = System.currentTimeMillis();
+        if (job.error.get() == null) {
+            deleteQuietly(checkpoint);
+            job.state = State.COMPLETED;
+        } else {
+            job.writeCheckpoint(checkpoint);
+            job.state = State.FAILED;
+        }
+        Progress p = job.snapshot();
+        log.info("cases 적재 {}: {}행 저장, {}줄 건너뜀, {}ms ({} rows/s)",
+                p.state(), p.rowsWritten(), p.skipped(), p.elapsedMillis(), Math.round(p.rowsPerSecond()));
+
+        // 실패했어도 앞 청크는 이미 반영됐으므로 저장된 행이 있으면 알림
+        if (p.rowsWritten() > 0) {
+            events.publishEvent(new CasesImportedEvent(p.file(), p.rowsWritten()));
+        }
+    }
+
+    private void upsert(List<CaseRow> rows) {
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX.length() + rows.size() * (ROW.length() + 2)
+                + UPSERT_SUFFIX.length());
+        sql.append(UPSERT_PREFIX);
+        Object[] args = new Object[rows.size() * 15];
+        int i = 0;
+        for (int r = 0; r < rows.size(); r++) {
+            if (r > 0) sql.append(", ");
+            sql.append(ROW);
+            CaseRow c = rows.get(r);
+            args[i++] = c.rawId();
+            args[i++] = c.problemSituation();
+            args[i++] = c.participants();
+            args[i++] = c.caseNames();
+            args[i++] = c.caseType();
+            args[i++] = c.courtLevel();
+            args[i++] = c.defendant();
+            args[i++] = c.label();
+            args[i++] = c.sentenceType();
+            args[i++] = c.sentenceValue();
+            args[i++] = c.sentenceSuspension();
+            args[i++] = c.sentenceAdditionalOrder();
+            args[i++] = c.sentenceReason();
+            args[i++] = c.sentenceJudgment();
+            // 근접 중복 서명 (짧은 서술이면 NULL)
+            long sig = SimHash.of(c.problemSituation());
+            args[i++] = sig == 0 ? null : sig;
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(sql.toString(), args);
+                return;
+            } catch (TransientDataAccessException e) {
+                // 병렬 upsert 끼리의 데드락/락 대기 초과는 잠깐 쉬고 다시
+                if (attempt >= MAX_ATTEMPTS) throw e;
+                log.warn("cases upsert 재시도 {}/{}: {}", attempt, MAX_ATTEMPTS, e.getMessage());
+                try {
+                    Thread.sleep(100L * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // ---------- 체크포인트 ----------
+
+    private Path checkpointPath(Path file) {
+        String name = file.getFileName() + "-" + Integer.toHexString(file.toString().hashCode()) + ".checkpoint";
+        return Paths.get(props.getIngest().getCheckpointDir()).resolve(name);
+    }
+
+    /**
+     * 같은 파일(크기/수정 시각 동일)의 체크포인트가 있으면 완료된 줄 번호, 아니면 0
+     */
+    private long loadCheckpoint(Path checkpoint, Path file) {
+        if (!Files.exists(checkpoint)) return 0;
+        Properties p = new Properties();
+        try (InputStream in = Files.newInputStream(checkpoint)) {
+            p.load(in);
+            boolean sameFile = file.toString().equals(p.getProperty("file"))
+                    && String.valueOf(Files.size(file)).equals(p.getProperty("size"))
+                    && String.valueOf(Files.getLastModifiedTime(file).toMillis()).equals(p.getProperty("modified"));
+            if (!sameFile) {
+                log.warn("체크포인트가 현재 파일과 달라서 처음부터 적재: {}", checkpoint);
+                return 0;
+            }
+            return Long.parseLong(p.getProperty("line", "0"));
+        } catch (IOException | NumberFormatException e) {
+            log.warn("체크포인트 읽기 실패, 처음부터 적재: {}", checkpoint, e);
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("체크포인트 삭제 실패: {}", path, e);
+        }
+    }
+
+    // ---------- 상태 ----------
+
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    public record Progress(
+            String file,
+            State state,
+            long startLine,
+            long linesRead,
+            long committedLine,
+            long rowsWritten,
+            long skipped,
+            long elapsedMillis,
+            double rowsPerSecond,
+            String error
+    ) {
+    }
+
+    private static class Job {
+        final Path file;
+        final long startedAt = System.currentTimeMillis();
+        volatile long finishedAt;
+        volatile State state = State.RUNNING;
+        volatile long startLine;
+
+        final AtomicLong linesRead = new AtomicLong();
+        final AtomicLong committedLine = new AtomicLong();
+        final AtomicLong rowsWritten = new AtomicLong();
+        final AtomicLong skipped = new AtomicLong();
+        final AtomicReference<String> error = new AtomicReference<>();
+
+        // 순서와 다르게 끝난 청크 (청크 번호 -> 마지막 줄 번호)
+        private final Map<Long, Long> doneOutOfOrder = new HashMap<>();
+        private long nextChunk;
+        private long lastCheckpointAt;
+
+        Job(Path file) {
+            this.file = file;
+        }
+
+        /**
+         * 청크 완료: 앞 청크가 모두 끝났을 때만 committedLine 을 올림
+         */
+        synchronized void chunkDone(long chunk, long endLine, Path checkpoint) {
+            doneOutOfOrder.put(chunk, endLine);
+            Long line;
+            while ((line = doneOutOfOrder.remove(nextChunk)) != null) {
+                committedLine.set(line);
+                nextChunk++;
+            }
+            long now = System.currentTimeMillis();
+            if (now - lastCheckpointAt >= CHECKPOINT_INTERVAL_MILLIS) {
+                lastCheckpointAt = now;
+                writeCheckpoint(checkpoint);
+            }
+        }
+
+        synchronized void writeCheckpoint(Path checkpoint) {
+            Properties p = new Properties();
+            try {
+                p.setProperty("file", file.toString());
+                p.setProperty("size", String.valueOf(Files.size(file)));
+                p.setProperty("modified", String.valueOf(Files.getLastModifiedTime(file).toMillis()));
+                p.setProperty("line", String.valueOf(committedLine.get()));
+
+                Files.createDirectories(checkpoint.toAbsolutePath().getParent());
+                Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    p.store(out, "cases import checkpoint");
+                }
+                Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("체크포인트 저장 실패: {}", checkpoint, e);
+            }
+        }
+
+        Progress snapshot() {
+            long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+            long elapsed = Math.max(0, end - startedAt);
+            long written = rowsWritten.get();
+            return new Progress(file.toString(), state, startLine, linesRead.get(), committedLine.get(),
+                    written, skipped.get(), elapsed, elapsed == 0 ? 0 : written * 1000.0 / elapsed, error.get());
+        }
+    }
+
+    public static class ImportInProgressException extends RuntimeException {
+        public ImportInProgressException(String message) {
+            super(message);
+        }
+    }
+}
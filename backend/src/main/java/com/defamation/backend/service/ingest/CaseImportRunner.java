@@ -0,0 +1,56 @@
+package com.defamation.backend.service.ingest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * 기동 시 cases JSONL 적재 (CLI)
+ * java -jar backend.jar --import-cases=merged_dataset.jsonl[,other.jsonl] [--import-resume] [--import-exit]
+ * - --import-resume: 체크포인트가 있으면 그 줄부터
+ * - --import-exit: 적재 후 서버를 띄워두지 않고 종료 (실패 시 종료 코드 1)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaseImportRunner implements ApplicationRunner {
+
+    private final CaseBulkImporter importer;
+    private final ApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> files = args.getOptionValues("import-cases");
+        if (files == null || files.isEmpty()) return;
+
+        boolean resume = args.containsOption("import-resume");
+        boolean failed = false;
+        for (String value : files) {
+            for (String name : value.split(",")) {
+                if (name.isBlank()) continue;
+                Path file = Paths.get(name.trim());
+                if (!Files.isRegularFile(file)) {
+                    log.error("적재할 파일이 없습니다: {}", file.toAbsolutePath());
+                    failed = true;
+                    continue;
+                }
+                CaseBulkImporter.Progress p = importer.run(file, resume);
+                failed |= p.state() != CaseBulkImporter.State.COMPLETED;
+            }
+        }
+
+        if (args.containsOption("import-exit")) {
+            int code = failed ? 1 : 0;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.defamation.backend.service.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * cases JSONL 스트리밍 리더 (파일 전체를 메모리에 올리지 않음)
+ * - 한 줄씩 읽어서 Jackson 스트리밍 파서로 토큰 단위 매핑 (트리/Map 을 만들지 않음)
+ * - merged_dataset 형식(영문 키, 형량 flatten)과 train/test 형식(한글 키, "형량" 객체) 모두 지원
+ * - 필수 값이 없거나 범위를 벗어난 줄은 건너뛰고 skipped 로 셈
+ */
+public class CaseJsonlReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final JsonFactory jsonFactory;
+    private final ObjectMapper objectMapper;
+
+    private long lineNumber;
+    private long skipped;
+    private String lastError;
+
+    public CaseJsonlReader(Path file, ObjectMapper objectMapper) throws IOException {
+        this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 앞에서 n 줄 건너뜀 (체크포인트 재개용)
+     */
+    public void skipLines(long n) throws IOException {
+        while (lineNumber < n && reader.readLine() != null) {
+            lineNumber++;
+        }
+    }
+
+    /**
+     * 다음 유효한 행. 파일 끝이면 null
+     */
+    public CaseRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) continue;
+            try {
+                CaseRow row = parseLine(line);
+                if (row != null) return row;
+            } catch (IOException | RuntimeException e) {
+                lastError = "line " + lineNumber + ": " + e.getMessage();
+            }
+            skipped++;
+        }
+        return null;
+    }
+
+    /** 마지막으로 읽은 줄 번호 (1부터) */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    public long skipped() {
+        return skipped;
+    }
+
+    public String lastError() {
+        return lastError;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ---------- parsing ----------
+
+    private CaseRow parseLine(String line) throws IOException {
+        Builder b = new Builder();
+        try (JsonParser p = jsonFactory.createParser(line)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                lastError = "line " + lineNumber + ": JSON 객체가 아님";
+                return null;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String key = p.currentName();
+                JsonToken t = p.nextToken();
+                switch (key) {
+                    case "raw_id", "id" -> b.rawId = longOrNull(p, t);
+                    case "problem_situation", "문제상황" -> b.problemSituation = text(p, t);
+                    case "participants", "등장인물" -> b.participants = jsonList(p, t);
+                    case "case_names", "casenames", "사건명" -> b.caseNames = jsonList(p, t);
+                    case "case_type", "casetype", "사건유형", "사건종류" -> b.caseType = text(p, t);
+                    case "court_level", "level", "법원단계", "레벨" -> b.courtLevel = intOrNull(p, t);
+                    case "defendant", "피고인" -> b.defendant = text(p, t);
+                    case "label", "b", "라벨", "정답" -> b.label = intOrNull(p, t);
+                    case "형량", "sentence" -> {
+                        if (t == JsonToken.START_OBJECT) readSentence(p, b);
+                        else p.skipChildren();
+                    }
+                    default -> {
+                        if (!sentenceField(key, p, t, b)) p.skipChildren();
+                    }
+                }
+            }
+        }
+        return b.build();
+    }
+
+    private void readSentence(JsonParser p, Builder b) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String key = p.currentName();
+            JsonToken t = p.nextToken();
+            if (!sentenceField(key, p, t, b)) p.skipChildren();
+        }
+    }
+
+    private boolean sentenceField(String key, JsonParser p, JsonToken t, Builder b) throws IOException {
+        switch (key) {
+            case "sentence_type", "종류" -> b.sentenceType = text(p, t);
+            case "sentence_value", "기간" -> b.sentenceValue = text(p, t);
+            case "sentence_suspension", "집행유예" -> b.sentenceSuspension = text(p, t);
+            case "sentence_additional_order", "부가명령" -> b.sentenceAdditionalOrder = text(p, t);
+            case "sentence_reason", "이유" -> b.sentenceReason = text(p, t);
+            case "sentence_judgment", "판단" -> b.sentenceJudgment = text(p, t);
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문자열이면 그대로, 숫자/불리언은 문자열로, 객체/배열은 JSON 문자열로
+     */
+    private String text(JsonParser p, JsonToken t) throws IOException {
+        if (t == JsonToken.VALUE_NULL) return null;
+        if (t == JsonToken.START_OBJECT || t == JsonToken.START_ARRAY) {
+            return objectMapper.writeValueAsString(p.readValueAsTree());
+        }
+        return p.getValueAsString();
+    }
+
+    /**
+     * 배열이면 문자열 리스트를 JSON 배열 문자열로, 단일 문자열이면 원소 1개짜리 배열로
+     */
+    private String jsonList(JsonParser p, JsonToken t) throws IOException {
+        if (t == JsonToken.VALUE_NULL) return "[]";
+        List<String> values = new ArrayList<>();
+        if (t == JsonToken.START_ARRAY) {
+            JsonToken e;
+            while ((e = p.nextToken()) != JsonToken.END_ARRAY) {
+                String v = text(p, e);
+                if (v != null) values.add(v);
+            }
+        } else {
+            String v = p.getValueAsString();
+            if (v != null && !v.isBlank()) values.add(v);
+        }
+        return objectMapper.writeValueAsString(values);
+    }
+
+    private static Long longOrNull(JsonParser p, JsonToken t) throws IOException {
+        if (t == JsonToken.VALUE_NUMBER_INT) return p.getLongValue();
+        if (t == JsonToken.VALUE_STRING && !p.getText().isBlank()) return Long.parseLong(p.getText().trim());
+        p.skipChildren();
+        return null;
+    }
+
+    private static Integer intOrNull(JsonParser p, JsonToken t) throws IOException {
+        Long v = longOrNull(p, t);
+        return v == null ? null : Math.toIntExact(v);
+    }
+
+    private class Builder {
+        Long rawId;
+        String problemSituation;
+        String participants = "[]";
+        String caseNames = "[]";
+        String caseType;
+        Integer courtLevel;
+        String defendant;
+        Integer label;
+        String sentenceType;
+        String sentenceValue;
+        String sentenceSuspension;
+        String sentenceAdditionalOrder;
+        String sentenceReason;
+        String sentenceJudgment;
+
+        CaseRow build() {
+            String missing = rawId == null ? "raw_id"
+                    : problemSituation == null ? "problem_situation"
+                    : caseType == null ? "case_type"
+                    : courtLevel == null ? "court_level"
+                    : label == null ? "label"
+                    : null;
+            if (missing != null) {
+                lastError = "line " + lineNumber + ": " + missing + " 없음";
+                return null;
+            }
+            // schema.sql CHECK 제약과 동일 (위반 행이 섞이면 배치 전체가 실패하므로 미리 거름)
+            if (courtLevel < 1 || courtLevel > 3 || label < -1 || label > 1) {
+                lastError = "line " + lineNumber + ": court_level/label 범위 밖";
+                return null;
+            }
+            return new CaseRow(rawId, problemSituation, participants, caseNames, caseType, courtLevel,
+                    defendant, label, sentenceType, sentenceValue, sentenceSuspension,
+                    sentenceAdditionalOrder, sentenceReason, sentenceJudgment);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.defamation.backend.service.ingest;
+
+/**
+ * JSONL 한 줄을 cases 컬럼 값으로 옮긴 것 (participants / case_names 는 JSON 배열 문자열)
+ */
+public record CaseRow(
+        long rawId,
+        String problemSituation,
+        String participants,
+        String caseNames,
+        String caseType,
+        int courtLevel,
+        String defendant,
+        int label,
+        String sentenceType,
+        String sentenceValue,
+        String sentenceSuspension,
+        String sentenceAdditionalOrder,
+        String sentenceReason,
+        String sentenceJudgment
+) {
+}
@@ -0,0 +1,12 @@
+package com.defamation.backend.service.ingest;
+
+/**
+ * cases 적재가 끝났을 때 (성공/실패 무관, 한 행이라도 저장됐으면) 발행
+ * - upsert 는 raw_id 가 같은 기존 행을 같은 id 로 덮어쓰므로
+ *   id 기준 증분 적재만 하는 JVM 내 색인은 이 이벤트를 받아 다시 읽어야 함
+ *
+ * @param file        적재한 파일
+ * @param rowsWritten 저장(삽입 + 갱신)한 행 수
+ */
+public record CasesImportedEvent(String file, long rowsWritten) {
+}
@@ -0,0 +1,78 @@
+package com.defamation.backend.service.metrics;
+
+import com.defamation.backend.service.ClassificationLogWriter;
+import com.defamation.backend.service.PredictionCache;
+import com.defamation.backend.service.guard.ModelCallGuard;
+import com.defamation.backend.service.registry.ModelRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 이미 있는 내부 카운터(캐시/저장 큐/호출 보호)를 scrape 시점에 읽어서 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class DefamationMeterBinder implements MeterBinder {
+
+    private final PredictionCache predictionCache;
+    private final ClassificationLogWriter logWriter;
+    private final ModelCallGuard modelCallGuard;
+    private final ModelRegistry modelRegistry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("defamation.prediction.cache.size", predictionCache, c -> c.stats().getSize())
+                .register(registry);
+        cacheCounter(registry, "hit", s -> s.getHits());
+        cacheCounter(registry, "db_hit", s -> s.getDbHits());
+        cacheCounter(registry, "miss", s -> s.getMisses());
+        cacheCounter(registry, "coalesced", s -> s.getCoalesced());
+
+        Gauge.builder("defamation.classification.queue.depth", logWriter, w -> w.stats().getQueueDepth())
+                .description("write-behind 큐에 쌓인 행 수")
+                .register(registry);
+        FunctionCounter.builder("defamation.classification.spilled", logWriter, w -> w.stats().getSpilled())
+                .description("DB 저장 실패/큐 초과로 spill 파일에 쓴 행 수")
+                .register(registry);
+
+        modelRegistry.routableIds().forEach(id -> bindGuard(registry, id));
+        // 레지스트리 갱신으로 새로 생긴 모델 (이미 등록된 gauge 는 같은 것을 돌려받음)
+        modelRegistry.addListener(s -> s.routable().forEach(id -> bindGuard(registry, id)));
+    }
+
+    private void bindGuard(MeterRegistry registry, Long modelId) {
+        String model = String.valueOf(modelId);
+        Gauge.builder("defamation.guard.limit", modelCallGuard, g -> guardValue(g, modelId, s -> s.limit()))
+                .description("현재 적응형 동시성 limit")
+                .tag("model", model)
+                .register(registry);
+        Gauge.builder("defamation.guard.inflight", modelCallGuard, g -> guardValue(g, modelId, s -> s.inflight()))
+                .tag("model", model)
+                .register(registry);
+        Gauge.builder("defamation.guard.open", modelCallGuard,
+                        g -> guardValue(g, modelId, s -> "CLOSED".equals(s.breakerState()) ? 0 : 1))
+                .description("서킷 브레이커가 닫혀 있지 않으면 1")
+                .tag("model", model)
+                .register(registry);
+    }
+
+    private void cacheCounter(MeterRegistry registry, String result, ToDoubleFunction<PredictionCache.Stats> f) {
+        FunctionCounter.builder("defamation.prediction.cache.requests", predictionCache, c -> f.applyAsDouble(c.stats()))
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static double guardValue(ModelCallGuard guard, Long modelId,
+                                     ToDoubleFunction<ModelCallGuard.Snapshot> f) {
+        for (ModelCallGuard.Snapshot s : guard.snapshot()) {
+            if (s.modelId().equals(modelId)) return f.applyAsDouble(s);
+        }
+        return 0;
+    }
+}
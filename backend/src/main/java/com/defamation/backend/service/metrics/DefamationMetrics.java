@@ -0,0 +1,115 @@
+package com.defamation.backend.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 핫패스 계측 (Prometheus: /actuator/prometheus)
+ * - defamation.predict            : predict 전체 (model, mode, outcome) -> 처리량/에러율
+ * - defamation.predict.upstream   : 모델 서버 호출 (model, outcome)
+ * - defamation.predict.parse      : generated_text JSON -> ClassificationRequest 필드 추출 (model)
+ * - defamation.predict.parse.failures : 추출 실패 (model, reason)
+ * - defamation.predict.parse.artifacts : 보정하고 읽은 LLM 출력 특성 (model, artifact: code_fence, truncated, amount_text ..)
+ * - defamation.classification.save : classification_requests multi-row INSERT (outcome)
+ * - defamation.dto.mapping        : 엔티티/projection -> DTO (type)
+ * - defamation.search             : 목록/검색 조회 (target, mode)
+ * 태그 조합별 meter 는 한 번 만들고 재사용 (builder 조회 비용 회피)
+ */
+@Component
+@RequiredArgsConstructor
+public class DefamationMetrics {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public Timer predict(Long modelId, String mode, String outcome) {
+        return timer("defamation.predict", "predict 요청 전체 처리 시간",
+                "model", String.valueOf(modelId), "mode", mode, "outcome", outcome);
+    }
+
+    public Timer upstream(Long modelId, String outcome) {
+        return timer("defamation.predict.upstream", "모델 서버 호출 시간",
+                "model", String.valueOf(modelId), "outcome", outcome);
+    }
+
+    public Timer parse(Long modelId) {
+        return timer("defamation.predict.parse", "generated_text 파싱/필드 추출 시간",
+                "model", String.valueOf(modelId));
+    }
+
+    public void parseFailure(Long modelId, String reason) {
+        counter("defamation.predict.parse.failures", "generated_text 파싱 실패",
+                "model", String.valueOf(modelId), "reason", reason).increment();
+    }
+
+    public void parseArtifact(Long modelId, String artifact) {
+        counter("defamation.predict.parse.artifacts", "generated_text 보정 파싱",
+                "model", String.valueOf(modelId), "artifact", artifact).increment();
+    }
+
+    /**
+     * outcome: reused(근접 중복 결과 재사용) / called(근접 중복은 있지만 모델 호출)
+     */
+    public void nearDuplicate(Long modelId, String outcome) {
+        counter("defamation.predict.near_duplicate", "같은 모델의 근접 중복 요청",
+                "model", String.valueOf(modelId), "outcome", outcome).increment();
+    }
+
+    public void exportedRows(String target, long rows) {
+        counter("defamation.export.rows", "/api/export 로 내보낸 행 수", "target", target).increment(rows);
+    }
+
+    public Timer save(String outcome) {
+        return timer("defamation.classification.save", "classification_requests 배치 저장 시간",
+                "outcome", outcome);
+    }
+
+    public void savedRows(int rows) {
+        counter("defamation.classification.saved.rows", "저장된 classification_requests 행 수").increment(rows);
+    }
+
+    public <T> T mapping(String type, Supplier<T> work) {
+        return timer("defamation.dto.mapping", "DTO 변환 시간", "type", type).record(work);
+    }
+
+    public <T> T search(String target, String mode, Supplier<T> work) {
+        return timer("defamation.search", "목록/검색 조회 시간", "target", target, "mode", mode).record(work);
+    }
+
+    /**
+     * System.nanoTime() 기준 시작 시각부터 지금까지를 기록
+     */
+    public static void stop(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return timers.computeIfAbsent(key(name, tags), k -> Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private Counter counter(String name, String description, String... tags) {
+        return counters.computeIfAbsent(key(name, tags), k -> Counter.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(registry));
+    }
+
+    private static String key(String name, String... tags) {
+        if (tags.length == 0) return name;
+        return name + '|' + String.join("|", tags);
+    }
+}
@@ -0,0 +1,246 @@
+package com.defamation.backend.service.registry;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.Model;
+import com.defamation.backend.repository.ModelRepository;
+import com.defamation.backend.repository.ModelVersionStamp;
+import com.defamation.backend.service.JsonListParser;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 모델 목록 + 라우팅 정보(엔드포인트/복제본/동시성 상한)를 한 곳에서
+ * - models 테이블이 기준, endpoint_url / replica_urls 가 비어 있으면 yaml(model-endpoints, model-replicas) 로 채움
+ * - 불변 Snapshot 을 volatile 로 통째 교체 (copy-on-write) -> predict 경로의 조회는 락 없이 필드 읽기 한 번
+ * - 갱신: POST /api/admin/model-registry/reload 또는 version 컬럼 폴링 (max(version), 행 수가 바뀌면 다시 읽음)
+ * 교체 전에 시작된 호출은 이전 스냅샷/복제본을 그대로 들고 끝까지 감
+ */
+@Slf4j
+@Component
+public class ModelRegistry {
+
+    private final DefamationProperties props;
+    private final ModelRepository modelRepository;
+    private final JsonListParser jsonListParser;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final List<Consumer<Snapshot>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // models 테이블을 한 번이라도 읽었는지 (false 면 yaml 만으로 라우팅 중)
+    private volatile boolean loaded;
+    private ScheduledExecutorService poller;
+
+    public ModelRegistry(DefamationProperties props, ModelRepository modelRepository, JsonListParser jsonListParser) {
+        this.props = props;
+        this.modelRepository = modelRepository;
+        this.jsonListParser = jsonListParser;
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            reload("startup");
+        } catch (RuntimeException e) {
+            // DB 없이도 yaml 엔드포인트로는 뜨도록 (폴링마다 다시 읽기 시도, 목록 API 는 isLoaded() 로 구분)
+            log.error("model registry: models 테이블을 읽지 못해 yaml 설정만 사용합니다: {}", e.toString());
+            snapshot = build(1, null, List.of());
+        }
+
+        Duration interval = props.getModelRegistry().getPollInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) return;
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "model-registry-poll");
+            t.setDaemon(true);
+            return t;
+        });
+        poller.scheduleWithFixedDelay(this::poll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (poller != null) poller.shutdownNow();
+    }
+
+    // ---------- 조회 (락 없음) ----------
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷이 바뀔 때마다 1씩 증가 (캐시해 둔 파생 상태를 다시 만들지 판단용)
+     */
+    public long generation() {
+        return snapshot.generation();
+    }
+
+    /**
+     * models 테이블 기준 스냅샷인지 (false 면 enabledModels() 가 비어 있는 것이 테이블 내용이 아님)
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 호출 가능한 URL 목록 (비활성/미등록이면 빈 리스트)
+     */
+    public List<String> endpoints(Long modelId) {
+        Entry e = snapshot.models().get(modelId);
+        return e == null || !e.enabled() ? List.of() : e.endpoints();
+    }
+
+    /**
+     * 모델별 동시 호출 상한 (없으면 defaultValue)
+     */
+    public int maxConcurrent(Long modelId, int defaultValue) {
+        Entry e = snapshot.models().get(modelId);
+        return e == null || e.maxConcurrent() == null ? defaultValue : e.maxConcurrent();
+    }
+
+    public Set<Long> routableIds() {
+        return snapshot.routable();
+    }
+
+    /**
+     * models 테이블의 enabled 모델 (id 순, yaml 에만 있는 모델은 제외)
+     */
+    public List<Entry> enabledModels() {
+        return snapshot.enabled();
+    }
+
+    /**
+     * 스냅샷 교체 후 호출 (갱신 스레드에서 실행되므로 가볍게)
+     */
+    public void addListener(Consumer<Snapshot> listener) {
+        listeners.add(listener);
+    }
+
+    // ---------- 갱신 ----------
+
+    /**
+     * models 테이블을 다시 읽어 스냅샷 교체 (DB 오류면 기존 스냅샷 유지하고 예외)
+     */
+    public Snapshot reload(String reason) {
+        reloadLock.lock();
+        try {
+            ModelVersionStamp stamp = modelRepository.versionStamp();
+            List<Model> rows = modelRepository.findAll();
+            Snapshot next = build(snapshot.generation() + 1, stamp, rows);
+            Snapshot prev = snapshot;
+            snapshot = next;
+            loaded = true;
+            log.info("model registry reloaded ({}): {} models, {} routable, version={} (was {})",
+                    reason, next.models().size(), next.routable().size(), next.version(), prev.version());
+            for (Consumer<Snapshot> l : listeners) {
+                try {
+                    l.accept(next);
+                } catch (RuntimeException e) {
+                    log.warn("model registry listener failed: {}", e.toString());
+                }
+            }
+            return next;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void poll() {
+        try {
+            if (!loaded) {
+                reload("retry");
+                return;
+            }
+            ModelVersionStamp stamp = modelRepository.versionStamp();
+            Snapshot cur = snapshot;
+            if (stamp != null && (stamp.getMaxVersion() != cur.version() || stamp.getModelCount() != cur.rows())) {
+                reload("version changed");
+            }
+        } catch (RuntimeException e) {
+            // DB 가 잠깐 안 되면 기존 스냅샷으로 계속 서비스
+            log.warn("model registry poll failed: {}", e.toString());
+        }
+    }
+
+    private Snapshot build(long generation, ModelVersionStamp stamp, List<Model> rows) {
+        Map<Long, Entry> models = new TreeMap<>();
+        for (Model m : rows) {
+            List<String> urls = urls(jsonListParser.parse(m.getReplicaUrls()));
+            if (urls.isEmpty()) urls = urls(m.getEndpointUrl() == null ? List.of() : List.of(m.getEndpointUrl()));
+            String source = "db";
+            if (urls.isEmpty()) {
+                urls = yamlUrls(m.getId());
+                source = urls.isEmpty() ? "db" : "db+yaml";
+            }
+            models.put(m.getId(), new Entry(m.getId(), m.getName(), m.getDisplayName(),
+                    !Boolean.FALSE.equals(m.getEnabled()), urls, m.getMaxConcurrent(),
+                    m.getVersion() == null ? 0 : m.getVersion(), source));
+        }
+
+        // 테이블에 아직 없는 모델도 yaml 에 URL 이 있으면 라우팅은 됨 (목록에는 안 나옴)
+        Set<Long> yamlIds = new LinkedHashSet<>(props.getModelEndpoints().keySet());
+        yamlIds.addAll(props.getModelReplicas().keySet());
+        for (Long id : yamlIds) {
+            if (models.containsKey(id)) continue;
+            List<String> urls = yamlUrls(id);
+            if (!urls.isEmpty()) models.put(id, new Entry(id, null, null, true, urls, null, 0, "yaml"));
+        }
+
+        List<Entry> enabled = new ArrayList<>();
+        Set<Long> routable = new LinkedHashSet<>();
+        for (Entry e : models.values()) {
+            if (e.enabled() && !"yaml".equals(e.source())) enabled.add(e);
+            if (e.enabled() && !e.endpoints().isEmpty()) routable.add(e.id());
+        }
+        return new Snapshot(generation,
+                stamp == null ? 0 : stamp.getMaxVersion(), stamp == null ? rows.size() : stamp.getModelCount(),
+                Collections.unmodifiableMap(new LinkedHashMap<>(models)), List.copyOf(enabled),
+                Collections.unmodifiableSet(routable), Instant.now());
+    }
+
+    private List<String> yamlUrls(Long modelId) {
+        List<String> replicas = urls(props.getModelReplicas().getOrDefault(modelId, List.of()));
+        if (!replicas.isEmpty()) return replicas;
+        String url = props.getModelEndpoints().get(modelId);
+        return url == null ? List.of() : urls(List.of(url));
+    }
+
+    private static List<String> urls(List<String> raw) {
+        return raw.stream().filter(u -> u != null && !u.isBlank()).map(String::strip).distinct().toList();
+    }
+
+    /**
+     * @param source db / db+yaml (URL 만 yaml) / yaml (테이블에 없음)
+     */
+    public record Entry(Long id, String name, @JsonProperty("display_name") String displayName, boolean enabled,
+                        List<String> endpoints, Integer maxConcurrent, long version, String source) {
+    }
+
+    /**
+     * @param version models.version 최댓값 / rows 행 수 (폴링 비교용)
+     */
+    public record Snapshot(long generation, long version, long rows, Map<Long, Entry> models,
+                           @JsonIgnore List<Entry> enabled, @JsonIgnore Set<Long> routable, Instant loadedAt) {
+        static final Snapshot EMPTY = new Snapshot(0, -1, -1, Map.of(), List.of(), Set.of(), Instant.EPOCH);
+    }
+}
@@ -0,0 +1,330 @@
+package com.defamation.backend.service.retrieval;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.BufferedOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패시지 BM25 인덱스 (rank_bm25 BM25Okapi 와 같은 점수)
+ * - idf = ln((N - df + 0.5) / (df + 0.5)), 음수 idf 는 epsilon * 평균 idf 로 대체
+ * - postings 는 (int 문서 순번, float 가중치) 배열. 가중치는 빌드 시점에 미리 계산한
+ *   tf * (k1 + 1) / (tf + k1 * (1 - b + b * dl / avgdl)) 라서 질의 시에는 idf 곱하고 더하기만 함
+ * - 파일(bm25.bin)을 mmap 해서 postings 는 힙에 올리지 않음 (용어 사전만 HashMap)
+ *
+ * 파일 구조 (little endian)
+ *   int magic, int version, int docCount, int termCount, float k1, float b, float avgdl, int postingCount
+ *   int[docCount] docLength
+ *   float[termCount] idf
+ *   int[termCount + 1] postingStart
+ *   int[termCount + 1] termByteStart, byte[] termBytes (UTF-8, 4바이트 정렬)
+ *   int[postingCount] postingDoc
+ *   float[postingCount] postingWeight
+ */
+public final class Bm25Index {
+
+    public static final String FILE_NAME = "bm25.bin";
+
+    public static final float DEFAULT_K1 = 1.5f;
+    public static final float DEFAULT_B = 0.75f;
+    private static final float EPSILON = 0.25f;
+
+    private static final int MAGIC = 0x424D3235; // "BM25"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+
+    private final int docCount;
+    private final float k1;
+    private final float b;
+    private final float avgdl;
+    private final Map<String, Integer> terms;
+    private final float[] idf;
+    private final int[] postingStart;
+    private final IntBuffer docLength;
+    private final IntBuffer postingDoc;
+    private final FloatBuffer postingWeight;
+
+    // 질의마다 큰 배열을 새로 만들지 않도록 스레드별 누적 버퍼 재사용
+    private final ThreadLocal<Scratch> scratch;
+
+    private Bm25Index(ByteBuffer buf) {
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+            throw new IllegalStateException("BM25 인덱스 파일 형식이 아닙니다.");
+        }
+        docCount = buf.getInt(8);
+        int termCount = buf.getInt(12);
+        k1 = buf.getFloat(16);
+        b = buf.getFloat(20);
+        avgdl = buf.getFloat(24);
+        int postingCount = buf.getInt(28);
+
+        int pos = HEADER_BYTES;
+        docLength = slice(buf, pos, docCount * 4).asIntBuffer();
+        pos += docCount * 4;
+
+        idf = new float[termCount];
+        slice(buf, pos, termCount * 4).asFloatBuffer().get(idf);
+        pos += termCount * 4;
+
+        postingStart = new int[termCount + 1];
+        slice(buf, pos, (termCount + 1) * 4).asIntBuffer().get(postingStart);
+        pos += (termCount + 1) * 4;
+
+        int[] termByteStart = new int[termCount + 1];
+        slice(buf, pos, (termCount + 1) * 4).asIntBuffer().get(termByteStart);
+        pos += (termCount + 1) * 4;
+
+        byte[] termBytes = new byte[termByteStart[termCount]];
+        slice(buf, pos, termBytes.length).get(termBytes);
+        pos += align4(termBytes.length);
+
+        terms = new HashMap<>(Math.max(16, (int) (termCount / 0.75f) + 1));
+        for (int t = 0; t < termCount; t++) {
+            terms.put(new String(termBytes, termByteStart[t], termByteStart[t + 1] - termByteStart[t],
+                    StandardCharsets.UTF_8), t);
+        }
+
+        postingDoc = slice(buf, pos, postingCount * 4).asIntBuffer();
+        pos += postingCount * 4;
+        postingWeight = slice(buf, pos, postingCount * 4).asFloatBuffer();
+
+        scratch = ThreadLocal.withInitial(() -> new Scratch(docCount));
+    }
+
+    /**
+     * 인덱스 디렉터리의 bm25.bin 을 mmap 으로 연다
+     */
+    public static Bm25Index open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE) {
+                throw new IOException("BM25 인덱스 파일이 2GB 를 넘습니다: " + file);
+            }
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            return new Bm25Index(buf);
+        }
+    }
+
+    public int docCount() {
+        return docCount;
+    }
+
+    public int termCount() {
+        return idf.length;
+    }
+
+    public int docLength(int doc) {
+        return docLength.get(doc);
+    }
+
+    /**
+     * 상위 k 개 (점수 내림차순, 동점이면 문서 순번 오름차순). 질의 토큰이 하나도 없는 문서는 제외
+     * 질의에 같은 토큰이 여러 번 있으면 rank_bm25 처럼 그만큼 더함
+     */
+    public ScoredDocs search(String query, int k) {
+        List<String> tokens = PassageTokenizer.tokenize(query);
+        if (tokens.isEmpty() || k <= 0) return ScoredDocs.EMPTY;
+
+        Scratch s = scratch.get();
+        int gen = s.nextGeneration();
+        float[] acc = s.acc;
+        int[] stamp = s.stamp;
+        int[] touched = s.touched;
+        int touchedCount = 0;
+
+        for (String tok : tokens) {
+            Integer t = terms.get(tok);
+            if (t == null) continue;
+            float w = idf[t];
+            int end = postingStart[t + 1];
+            for (int i = postingStart[t]; i < end; i++) {
+                int d = postingDoc.get(i);
+                float v = w * postingWeight.get(i);
+                if (stamp[d] != gen) {
+                    stamp[d] = gen;
+                    acc[d] = v;
+                    touched[touchedCount++] = d;
+                } else {
+                    acc[d] += v;
+                }
+            }
+        }
+        return TopKHeap.select(touched, touchedCount, acc, k);
+    }
+
+    // ---------- 빌드 ----------
+
+    /**
+     * 패시지 텍스트로 인덱스 파일 작성 (문서 순번 = texts 순서)
+     * 임시 파일에 쓰고 rename 하므로 읽는 쪽은 항상 완성된 파일만 봄
+     */
+    public static void build(Iterable<String> texts, Path out, float k1, float b) throws IOException {
+        Map<String, TermPostings> dict = new HashMap<>();
+        int[] docLen = new int[1024];
+        int docCount = 0;
+        long totalTokens = 0;
+
+        Map<String, int[]> tf = new HashMap<>();
+        for (String text : texts) {
+            List<String> tokens = PassageTokenizer.tokenize(text);
+            tf.clear();
+            for (String tok : tokens) tf.computeIfAbsent(tok, x -> new int[1])[0]++;
+
+            if (docCount == docLen.length) docLen = Arrays.copyOf(docLen, docCount * 2);
+            int doc = docCount++;
+            docLen[doc] = tokens.size();
+            totalTokens += tokens.size();
+            for (Map.Entry<String, int[]> e : tf.entrySet()) {
+                dict.computeIfAbsent(e.getKey(), x -> new TermPostings()).add(doc, e.getValue()[0]);
+            }
+        }
+
+        float avgdl = docCount == 0 ? 0f : (float) ((double) totalTokens / docCount);
+        String[] termList = dict.keySet().toArray(new String[0]);
+        Arrays.sort(termList);
+        int termCount = termList.length;
+
+        // idf (rank_bm25 BM25Okapi._calc_idf)
+        float[] idf = new float[termCount];
+        double idfSum = 0;
+        for (int t = 0; t < termCount; t++) {
+            int df = dict.get(termList[t]).size;
+            idf[t] = (float) (Math.log(docCount - df + 0.5) - Math.log(df + 0.5));
+            idfSum += idf[t];
+        }
+        float eps = termCount == 0 ? 0f : (float) (EPSILON * idfSum / termCount);
+        for (int t = 0; t < termCount; t++) {
+            if (idf[t] < 0) idf[t] = eps;
+        }
+
+        int[] postingStart = new int[termCount + 1];
+        long postingCount = 0;
+        byte[][] termBytes = new byte[termCount][];
+        int[] termByteStart = new int[termCount + 1];
+        for (int t = 0; t < termCount; t++) {
+            postingStart[t] = (int) postingCount;
+            postingCount += dict.get(termList[t]).size;
+            termBytes[t] = termList[t].getBytes(StandardCharsets.UTF_8);
+            termByteStart[t + 1] = termByteStart[t] + termBytes[t].length;
+        }
+        if (postingCount > Integer.MAX_VALUE / 8) {
+            throw new IOException("postings 가 너무 많습니다: " + postingCount);
+        }
+        postingStart[termCount] = (int) postingCount;
+
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Path tmp = out.resolveSibling(out.getFileName() + ".tmp");
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16)) {
+            LittleEndianWriter w = new LittleEndianWriter(os);
+            w.writeInt(MAGIC);
+            w.writeInt(VERSION);
+            w.writeInt(docCount);
+            w.writeInt(termCount);
+            w.writeFloat(k1);
+            w.writeFloat(b);
+            w.writeFloat(avgdl);
+            w.writeInt((int) postingCount);
+
+            for (int d = 0; d < docCount; d++) w.writeInt(docLen[d]);
+            for (float v : idf) w.writeFloat(v);
+            for (int v : postingStart) w.writeInt(v);
+            for (int v : termByteStart) w.writeInt(v);
+            for (byte[] bytes : termBytes) os.write(bytes);
+            for (int pad = align4(termByteStart[termCount]) - termByteStart[termCount]; pad > 0; pad--) os.write(0);
+
+            for (String term : termList) {
+                TermPostings p = dict.get(term);
+                for (int i = 0; i < p.size; i++) w.writeInt(p.docs[i]);
+            }
+            for (String term : termList) {
+                TermPostings p = dict.get(term);
+                for (int i = 0; i < p.size; i++) {
+                    int f = p.tfs[i];
+                    float norm = avgdl == 0 ? 1f : docLen[p.docs[i]] / avgdl;
+                    w.writeFloat(f * (k1 + 1) / (f + k1 * (1 - b + b * norm)));
+                }
+            }
+        }
+        Files.move(tmp, out, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buf, int pos, int len) {
+        return buf.slice(pos, len).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int align4(int n) {
+        return (n + 3) & ~3;
+    }
+
+    private static final class Scratch {
+        final float[] acc;
+        final int[] stamp;
+        final int[] touched;
+        int generation;
+
+        Scratch(int n) {
+            acc = new float[n];
+            stamp = new int[n];
+            touched = new int[n];
+        }
+
+        int nextGeneration() {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+            return generation;
+        }
+    }
+
+    private static final class TermPostings {
+        int[] docs = new int[4];
+        int[] tfs = new int[4];
+        int size;
+
+        void add(int doc, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = doc;
+            tfs[size] = tf;
+            size++;
+        }
+    }
+
+    private static final class LittleEndianWriter {
+        private final OutputStream os;
+        private final byte[] b4 = new byte[4];
+
+        LittleEndianWriter(OutputStream os) {
+            this.os = os;
+        }
+
+        void writeInt(int v) throws IOException {
+            b4[0] = (byte) v;
+            b4[1] = (byte) (v >>> 8);
+            b4[2] = (byte) (v >>> 16);
+            b4[3] = (byte) (v >>> 24);
+            os.write(b4);
+        }
+
+        void writeFloat(float v) throws IOException {
+            writeInt(Float.floatToRawIntBits(v));
+        }
+    }
+}
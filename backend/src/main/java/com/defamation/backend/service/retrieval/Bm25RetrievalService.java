@@ -0,0 +1,164 @@
+package com.defamation.backend.service.retrieval;
+
+import com.defamation.backend.config.DefamationProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 패시지 BM25 검색 서비스
+ * - 기동 시 bm25-index-dir 의 bm25.bin + mapping.jsonl 을 연다
+ *   (mapping.jsonl 만 있으면 = 파이썬으로 만든 디렉터리, bm25.bin 을 새로 빌드)
+ * - 재빌드는 cases 테이블 또는 passages JSONL 에서. 새 인덱스를 다 만든 뒤 교체하므로 검색은 멈추지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class Bm25RetrievalService {
+
+    private static final String CASES_SQL = """
+            SELECT id, problem_situation, sentence_reason FROM cases
+            WHERE is_deleted = 0
+            ORDER BY id
+            """;
+
+    private final DefamationProperties props;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 재빌드는 DB 조회 + 파일 쓰기라 오래 걸림 (기다리는 쪽이 가상 스레드여도 캐리어를 놓도록 ReentrantLock)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Loaded current;
+
+    @PostConstruct
+    void init() {
+        Path dir = indexDir();
+        try {
+            if (Files.exists(dir.resolve(PassageStore.FILE_NAME))) {
+                PassageStore passages = PassageStore.read(dir.resolve(PassageStore.FILE_NAME));
+                Path bin = dir.resolve(Bm25Index.FILE_NAME);
+                if (!Files.exists(bin)) {
+                    buildIndexFile(passages, bin);
+                }
+                current = open(passages, bin);
+                log.info("BM25 인덱스 로드: {} (패시지 {}, 용어 {})",
+                        dir, current.passages().size(), current.index().termCount());
+            } else if (props.getRetrieval().isBuildOnStart()) {
+                rebuildFromCases();
+            }
+        } catch (IOException | RuntimeException e) {
+            // 인덱스가 없어도 나머지 API 는 동작해야 하므로 기동은 계속
+            log.warn("BM25 인덱스를 열지 못했습니다: {}", dir, e);
+        }
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * 현재 인덱스 (없으면 IndexNotReadyException)
+     */
+    public Loaded current() {
+        Loaded loaded = current;
+        if (loaded == null) {
+            throw new IndexNotReadyException("BM25 인덱스가 아직 없습니다.");
+        }
+        return loaded;
+    }
+
+    public ScoredDocs search(String query, int k) {
+        return current().index().search(query, k);
+    }
+
+    /**
+     * cases 테이블 (problem_situation + sentence_reason) 로 재빌드
+     */
+    public Loaded rebuildFromCases() throws IOException {
+        rebuildLock.lock();
+        try {
+            int passageChars = props.getRetrieval().getPassageChars();
+            List<Passage> passages = new ArrayList<>();
+            jdbcTemplate.query(CASES_SQL, rs -> {
+                String caseId = String.valueOf(rs.getLong("id"));
+                String situation = rs.getString("problem_situation");
+                String reason = rs.getString("sentence_reason");
+                String text = reason == null || reason.isBlank() ? situation : situation + "\n\n" + reason;
+                passages.addAll(PassageSplitter.passages(caseId, text, passageChars));
+            });
+            return install(new PassageStore(passages));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * passages JSONL (scripts/preprocess_passages.py 출력 형식) 로 재빌드
+     */
+    public Loaded rebuildFromJsonl(Path passagesJsonl) throws IOException {
+        rebuildLock.lock();
+        try {
+            return install(PassageStore.read(passagesJsonl));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Loaded install(PassageStore passages) throws IOException {
+        long started = System.currentTimeMillis();
+        Path dir = indexDir();
+        Files.createDirectories(dir);
+
+        Path bin = dir.resolve(Bm25Index.FILE_NAME);
+        buildIndexFile(passages, bin);
+
+        List<Passage> list = new ArrayList<>(passages.size());
+        for (int i = 0; i < passages.size(); i++) list.add(passages.get(i));
+        Path mapping = dir.resolve(PassageStore.FILE_NAME);
+        Path tmp = dir.resolve(PassageStore.FILE_NAME + ".tmp");
+        PassageStore.write(tmp, list);
+        Files.move(tmp, mapping, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Loaded loaded = open(passages, bin);
+        current = loaded;
+        log.info("BM25 인덱스 빌드: 패시지 {}, 용어 {}, {}ms",
+                passages.size(), loaded.index().termCount(), System.currentTimeMillis() - started);
+        return loaded;
+    }
+
+    private static void buildIndexFile(PassageStore passages, Path bin) throws IOException {
+        List<String> texts = new ArrayList<>(passages.size());
+        for (int i = 0; i < passages.size(); i++) texts.add(passages.text(i));
+        Bm25Index.build(texts, bin, Bm25Index.DEFAULT_K1, Bm25Index.DEFAULT_B);
+    }
+
+    private static Loaded open(PassageStore passages, Path bin) throws IOException {
+        Bm25Index index = Bm25Index.open(bin);
+        if (index.docCount() != passages.size()) {
+            throw new UncheckedIOException(new IOException(
+                    "bm25.bin 과 mapping.jsonl 의 패시지 수가 다릅니다: " + index.docCount() + " != " + passages.size()));
+        }
+        return new Loaded(index, passages);
+    }
+
+    private Path indexDir() {
+        return Paths.get(props.getRetrieval().getBm25IndexDir());
+    }
+
+    /**
+     * 인덱스와 패시지 목록 (항상 같이 교체)
+     */
+    public record Loaded(Bm25Index index, PassageStore passages) {
+    }
+}
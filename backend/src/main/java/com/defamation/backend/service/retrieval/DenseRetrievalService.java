@@ -0,0 +1,156 @@
+package com.defamation.backend.service.retrieval;
+
+import com.defamation.backend.config.DefamationProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * dense 패시지 검색 서비스
+ * - dense-index-dir 의 vectors.npy 를 mmap 하고 IVF(int8) 인덱스를 만들어서 검색
+ *   (IVF 학습은 기동을 막지 않도록 백그라운드에서)
+ * - 질의 벡터는 API 로 직접 받거나 QueryEmbedder 로 만듦
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DenseRetrievalService {
+
+    public static final String VECTORS_FILE = "vectors.npy";
+
+    private final DefamationProperties props;
+    private final QueryEmbedder embedder;
+    private final Bm25RetrievalService bm25;
+
+    private ExecutorService pool;
+    private DotKernel kernel;
+    // reload/build 직렬화 (buildWithEmbedder 안에서 reload 재진입). 파일 I/O 중 대기하는 가상 스레드가 캐리어를 붙잡지 않게 모니터 대신 락
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Loaded current;
+
+    @PostConstruct
+    void init() {
+        DefamationProperties.Retrieval cfg = props.getRetrieval();
+        int threads = cfg.getDenseThreads() > 0 ? cfg.getDenseThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "dense-search-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        kernel = DotKernel.best(cfg.isSimd());
+        log.info("dense 내적 커널: {}, 스레드 {}", kernel.name(), threads);
+
+        if (Files.exists(indexDir().resolve(VECTORS_FILE))) {
+            Thread loader = new Thread(() -> {
+                try {
+                    reload();
+                } catch (IOException | RuntimeException | InterruptedException e) {
+                    log.warn("dense 인덱스를 열지 못했습니다: {}", indexDir(), e);
+                }
+            }, "dense-index-loader");
+            loader.setDaemon(true);
+            loader.start();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (pool != null) pool.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    public Loaded current() {
+        Loaded loaded = current;
+        if (loaded == null) {
+            throw new IndexNotReadyException("dense 인덱스가 아직 없습니다.");
+        }
+        return loaded;
+    }
+
+    public QueryEmbedder embedder() {
+        return embedder;
+    }
+
+    public ScoredDocs search(float[] query, int k) {
+        DefamationProperties.Retrieval cfg = props.getRetrieval();
+        return current().index().search(query, k, cfg.getDenseNprobe(), cfg.getDenseRefine(), pool);
+    }
+
+    /**
+     * vectors.npy + mapping.jsonl 을 다시 읽고 IVF 재구성
+     */
+    public Loaded reload() throws IOException, InterruptedException {
+        loadLock.lock();
+        try {
+            DefamationProperties.Retrieval cfg = props.getRetrieval();
+            Path dir = indexDir();
+            long started = System.currentTimeMillis();
+
+            MappedVectors vectors = MappedVectors.open(dir.resolve(VECTORS_FILE));
+            PassageStore passages = PassageStore.read(dir.resolve(PassageStore.FILE_NAME));
+            if (vectors.size() != passages.size()) {
+                throw new IOException("vectors.npy 와 mapping.jsonl 의 패시지 수가 다릅니다: "
+                        + vectors.size() + " != " + passages.size());
+            }
+            IvfIndex index = IvfIndex.build(vectors, cfg.getDenseNlist(), cfg.getDenseTrainSample(),
+                    cfg.getDenseTrainIterations(), kernel, pool);
+
+            Loaded loaded = new Loaded(index, passages);
+            current = loaded;
+            log.info("dense 인덱스 로드: {} (패시지 {}, dim {}, nlist {}, {}ms)",
+                    dir, vectors.size(), vectors.dim(), index.nlist(), System.currentTimeMillis() - started);
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * GPU 없이 테스트용: 현재 BM25 패시지를 QueryEmbedder 로 임베딩해서 vectors.npy 작성 후 로드
+     * (BM25 와 같은 mapping.jsonl 을 쓰므로 패시지 순번이 맞음)
+     */
+    public Loaded buildWithEmbedder() throws IOException, InterruptedException {
+        loadLock.lock();
+        try {
+            PassageStore passages = bm25.current().passages();
+            Path dir = indexDir();
+            Files.createDirectories(dir);
+
+            float[][] rows = new float[passages.size()][];
+            List<Passage> list = new ArrayList<>(passages.size());
+            for (int i = 0; i < passages.size(); i++) {
+                rows[i] = embedder.embed(passages.text(i));
+                list.add(passages.get(i));
+            }
+            MappedVectors.write(dir.resolve(VECTORS_FILE), rows, embedder.dim());
+            PassageStore.write(dir.resolve(PassageStore.FILE_NAME), list);
+            return reload();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Path indexDir() {
+        return Paths.get(props.getRetrieval().getDenseIndexDir());
+    }
+
+    public record Loaded(IvfIndex index, PassageStore passages) {
+    }
+}
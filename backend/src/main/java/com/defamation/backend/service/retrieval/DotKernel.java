@@ -0,0 +1,31 @@
+package com.defamation.backend.service.retrieval;
+
+/**
+ * 내적 커널 (dense 검색의 hot loop)
+ * - jdk.incubator.vector 모듈이 로드돼 있으면 Vector API 구현, 아니면 스칼라
+ *   (bootRun/test 는 build.gradle 에서 --add-modules jdk.incubator.vector)
+ * - Vector API 구현은 src/simd/java 에 따로 컴파일되므로 이름으로 로드 (없거나 못 쓰면 스칼라)
+ */
+public interface DotKernel {
+
+    /** a[0..len) · b[off..off+len) */
+    float dot(float[] a, float[] b, int off, int len);
+
+    /** q[0..len) · codes[off..off+len) (int8 양자화 벡터, 스케일은 호출 쪽에서 곱함) */
+    float dotInt8(float[] q, byte[] codes, int off, int len);
+
+    String name();
+
+    static DotKernel best(boolean simdAllowed) {
+        if (simdAllowed && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (DotKernel) Class.forName("com.defamation.backend.service.retrieval.SimdDotKernel")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                // simd 산출물이 classpath 에 없거나, 모듈은 있지만 이 CPU/JVM 에서 쓸 수 없는 경우
+            }
+        }
+        return new ScalarDotKernel();
+    }
+}
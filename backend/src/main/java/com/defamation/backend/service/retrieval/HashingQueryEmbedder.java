@@ -0,0 +1,54 @@
+package com.defamation.backend.service.retrieval;
+
+import java.util.List;
+
+/**
+ * 로컬 임베더 stub: 토큰 + 글자 bigram 을 feature hashing 으로 dim 차원에 뿌리고 L2 정규화
+ * - GPU/네트워크 없이 dense 경로 전체(인덱스 빌드, recall/QPS 측정)를 돌리기 위한 용도
+ * - bge-m3 로 만든 vectors.npy 와는 의미 공간이 달라서 그 인덱스에는 쓸모 없음
+ */
+public class HashingQueryEmbedder implements QueryEmbedder {
+
+    private final int dim;
+
+    public HashingQueryEmbedder(int dim) {
+        this.dim = dim;
+    }
+
+    @Override
+    public int dim() {
+        return dim;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] v = new float[dim];
+        List<String> tokens = PassageTokenizer.tokenize(text);
+        for (String tok : tokens) {
+            add(v, tok.hashCode(), 1f);
+            for (int i = 0; i + 2 <= tok.length(); i++) {
+                add(v, tok.substring(i, i + 2).hashCode() * 31 + 7, 0.5f);
+            }
+        }
+        double norm = 0;
+        for (float x : v) norm += x * x;
+        if (norm > 0) {
+            float inv = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < dim; i++) v[i] *= inv;
+        }
+        return v;
+    }
+
+    private void add(float[] v, int hash, float weight) {
+        int h = mix(hash);
+        v[Math.floorMod(h, dim)] += (h & 0x8000_0000) == 0 ? weight : -weight;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85eb_ca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2_ae35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,199 @@
+package com.defamation.backend.service.retrieval;
+
+import com.defamation.backend.config.DefamationProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 하이브리드 유사 판례 검색 (search_hybrid_rerank.py 의 후보 생성 + 사건 집계)
+ * 1) 질의 문장 분할
+ * 2) 문장별 BM25 / dense top-k 를 병렬로
+ * 3) 모든 순위 목록을 RRF(k=60) 로 융합
+ * 4) 융합 순서대로 사건당 perCaseCap 개까지, 총 candidates 개
+ * 5) 사건 점수 = 0.7 * 상위 3개 평균 + 0.3 * 최대, 근거 패시지 3개
+ * cross-encoder 재랭킹은 JVM 에서 돌릴 모델이 없어서 생략 (RRF 점수를 그대로 사용)
+ */
+@Slf4j
+@Service
+public class HybridSearchService {
+
+    private static final int EVIDENCE_PER_CASE = 3;
+    private static final int SNIPPET_CHARS = 200;
+
+    private final DefamationProperties props;
+    private final Bm25RetrievalService bm25;
+    private final DenseRetrievalService dense;
+    private final ExecutorService pool;
+
+    public HybridSearchService(DefamationProperties props, Bm25RetrievalService bm25, DenseRetrievalService dense) {
+        this.props = props;
+        this.bm25 = bm25;
+        this.dense = dense;
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+            Thread t = new Thread(r, "hybrid-search-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public Result search(String query, int topCases) {
+        DefamationProperties.Retrieval cfg = props.getRetrieval();
+        Timer timer = new Timer();
+
+        Bm25RetrievalService.Loaded lexical = bm25.current();
+        PassageStore passages = lexical.passages();
+        // dense 는 BM25 와 같은 패시지 목록(mapping.jsonl)으로 만든 경우만 사용 (개수가 같아도 내용이 다르면 순번이 어긋남)
+        DenseRetrievalService.Loaded semantic = dense.isReady() ? dense.current() : null;
+        boolean denseUsed = semantic != null && semantic.passages().fingerprint() == passages.fingerprint();
+
+        // 1) 문장 분할
+        List<String> sentences = PassageSplitter.sentences(query);
+        if (sentences.isEmpty()) sentences = List.of(query.strip());
+        timer.lap("split");
+
+        // 2) 문장별 BM25 / dense 병렬
+        AtomicLong bm25Nanos = new AtomicLong();
+        AtomicLong denseNanos = new AtomicLong();
+        List<CompletableFuture<ScoredDocs>> futures = new ArrayList<>();
+        for (String s : sentences) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                long t0 = System.nanoTime();
+                ScoredDocs hits = lexical.index().search(s, cfg.getTopkBm25());
+                bm25Nanos.accumulateAndGet(System.nanoTime() - t0, Math::max);
+                return hits;
+            }, pool));
+            if (denseUsed) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    long t0 = System.nanoTime();
+                    float[] q = dense.embedder().embed(s);
+                    ScoredDocs hits = semantic.index().search(q, cfg.getTopkDense(),
+                            cfg.getDenseNprobe(), cfg.getDenseRefine(), null);
+                    denseNanos.accumulateAndGet(System.nanoTime() - t0, Math::max);
+                    return hits;
+                }, pool));
+            }
+        }
+        List<ScoredDocs> rankLists = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<ScoredDocs> f : futures) rankLists.add(f.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+        timer.lap("retrieve");
+        timer.put("bm25", bm25Nanos.get());
+        if (denseUsed) timer.put("dense", denseNanos.get());
+
+        // 3) RRF
+        ScoredDocs fused = RrfFuser.fuse(rankLists, passages.size(), cfg.getRrfK());
+        timer.lap("fuse");
+
+        // 4) 사건당 상한을 지키며 후보 선택 + 5) 사건 집계
+        Map<String, CaseAccumulator> byCase = new LinkedHashMap<>();
+        Map<String, Integer> perCase = new HashMap<>();
+        int taken = 0;
+        for (int i = 0; i < fused.size() && taken < cfg.getCandidates(); i++) {
+            int doc = fused.docs()[i];
+            String caseId = passages.caseId(doc);
+            if (caseId == null) continue;
+            int n = perCase.merge(caseId, 1, Integer::sum);
+            if (n > cfg.getPerCaseCap()) continue;
+            byCase.computeIfAbsent(caseId, CaseAccumulator::new).add(doc, fused.scores()[i], passages);
+            taken++;
+        }
+
+        List<CaseHit> cases = new ArrayList<>(byCase.size());
+        for (CaseAccumulator acc : byCase.values()) cases.add(acc.toHit());
+        cases.sort((a, b) -> Double.compare(b.score(), a.score()));
+        if (cases.size() > topCases) cases = new ArrayList<>(cases.subList(0, topCases));
+        timer.lap("aggregate");
+
+        return new Result(cases, denseUsed, sentences.size(), timer.millis);
+    }
+
+    /**
+     * 사건 하나의 후보 패시지 점수 (융합 점수 내림차순으로 들어옴)
+     */
+    private static final class CaseAccumulator {
+        final String caseId;
+        float[] scores = new float[4];
+        int count;
+        final List<Evidence> evidence = new ArrayList<>(EVIDENCE_PER_CASE);
+
+        CaseAccumulator(String caseId) {
+            this.caseId = caseId;
+        }
+
+        void add(int doc, float score, PassageStore passages) {
+            if (count == scores.length) scores = Arrays.copyOf(scores, count * 2);
+            scores[count++] = score;
+            if (evidence.size() < EVIDENCE_PER_CASE) {
+                evidence.add(new Evidence(passages.pid(doc), snippet(passages.text(doc)), score));
+            }
+        }
+
+        CaseHit toHit() {
+            // search_hybrid_rerank.py: (sum(top3) / len(top3)) * 0.7 + max * 0.3
+            int top = Math.min(3, count);
+            double sum = 0;
+            for (int i = 0; i < top; i++) sum += scores[i];
+            double score = (sum / top) * 0.7 + scores[0] * 0.3;
+            return new CaseHit(caseId, score, List.copyOf(evidence));
+        }
+    }
+
+    private static String snippet(String text) {
+        String t = text.replace('\n', ' ').strip();
+        return t.length() <= SNIPPET_CHARS ? t : t.substring(0, SNIPPET_CHARS) + "…";
+    }
+
+    /**
+     * 단계별 소요 시간 (ms)
+     */
+    private static final class Timer {
+        final Map<String, Double> millis = new LinkedHashMap<>();
+        long last = System.nanoTime();
+
+        void lap(String stage) {
+            long now = System.nanoTime();
+            millis.put(stage, (now - last) / 1e6);
+            last = now;
+        }
+
+        void put(String stage, long nanos) {
+            millis.put(stage, nanos / 1e6);
+        }
+    }
+
+    public record Evidence(String pid, String text, float score) {
+    }
+
+    public record CaseHit(String caseId, double score, List<Evidence> evidence) {
+    }
+
+    /**
+     * @param timingsMs split / retrieve(BM25+dense 병렬 구간) / bm25 / dense(문장 중 가장 느린 것) / fuse / aggregate
+     */
+    public record Result(List<CaseHit> cases, boolean denseUsed, int sentences, Map<String, Double> timingsMs) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.defamation.backend.service.retrieval;
+
+/**
+ * 검색 인덱스가 아직 로드/빌드되지 않음 (컨트롤러에서 503)
+ */
+public class IndexNotReadyException extends RuntimeException {
+    public IndexNotReadyException(String message) {
+        super(message);
+    }
+}
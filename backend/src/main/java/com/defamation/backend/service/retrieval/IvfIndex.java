@@ -0,0 +1,302 @@
+package com.defamation.backend.service.retrieval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * dense 벡터 IVF 인덱스 (내적 = 코사인, 벡터는 L2 정규화돼 있다고 가정)
+ * - 학습: 표본으로 spherical k-means -> nlist 개 centroid
+ * - 저장: 리스트별로 연속된 int8 양자화 코드 (벡터당 스케일 1개, 원본의 1/4 크기, 힙)
+ * - 검색: 가까운 centroid nprobe 개의 리스트만 int8 내적으로 훑고,
+ *         상위 k * refine 개를 mmap 된 float32 원본으로 다시 계산해서 상위 k
+ * - 훑을 양이 많으면 리스트를 나눠서 여러 스레드로 스캔
+ */
+public final class IvfIndex {
+
+    private static final int PARALLEL_SCAN_THRESHOLD = 20_000;
+
+    private final MappedVectors vectors;
+    private final DotKernel kernel;
+    private final int dim;
+    private final int nlist;
+    private final float[] centroids;   // nlist * dim
+    private final int[] listStart;     // nlist + 1
+    private final int[] listDocs;      // 리스트 순서로 나열한 문서 순번
+    private final byte[] codes;        // listDocs 와 같은 순서, 문서당 dim 바이트
+    private final float[] scales;      // listDocs 와 같은 순서
+
+    private IvfIndex(MappedVectors vectors, DotKernel kernel, int nlist, float[] centroids,
+                     int[] listStart, int[] listDocs, byte[] codes, float[] scales) {
+        this.vectors = vectors;
+        this.kernel = kernel;
+        this.dim = vectors.dim();
+        this.nlist = nlist;
+        this.centroids = centroids;
+        this.listStart = listStart;
+        this.listDocs = listDocs;
+        this.codes = codes;
+        this.scales = scales;
+    }
+
+    public int size() {
+        return vectors.size();
+    }
+
+    public int dim() {
+        return dim;
+    }
+
+    public int nlist() {
+        return nlist;
+    }
+
+    public String kernelName() {
+        return kernel.name();
+    }
+
+    /**
+     * nlist <= 0 이면 4 * sqrt(n)
+     */
+    public static IvfIndex build(MappedVectors vectors, int nlist, int trainSample, int iterations,
+                                 DotKernel kernel, ExecutorService pool) throws InterruptedException {
+        int n = vectors.size();
+        int dim = vectors.dim();
+        if ((long) n * dim > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("벡터가 너무 많습니다 (n * dim > 2^31): " + n + " x " + dim);
+        }
+        if (nlist <= 0) nlist = (int) Math.max(1, Math.round(4 * Math.sqrt(n)));
+        nlist = Math.max(1, Math.min(nlist, Math.max(1, n)));
+
+        // 1) 학습 표본
+        Random rnd = new Random(42);
+        int sampleSize = Math.min(n, Math.max(nlist, trainSample));
+        int[] sample = reservoir(n, sampleSize, rnd);
+        float[] sampleVecs = new float[sampleSize * dim];
+        float[] row = new float[dim];
+        for (int i = 0; i < sampleSize; i++) {
+            vectors.copyRow(sample[i], row);
+            System.arraycopy(row, 0, sampleVecs, i * dim, dim);
+        }
+
+        // 2) spherical k-means
+        float[] centroids = new float[nlist * dim];
+        for (int c = 0; c < nlist; c++) {
+            System.arraycopy(sampleVecs, (int) ((long) c * sampleSize / nlist) * dim, centroids, c * dim, dim);
+        }
+        int[] assign = new int[sampleSize];
+        for (int it = 0; it < iterations; it++) {
+            assignAll(sampleVecs, sampleSize, dim, centroids, nlist, kernel, pool, assign);
+            float[] sums = new float[nlist * dim];
+            int[] counts = new int[nlist];
+            for (int i = 0; i < sampleSize; i++) {
+                int c = assign[i];
+                counts[c]++;
+                int so = i * dim, co = c * dim;
+                for (int d = 0; d < dim; d++) sums[co + d] += sampleVecs[so + d];
+            }
+            for (int c = 0; c < nlist; c++) {
+                if (counts[c] == 0) {
+                    // 빈 클러스터는 임의 표본으로 다시 시작
+                    System.arraycopy(sampleVecs, rnd.nextInt(sampleSize) * dim, sums, c * dim, dim);
+                }
+                normalize(sums, c * dim, dim);
+            }
+            centroids = sums;
+        }
+
+        // 3) 전체 벡터 배정 (mmap 에서 청크 단위로 읽음)
+        int[] docList = new int[n];
+        int chunk = 4096;
+        float[] buf = new float[Math.min(n, chunk) * dim];
+        int[] part = new int[Math.min(n, chunk)];
+        for (int start = 0; start < n; start += chunk) {
+            int cnt = Math.min(chunk, n - start);
+            for (int i = 0; i < cnt; i++) {
+                vectors.copyRow(start + i, row);
+                System.arraycopy(row, 0, buf, i * dim, dim);
+            }
+            assignAll(buf, cnt, dim, centroids, nlist, kernel, pool, part);
+            System.arraycopy(part, 0, docList, start, cnt);
+        }
+
+        // 4) 리스트 순서로 int8 코드 배치
+        int[] listStart = new int[nlist + 1];
+        for (int d = 0; d < n; d++) listStart[docList[d] + 1]++;
+        for (int c = 0; c < nlist; c++) listStart[c + 1] += listStart[c];
+        int[] fill = listStart.clone();
+        int[] listDocs = new int[n];
+        byte[] codes = new byte[n * dim];
+        float[] scales = new float[n];
+        for (int d = 0; d < n; d++) {
+            int pos = fill[docList[d]]++;
+            listDocs[pos] = d;
+            vectors.copyRow(d, row);
+            scales[pos] = quantize(row, codes, pos * dim);
+        }
+        return new IvfIndex(vectors, kernel, nlist, centroids, listStart, listDocs, codes, scales);
+    }
+
+    /**
+     * 상위 k (내적 내림차순)
+     * nprobe: 훑을 리스트 수, refine: int8 후보를 k * refine 개 뽑아서 float32 로 다시 계산
+     */
+    public ScoredDocs search(float[] query, int k, int nprobe, int refine, ExecutorService pool) {
+        if (query.length != dim) {
+            throw new IllegalArgumentException("질의 벡터 차원이 다릅니다: " + query.length + " != " + dim);
+        }
+        if (k <= 0 || size() == 0) return ScoredDocs.EMPTY;
+        nprobe = Math.max(1, Math.min(nprobe, nlist));
+
+        // 1) 가까운 centroid nprobe 개
+        TopKHeap probeHeap = new TopKHeap(nprobe);
+        for (int c = 0; c < nlist; c++) {
+            probeHeap.offer(c, kernel.dot(query, centroids, c * dim, dim));
+        }
+        int[] probes = probeHeap.drain().docs();
+
+        // 2) int8 스캔
+        int candidates = k * Math.max(1, refine);
+        long scanned = 0;
+        for (int c : probes) scanned += listStart[c + 1] - listStart[c];
+
+        ScoredDocs coarse;
+        if (pool != null && scanned >= PARALLEL_SCAN_THRESHOLD && probes.length > 1) {
+            coarse = scanParallel(query, probes, candidates, pool);
+        } else {
+            coarse = scan(query, probes, 0, probes.length, candidates);
+        }
+
+        // 3) float32 원본으로 재계산
+        TopKHeap exact = new TopKHeap(k);
+        float[] row = new float[dim];
+        for (int i = 0; i < coarse.size(); i++) {
+            int doc = coarse.docs()[i];
+            vectors.copyRow(doc, row);
+            exact.offer(doc, kernel.dot(query, row, 0, dim));
+        }
+        return exact.drain();
+    }
+
+    /**
+     * 정확한 전수 검색 (recall 측정 기준)
+     */
+    public ScoredDocs exactSearch(float[] query, int k) {
+        TopKHeap heap = new TopKHeap(k);
+        float[] row = new float[dim];
+        for (int d = 0; d < size(); d++) {
+            vectors.copyRow(d, row);
+            heap.offer(d, kernel.dot(query, row, 0, dim));
+        }
+        return heap.drain();
+    }
+
+    private ScoredDocs scan(float[] query, int[] probes, int from, int to, int candidates) {
+        TopKHeap heap = new TopKHeap(candidates);
+        for (int p = from; p < to; p++) {
+            int c = probes[p];
+            for (int pos = listStart[c], end = listStart[c + 1]; pos < end; pos++) {
+                float s = scales[pos] * kernel.dotInt8(query, codes, pos * dim, dim);
+                if (s >= heap.threshold()) {
+                    heap.offer(listDocs[pos], s);
+                }
+            }
+        }
+        return heap.drain();
+    }
+
+    private ScoredDocs scanParallel(float[] query, int[] probes, int candidates, ExecutorService pool) {
+        int parts = Math.min(probes.length, Runtime.getRuntime().availableProcessors());
+        List<Callable<ScoredDocs>> tasks = new ArrayList<>(parts);
+        for (int t = 0; t < parts; t++) {
+            int from = t * probes.length / parts;
+            int to = (t + 1) * probes.length / parts;
+            tasks.add(() -> scan(query, probes, from, to, candidates));
+        }
+        TopKHeap merged = new TopKHeap(candidates);
+        try {
+            for (Future<ScoredDocs> f : pool.invokeAll(tasks)) merged.addAll(f.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("dense 검색이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("dense 검색 실패", e.getCause());
+        }
+        return merged.drain();
+    }
+
+    private static void assignAll(float[] vecs, int count, int dim, float[] centroids, int nlist,
+                                  DotKernel kernel, ExecutorService pool, int[] out) throws InterruptedException {
+        int parts = pool == null ? 1 : Math.max(1, Math.min(count / 256, Runtime.getRuntime().availableProcessors()));
+        List<Callable<Void>> tasks = new ArrayList<>(parts);
+        for (int t = 0; t < parts; t++) {
+            int from = t * count / parts;
+            int to = (t + 1) * count / parts;
+            tasks.add(() -> {
+                float[] v = new float[dim];
+                for (int i = from; i < to; i++) {
+                    System.arraycopy(vecs, i * dim, v, 0, dim);
+                    int best = 0;
+                    float bestScore = Float.NEGATIVE_INFINITY;
+                    for (int c = 0; c < nlist; c++) {
+                        float s = kernel.dot(v, centroids, c * dim, dim);
+                        if (s > bestScore) {
+                            bestScore = s;
+                            best = c;
+                        }
+                    }
+                    out[i] = best;
+                }
+                return null;
+            });
+        }
+        if (parts == 1) {
+            try {
+                tasks.get(0).call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return;
+        }
+        try {
+            for (Future<Void> f : pool.invokeAll(tasks)) f.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("IVF 학습 실패", e.getCause());
+        }
+    }
+
+    private static void normalize(float[] v, int off, int dim) {
+        double norm = 0;
+        for (int d = 0; d < dim; d++) norm += v[off + d] * v[off + d];
+        if (norm == 0) return;
+        float inv = (float) (1.0 / Math.sqrt(norm));
+        for (int d = 0; d < dim; d++) v[off + d] *= inv;
+    }
+
+    /**
+     * 대칭 int8 양자화: code = round(v / scale), scale = max|v| / 127
+     */
+    private static float quantize(float[] v, byte[] codes, int off) {
+        float max = 0;
+        for (float x : v) max = Math.max(max, Math.abs(x));
+        float scale = max == 0 ? 1f : max / 127f;
+        for (int d = 0; d < v.length; d++) {
+            codes[off + d] = (byte) Math.round(v[d] / scale);
+        }
+        return scale;
+    }
+
+    private static int[] reservoir(int n, int k, Random rnd) {
+        int[] out = new int[k];
+        for (int i = 0; i < k; i++) out[i] = i;
+        for (int i = k; i < n; i++) {
+            int j = rnd.nextInt(i + 1);
+            if (j < k) out[j] = i;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,143 @@
+package com.defamation.backend.service.retrieval;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * vectors.npy (float32, C order, shape (n, dim)) 를 mmap 한 행렬
+ * - scripts/build_dense_index.py 가 np.save 로 쓴 파일을 그대로 읽음
+ * - 2GB 넘는 파일은 행 단위로 나눠서 여러 구간으로 mmap
+ */
+public final class MappedVectors {
+
+    private static final byte[] MAGIC = {(byte) 0x93, 'N', 'U', 'M', 'P', 'Y'};
+    private static final Pattern DESCR = Pattern.compile("'descr'\\s*:\\s*'([^']+)'");
+    private static final Pattern FORTRAN = Pattern.compile("'fortran_order'\\s*:\\s*(True|False)");
+    private static final Pattern SHAPE = Pattern.compile("'shape'\\s*:\\s*\\(\\s*(\\d+)\\s*,\\s*(\\d+)\\s*,?\\s*\\)");
+
+    private final int size;
+    private final int dim;
+    private final int rowsPerSegment;
+    private final FloatBuffer[] segments;
+
+    private MappedVectors(int size, int dim, int rowsPerSegment, FloatBuffer[] segments) {
+        this.size = size;
+        this.dim = dim;
+        this.rowsPerSegment = rowsPerSegment;
+        this.segments = segments;
+    }
+
+    public static MappedVectors open(Path npy) throws IOException {
+        try (FileChannel ch = FileChannel.open(npy, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            ch.read(head, 0);
+            head.flip();
+            for (byte b : MAGIC) {
+                if (head.get() != b) throw new IOException(".npy 파일이 아닙니다: " + npy);
+            }
+            int major = head.get() & 0xff;
+            head.get();
+            long headerLen;
+            int prefix;
+            if (major == 1) {
+                headerLen = head.getShort() & 0xffff;
+                prefix = 10;
+            } else {
+                headerLen = head.getInt() & 0xffffffffL;
+                prefix = 12;
+            }
+            ByteBuffer hb = ByteBuffer.allocate((int) headerLen);
+            ch.read(hb, prefix);
+            String header = new String(hb.array(), StandardCharsets.ISO_8859_1);
+
+            Matcher descr = DESCR.matcher(header);
+            Matcher fortran = FORTRAN.matcher(header);
+            Matcher shape = SHAPE.matcher(header);
+            if (!descr.find() || !shape.find()) {
+                throw new IOException(".npy 헤더를 읽을 수 없습니다: " + header.strip());
+            }
+            if (!"<f4".equals(descr.group(1))) {
+                throw new IOException("float32 little endian(<f4) 만 지원합니다: " + descr.group(1));
+            }
+            if (fortran.find() && "True".equals(fortran.group(1))) {
+                throw new IOException("fortran_order 배열은 지원하지 않습니다.");
+            }
+            int n = Integer.parseInt(shape.group(1));
+            int dim = Integer.parseInt(shape.group(2));
+
+            long dataOffset = prefix + headerLen;
+            long rowBytes = (long) dim * Float.BYTES;
+            if (ch.size() < dataOffset + rowBytes * n) {
+                throw new IOException(".npy 파일 크기가 shape 보다 작습니다: " + npy);
+            }
+            int rowsPerSegment = (int) Math.max(1, Integer.MAX_VALUE / rowBytes);
+            int segmentCount = n == 0 ? 0 : (n + rowsPerSegment - 1) / rowsPerSegment;
+            FloatBuffer[] segments = new FloatBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                int rows = Math.min(rowsPerSegment, n - s * rowsPerSegment);
+                segments[s] = ch.map(FileChannel.MapMode.READ_ONLY,
+                                dataOffset + (long) s * rowsPerSegment * rowBytes, rows * rowBytes)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asFloatBuffer();
+            }
+            return new MappedVectors(n, dim, rowsPerSegment, segments);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dim() {
+        return dim;
+    }
+
+    /**
+     * row 번째 벡터를 dst[0..dim) 으로 복사
+     */
+    public void copyRow(int row, float[] dst) {
+        FloatBuffer seg = segments[row / rowsPerSegment];
+        seg.get((row % rowsPerSegment) * dim, dst, 0, dim);
+    }
+
+    /**
+     * float32 행렬을 .npy (v1.0) 로 저장 (테스트/로컬 임베딩용)
+     */
+    public static void write(Path npy, float[][] rows, int dim) throws IOException {
+        String dict = "{'descr': '<f4', 'fortran_order': False, 'shape': (" + rows.length + ", " + dim + "), }";
+        int total = MAGIC.length + 4 + dict.length() + 1;
+        int pad = (64 - total % 64) % 64;
+        String header = dict + " ".repeat(pad) + "\n";
+
+        Files.createDirectories(npy.toAbsolutePath().getParent());
+        Path tmp = npy.resolveSibling(npy.getFileName() + ".tmp");
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16)) {
+            os.write(MAGIC);
+            os.write(1);
+            os.write(0);
+            os.write(header.length() & 0xff);
+            os.write((header.length() >>> 8) & 0xff);
+            os.write(header.getBytes(StandardCharsets.ISO_8859_1));
+
+            ByteBuffer row = ByteBuffer.allocate(dim * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (float[] r : rows) {
+                row.clear();
+                row.asFloatBuffer().put(r, 0, dim);
+                os.write(row.array());
+            }
+        }
+        Files.move(tmp, npy, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,8 @@
+package com.defamation.backend.service.retrieval;
+
+/**
+ * 검색 단위 패시지 (mapping.jsonl 한 줄)
+ * caseId 는 cases.id (scripts/export_judgments.py 의 id 와 같은 값, 문자열)
+ */
+public record Passage(String caseId, String pid, String text) {
+}
@@ -0,0 +1,75 @@
+package com.defamation.backend.service.retrieval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 문장 분할 / 패시지 묶기 (scripts/preprocess_passages.py 와 같은 규칙)
+ * - 문장: 마침표/물음표/느낌표/말줄임 뒤 공백 또는 줄바꿈에서 분할
+ * - 패시지: 문장을 targetChars 까지 이어 붙이고, 약 20% 겹치게 다음 패시지 시작
+ *   (파이썬은 bge-m3 토큰 200개 기준, 여기서는 글자 수로 근사)
+ */
+public final class PassageSplitter {
+
+    private static final Pattern SPLIT = Pattern.compile("(?<=[.!?…。])\\s+|[\\r\\n]+");
+    private static final Pattern CTRL = Pattern.compile("[\\x00-\\x08\\x0b-\\x1f]");
+    private static final Pattern WS = Pattern.compile("\\s+");
+    private static final int MIN_SENTENCE_CHARS = 4;
+    private static final double OVERLAP = 0.2;
+
+    private PassageSplitter() {
+    }
+
+    public static String clean(String s) {
+        if (s == null) return "";
+        s = s.replace('\u3000', ' ');
+        s = CTRL.matcher(s).replaceAll(" ");
+        return WS.matcher(s).replaceAll(" ").strip();
+    }
+
+    /**
+     * 문장 분할 (빈 조각 제외)
+     */
+    public static List<String> sentences(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isBlank()) return out;
+        for (String part : SPLIT.split(text.strip())) {
+            String p = part.strip();
+            if (!p.isEmpty()) out.add(p);
+        }
+        return out;
+    }
+
+    /**
+     * 한 사건의 본문을 패시지로 (pid = caseId:첫문장-끝문장)
+     */
+    public static List<Passage> passages(String caseId, String text, int targetChars) {
+        List<String> sents = new ArrayList<>();
+        for (String s : sentences(text)) {
+            String c = clean(s);
+            if (c.length() >= MIN_SENTENCE_CHARS) sents.add(c);
+        }
+
+        List<Passage> out = new ArrayList<>();
+        int i = 0;
+        while (i < sents.size()) {
+            StringBuilder cur = new StringBuilder();
+            int j = i;
+            while (j < sents.size()) {
+                String t = sents.get(j);
+                if (cur.length() > 0 && cur.length() + 1 + t.length() > targetChars) break;
+                if (cur.length() > 0) cur.append(' ');
+                cur.append(t);
+                j++;
+            }
+            int count = j - i;
+            out.add(new Passage(caseId, caseId + ":" + i + "-" + (j - 1), cur.toString()));
+            if (j >= sents.size()) break;
+
+            // 겹침: 대략 20% 문장은 다음 패시지에서 다시 (최소 1문장 전진)
+            i += Math.max(1, count - Math.max(1, (int) Math.round(count * OVERLAP)));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,147 @@
+package com.defamation.backend.service.retrieval;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 패시지 순번 -> 패시지 (인덱스 디렉터리의 mapping.jsonl)
+ * - BM25 / dense 인덱스의 문서 순번은 이 파일의 줄 순서와 같음
+ * - 파이썬 스크립트가 만든 mapping.jsonl 도 그대로 읽음 (case_id, pid, text 만 사용)
+ * - fingerprint 가 같으면 같은 패시지 목록 (BM25 / dense 가 같은 mapping 으로 만들어졌는지 확인용)
+ */
+public class PassageStore {
+
+    public static final String FILE_NAME = "mapping.jsonl";
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final String[] caseIds;
+    private final String[] pids;
+    private final String[] texts;
+    private final long fingerprint;
+
+    public PassageStore(List<Passage> passages) {
+        int n = passages.size();
+        caseIds = new String[n];
+        pids = new String[n];
+        texts = new String[n];
+        for (int i = 0; i < n; i++) {
+            Passage p = passages.get(i);
+            caseIds[i] = p.caseId();
+            pids[i] = p.pid();
+            texts[i] = p.text();
+        }
+        fingerprint = fingerprint(caseIds, pids, texts);
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    public Passage get(int ord) {
+        return new Passage(caseIds[ord], pids[ord], texts[ord]);
+    }
+
+    public String caseId(int ord) {
+        return caseIds[ord];
+    }
+
+    public String pid(int ord) {
+        return pids[ord];
+    }
+
+    public String text(int ord) {
+        return texts[ord];
+    }
+
+    public static PassageStore read(Path file) throws IOException {
+        List<Passage> out = new ArrayList<>();
+        try (BufferedReader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = r.readLine()) != null) {
+                if (line.isBlank()) continue;
+                out.add(parse(line));
+            }
+        }
+        return new PassageStore(out);
+    }
+
+    public static void write(Path file, Iterable<Passage> passages) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Passage p : passages) {
+                try (JsonGenerator g = JSON.createGenerator(w)) {
+                    g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    g.writeStartObject();
+                    g.writeStringField("case_id", p.caseId());
+                    g.writeStringField("pid", p.pid());
+                    g.writeStringField("text", p.text());
+                    g.writeEndObject();
+                }
+                w.newLine();
+            }
+        }
+    }
+
+    /**
+     * (case_id, pid, text) 를 순서대로 이은 SHA-256 의 앞 8바이트
+     */
+    private static long fingerprint(String[] caseIds, String[] pids, String[] texts) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (int i = 0; i < texts.length; i++) {
+            md.update(Objects.toString(caseIds[i], "").getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(Objects.toString(pids[i], "").getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(Objects.toString(texts[i], "").getBytes(StandardCharsets.UTF_8));
+            md.update((byte) '\n');
+        }
+        return ByteBuffer.wrap(md.digest()).getLong();
+    }
+
+    private static Passage parse(String line) throws IOException {
+        String caseId = null;
+        String pid = null;
+        String text = "";
+        try (JsonParser p = JSON.createParser(line)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("mapping 줄이 JSON 객체가 아님: " + line);
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String key = p.currentName();
+                JsonToken t = p.nextToken();
+                switch (key) {
+                    // case_id 는 숫자/문자열 모두 가능
+                    case "case_id" -> caseId = t == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+                    case "pid" -> pid = p.getValueAsString();
+                    case "text" -> text = p.getValueAsString("");
+                    default -> p.skipChildren();
+                }
+            }
+        }
+        return new Passage(caseId, pid, text);
+    }
+}
@@ -0,0 +1,29 @@
+package com.defamation.backend.service.retrieval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * scripts/build_bm25_index.py 의 tokenize 와 같은 토크나이저
+ * TOKEN = [ㄱ-힣A-Za-z0-9_]+ , 소문자
+ */
+public final class PassageTokenizer {
+
+    private static final Pattern TOKEN = Pattern.compile("[ㄱ-힣A-Za-z0-9_]+");
+
+    private PassageTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) return out;
+        Matcher m = TOKEN.matcher(text);
+        while (m.find()) {
+            out.add(m.group().toLowerCase(Locale.ROOT));
+        }
+        return out;
+    }
+}
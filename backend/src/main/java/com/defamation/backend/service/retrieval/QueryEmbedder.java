@@ -0,0 +1,13 @@
+package com.defamation.backend.service.retrieval;
+
+/**
+ * 질의 텍스트 -> L2 정규화된 벡터 (dense 인덱스와 같은 차원)
+ * 실제 bge-m3 임베더(로컬 ONNX, 임베딩 서버 등)는 이 인터페이스의 빈으로 교체
+ * (bge 는 질의에 "query: " 프리픽스를 붙여서 인코딩)
+ */
+public interface QueryEmbedder {
+
+    float[] embed(String text);
+
+    int dim();
+}
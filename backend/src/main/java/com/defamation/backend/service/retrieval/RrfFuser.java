@@ -0,0 +1,70 @@
+package com.defamation.backend.service.retrieval;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reciprocal Rank Fusion (search_hybrid_rerank.py 의 rrf_fuse)
+ * score(doc) = Σ 1 / (k + rank), rank 는 1부터
+ * 점수 누적은 패시지 수 크기의 float 배열 (스레드별 재사용, 세대 번호로 초기화 생략)
+ */
+public final class RrfFuser {
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private RrfFuser() {
+    }
+
+    /**
+     * @param docCount 패시지 수 (문서 순번 상한)
+     * @return 융합 점수 내림차순 전체 (동점이면 순번 오름차순)
+     */
+    public static ScoredDocs fuse(List<ScoredDocs> rankLists, int docCount, int k) {
+        Scratch s = SCRATCH.get();
+        s.ensure(docCount);
+        int gen = s.nextGeneration();
+        float[] acc = s.acc;
+        int[] stamp = s.stamp;
+        int[] touched = s.touched;
+        int touchedCount = 0;
+
+        for (ScoredDocs list : rankLists) {
+            int[] docs = list.docs();
+            for (int r = 0; r < docs.length; r++) {
+                int d = docs[r];
+                float v = 1f / (k + r + 1);
+                if (stamp[d] != gen) {
+                    stamp[d] = gen;
+                    acc[d] = v;
+                    touched[touchedCount++] = d;
+                } else {
+                    acc[d] += v;
+                }
+            }
+        }
+        return TopKHeap.select(touched, touchedCount, acc, touchedCount);
+    }
+
+    private static final class Scratch {
+        float[] acc = new float[0];
+        int[] stamp = new int[0];
+        int[] touched = new int[0];
+        int generation;
+
+        void ensure(int n) {
+            if (acc.length >= n) return;
+            acc = new float[n];
+            stamp = new int[n];
+            touched = new int[n];
+            generation = 0;
+        }
+
+        int nextGeneration() {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+            return generation;
+        }
+    }
+}
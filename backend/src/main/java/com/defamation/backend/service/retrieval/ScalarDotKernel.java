@@ -0,0 +1,40 @@
+package com.defamation.backend.service.retrieval;
+
+/**
+ * 스칼라 내적 (누산기 4개로 펼쳐서 의존 사슬을 끊음)
+ */
+final class ScalarDotKernel implements DotKernel {
+
+    @Override
+    public float dot(float[] a, float[] b, int off, int len) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (int upper = len & ~3; i < upper; i += 4) {
+            s0 += a[i] * b[off + i];
+            s1 += a[i + 1] * b[off + i + 1];
+            s2 += a[i + 2] * b[off + i + 2];
+            s3 += a[i + 3] * b[off + i + 3];
+        }
+        for (; i < len; i++) s0 += a[i] * b[off + i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public float dotInt8(float[] q, byte[] codes, int off, int len) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (int upper = len & ~3; i < upper; i += 4) {
+            s0 += q[i] * codes[off + i];
+            s1 += q[i + 1] * codes[off + i + 1];
+            s2 += q[i + 2] * codes[off + i + 2];
+            s3 += q[i + 3] * codes[off + i + 3];
+        }
+        for (; i < len; i++) s0 += q[i] * codes[off + i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
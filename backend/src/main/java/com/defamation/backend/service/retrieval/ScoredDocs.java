@@ -0,0 +1,13 @@
+package com.defamation.backend.service.retrieval;
+
+/**
+ * 검색 결과 (패시지 순번, 점수) - 점수 내림차순
+ */
+public record ScoredDocs(int[] docs, float[] scores) {
+
+    public static final ScoredDocs EMPTY = new ScoredDocs(new int[0], new float[0]);
+
+    public int size() {
+        return docs.length;
+    }
+}
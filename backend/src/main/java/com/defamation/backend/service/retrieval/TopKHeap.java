@@ -0,0 +1,111 @@
+package com.defamation.backend.service.retrieval;
+
+/**
+ * 상위 k 개 (문서 순번, 점수) 를 유지하는 primitive min-heap
+ * 점수 내림차순, 동점이면 문서 순번 오름차순
+ */
+public final class TopKHeap {
+
+    private final int[] docs;
+    private final float[] scores;
+    private int size;
+
+    public TopKHeap(int k) {
+        docs = new int[Math.max(0, k)];
+        scores = new float[Math.max(0, k)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 지금 넣으면 들어가는 최소 점수 (가득 차기 전에는 -무한대)
+     */
+    public float threshold() {
+        return size < docs.length ? Float.NEGATIVE_INFINITY : scores[0];
+    }
+
+    public void offer(int doc, float score) {
+        if (size < docs.length) {
+            docs[size] = doc;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (size > 0 && better(score, doc, scores[0], docs[0])) {
+            docs[0] = doc;
+            scores[0] = score;
+            siftDown(size);
+        }
+    }
+
+    public void addAll(ScoredDocs other) {
+        for (int i = 0; i < other.size(); i++) offer(other.docs()[i], other.scores()[i]);
+    }
+
+    /**
+     * 점수 내림차순 결과 (힙은 비워짐)
+     */
+    public ScoredDocs drain() {
+        int n = size;
+        int[] outDocs = new int[n];
+        float[] outScores = new float[n];
+        for (int i = n - 1; i >= 0; i--) {
+            outDocs[i] = docs[0];
+            outScores[i] = scores[0];
+            docs[0] = docs[i];
+            scores[0] = scores[i];
+            siftDown(i);
+        }
+        size = 0;
+        return n == 0 ? ScoredDocs.EMPTY : new ScoredDocs(outDocs, outScores);
+    }
+
+    /**
+     * candidates[0..count) 중 values[doc] 기준 상위 k 개
+     */
+    public static ScoredDocs select(int[] candidates, int count, float[] values, int k) {
+        TopKHeap heap = new TopKHeap(Math.min(k, count));
+        for (int i = 0; i < count; i++) {
+            int d = candidates[i];
+            heap.offer(d, values[d]);
+        }
+        return heap.drain();
+    }
+
+    /** a 가 b 보다 순위가 높은지 */
+    private static boolean better(float sa, int da, float sb, int db) {
+        return sa > sb || (sa == sb && da < db);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(scores[parent], docs[parent], scores[i], docs[i])) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int n) {
+        int i = 0;
+        while (true) {
+            int l = 2 * i + 1;
+            if (l >= n) break;
+            int worst = l;
+            int r = l + 1;
+            if (r < n && better(scores[l], docs[l], scores[r], docs[r])) worst = r;
+            if (!better(scores[i], docs[i], scores[worst], docs[worst])) break;
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int d = docs[i];
+        docs[i] = docs[j];
+        docs[j] = d;
+        float s = scores[i];
+        scores[i] = scores[j];
+        scores[j] = s;
+    }
+}
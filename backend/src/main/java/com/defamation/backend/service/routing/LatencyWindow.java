@@ -0,0 +1,54 @@
+package com.defamation.backend.service.routing;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근 N개 응답 지연 (나노초) 링 버퍼 - 헤지 지연(p95) 계산용
+ * 분위수는 32 샘플마다 한 번만 다시 계산 (정렬 256개)
+ */
+final class LatencyWindow {
+
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final long[] samples;
+    private final AtomicLong written = new AtomicLong();
+
+    private volatile long cachedAt = -1;
+    private volatile double cachedPercentile = -1;
+    private volatile long cachedNanos;
+
+    LatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    void record(long nanos) {
+        long n = written.getAndIncrement();
+        samples[(int) (n % samples.length)] = nanos;
+    }
+
+    long count() {
+        return Math.min(written.get(), samples.length);
+    }
+
+    /**
+     * @return 분위수 지연 (나노초), 샘플이 없으면 -1
+     */
+    long percentile(double p) {
+        long n = written.get();
+        if (n == 0) return -1;
+        if (p == cachedPercentile && cachedAt >= 0 && n - cachedAt < RECOMPUTE_EVERY) {
+            return cachedNanos;
+        }
+        int size = (int) Math.min(n, samples.length);
+        // 쓰는 중인 칸이 섞여도 근사치라 무방
+        long[] copy = Arrays.copyOf(samples, size);
+        Arrays.sort(copy);
+        int idx = Math.min(size - 1, Math.max(0, (int) Math.ceil(p * size) - 1));
+        long v = copy[idx];
+        cachedNanos = v;
+        cachedPercentile = p;
+        cachedAt = n;
+        return v;
+    }
+}
@@ -0,0 +1,327 @@
+package com.defamation.backend.service.routing;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.guard.ModelCallGuard;
+import com.defamation.backend.service.registry.ModelRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * modelId 별 복제본 라우팅
+ * - 선택: least-outstanding (진행 중 요청 수) 또는 ewma (지연 EWMA * (진행 중 + 1))
+ * - 제외: 연속 실패(passive) / 헬스 프로브 실패(active). 전부 제외되면 전체에서 선택 (panic)
+ * - 헤지: 첫 요청이 최근 p95 를 넘기거나 실패하면 다른 복제본에 한 번 더, 먼저 온 값 사용 (나머지는 취소)
+ * - 시도(첫 요청/헤지)마다 ModelCallGuard 슬롯을 따로 잡음: 헤지도 upstream 부하라 limiter 가 세야 하고,
+ *   슬롯이 없으면 헤지는 건너뜀 (거절은 복제본 실패로 세지 않음)
+ * - URL 목록은 ModelRegistry 스냅샷에서. 레지스트리가 바뀌면 복제본 집합을 새로 만들되
+ *   그대로 남은 URL 은 기존 Replica(진행 중 수/EWMA/제외 상태)를 넘겨받음
+ */
+@Slf4j
+@Component
+public class ModelRouter {
+
+    private static final int WINDOW_SIZE = 256;
+
+    private final DefamationProperties props;
+    private final WebClient modelWebClient;
+    private final ModelRegistry modelRegistry;
+    private final ModelCallGuard modelCallGuard;
+
+    private final Map<Long, ReplicaSet> sets = new ConcurrentHashMap<>();
+    private ScheduledExecutorService prober;
+
+    public ModelRouter(DefamationProperties props, WebClient modelWebClient, ModelRegistry modelRegistry,
+                       ModelCallGuard modelCallGuard) {
+        this.props = props;
+        this.modelWebClient = modelWebClient;
+        this.modelRegistry = modelRegistry;
+        this.modelCallGuard = modelCallGuard;
+    }
+
+    @PostConstruct
+    void startProbing() {
+        DefamationProperties.Routing cfg = props.getRouting();
+        if (cfg.getHealthPath() == null || cfg.getHealthPath().isBlank()) return;
+
+        prober = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "model-health-probe");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = cfg.getProbeInterval().toMillis();
+        prober.scheduleWithFixedDelay(this::probeAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopProbing() {
+        if (prober != null) prober.shutdownNow();
+    }
+
+    public boolean supports(Long modelId) {
+        return !modelRegistry.endpoints(modelId).isEmpty();
+    }
+
+    /**
+     * 배칭처럼 URL 하나가 고정돼야 하는 경로용 (첫 번째 복제본)
+     */
+    public String primaryUrl(Long modelId) {
+        List<String> urls = modelRegistry.endpoints(modelId);
+        return urls.isEmpty() ? null : urls.get(0);
+    }
+
+    /**
+     * 복제본을 골라 request(url) 실행 (필요하면 헤지)
+     */
+    public <T> Mono<T> call(Long modelId, Function<String, Mono<T>> request) {
+        return Mono.defer(() -> {
+            ReplicaSet set = set(modelId);
+            Replica first = set.pick(null);
+            if (first == null) {
+                return Mono.error(new IllegalStateException("사용 가능한 모델 서버가 없습니다. (model: " + modelId + ")"));
+            }
+
+            DefamationProperties.Routing cfg = props.getRouting();
+            if (!cfg.isHedgeEnabled() || set.replicas.size() < 2) {
+                return attempt(set, first, request);
+            }
+
+            // 첫 요청이 실패하면 지연을 기다리지 않고 바로 헤지
+            Sinks.Empty<Void> firstFailed = Sinks.empty();
+            Mono<T> primary = attempt(set, first, request)
+                    .doOnError(e -> firstFailed.tryEmitEmpty());
+
+            Mono<T> hedge = Mono.firstWithSignal(Mono.delay(set.hedgeDelay(cfg)).then(), firstFailed.asMono())
+                    .then(Mono.defer(() -> {
+                        // 헤지는 건강한 복제본으로만
+                        Replica second = set.pick(first, System.nanoTime(), true);
+                        if (second == null) return Mono.<T>empty();
+                        set.hedges.increment();
+                        return attempt(set, second, request);
+                    }));
+
+            // 먼저 값이 온 쪽 사용, 나머지 구독은 취소 (진행 중 HTTP 요청도 끊김)
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorMap(NoSuchElementException.class, ModelRouter::firstCause);
+        });
+    }
+
+    /**
+     * 둘 다 실패하면 firstWithValue 는 NoSuchElementException(cause = 합친 예외) 을 내므로 첫 요청의 예외로 되돌림
+     */
+    private static Throwable firstCause(Throwable e) {
+        if (e.getCause() == null) return e;
+        for (Throwable t : Exceptions.unwrapMultiple(e.getCause())) {
+            if (t != null && !(t instanceof NoSuchElementException)) return t;
+        }
+        return e;
+    }
+
+    private <T> Mono<T> attempt(ReplicaSet set, Replica replica, Function<String, Mono<T>> request) {
+        DefamationProperties.Routing cfg = props.getRouting();
+        return modelCallGuard.guard(set.modelId, () -> Mono.defer(() -> {
+            replica.outstanding.incrementAndGet();
+            replica.requests.increment();
+            long started = System.nanoTime();
+            return request.apply(replica.url)
+                    .doOnSuccess(v -> {
+                        long elapsed = System.nanoTime() - started;
+                        replica.observe(elapsed, cfg.getEwmaAlpha());
+                        replica.onSuccess();
+                        set.window.record(elapsed);
+                    })
+                    .doOnError(e -> {
+                        // 요청 내용 때문인 4xx 로 건강한 복제본을 빼지 않음
+                        if (!ModelCallGuard.isUpstreamFailure(e)) return;
+                        if (replica.onFailure(cfg.getEjectAfterFailures(), cfg.getEjectDuration().toNanos())) {
+                            log.warn("model replica ejected for {} (model={}, url={}): {}",
+                                    cfg.getEjectDuration(), set.modelId, replica.url, e.toString());
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        // 헤지에서 진 쪽: 최소 이만큼은 걸렸다는 뜻이라 EWMA 에만 반영
+                        replica.cancelled.increment();
+                        replica.observe(System.nanoTime() - started, cfg.getEwmaAlpha());
+                    })
+                    .doFinally(signal -> replica.outstanding.decrementAndGet());
+        }));
+    }
+
+    public List<ReplicaStatus> status() {
+        long now = System.nanoTime();
+        double p = props.getRouting().getHedgePercentile();
+        List<ReplicaStatus> out = new ArrayList<>();
+        for (Long id : modelRegistry.routableIds()) {
+            ReplicaSet set = set(id);
+            long pNanos = set.window.percentile(p);
+            for (Replica r : set.replicas) {
+                out.add(new ReplicaStatus(id, r.url, r.isHealthy(now), r.outstanding.get(),
+                        Math.round(r.ewmaMillis() * 10) / 10.0, r.requests.sum(), r.failures.sum(),
+                        r.cancelled.sum(), set.hedges.sum(), pNanos < 0 ? null : pNanos / 1_000_000));
+            }
+        }
+        return out;
+    }
+
+    // ---------- health probe ----------
+
+    private void probeAll() {
+        for (Long id : modelRegistry.routableIds()) {
+            ReplicaSet set = set(id);
+            for (Replica r : set.replicas) {
+                if (r.healthUri != null) probe(set, r);
+            }
+        }
+    }
+
+    private void probe(ReplicaSet set, Replica replica) {
+        DefamationProperties.Routing cfg = props.getRouting();
+        modelWebClient.get()
+                .uri(replica.healthUri)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(cfg.getProbeTimeout())
+                .subscribe(
+                        ok -> replica.onProbeSuccess(),
+                        e -> {
+                            if (replica.onProbeFailure(cfg.getEjectAfterFailures())) {
+                                log.warn("model replica failed health probe, ejected (model={}, url={}): {}",
+                                        set.modelId, replica.url, e.toString());
+                            }
+                        });
+    }
+
+    // ---------- replica sets ----------
+
+    /**
+     * 레지스트리 세대가 같으면 캐시된 집합 그대로 (평소엔 volatile 읽기 + 비교뿐)
+     */
+    private ReplicaSet set(Long modelId) {
+        long generation = modelRegistry.generation();
+        ReplicaSet cur = sets.get(modelId);
+        if (cur != null && cur.generation == generation) return cur;
+        return sets.compute(modelId, (id, old) -> {
+            if (old != null && old.generation == generation) return old;
+            List<String> urls = modelRegistry.endpoints(id);
+            if (old != null && old.urls.equals(urls)) return old.withGeneration(generation);
+            ReplicaSet next = rebuild(id, urls, old, generation);
+            if (old != null) log.info("model replicas changed (model={}): {} -> {}", id, old.urls, urls);
+            return next;
+        });
+    }
+
+    /**
+     * 교체 전 집합으로 시작한 호출은 자기 Replica 를 끝까지 씀 (outstanding 도 그 객체에서 감소)
+     */
+    private ReplicaSet rebuild(Long modelId, List<String> urls, ReplicaSet old, long generation) {
+        String healthPath = props.getRouting().getHealthPath();
+        Map<String, Replica> kept = new HashMap<>();
+        if (old != null) old.replicas.forEach(r -> kept.put(r.url, r));
+        List<Replica> replicas = urls.stream()
+                .map(u -> kept.containsKey(u) ? kept.get(u) : new Replica(u, healthUri(u, healthPath)))
+                .toList();
+        return old == null
+                ? new ReplicaSet(modelId, urls, replicas, new LatencyWindow(WINDOW_SIZE), new LongAdder(), generation)
+                : new ReplicaSet(modelId, urls, replicas, old.window, old.hedges, generation);
+    }
+
+    private static URI healthUri(String url, String healthPath) {
+        if (healthPath == null || healthPath.isBlank()) return null;
+        try {
+            URI u = URI.create(url);
+            return new URI(u.getScheme(), u.getAuthority(), healthPath, null, null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private final class ReplicaSet {
+        final Long modelId;
+        final List<String> urls;
+        final List<Replica> replicas;
+        final LatencyWindow window;
+        final LongAdder hedges;
+        // 만들 때 본 레지스트리 세대
+        final long generation;
+
+        ReplicaSet(Long modelId, List<String> urls, List<Replica> replicas, LatencyWindow window, LongAdder hedges,
+                   long generation) {
+            this.modelId = modelId;
+            this.urls = urls;
+            this.replicas = replicas;
+            this.window = window;
+            this.hedges = hedges;
+            this.generation = generation;
+        }
+
+        ReplicaSet withGeneration(long generation) {
+            return new ReplicaSet(modelId, urls, replicas, window, hedges, generation);
+        }
+
+        /**
+         * exclude 를 뺀 건강한 복제본 중 점수가 가장 낮은 것 (동점이면 임의)
+         */
+        Replica pick(Replica exclude) {
+            long now = System.nanoTime();
+            Replica best = pick(exclude, now, true);
+            // 전부 제외 상태면 건강 여부 무시 (아예 못 보내는 것보단 나음)
+            return best != null ? best : pick(exclude, now, false);
+        }
+
+        private Replica pick(Replica exclude, long now, boolean healthyOnly) {
+            boolean ewma = "ewma".equalsIgnoreCase(props.getRouting().getStrategy());
+            int n = replicas.size();
+            int offset = n <= 1 ? 0 : ThreadLocalRandom.current().nextInt(n);
+            Replica best = null;
+            double bestScore = Double.MAX_VALUE;
+            double bestTie = Double.MAX_VALUE;
+            for (int i = 0; i < n; i++) {
+                Replica r = replicas.get((i + offset) % n);
+                if (r == exclude || (healthyOnly && !r.isHealthy(now))) continue;
+                int inflight = r.outstanding.get();
+                double score = ewma ? r.ewmaMillis() * (inflight + 1) : inflight;
+                double tie = ewma ? inflight : r.ewmaMillis();
+                if (score < bestScore || (score == bestScore && tie < bestTie)) {
+                    best = r;
+                    bestScore = score;
+                    bestTie = tie;
+                }
+            }
+            return best;
+        }
+
+        Duration hedgeDelay(DefamationProperties.Routing cfg) {
+            if (window.count() < cfg.getHedgeMinSamples()) return cfg.getHedgeInitialDelay();
+            long p = window.percentile(cfg.getHedgePercentile());
+            return Duration.ofNanos(Math.max(p, cfg.getHedgeMinDelay().toNanos()));
+        }
+    }
+
+    /**
+     * @param hedgeDelayBaseMs 최근 응답 p(hedgePercentile) 지연 (샘플 없으면 null)
+     */
+    public record ReplicaStatus(Long modelId, String url, boolean healthy, int outstanding, double ewmaMs,
+                                long requests, long failures, long cancelled, long modelHedges,
+                                Long hedgeDelayBaseMs) {
+    }
+}
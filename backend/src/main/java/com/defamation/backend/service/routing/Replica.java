@@ -0,0 +1,85 @@
+package com.defamation.backend.service.routing;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모델 서버 복제본 1개의 상태 (진행 중 요청 수 / 지연 EWMA / 제외 여부)
+ */
+final class Replica {
+
+    final String url;
+    // null 이면 프로브 안 함
+    final URI healthUri;
+
+    final AtomicInteger outstanding = new AtomicInteger();
+    // 지연 EWMA (ms, double bits). 0 = 아직 샘플 없음
+    private final AtomicLong ewmaBits = new AtomicLong(Double.doubleToRawLongBits(0));
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger consecutiveProbeFailures = new AtomicInteger();
+    private volatile long ejectedUntilNanos;
+    private volatile boolean ejectedByProbe;
+
+    final LongAdder requests = new LongAdder();
+    final LongAdder failures = new LongAdder();
+    final LongAdder cancelled = new LongAdder();
+
+    Replica(String url, URI healthUri) {
+        this.url = url;
+        this.healthUri = healthUri;
+    }
+
+    boolean isHealthy(long now) {
+        if (ejectedByProbe) return false;
+        return ejectedUntilNanos == 0 || now - ejectedUntilNanos >= 0;
+    }
+
+    double ewmaMillis() {
+        return Double.longBitsToDouble(ewmaBits.get());
+    }
+
+    void observe(long nanos, double alpha) {
+        double sample = nanos / 1e6;
+        while (true) {
+            long bits = ewmaBits.get();
+            double old = Double.longBitsToDouble(bits);
+            double next = old == 0 ? sample : old + alpha * (sample - old);
+            if (ewmaBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) return;
+        }
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    /**
+     * 요청 실패 (passive) - 연속 N번이면 일정 시간 제외
+     */
+    boolean onFailure(int ejectAfter, long ejectNanos) {
+        failures.increment();
+        if (consecutiveFailures.incrementAndGet() >= ejectAfter) {
+            consecutiveFailures.set(0);
+            ejectedUntilNanos = System.nanoTime() + ejectNanos;
+            return true;
+        }
+        return false;
+    }
+
+    void onProbeSuccess() {
+        consecutiveProbeFailures.set(0);
+        ejectedByProbe = false;
+    }
+
+    /**
+     * 프로브 실패 - 연속 N번이면 프로브가 다시 성공할 때까지 제외
+     */
+    boolean onProbeFailure(int ejectAfter) {
+        if (consecutiveProbeFailures.incrementAndGet() >= ejectAfter && !ejectedByProbe) {
+            ejectedByProbe = true;
+            return true;
+        }
+        return false;
+    }
+}
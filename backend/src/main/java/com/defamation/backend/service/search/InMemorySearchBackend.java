@@ -0,0 +1,231 @@
+package com.defamation.backend.service.search;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.Case;
+import com.defamation.backend.domain.ClassificationRequest;
+import com.defamation.backend.repository.CaseRepository;
+import com.defamation.backend.repository.CaseSummaryView;
+import com.defamation.backend.repository.ClassificationRequestRepository;
+import com.defamation.backend.repository.ClassificationRequestSummaryView;
+import com.defamation.backend.service.ingest.CasesImportedEvent;
+import com.defamation.backend.web.dto.PageCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * JVM 내 역색인 검색 (H2/테스트 프로필용, FULLTEXT 가 없는 DB)
+ * - 새로 들어온 행(id > 마지막 적재 id)은 검색 시점에 증분 적재 (sync-interval 마다)
+ * - 같은 id 로 덮어쓴 행(일괄 적재 upsert)은 증분 적재로는 안 보이므로 적재가 끝나면 cases 색인을 다시 만듦
+ *   (분류 로그는 INSERT 만 하므로 증분 적재로 충분)
+ * - 검색 + keyset 은 id 순서를 created_at 순서 대용으로 사용 (id 는 삽입 순으로 증가)
+ * - 색인 컬럼은 MySQL FULLTEXT 인덱스(ftx_cases_text / ftx_cls_text)와 같게 유지
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "defamation.search", name = "backend", havingValue = "memory")
+public class InMemorySearchBackend implements SearchBackend {
+
+    private static final int SYNC_CHUNK = 1000;
+
+    private final DefamationProperties props;
+    private final CaseRepository caseRepository;
+    private final ClassificationRequestRepository requestRepository;
+
+    // 문서는 append 만 되므로 다시 만들 때는 새 색인으로 통째 교체
+    private volatile NgramInvertedIndex caseIndex = new NgramInvertedIndex();
+    private final NgramInvertedIndex requestIndex = new NgramInvertedIndex();
+
+    // 동기화 중 JDBC 조회를 하므로 synchronized 대신 (가상 스레드 pinning 방지)
+    private final ReentrantLock caseSyncLock = new ReentrantLock();
+    private final ReentrantLock requestSyncLock = new ReentrantLock();
+
+    private long lastCaseId;
+    private long lastRequestId;
+    private long lastCaseSync;
+    private long lastRequestSync;
+    private volatile boolean caseRebuildPending;
+
+    @Override
+    public Page<CaseSummaryView> searchCases(String q, Pageable pageable) {
+        if (q == null || q.isBlank()) {
+            return caseRepository.browse(pageable);
+        }
+        syncCases();
+        return toPage(caseIndex.search(q), pageable, caseRepository::findSummariesByIdIn, CaseSummaryView::getId);
+    }
+
+    @Override
+    public Page<ClassificationRequestSummaryView> searchRequests(String q, Pageable pageable) {
+        if (q == null || q.isBlank()) {
+            return requestRepository.browse(pageable);
+        }
+        syncRequests();
+        return toPage(requestIndex.search(q), pageable, requestRepository::findSummariesByIdIn,
+                ClassificationRequestSummaryView::getId);
+    }
+
+    @Override
+    public List<CaseSummaryView> seekCases(String q, PageCursor after, int limit) {
+        if (q == null || q.isBlank()) {
+            return caseRepository.seek(after.createdAt(), after.id(), PageRequest.of(0, limit));
+        }
+        syncCases();
+        return seekHits(caseIndex.search(q), after, limit, caseRepository::findSummariesByIdIn, CaseSummaryView::getId);
+    }
+
+    @Override
+    public List<ClassificationRequestSummaryView> seekRequests(String q, PageCursor after, int limit) {
+        if (q == null || q.isBlank()) {
+            return requestRepository.seek(after.createdAt(), after.id(), PageRequest.of(0, limit));
+        }
+        syncRequests();
+        return seekHits(requestIndex.search(q), after, limit, requestRepository::findSummariesByIdIn,
+                ClassificationRequestSummaryView::getId);
+    }
+
+    @Override
+    public long countCases(String q) {
+        if (q == null || q.isBlank()) return caseRepository.countByIsDeletedFalse();
+        syncCases();
+        return caseIndex.search(q).size();
+    }
+
+    @Override
+    public long countRequests(String q) {
+        if (q == null || q.isBlank()) return requestRepository.countByIsDeletedFalse();
+        syncRequests();
+        return requestIndex.search(q).size();
+    }
+
+    /**
+     * 일괄 적재 완료: 다음 검색에서 cases 색인을 처음부터 다시 만들도록 표시만 (적재 스레드를 붙잡지 않음)
+     */
+    @EventListener
+    public void onCasesImported(CasesImportedEvent event) {
+        caseRebuildPending = true;
+    }
+
+    private void syncCases() {
+        caseSyncLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            boolean rebuild = caseRebuildPending;
+            if (!rebuild && now - lastCaseSync < props.getSearch().getSyncInterval().toMillis()) return;
+            lastCaseSync = now;
+            // 다시 만드는 중에 끝난 적재가 있으면 플래그가 다시 켜져서 다음 검색에서 한 번 더
+            caseRebuildPending = false;
+            try {
+                if (rebuild) {
+                    NgramInvertedIndex rebuilt = new NgramInvertedIndex();
+                    lastCaseId = loadCases(rebuilt, 0);
+                    caseIndex = rebuilt;
+                } else {
+                    lastCaseId = loadCases(caseIndex, lastCaseId);
+                }
+            } catch (RuntimeException e) {
+                // 일부만 추가된 색인에 이어 붙이면 중복 문서가 생기므로 다음에는 처음부터
+                caseRebuildPending = true;
+                throw e;
+            }
+        } finally {
+            caseSyncLock.unlock();
+        }
+    }
+
+    private long loadCases(NgramInvertedIndex index, long after) {
+        long last = after;
+        List<Case> chunk;
+        do {
+            chunk = caseRepository.findByIdGreaterThanOrderByIdAsc(last, PageRequest.of(0, SYNC_CHUNK));
+            for (Case c : chunk) {
+                index.add(c.getId(), String.join(" ",
+                        Objects.toString(c.getProblemSituation(), ""),
+                        Objects.toString(c.getDefendant(), ""),
+                        Objects.toString(c.getSentenceReason(), ""),
+                        Objects.toString(c.getCaseNames(), "")));
+                last = c.getId();
+            }
+        } while (chunk.size() == SYNC_CHUNK);
+        return last;
+    }
+
+    private void syncRequests() {
+        requestSyncLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now - lastRequestSync < props.getSearch().getSyncInterval().toMillis()) return;
+            lastRequestSync = now;
+
+            List<ClassificationRequest> chunk;
+            do {
+                chunk = requestRepository.findByIdGreaterThanOrderByIdAsc(lastRequestId, PageRequest.of(0, SYNC_CHUNK));
+                for (ClassificationRequest r : chunk) {
+                    requestIndex.add(r.getId(), String.join(" ",
+                            Objects.toString(r.getProblemSituation(), ""),
+                            Objects.toString(r.getSentenceReason(), ""),
+                            Objects.toString(r.getSentenceAdditionalOrder(), "")));
+                    lastRequestId = r.getId();
+                }
+            } while (chunk.size() == SYNC_CHUNK);
+        } finally {
+            requestSyncLock.unlock();
+        }
+    }
+
+    /**
+     * 점수순 id 목록에서 해당 페이지만 요약 projection 으로 읽어서 (삭제된 행은 쿼리에서 제외) 순서대로 반환
+     */
+    private static <T> Page<T> toPage(List<NgramInvertedIndex.Hit> hits, Pageable pageable,
+                                      Function<List<Long>, List<T>> loader,
+                                      Function<T, Long> idOf) {
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) ids.add(hits.get(i).docId());
+
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : loader.apply(ids)) byId.put(idOf.apply(row), row);
+
+        List<T> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) content.add(row);
+        }
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    /**
+     * 검색 결과 중 cursor id 보다 작은 것을 id 내림차순으로 limit 개
+     */
+    private static <T> List<T> seekHits(List<NgramInvertedIndex.Hit> hits, PageCursor after, int limit,
+                                        Function<List<Long>, List<T>> loader,
+                                        Function<T, Long> idOf) {
+        List<Long> ids = hits.stream()
+                .map(NgramInvertedIndex.Hit::docId)
+                .filter(id -> id < after.id())
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .toList();
+
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : loader.apply(ids)) byId.put(idOf.apply(row), row);
+
+        List<T> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) content.add(row);
+        }
+        return content;
+    }
+}
@@ -0,0 +1,44 @@
+package com.defamation.backend.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * MySQL ngram parser(ngram_token_size=2)와 같은 방식의 문자 bigram 토크나이저
+ * - 글자/숫자가 아닌 문자로 어절을 나누고, 어절마다 연속 2글자씩
+ * - 1글자 어절은 그대로 1개 토큰
+ */
+public final class KoreanNgramTokenizer {
+
+    private KoreanNgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        return tokenize(text, 2);
+    }
+
+    public static List<String> tokenize(String text, int n) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) return out;
+
+        String s = text.toLowerCase(Locale.ROOT);
+        int len = s.length();
+        int i = 0;
+        while (i < len) {
+            while (i < len && !Character.isLetterOrDigit(s.charAt(i))) i++;
+            int start = i;
+            while (i < len && Character.isLetterOrDigit(s.charAt(i))) i++;
+            int wordLen = i - start;
+            if (wordLen == 0) continue;
+            if (wordLen < n) {
+                out.add(s.substring(start, i));
+            } else {
+                for (int j = start; j + n <= i; j++) {
+                    out.add(s.substring(j, j + n));
+                }
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,71 @@
+package com.defamation.backend.service.search;
+
+import com.defamation.backend.repository.CaseRepository;
+import com.defamation.backend.repository.CaseSummaryView;
+import com.defamation.backend.repository.ClassificationRequestRepository;
+import com.defamation.backend.repository.ClassificationRequestSummaryView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import com.defamation.backend.web.dto.PageCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색: MATCH ... AGAINST 로 ftx_cases_text / ftx_cls_text 인덱스 사용
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "defamation.search", name = "backend", havingValue = "mysql", matchIfMissing = true)
+public class MySqlFullTextSearchBackend implements SearchBackend {
+
+    private final CaseRepository caseRepository;
+    private final ClassificationRequestRepository requestRepository;
+
+    @Override
+    public Page<CaseSummaryView> searchCases(String q, Pageable pageable) {
+        if (q == null || q.isBlank()) {
+            return caseRepository.browse(pageable);
+        }
+        return caseRepository.fullTextSearch(q.trim(), pageable);
+    }
+
+    @Override
+    public Page<ClassificationRequestSummaryView> searchRequests(String q, Pageable pageable) {
+        if (q == null || q.isBlank()) {
+            return requestRepository.browse(pageable);
+        }
+        return requestRepository.fullTextSearch(q.trim(), pageable);
+    }
+
+    @Override
+    public List<CaseSummaryView> seekCases(String q, PageCursor after, int limit) {
+        PageRequest first = PageRequest.of(0, limit);
+        if (q == null || q.isBlank()) {
+            return caseRepository.seek(after.createdAt(), after.id(), first);
+        }
+        return caseRepository.seekFullText(q.trim(), after.createdAt(), after.id(), first);
+    }
+
+    @Override
+    public List<ClassificationRequestSummaryView> seekRequests(String q, PageCursor after, int limit) {
+        PageRequest first = PageRequest.of(0, limit);
+        if (q == null || q.isBlank()) {
+            return requestRepository.seek(after.createdAt(), after.id(), first);
+        }
+        return requestRepository.seekFullText(q.trim(), after.createdAt(), after.id(), first);
+    }
+
+    @Override
+    public long countCases(String q) {
+        return (q == null || q.isBlank()) ? caseRepository.countByIsDeletedFalse() : caseRepository.countFullText(q.trim());
+    }
+
+    @Override
+    public long countRequests(String q) {
+        return (q == null || q.isBlank()) ? requestRepository.countByIsDeletedFalse() : requestRepository.countFullText(q.trim());
+    }
+}
@@ -0,0 +1,122 @@
+package com.defamation.backend.service.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * JVM 내 역색인 (문자 bigram)
+ * - postings 는 int 배열 (문서 순번, tf)
+ * - 질의 bigram 을 모두 포함하는 문서만 (LIKE '%q%' 와 비슷한 필터), BM25 로 정렬
+ * - 문서는 append 만 (삭제는 조회 시점에 걸러냄)
+ */
+public class NgramInvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    private long[] docIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private long totalLength;
+
+    public void add(long docId, String text) {
+        List<String> tokens = KoreanNgramTokenizer.tokenize(text);
+        Map<String, Integer> tf = new HashMap<>();
+        for (String t : tokens) tf.merge(t, 1, Integer::sum);
+
+        lock.writeLock().lock();
+        try {
+            if (docCount == docIds.length) {
+                docIds = Arrays.copyOf(docIds, docCount * 2);
+                docLengths = Arrays.copyOf(docLengths, docCount * 2);
+            }
+            int ord = docCount++;
+            docIds[ord] = docId;
+            docLengths[ord] = tokens.size();
+            totalLength += tokens.size();
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new Postings()).add(ord, e.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 bigram 을 모두 포함하는 문서를 점수 내림차순으로 (동점이면 id 내림차순)
+     */
+    public List<Hit> search(String query) {
+        Set<String> terms = new LinkedHashSet<>(KoreanNgramTokenizer.tokenize(query));
+        if (terms.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String t : terms) {
+                Postings p = postings.get(t);
+                if (p == null) return List.of();
+                lists.add(p);
+            }
+            // 가장 짧은 postings 부터 교집합
+            lists.sort(Comparator.comparingInt(p -> p.size));
+
+            float avgLen = docCount == 0 ? 1f : (float) totalLength / docCount;
+            float[] scores = new float[docCount];
+            int[] matched = new int[docCount];
+
+            for (Postings p : lists) {
+                float idf = (float) Math.log(1 + (docCount - p.size + 0.5) / (p.size + 0.5));
+                for (int i = 0; i < p.size; i++) {
+                    int ord = p.docs[i];
+                    int tf = p.tfs[i];
+                    float norm = K1 * (1 - B + B * docLengths[ord] / avgLen);
+                    scores[ord] += idf * (tf * (K1 + 1)) / (tf + norm);
+                    matched[ord]++;
+                }
+            }
+
+            int need = lists.size();
+            Postings rarest = lists.get(0);
+            List<Hit> hits = new ArrayList<>();
+            for (int i = 0; i < rarest.size; i++) {
+                int ord = rarest.docs[i];
+                if (matched[ord] == need) hits.add(new Hit(docIds[ord], scores[ord]));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(Comparator.comparingLong(Hit::docId).reversed()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Hit(long docId, float score) {}
+
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] tfs = new int[4];
+        int size;
+
+        void add(int ord, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = ord;
+            tfs[size] = tf;
+            size++;
+        }
+    }
+}
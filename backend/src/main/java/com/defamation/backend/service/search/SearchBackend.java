@@ -0,0 +1,35 @@
+package com.defamation.backend.service.search;
+
+import com.defamation.backend.repository.CaseSummaryView;
+import com.defamation.backend.repository.ClassificationRequestSummaryView;
+import com.defamation.backend.web.dto.PageCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 판례/분류 로그 텍스트 검색 백엔드
+ * - q 가 비어 있으면 최신순 목록
+ * - q 가 있으면 관련도 순 (동점은 최신순)
+ * - 목록 응답은 요약 projection (긴 본문 컬럼 제외)
+ * defamation.search.backend = mysql | memory
+ */
+public interface SearchBackend {
+
+    Page<CaseSummaryView> searchCases(String q, Pageable pageable);
+
+    Page<ClassificationRequestSummaryView> searchRequests(String q, Pageable pageable);
+
+    /**
+     * keyset 페이지: after 보다 뒤인 행을 (created_at, id) 내림차순으로 최대 limit 개
+     * (q 가 있으면 검색 조건만 적용하고 정렬은 동일)
+     */
+    List<CaseSummaryView> seekCases(String q, PageCursor after, int limit);
+
+    List<ClassificationRequestSummaryView> seekRequests(String q, PageCursor after, int limit);
+
+    long countCases(String q);
+
+    long countRequests(String q);
+}
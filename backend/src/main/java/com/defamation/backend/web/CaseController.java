@@ -1,24 +1,98 @@
 package com.defamation.backend.web;
 
+import com.defamation.backend.config.DefamationProperties;
 import com.defamation.backend.service.CaseService;
+import com.defamation.backend.service.retrieval.IndexNotReadyException;
 import com.defamation.backend.web.dto.CaseDto;
 import com.defamation.backend.web.dto.PageResponse;
+import com.defamation.backend.web.dto.SimilarCasesResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/cases")
 @RequiredArgsConstructor
 public class CaseController {
 
     private final CaseService caseService;
+    private final DefamationProperties properties;
 
     @GetMapping
     public PageResponse<CaseDto> getCases(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "10") int size,
-            @RequestParam(name = "q", required = false) String q
+            @RequestParam(name = "q", required = false) String q,
+            // cursor 파라미터가 있으면 keyset 모드 (빈 값 = 첫 페이지)
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "exactTotal", defaultValue = "false") boolean exactTotal,
+            // true 면 근접 중복 판례를 한 건으로 묶음 (nearDuplicateIds)
+            @RequestParam(name = "collapse", defaultValue = "false") boolean collapse
+    ) {
+        checkPageSize(size);
+        if (cursor != null) {
+            return caseService.seekCases(q, cursor, size, exactTotal, collapse);
+        }
+        return caseService.searchCases(q, page, size, collapse);
+    }
+
+    /**
+     * 상세 조회 (목록 항목 + 목록에는 없는 sentenceAdditionalOrder)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getOne(@PathVariable("id") Long id) {
+        return caseService.getCase(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("message", "판례를 찾을 수 없습니다.")));
+    }
+
+    /**
+     * 유사 판례 (BM25 + dense 하이브리드, 사건 단위 집계)
+     */
+    @GetMapping("/similar")
+    public SimilarCasesResponse similar(
+            @RequestParam(name = "q") String q,
+            @RequestParam(name = "k", defaultValue = "0") int k
     ) {
-        return caseService.searchCases(q, page, size);
+        return searchSimilar(q, k);
+    }
+
+    // 긴 사건 서술은 URL 에 담기 어려워서 POST 도 지원
+    @PostMapping("/similar")
+    public SimilarCasesResponse similarPost(@RequestBody Map<String, Object> body) {
+        Object query = body.get("query");
+        Object k = body.get("k");
+        return searchSimilar(query == null ? null : query.toString(),
+                k instanceof Number n ? n.intValue() : 0);
+    }
+
+    // size <= 0 이면 keyset 모드에서 page.get(-1), 음수 LIMIT 등으로 500 이 나므로 미리 400
+    private void checkPageSize(int size) {
+        int max = properties.getPaging().getMaxPageSize();
+        if (size < 1 || size > max) {
+            throw new IllegalArgumentException("size 는 1 ~ " + max + " 사이여야 합니다.");
+        }
+    }
+
+    private SimilarCasesResponse searchSimilar(String q, int k) {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("query 가 비어 있습니다.");
+        }
+        int top = k > 0 ? Math.min(k, 50) : properties.getRetrieval().getTopCases();
+        return caseService.similarCases(q, top);
+    }
+
+    @ExceptionHandler(IndexNotReadyException.class)
+    public ResponseEntity<Map<String, String>> handleNotReady(IndexNotReadyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("message", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
     }
 }
@@ -0,0 +1,50 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.service.ingest.CaseBulkImporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+public class CaseImportController {
+
+    private final CaseBulkImporter importer;
+
+    /**
+     * POST /api/admin/import/cases
+     * body: { "path": "merged_dataset.jsonl", "resume": true }
+     * 백그라운드로 적재 시작 (path 는 defamation.ingest.base-dir 기준)
+     */
+    @PostMapping("/cases")
+    public ResponseEntity<?> importCases(@RequestBody Map<String, Object> body) {
+        try {
+            Object path = body.get("path");
+            boolean resume = Boolean.TRUE.equals(body.get("resume"));
+            CaseBulkImporter.Progress progress = importer.start(
+                    importer.resolve(path == null ? null : path.toString()), resume);
+            return ResponseEntity.accepted().body(progress);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (CaseBulkImporter.ImportInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/admin/import/cases
+     * 진행 중이거나 마지막 적재의 진행 상황
+     */
+    @GetMapping("/cases")
+    public ResponseEntity<?> progress() {
+        CaseBulkImporter.Progress progress = importer.progress();
+        if (progress == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", "적재 기록이 없습니다."));
+        }
+        return ResponseEntity.ok(progress);
+    }
+}
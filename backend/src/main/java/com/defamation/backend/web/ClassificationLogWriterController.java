@@ -0,0 +1,22 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.service.ClassificationLogWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/log-writer")
+@RequiredArgsConstructor
+public class ClassificationLogWriterController {
+
+    private final ClassificationLogWriter logWriter;
+
+    /**
+     * GET /api/admin/log-writer/stats
+     * 큐 깊이, flush 지연, spill/drop 건수
+     */
+    @GetMapping("/stats")
+    public ClassificationLogWriter.Stats getStats() {
+        return logWriter.stats();
+    }
+}
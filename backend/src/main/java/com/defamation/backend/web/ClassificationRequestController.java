@@ -1,24 +1,61 @@
 package com.defamation.backend.web;
 
+import com.defamation.backend.config.DefamationProperties;
 import com.defamation.backend.service.ClassificationRequestService;
 import com.defamation.backend.web.dto.ClassificationRequestDto;
 import com.defamation.backend.web.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/classification-requests")
 @RequiredArgsConstructor
 public class ClassificationRequestController {
 
     private final ClassificationRequestService classificationRequestService;
+    private final DefamationProperties properties;
 
     @GetMapping
     public PageResponse<ClassificationRequestDto> getClassificationRequests(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "10") int size,
-            @RequestParam(name = "q", required = false) String q
+            @RequestParam(name = "q", required = false) String q,
+            // cursor 파라미터가 있으면 keyset 모드 (빈 값 = 첫 페이지)
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "exactTotal", defaultValue = "false") boolean exactTotal
     ) {
+        checkPageSize(size);
+        if (cursor != null) {
+            return classificationRequestService.seekRequests(q, cursor, size, exactTotal);
+        }
         return classificationRequestService.searchRequests(q, page, size);
     }
+
+    /**
+     * 상세 조회 (목록 항목 + 목록에는 없는 sentenceAdditionalOrder, similarCaseIds)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getOne(@PathVariable("id") Long id) {
+        return classificationRequestService.getRequest(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("message", "분류 로그를 찾을 수 없습니다.")));
+    }
+
+    // size <= 0 이면 keyset 모드에서 page.get(-1), 음수 LIMIT 등으로 500 이 나므로 미리 400
+    private void checkPageSize(int size) {
+        int max = properties.getPaging().getMaxPageSize();
+        if (size < 1 || size > max) {
+            throw new IllegalArgumentException("size 는 1 ~ " + max + " 사이여야 합니다.");
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
 }
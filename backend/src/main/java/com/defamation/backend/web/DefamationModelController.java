@@ -1,7 +1,7 @@
 package com.defamation.backend.web;
 
-import com.defamation.backend.domain.Model;
 import com.defamation.backend.service.DefamationModelService;
+import com.defamation.backend.web.dto.ModelDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,7 +19,7 @@ public class DefamationModelController {
      * enabled=1 인 모델 목록 반환
      */
     @GetMapping("/models")
-    public List<Model> getModels() {
+    public List<ModelDto> getModels() {
         return defamationModelService.getEnabledModels();
     }
 }
@@ -1,11 +1,20 @@
 package com.defamation.backend.web;
 
+import com.defamation.backend.config.DefamationProperties;
 import com.defamation.backend.service.DefamationPredictService;
+import com.defamation.backend.service.DefamationStreamService;
+import com.defamation.backend.service.PredictBatcher;
+import com.defamation.backend.service.dedup.NearDuplicateService;
+import com.defamation.backend.service.guard.ModelCallGuard;
 import com.defamation.backend.web.dto.PredictRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
@@ -14,22 +23,92 @@ import java.util.Map;
 public class DefamationPredictController {
 
     private final DefamationPredictService service;
+    private final DefamationStreamService streamService;
+    private final DefamationProperties props;
 
+    /**
+     * 비동기 처리: 모델 응답을 기다리는 동안 서블릿 스레드를 반납
+     * withSimilar=true 면 유사 판례(similar_cases)도 같이 (검색은 모델 호출과 병렬)
+     */
     @PostMapping("/predict")
-    public ResponseEntity<?> predict(@RequestBody PredictRequest req) {
+    public Mono<ResponseEntity<?>> predict(@RequestBody PredictRequest req) {
         if (req.getInputs() == null || req.getInputs().isBlank()) {
-            return ResponseEntity.badRequest().body(Map.of("message", "inputs가 비어 있습니다."));
+            return Mono.just(ResponseEntity.badRequest().body(Map.of("message", "inputs가 비어 있습니다.")));
         }
         if (req.getModelId() == null) {
-            return ResponseEntity.badRequest().body(Map.of("message", "modelId가 필요합니다."));
+            return Mono.just(ResponseEntity.badRequest().body(Map.of("message", "modelId가 필요합니다.")));
         }
 
-        try {
-            String generated = service.predictAndSave(req.getModelId(), req.getInputs());
-            return ResponseEntity.ok(Map.of("generated_text", generated));
-        } catch (DefamationPredictService.UnsupportedModelException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(Map.of("message", e.getMessage()));
+        Mono<ResponseEntity<?>> call;
+        if (req.isWithSimilar()) {
+            int k = req.getSimilarK() != null && req.getSimilarK() > 0
+                    ? Math.min(req.getSimilarK(), 50)
+                    : props.getRetrieval().getTopCases();
+            call = service.predictWithSimilar(req.getModelId(), req.getInputs(), k)
+                    .<ResponseEntity<?>>map(r -> {
+                        Map<String, Object> body = new LinkedHashMap<>();
+                        body.put("generated_text", r.generatedText());
+                        body.put("similar_cases", r.similar().getItems());
+                        body.put("similar_timings_ms", r.similar().getTimingsMs());
+                        putNearDuplicate(body, r.nearDuplicate());
+                        return ResponseEntity.ok(body);
+                    });
+        } else {
+            call = service.predict(req.getModelId(), req.getInputs())
+                    .<ResponseEntity<?>>map(r -> {
+                        Map<String, Object> body = new LinkedHashMap<>();
+                        body.put("generated_text", r.generatedText());
+                        putNearDuplicate(body, r.nearDuplicate());
+                        return ResponseEntity.ok(body);
+                    });
         }
+
+        return call
+                .onErrorResume(DefamationPredictService.UnsupportedModelException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                .body(Map.of("message", e.getMessage()))))
+                .onErrorResume(PredictBatcher.QueueFullException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .body(Map.of("message", e.getMessage()))))
+                .onErrorResume(ModelCallGuard.UpstreamUnavailableException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds()))
+                                .body(Map.of("message", e.getMessage()))));
+    }
+
+    /**
+     * 같은 모델의 근접 중복 요청이 있었으면
+     * "near_duplicate_of": {"input_hash": "...", "distance": 2, "verdict_reused": true}
+     */
+    private static void putNearDuplicate(Map<String, Object> body, NearDuplicateService.Match near) {
+        if (near == null) return;
+        body.put("near_duplicate_of", Map.of(
+                "input_hash", near.inputHash(),
+                "distance", near.distance(),
+                "verdict_reused", near.verdictReused()));
+    }
+
+    /**
+     * 스트리밍 predict (SSE)
+     * event: token  -> 생성 토큰 조각
+     * event: field  -> {"name": "판단", "value": "유죄"} (필드가 닫히는 즉시)
+     * event: done   -> {"generated_text": "..."} (저장 완료 후)
+     * event: error  -> {"message": "..."}
+     */
+    @PostMapping(value = "/predict/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> predictStream(@RequestBody PredictRequest req) {
+        if (req.getInputs() == null || req.getInputs().isBlank()) {
+            return Flux.just(errorEvent("inputs가 비어 있습니다."));
+        }
+        if (req.getModelId() == null) {
+            return Flux.just(errorEvent("modelId가 필요합니다."));
+        }
+
+        return streamService.stream(req.getModelId(), req.getInputs())
+                .onErrorResume(e -> Flux.just(errorEvent(e.getMessage())));
+    }
+
+    private static ServerSentEvent<Object> errorEvent(String message) {
+        return ServerSentEvent.<Object>builder(Map.of("message", String.valueOf(message))).event("error").build();
     }
 }
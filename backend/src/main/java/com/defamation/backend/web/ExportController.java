@@ -0,0 +1,117 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.config.ExportAsyncConfig;
+import com.defamation.backend.service.export.ExportPermits;
+import com.defamation.backend.service.export.JsonlExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 재학습용 JSONL 내보내기 (scripts/export_judgments.py 의 배치 조회 대체)
+ * - 응답을 DB 커서에서 바로 흘려 보냄 (서버 메모리/DB 부담이 행 수와 무관)
+ * - gzip=true 면 .jsonl.gz 파일로
+ * - 동시 내보내기는 defamation.export.max-concurrent 건까지 (넘으면 503 + Retry-After)
+ * 예) curl -o cases.jsonl.gz "http://localhost:8080/api/export/cases?from=2024-01-01&judgment=유죄&gzip=true"
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType JSONL = MediaType.parseMediaType("application/x-ndjson;charset=UTF-8");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final int GZIP_BUFFER = 64 * 1024;
+
+    private final JsonlExportService exportService;
+    private final ExportPermits exportPermits;
+    private final DefamationProperties props;
+
+    /**
+     * GET /api/export/cases?from=&to=&judgment=&label=&gzip=
+     */
+    @GetMapping("/cases")
+    public ResponseEntity<StreamingResponseBody> cases(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "judgment", required = false) String judgment,
+            @RequestParam(name = "label", required = false) Integer label,
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip,
+            HttpServletRequest request
+    ) {
+        JsonlExportService.Query query = exportService.cases(
+                new JsonlExportService.Filter(from, to, null, judgment, label));
+        return stream(request, query, gzip);
+    }
+
+    /**
+     * GET /api/export/classification-requests?from=&to=&modelId=&judgment=&includeGenerated=&gzip=
+     */
+    @GetMapping("/classification-requests")
+    public ResponseEntity<StreamingResponseBody> classificationRequests(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "modelId", required = false) Long modelId,
+            @RequestParam(name = "judgment", required = false) String judgment,
+            @RequestParam(name = "includeGenerated", defaultValue = "false") boolean includeGenerated,
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip,
+            HttpServletRequest request
+    ) {
+        JsonlExportService.Query query = exportService.classificationRequests(
+                new JsonlExportService.Filter(from, to, modelId, judgment, null), includeGenerated);
+        return stream(request, query, gzip);
+    }
+
+    /**
+     * 쿼리는 여기까지 검증됨 (잘못된 필터는 400), 이후 실패는 이미 200 이 나간 뒤라 스트림이 끊기는 것으로만 보임
+     */
+    private ResponseEntity<StreamingResponseBody> stream(HttpServletRequest request, JsonlExportService.Query query,
+                                                         boolean gzip) {
+        ExportPermits.Permit permit = exportPermits.acquire();
+        // predict 용 비동기 타임아웃(120s) 대신 내보내기 상한
+        request.setAttribute(ExportAsyncConfig.TIMEOUT_ATTRIBUTE, props.getExport().getTimeout());
+        // 본문이 끝나면 반납, 본문이 실행되지 못하고 요청이 끝나도 비동기 완료 시 반납
+        request.setAttribute(ExportAsyncConfig.PERMIT_ATTRIBUTE, permit);
+
+        String filename = query.target() + "-" + LocalDate.now() + (gzip ? ".jsonl.gz" : ".jsonl");
+        StreamingResponseBody body = out -> {
+            try (permit) {
+                if (gzip) {
+                    GZIPOutputStream zip = new GZIPOutputStream(out, GZIP_BUFFER);
+                    exportService.write(query, zip);
+                    zip.finish();
+                } else {
+                    exportService.write(query, out);
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : JSONL)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    @ExceptionHandler(ExportPermits.ExportBusyException.class)
+    public ResponseEntity<Map<String, String>> handleBusy(ExportPermits.ExportBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds()))
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.service.guard.ModelCallGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/model-guard")
+@RequiredArgsConstructor
+public class ModelGuardController {
+
+    private final ModelCallGuard modelCallGuard;
+
+    /**
+     * GET /api/admin/model-guard
+     * modelId 별 브레이커 상태 / 현재 동시성 limit / 진행 중 호출 / 거절 수
+     */
+    @GetMapping
+    public List<ModelCallGuard.Snapshot> getSnapshot() {
+        return modelCallGuard.snapshot();
+    }
+
+    /**
+     * POST /api/admin/model-guard/{modelId}/reset
+     * 브레이커 강제 닫기
+     */
+    @PostMapping("/{modelId}/reset")
+    public ResponseEntity<?> reset(@PathVariable("modelId") Long modelId) {
+        if (!modelCallGuard.reset(modelId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("message", "아직 호출된 적 없는 model입니다: " + modelId));
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.service.registry.ModelRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/model-registry")
+@RequiredArgsConstructor
+public class ModelRegistryController {
+
+    private final ModelRegistry modelRegistry;
+
+    /**
+     * GET /api/admin/model-registry
+     * 현재 스냅샷 (모델별 URL / 동시성 상한 / 출처, version)
+     */
+    @GetMapping
+    public ModelRegistry.Snapshot getSnapshot() {
+        return modelRegistry.snapshot();
+    }
+
+    /**
+     * POST /api/admin/model-registry/reload
+     * models 테이블 다시 읽기 (재시작 없이 복제본 추가/모델 비활성화 반영)
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        try {
+            return ResponseEntity.ok(modelRegistry.reload("admin"));
+        } catch (RuntimeException e) {
+            log.warn("model registry reload failed", e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("message", "models 테이블을 읽지 못해 기존 설정을 유지합니다."));
+        }
+    }
+}
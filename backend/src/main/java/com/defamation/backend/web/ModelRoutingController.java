@@ -0,0 +1,24 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.service.routing.ModelRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/model-routing")
+@RequiredArgsConstructor
+public class ModelRoutingController {
+
+    private final ModelRouter modelRouter;
+
+    /**
+     * GET /api/admin/model-routing
+     * 복제본별 상태 (건강 여부, 진행 중 요청, 지연 EWMA, 헤지 횟수)
+     */
+    @GetMapping
+    public List<ModelRouter.ReplicaStatus> getStatus() {
+        return modelRouter.status();
+    }
+}
@@ -0,0 +1,48 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.service.dedup.NearDuplicateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/near-duplicates")
+@RequiredArgsConstructor
+public class NearDuplicateController {
+
+    private final NearDuplicateService nearDuplicates;
+
+    /**
+     * GET /api/admin/near-duplicates/stats
+     * 인덱스에 올라간 판례/요청 서명 수
+     */
+    @GetMapping("/stats")
+    public NearDuplicateService.Stats stats() {
+        return nearDuplicates.stats();
+    }
+
+    /**
+     * GET /api/admin/near-duplicates/cases/{id}
+     * 이 판례와 근접 중복인 판례 id (가까운 순)
+     */
+    @GetMapping("/cases/{id}")
+    public Map<String, Object> nearCases(@PathVariable("id") Long id) {
+        return Map.of("case_id", id, "near_duplicate_ids", nearDuplicates.nearCases(id));
+    }
+
+    /**
+     * POST /api/admin/near-duplicates/backfill
+     * simhash 가 비어 있는 기존 cases / classification_requests 행 채우기 (동기)
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<?> backfill() {
+        try {
+            return ResponseEntity.ok(nearDuplicates.backfill());
+        } catch (NearDuplicateService.BackfillInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.service.PredictionCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/prediction-cache")
+@RequiredArgsConstructor
+public class PredictionCacheController {
+
+    private final PredictionCache predictionCache;
+
+    /**
+     * GET /api/admin/prediction-cache/stats
+     * 히트/미스/eviction 카운터 (캐시 크기 산정용)
+     */
+    @GetMapping("/stats")
+    public PredictionCache.Stats getStats() {
+        return predictionCache.stats();
+    }
+
+    /**
+     * DELETE /api/admin/prediction-cache
+     * in-process tier 비우기
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        predictionCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.service.ingest.CaseBulkImporter;
+import com.defamation.backend.service.retrieval.Bm25RetrievalService;
+import com.defamation.backend.service.retrieval.DenseRetrievalService;
+import com.defamation.backend.service.retrieval.IndexNotReadyException;
+import com.defamation.backend.service.retrieval.PassageStore;
+import com.defamation.backend.service.retrieval.ScoredDocs;
+import com.defamation.backend.web.dto.PassageHitDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class RetrievalController {
+
+    private static final int SNIPPET_CHARS = 200;
+
+    private final Bm25RetrievalService bm25;
+    private final DenseRetrievalService dense;
+    private final CaseBulkImporter importer;
+
+    /**
+     * GET /api/retrieval/bm25?q=...&k=10
+     * 패시지 BM25 top-k (took = 검색 시간, 마이크로초)
+     */
+    @GetMapping("/api/retrieval/bm25")
+    public ResponseEntity<?> searchBm25(
+            @RequestParam(name = "q") String q,
+            @RequestParam(name = "k", defaultValue = "10") int k
+    ) {
+        Bm25RetrievalService.Loaded loaded = bm25.current();
+        long started = System.nanoTime();
+        ScoredDocs hits = loaded.index().search(q, Math.min(Math.max(k, 1), 1000));
+        long tookMicros = (System.nanoTime() - started) / 1000;
+
+        return ResponseEntity.ok(Map.of("tookMicros", tookMicros, "items", toItems(hits, loaded.passages())));
+    }
+
+    /**
+     * POST /api/retrieval/dense
+     * body: { "vector": [...] } 또는 { "text": "..." } (QueryEmbedder 로 임베딩), "k": 10
+     */
+    @PostMapping("/api/retrieval/dense")
+    public ResponseEntity<?> searchDense(@RequestBody Map<String, Object> body) {
+        DenseRetrievalService.Loaded loaded = dense.current();
+        int k = Math.min(Math.max(intOr(body.get("k"), 10), 1), 1000);
+
+        float[] query;
+        if (body.get("vector") instanceof List<?> values) {
+            query = new float[values.size()];
+            for (int i = 0; i < query.length; i++) {
+                if (!(values.get(i) instanceof Number num)) {
+                    throw new IllegalArgumentException("vector 는 숫자 배열이어야 합니다.");
+                }
+                query[i] = num.floatValue();
+            }
+        } else if (body.get("text") instanceof String text && !text.isBlank()) {
+            query = dense.embedder().embed(text);
+        } else {
+            throw new IllegalArgumentException("vector 또는 text 가 필요합니다.");
+        }
+
+        long started = System.nanoTime();
+        ScoredDocs hits = dense.search(query, k);
+        long tookMicros = (System.nanoTime() - started) / 1000;
+        return ResponseEntity.ok(Map.of(
+                "tookMicros", tookMicros,
+                "kernel", loaded.index().kernelName(),
+                "items", toItems(hits, loaded.passages())));
+    }
+
+    /**
+     * POST /api/admin/retrieval/bm25/rebuild
+     * body: {} (cases 테이블) 또는 { "path": "processed/passages.jsonl" } (ingest.base-dir 기준)
+     */
+    @PostMapping("/api/admin/retrieval/bm25/rebuild")
+    public ResponseEntity<?> rebuildBm25(@RequestBody(required = false) Map<String, Object> body) throws IOException {
+        Object path = body == null ? null : body.get("path");
+        Bm25RetrievalService.Loaded loaded = path == null
+                ? bm25.rebuildFromCases()
+                : bm25.rebuildFromJsonl(importer.resolve(path.toString()));
+        return ResponseEntity.ok(Map.of(
+                "passages", loaded.passages().size(),
+                "terms", loaded.index().termCount()));
+    }
+
+    /**
+     * POST /api/admin/retrieval/dense/reload
+     * vectors.npy + mapping.jsonl 다시 읽기
+     */
+    @PostMapping("/api/admin/retrieval/dense/reload")
+    public ResponseEntity<?> reloadDense() throws IOException, InterruptedException {
+        return ResponseEntity.ok(denseSummary(dense.reload()));
+    }
+
+    /**
+     * POST /api/admin/retrieval/dense/build-local
+     * BM25 패시지를 로컬 임베더(stub)로 임베딩해서 dense 인덱스 생성 (GPU 없이 테스트용)
+     */
+    @PostMapping("/api/admin/retrieval/dense/build-local")
+    public ResponseEntity<?> buildDenseLocal() throws IOException, InterruptedException {
+        return ResponseEntity.ok(denseSummary(dense.buildWithEmbedder()));
+    }
+
+    private static Map<String, Object> denseSummary(DenseRetrievalService.Loaded loaded) {
+        return Map.of(
+                "passages", loaded.passages().size(),
+                "dim", loaded.index().dim(),
+                "nlist", loaded.index().nlist(),
+                "kernel", loaded.index().kernelName());
+    }
+
+    private static List<PassageHitDto> toItems(ScoredDocs hits, PassageStore passages) {
+        List<PassageHitDto> items = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            int doc = hits.docs()[i];
+            String text = passages.text(doc);
+            items.add(PassageHitDto.builder()
+                    .rank(i + 1)
+                    .caseId(passages.caseId(doc))
+                    .pid(passages.pid(doc))
+                    .score(hits.scores()[i])
+                    .text(text.length() <= SNIPPET_CHARS ? text : text.substring(0, SNIPPET_CHARS) + "…")
+                    .build());
+        }
+        return items;
+    }
+
+    private static int intOr(Object value, int fallback) {
+        return value instanceof Number n ? n.intValue() : fallback;
+    }
+
+    @ExceptionHandler(IndexNotReadyException.class)
+    public ResponseEntity<Map<String, String>> handleNotReady(IndexNotReadyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("message", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
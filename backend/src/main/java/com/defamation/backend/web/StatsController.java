@@ -0,0 +1,89 @@
+package com.defamation.backend.web;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.analytics.PredictionAnalytics;
+import com.defamation.backend.service.analytics.StatCounts;
+import com.defamation.backend.web.dto.PredictionStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 예측 통계 (일 x 모델 집계 테이블에서 읽음, classification_requests 를 스캔하지 않음)
+ * 예) curl "http://localhost:8080/api/stats?from=2024-03-01&to=2024-03-31&modelId=1"
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private static final int DEFAULT_DAYS = 30;
+
+    private final PredictionAnalytics analytics;
+    private final DefamationProperties props;
+
+    /**
+     * GET /api/stats?from=&to=&modelId=
+     * - 기본 기간: 오늘 포함 최근 30일
+     * - days: (일, 모델) 행, totals: 모델별 기간 합계 (+ modelId 가 없으면 전체 합계 1행)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> stats(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "modelId", required = false) Long modelId
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Map.of("message", "from 은 to 보다 늦을 수 없습니다."));
+        }
+        int maxDays = props.getAnalytics().getMaxRangeDays();
+        if (ChronoUnit.DAYS.between(start, end) + 1 > maxDays) {
+            return ResponseEntity.badRequest().body(Map.of("message", "조회 기간은 최대 " + maxDays + "일입니다."));
+        }
+
+        Map<PredictionAnalytics.Key, StatCounts> daily = analytics.daily(start, end, modelId);
+        List<PredictionStatsDto> days = new ArrayList<>(daily.size());
+        Map<Long, StatCounts> perModel = new TreeMap<>();
+        StatCounts all = StatCounts.EMPTY;
+        for (Map.Entry<PredictionAnalytics.Key, StatCounts> e : daily.entrySet()) {
+            days.add(PredictionStatsDto.of(e.getKey().day(), e.getKey().modelId(), e.getValue()));
+            perModel.merge(e.getKey().modelId(), e.getValue(), StatCounts::plus);
+            all = all.plus(e.getValue());
+        }
+        List<PredictionStatsDto> totals = new ArrayList<>();
+        perModel.forEach((id, c) -> totals.add(PredictionStatsDto.of(null, id, c)));
+        if (modelId == null) totals.add(PredictionStatsDto.of(null, null, all));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("from", start);
+        body.put("to", end);
+        body.put("days", days);
+        body.put("totals", totals);
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * POST /api/admin/stats/backfill
+     * 기존 classification_requests 로 집계 테이블 다시 채우기 (동기, 도중에는 /api/stats 가 일부만 보임)
+     */
+    @PostMapping("/admin/stats/backfill")
+    public ResponseEntity<?> backfill() {
+        try {
+            return ResponseEntity.ok(analytics.backfill());
+        } catch (PredictionAnalytics.BackfillInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.defamation.backend.web.asset;
+
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+/**
+ * 메모리에 올려 둔 정적 파일 하나 (원본 + 있으면 br / gzip 압축본)
+ * - 버퍼는 공유하므로 쓸 때는 항상 duplicate()
+ */
+final class StaticAsset {
+
+    final String path;
+    final MediaType contentType;
+    // 파일명에 콘텐츠 해시가 붙어 있어 내용이 바뀌면 URL 도 바뀜 -> immutable 캐시
+    final boolean immutable;
+    final Variant identity;
+    final Variant brotli;
+    final Variant gzip;
+
+    StaticAsset(String path, MediaType contentType, boolean immutable, Variant identity, Variant brotli, Variant gzip) {
+        this.path = path;
+        this.contentType = contentType;
+        this.immutable = immutable;
+        this.identity = identity;
+        this.brotli = brotli;
+        this.gzip = gzip;
+    }
+
+    boolean hasEncodings() {
+        return brotli != null || gzip != null;
+    }
+
+    /**
+     * Accept-Encoding 에 맞는 표현 (br > gzip > 원본, q=0 은 거절로 봄)
+     */
+    Variant select(String acceptEncoding) {
+        if (!hasEncodings() || acceptEncoding == null || acceptEncoding.isBlank()) return identity;
+        boolean br = false;
+        boolean gz = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (rejected(tokens)) continue;
+            switch (coding) {
+                case "br" -> br = true;
+                case "gzip", "x-gzip" -> gz = true;
+                case "*" -> {
+                    br = true;
+                    gz = true;
+                }
+                default -> {
+                }
+            }
+        }
+        if (br && brotli != null) return brotli;
+        if (gz && gzip != null) return gzip;
+        return identity;
+    }
+
+    private static boolean rejected(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String p = tokens[i].trim();
+            if (p.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(p.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param encoding Content-Encoding 값 (원본이면 null)
+     */
+    record Variant(String encoding, ByteBuffer data, String etag) {
+        int length() {
+            return data.remaining();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.defamation.backend.web.asset;
+
+import com.defamation.backend.config.DefamationProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 메모리의 StaticAsset 을 응답으로
+ * - Accept-Encoding 으로 br / gzip / 원본 선택 (Vary: Accept-Encoding)
+ * - 해시 파일은 immutable 1년, 나머지(index.html 등)는 no-cache + ETag 재검증(304)
+ * - 원본 표현에 한해 단일 Range 요청 지원 (영상 탐색). 여러 구간 요청은 200 전체로 응답
+ */
+@Component
+@RequiredArgsConstructor
+public class StaticAssetHandler {
+
+    private final DefamationProperties props;
+
+    void serve(StaticAsset asset, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StaticAsset.Variant variant = asset.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        response.setContentType(asset.contentType.toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, asset.immutable
+                ? "public, max-age=" + props.getStaticAssets().getImmutableMaxAge().toSeconds() + ", immutable"
+                : "no-cache");
+        response.setHeader(HttpHeaders.ETAG, variant.etag());
+        if (asset.hasEncodings()) response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (variant.encoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+        } else {
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        int length = variant.length();
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && variant.encoding() == null && ifRange(request, variant.etag())) {
+            Range r = Range.parse(range, length);
+            if (r == Range.UNSATISFIABLE) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (r != null) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.start() + "-" + r.end() + "/" + length);
+                write(request, response, variant.data(), r.start(), r.end() + 1);
+                return;
+            }
+        }
+        write(request, response, variant.data(), 0, length);
+    }
+
+    private static void write(HttpServletRequest request, HttpServletResponse response, ByteBuffer data,
+                              int from, int to) throws IOException {
+        response.setContentLength(to - from);
+        if ("HEAD".equals(request.getMethod())) return;
+        ByteBuffer slice = data.duplicate();
+        slice.position(slice.position() + from).limit(slice.position() + (to - from));
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        while (slice.hasRemaining()) out.write(slice);
+    }
+
+    /**
+     * If-None-Match: "a", W/"b" 또는 * (약한 비교)
+     */
+    private static boolean matches(String header, String etag) {
+        if (header == null) return false;
+        for (String tag : header.split(",")) {
+            String t = tag.trim();
+            if (t.equals("*")) return true;
+            if (t.startsWith("W/")) t = t.substring(2);
+            if (t.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * If-Range 가 있으면 ETag 가 같을 때만 부분 응답 (날짜 형식은 비교하지 않고 전체로)
+     */
+    private static boolean ifRange(HttpServletRequest request, String etag) {
+        String v = request.getHeader(HttpHeaders.IF_RANGE);
+        return v == null || v.trim().equals(etag);
+    }
+
+    /**
+     * bytes=0-99 / bytes=100- / bytes=-500 (단일 구간만)
+     */
+    record Range(int start, int end) {
+
+        static final Range UNSATISFIABLE = new Range(-1, -1);
+
+        /**
+         * @return null 이면 Range 무시(전체 응답)
+         */
+        static Range parse(String header, int length) {
+            String h = header.trim();
+            if (!h.startsWith("bytes=") || h.indexOf(',') >= 0) return null;
+            String spec = h.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) return null;
+            try {
+                String a = spec.substring(0, dash).trim();
+                String b = spec.substring(dash + 1).trim();
+                if (a.isEmpty()) {
+                    // 끝에서 N 바이트
+                    if (b.isEmpty()) return null;
+                    long suffix = Long.parseLong(b);
+                    if (suffix <= 0 || length == 0) return UNSATISFIABLE;
+                    return new Range((int) Math.max(0, length - suffix), length - 1);
+                }
+                long start = Long.parseLong(a);
+                long end = b.isEmpty() ? length - 1 : Math.min(Long.parseLong(b), length - 1);
+                if (start >= length) return UNSATISFIABLE;
+                if (end < start) return null;
+                return new Range((int) start, (int) end);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
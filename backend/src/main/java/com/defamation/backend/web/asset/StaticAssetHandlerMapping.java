@@ -0,0 +1,57 @@
+package com.defamation.backend.web.asset;
+
+import com.defamation.backend.config.DefamationProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * 컨트롤러 다음, Spring 기본 정적 리소스/웰컴 페이지보다 먼저 보는 매핑
+ * - StaticAssetStore 에 있는 경로면 그 파일
+ * - 확장자 없는 경로(/cases, /history/3 ...)는 백엔드 경로가 아니고 HTML 을 받는 요청이면 index.html (SPA fallback)
+ * - 나머지는 null -> 다음 매핑(Spring 기본 리소스 핸들러, 큰 파일 / swagger-ui 등)
+ */
+@Component
+public class StaticAssetHandlerMapping extends AbstractHandlerMapping {
+
+    private final StaticAssetStore store;
+    private final StaticAssetHandler handler;
+    private final DefamationProperties props;
+
+    public StaticAssetHandlerMapping(StaticAssetStore store, StaticAssetHandler handler, DefamationProperties props) {
+        this.store = store;
+        this.handler = handler;
+        this.props = props;
+        // RequestMappingHandlerMapping(0) 다음, WelcomePageHandlerMapping(2) 보다 앞
+        setOrder(1);
+    }
+
+    @Override
+    protected Object getHandlerInternal(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) return null;
+
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        StaticAsset asset = store.get(path);
+        if (asset == null && isSpaRoute(path, request)) asset = store.index();
+        if (asset == null) return null;
+
+        StaticAsset target = asset;
+        return (HttpRequestHandler) (req, res) -> handler.serve(target, req, res);
+    }
+
+    private boolean isSpaRoute(String path, HttpServletRequest request) {
+        for (String prefix : props.getStaticAssets().getSpaExcludes()) {
+            if (path.startsWith(prefix)) return false;
+        }
+        String last = path.substring(path.lastIndexOf('/') + 1);
+        if (last.indexOf('.') >= 0) return false;
+
+        // fetch/XHR 로 잘못 부른 경로에 HTML 을 주지 않도록
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept == null || accept.contains("text/html") || accept.contains("*/*");
+    }
+}
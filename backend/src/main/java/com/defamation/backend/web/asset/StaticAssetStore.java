@@ -0,0 +1,205 @@
+package com.defamation.backend.web.asset;
+
+import com.defamation.backend.config.DefamationProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * classpath:/static 아래 파일을 기동 시 한 번 읽어서 off-heap 에 보관
+ * - 파일 시스템(개발/exploded)이든 jar 안이든 direct buffer 로 복사 -> 요청마다 classpath 를 읽지 않음
+ *   (build/resources 를 mmap 하면 재빌드로 파일이 바뀌거나 잘릴 때 서빙 중인 내용이 깨지므로 복사본을 씀)
+ * - frontend 빌드(scripts/compress.mjs)가 만든 .br / .gz 가 옆에 있으면 그대로, .gz 가 없으면 여기서 gzip
+ * - 크기 상한을 넘는 파일은 등록하지 않음 (Spring 기본 리소스 핸들러가 서빙)
+ */
+@Slf4j
+@Component
+public class StaticAssetStore {
+
+    private static final String ROOT = "classpath:/static/";
+    // Vite 산출물: /assets/<이름>-<8자 해시>.<확장자>
+    private static final Pattern HASHED = Pattern.compile("^/assets/.+-[A-Za-z0-9_-]{8}\\.[A-Za-z0-9]+$");
+    // 압축본이 원본의 이 비율보다 작을 때만 사용
+    private static final double MIN_SAVING = 0.9;
+
+    private final DefamationProperties props;
+    private volatile Map<String, StaticAsset> assets = Map.of();
+
+    public StaticAssetStore(DefamationProperties props) {
+        this.props = props;
+    }
+
+    @PostConstruct
+    void load() {
+        DefamationProperties.StaticAssets cfg = props.getStaticAssets();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(getClass().getClassLoader());
+        Map<String, Resource> files = new TreeMap<>();
+        try {
+            Resource root = resolver.getResource(ROOT);
+            if (!root.exists()) return;
+            String rootUrl = root.getURL().toString();
+            for (Resource r : resolver.getResources(ROOT + "**")) {
+                String url = r.getURL().toString();
+                if (url.endsWith("/") || !url.startsWith(rootUrl) || !r.isReadable()) continue;
+                files.put("/" + url.substring(rootUrl.length()), r);
+            }
+        } catch (IOException e) {
+            log.warn("static assets: classpath:/static 을 읽지 못했습니다: {}", e.toString());
+            return;
+        }
+
+        Map<String, StaticAsset> loaded = new HashMap<>();
+        long total = 0;
+        int gzipped = 0;
+        for (Map.Entry<String, Resource> e : files.entrySet()) {
+            String path = e.getKey();
+            if (path.endsWith(".gz") || path.endsWith(".br")) continue;
+            try {
+                long size = e.getValue().contentLength();
+                if (size > cfg.getMaxFileBytes() || total + size > cfg.getMaxTotalBytes()) {
+                    log.info("static assets: {} ({} bytes) 는 캐시하지 않음", path, size);
+                    continue;
+                }
+                ByteBuffer data = read(e.getValue());
+                ByteBuffer br = files.containsKey(path + ".br") ? read(files.get(path + ".br")) : null;
+                ByteBuffer gz = files.containsKey(path + ".gz") ? read(files.get(path + ".gz")) : null;
+
+                MediaType type = contentType(path);
+                if (gz == null && compressible(type) && data.remaining() >= cfg.getGzipMinBytes()) {
+                    gz = gzip(data);
+                    if (gz != null) gzipped++;
+                }
+                StaticAsset asset = asset(path, type, data, smaller(br, data), smaller(gz, data));
+                loaded.put(path, asset);
+                total += size + (asset.brotli == null ? 0 : asset.brotli.length())
+                        + (asset.gzip == null ? 0 : asset.gzip.length());
+            } catch (IOException ex) {
+                log.warn("static assets: {} 를 읽지 못했습니다: {}", path, ex.toString());
+            }
+        }
+        assets = Map.copyOf(loaded);
+        log.info("static assets cached: {} files, {} KB off-heap, {} gzip built at startup",
+                loaded.size(), total / 1024, gzipped);
+    }
+
+    StaticAsset get(String path) {
+        return assets.get(path);
+    }
+
+    StaticAsset index() {
+        return assets.get("/index.html");
+    }
+
+    int size() {
+        return assets.size();
+    }
+
+    /**
+     * 테스트용 (classpath 대신 직접 등록)
+     */
+    void put(String path, byte[] data, byte[] brotli) {
+        Map<String, StaticAsset> next = new HashMap<>(assets);
+        ByteBuffer identity = direct(data);
+        MediaType type = contentType(path);
+        ByteBuffer gz = compressible(type) && data.length >= props.getStaticAssets().getGzipMinBytes()
+                ? gzip(identity) : null;
+        next.put(path, asset(path, type, identity, brotli == null ? null : direct(brotli), gz));
+        assets = Map.copyOf(next);
+    }
+
+    private static StaticAsset asset(String path, MediaType type, ByteBuffer data, ByteBuffer br, ByteBuffer gz) {
+        String etag = etag(data);
+        return new StaticAsset(path, type, HASHED.matcher(path).matches(),
+                new StaticAsset.Variant(null, data, "\"" + etag + "\""),
+                br == null ? null : new StaticAsset.Variant("br", br, "\"" + etag + "-br\""),
+                gz == null ? null : new StaticAsset.Variant("gzip", gz, "\"" + etag + "-gz\""));
+    }
+
+    private static ByteBuffer read(Resource r) throws IOException {
+        if (r.isFile()) {
+            // 힙 배열을 거치지 않고 바로 direct buffer 로
+            try (FileChannel ch = FileChannel.open(r.getFile().toPath(), StandardOpenOption.READ)) {
+                ByteBuffer buf = ByteBuffer.allocateDirect(Math.toIntExact(ch.size()));
+                while (buf.hasRemaining()) {
+                    if (ch.read(buf) < 0) break;
+                }
+                buf.flip();
+                return buf.asReadOnlyBuffer();
+            }
+        }
+        try (InputStream in = r.getInputStream()) {
+            return direct(in.readAllBytes());
+        }
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.allocateDirect(bytes.length);
+        buf.put(bytes).flip();
+        return buf.asReadOnlyBuffer();
+    }
+
+    private static ByteBuffer gzip(ByteBuffer data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.remaining() / 3);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out, 8192) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gz.write(bytes(data));
+        } catch (IOException e) {
+            return null;
+        }
+        return smaller(direct(out.toByteArray()), data);
+    }
+
+    private static ByteBuffer smaller(ByteBuffer encoded, ByteBuffer original) {
+        if (encoded == null) return null;
+        return encoded.remaining() < original.remaining() * MIN_SAVING ? encoded : null;
+    }
+
+    private static byte[] bytes(ByteBuffer buf) {
+        byte[] b = new byte[buf.remaining()];
+        buf.duplicate().get(b);
+        return b;
+    }
+
+    private static String etag(ByteBuffer data) {
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        return Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(data.remaining());
+    }
+
+    static MediaType contentType(String path) {
+        MediaType type = MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        if ("text".equals(type.getType()) || type.getSubtype().contains("javascript")
+                || type.getSubtype().endsWith("json")) {
+            return new MediaType(type, StandardCharsets.UTF_8);
+        }
+        return type;
+    }
+
+    private static boolean compressible(MediaType type) {
+        String sub = type.getSubtype();
+        return "text".equals(type.getType()) || sub.contains("javascript") || sub.endsWith("json")
+                || sub.endsWith("xml");
+    }
+}
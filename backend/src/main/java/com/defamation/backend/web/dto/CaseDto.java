@@ -1,11 +1,10 @@
 package com.defamation.backend.web.dto;
 
 import com.defamation.backend.domain.Case;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.defamation.backend.repository.CaseSummaryView;
+import com.defamation.backend.service.JsonListParser;
 import lombok.*;
 
-import java.util.Collections;
 import java.util.List;
 
 @Getter @Setter
@@ -32,13 +31,16 @@ public class CaseDto {
     private String sentenceReason;
     private String sentenceJudgment;
 
-    public static CaseDto from(Case c, ObjectMapper om) {
+    // collapse=true 목록에서만: 이 판례와 근접 중복인 다른 판례 id (같은 페이지에 있던 건 목록에서 빠짐)
+    private List<Long> nearDuplicateIds;
+
+    public static CaseDto from(Case c, JsonListParser parser) {
         return CaseDto.builder()
                 .id(c.getId())
                 .rawId(c.getRawId())
                 .problemSituation(c.getProblemSituation())
-                .participants(parseList(om, c.getParticipants()))
-                .caseNames(parseList(om, c.getCaseNames()))
+                .participants(parser.parse(c.getParticipants()))
+                .caseNames(parser.parse(c.getCaseNames()))
                 .caseType(c.getCaseType())
                 .courtLevel(c.getCourtLevel())
                 .defendant(c.getDefendant())
@@ -52,13 +54,25 @@ public class CaseDto {
                 .build();
     }
 
-    private static List<String> parseList(ObjectMapper om, String jsonOrText) {
-        if (jsonOrText == null || jsonOrText.isBlank()) return Collections.emptyList();
-        try {
-            return om.readValue(jsonOrText, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            // 혹시 JSON이 아니라 그냥 문자열로 들어가 있으면 fallback
-            return List.of(jsonOrText);
-        }
+    /**
+     * 목록용: 요약 projection 에서 (sentenceAdditionalOrder 없음)
+     */
+    public static CaseDto summary(CaseSummaryView v, JsonListParser parser) {
+        return CaseDto.builder()
+                .id(v.getId())
+                .rawId(v.getRawId())
+                .problemSituation(v.getProblemSituation())
+                .participants(parser.parse(v.getParticipants()))
+                .caseNames(parser.parse(v.getCaseNames()))
+                .caseType(v.getCaseType())
+                .courtLevel(v.getCourtLevel())
+                .defendant(v.getDefendant())
+                .label(v.getLabel())
+                .sentenceType(v.getSentenceType())
+                .sentenceValue(v.getSentenceValue())
+                .sentenceSuspension(v.getSentenceSuspension())
+                .sentenceReason(v.getSentenceReason())
+                .sentenceJudgment(v.getSentenceJudgment())
+                .build();
     }
 }
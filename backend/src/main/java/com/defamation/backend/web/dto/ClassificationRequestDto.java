@@ -1,12 +1,11 @@
 package com.defamation.backend.web.dto;
 
 import com.defamation.backend.domain.ClassificationRequest;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.defamation.backend.repository.ClassificationRequestSummaryView;
+import com.defamation.backend.service.JsonListParser;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 
 @Getter @Setter
@@ -30,12 +29,15 @@ public class ClassificationRequestDto {
 
     private LocalDateTime createdAt;
 
-    public static ClassificationRequestDto from(ClassificationRequest r, ObjectMapper om) {
+    // predict(withSimilar) 로 저장된 유사 판례 case_id (상세 조회에서만)
+    private List<String> similarCaseIds;
+
+    public static ClassificationRequestDto from(ClassificationRequest r, JsonListParser parser) {
         return ClassificationRequestDto.builder()
                 .id(r.getId())
                 .problemSituation(r.getProblemSituation())
                 .modelId(r.getModelId())
-                .caseNames(parseList(om, r.getCaseNames()))
+                .caseNames(parser.parse(r.getCaseNames()))
                 .sentenceType(r.getSentenceType())
                 .sentenceValue(r.getSentenceValue())
                 .sentenceSuspension(r.getSentenceSuspension())
@@ -43,15 +45,25 @@ public class ClassificationRequestDto {
                 .sentenceReason(r.getSentenceReason())
                 .sentenceJudgment(r.getSentenceJudgment())
                 .createdAt(r.getCreatedAt())
+                .similarCaseIds(r.getSimilarCaseIds() == null ? null : parser.parse(r.getSimilarCaseIds()))
                 .build();
     }
 
-    private static List<String> parseList(ObjectMapper om, String json) {
-        if (json == null || json.isBlank()) return Collections.emptyList();
-        try {
-            return om.readValue(json, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return List.of(json);
-        }
+    /**
+     * 목록용: 요약 projection 에서 (sentenceAdditionalOrder 없음)
+     */
+    public static ClassificationRequestDto summary(ClassificationRequestSummaryView v, JsonListParser parser) {
+        return ClassificationRequestDto.builder()
+                .id(v.getId())
+                .problemSituation(v.getProblemSituation())
+                .modelId(v.getModelId())
+                .caseNames(parser.parse(v.getCaseNames()))
+                .sentenceType(v.getSentenceType())
+                .sentenceValue(v.getSentenceValue())
+                .sentenceSuspension(v.getSentenceSuspension())
+                .sentenceReason(v.getSentenceReason())
+                .sentenceJudgment(v.getSentenceJudgment())
+                .createdAt(v.getCreatedAt())
+                .build();
     }
 }
@@ -0,0 +1,16 @@
+package com.defamation.backend.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class ModelDto {
+
+    private Long id;
+    private String name;
+    @JsonProperty("display_name") // 프론트가 display_name으로 받게
+    private String displayName;
+    private Boolean enabled;
+}
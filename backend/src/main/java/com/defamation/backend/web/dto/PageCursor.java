@@ -0,0 +1,38 @@
+package com.defamation.backend.web.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 위치 (created_at, id)
+ * 클라이언트에는 base64url 문자열(opaque)로만 노출
+ */
+public record PageCursor(LocalDateTime createdAt, long id) {
+
+    // 첫 페이지: 모든 행보다 "뒤"인 가상의 위치
+    public static final PageCursor FIRST = new PageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(createdAt == null ? FIRST.createdAt : createdAt, id);
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 문자열이면 첫 페이지, 형식이 틀리면 IllegalArgumentException
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+}
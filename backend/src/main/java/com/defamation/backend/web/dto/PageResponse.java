@@ -13,4 +13,10 @@ public class PageResponse<T> {
     private int size;
     private long totalElements;
     private int totalPages;
+
+    // cursor 모드 전용
+    private String nextCursor;
+    private boolean hasNext;
+    // false 면 totalElements 는 캐시된 근사값
+    private boolean totalExact;
 }
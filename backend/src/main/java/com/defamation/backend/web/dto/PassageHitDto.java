@@ -0,0 +1,16 @@
+package com.defamation.backend.web.dto;
+
+import lombok.*;
+
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class PassageHitDto {
+
+    private int rank;
+    private String caseId;
+    private String pid;
+    private float score;
+    // 패시지 앞부분 (최대 200자)
+    private String text;
+}
@@ -8,4 +8,8 @@ import lombok.Setter;
 public class PredictRequest {
     private String inputs;
     private Long modelId;
+    // true 면 모델 호출과 병렬로 유사 판례도 찾아서 같이 반환
+    private boolean withSimilar;
+    // 유사 판례 개수 (없으면 defamation.retrieval.top-cases)
+    private Integer similarK;
 }
@@ -0,0 +1,61 @@
+package com.defamation.backend.web.dto;
+
+import com.defamation.backend.service.analytics.StatCounts;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class PredictionStatsDto {
+
+    // 기간 합계 행이면 null
+    private LocalDate date;
+    // 전체 모델 합계 행이면 null
+    private Long modelId;
+
+    private long predictions;
+    private long guilty;
+    private long notGuilty;
+    private long otherJudgment;
+    private long parseFailures;
+    // 유죄 / (유죄 + 무죄)
+    private Double guiltyRatio;
+    // 판단 필드를 못 읽은 비율
+    private Double parseFailureRate;
+
+    private long fines;
+    private Double fineMean;
+    private long fineMax;
+    // "~50만", "~100만", ..., "2000만~" -> 건수
+    private Map<String, Long> fineHistogram;
+
+    public static PredictionStatsDto of(LocalDate date, Long modelId, StatCounts c) {
+        Map<String, Long> hist = new LinkedHashMap<>();
+        for (int i = 0; i < StatCounts.BUCKETS; i++) {
+            String label = i < StatCounts.FINE_BOUNDS.length
+                    ? "~" + StatCounts.FINE_BOUNDS[i] / 10_000 + "만"
+                    : StatCounts.FINE_BOUNDS[i - 1] / 10_000 + "만~";
+            hist.put(label, c.fineHistogram()[i]);
+        }
+        long decided = c.guilty() + c.notGuilty();
+        return PredictionStatsDto.builder()
+                .date(date)
+                .modelId(modelId)
+                .predictions(c.predictions())
+                .guilty(c.guilty())
+                .notGuilty(c.notGuilty())
+                .otherJudgment(c.otherJudgment())
+                .parseFailures(c.parseFailures())
+                .guiltyRatio(decided == 0 ? null : (double) c.guilty() / decided)
+                .parseFailureRate(c.predictions() == 0 ? null : (double) c.parseFailures() / c.predictions())
+                .fines(c.fines())
+                .fineMean(c.fines() == 0 ? null : (double) c.fineSum() / c.fines())
+                .fineMax(c.fineMax())
+                .fineHistogram(hist)
+                .build();
+    }
+}
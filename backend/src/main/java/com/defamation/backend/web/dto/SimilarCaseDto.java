@@ -0,0 +1,27 @@
+package com.defamation.backend.web.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class SimilarCaseDto {
+
+    private int rank;
+    // 패시지 mapping 의 case_id (cases 테이블 id 로 만든 인덱스면 case 가 채워짐)
+    private String caseId;
+    private double score;
+    private CaseDto caseSummary;
+    private List<Evidence> evidence;
+
+    @Getter @Setter
+    @AllArgsConstructor @NoArgsConstructor
+    public static class Evidence {
+        private String pid;
+        // 패시지 앞부분 (최대 200자)
+        private String text;
+        private float score;
+    }
+}
@@ -0,0 +1,18 @@
+package com.defamation.backend.web.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class SimilarCasesResponse {
+
+    private List<SimilarCaseDto> items;
+    private boolean denseUsed;
+    private int sentences;
+    // 단계별 소요 시간 (split, retrieve, bm25, dense, fuse, aggregate, load, total)
+    private Map<String, Double> timingsMs;
+}
@@ -1,11 +1,17 @@
 -- =========================================================
--- models (그대로 유지)
+-- models (+ 라우팅 정보)
 -- =========================================================
 CREATE TABLE IF NOT EXISTS models (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
   name VARCHAR(100) UNIQUE NOT NULL,
   display_name VARCHAR(100),
-  enabled TINYINT(1) DEFAULT 1
+  enabled TINYINT(1) DEFAULT 1,
+
+  -- routing (ModelRegistry 가 기동 시/폴링으로 읽음, 비어 있으면 yaml 값)
+  endpoint_url VARCHAR(500) NULL,       -- https://.../predict
+  replica_urls JSON NULL,               -- ["http://gpu-a:8000/predict", ...] (있으면 endpoint_url 대신)
+  max_concurrent INT NULL,              -- 모델별 동시 호출 상한
+  version BIGINT NOT NULL DEFAULT 0     -- 고칠 때 version = version + 1
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 
@@ -21,6 +27,11 @@ CREATE TABLE IF NOT EXISTS models (
 --      sentence_reason         <- 양형이유
 --      sentence_judgment       <- 판단 (유죄/무죄)
 --      model_id               <- models.id (외래키)
+--      input_hash             <- 정규화된 입력의 SHA-256 (예측 캐시 키)
+--      generated_text         <- 모델 원문 출력 (캐시 응답용)
+--      similar_case_ids       <- predict(withSimilar) 로 같이 찾은 유사 판례 case_id (list)
+--      simhash                <- problem_situation 64비트 SimHash (근접 중복 탐지)
+--      reused_input_hash      <- 모델 호출 없이 결과를 재사용한 근접 중복 요청의 input_hash
 -- =========================================================
 CREATE TABLE IF NOT EXISTS classification_requests (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -40,11 +51,18 @@ CREATE TABLE IF NOT EXISTS classification_requests (
   sentence_reason LONGTEXT NULL,        -- 양형이유
   sentence_judgment VARCHAR(20) NULL,   -- 판단(유죄/무죄)
 
+  input_hash CHAR(64) NULL,             -- 정규화 입력 SHA-256 (hex)
+  generated_text LONGTEXT NULL,         -- 모델 원문 출력
+  similar_case_ids JSON NULL,           -- ["12", "40", ...] (유사 판례)
+  simhash BIGINT NULL,                  -- problem_situation SimHash (짧으면 NULL)
+  reused_input_hash CHAR(64) NULL,      -- 근접 중복 요청의 결과를 재사용했으면 그 input_hash
+
   is_deleted TINYINT(1) NOT NULL DEFAULT 0,
   created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
   KEY idx_cls_created_at (created_at),
   KEY idx_cls_model_id (model_id),
+  KEY idx_cls_model_hash (model_id, input_hash),
 
   FULLTEXT INDEX ftx_cls_text (
     problem_situation,
@@ -91,6 +109,8 @@ CREATE TABLE IF NOT EXISTS cases (
   sentence_reason LONGTEXT NULL,
   sentence_judgment VARCHAR(20) NULL,   -- 유죄/무죄
 
+  simhash BIGINT NULL,                  -- problem_situation SimHash (근접 중복 탐지, 짧으면 NULL)
+
   is_deleted TINYINT(1) NOT NULL DEFAULT 0,
   created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
@@ -107,6 +127,133 @@ CREATE TABLE IF NOT EXISTS cases (
   FULLTEXT INDEX ftx_cases_text (
     problem_situation,
     defendant,
-    sentence_reason
+    sentence_reason,
+    case_names
   ) WITH PARSER ngram
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+
+-- =========================================================
+-- prediction_daily_stats
+--  classification_requests 의 (일, 모델) 집계. PredictionAnalytics 가 증분을 더함
+--  판단/벌금 분류 기준은 StatCounts.of 와 백필 SQL 이 같음
+-- =========================================================
+CREATE TABLE IF NOT EXISTS prediction_daily_stats (
+  stat_date DATE NOT NULL,               -- DATE(created_at)
+  model_id BIGINT NOT NULL,
+
+  predictions BIGINT NOT NULL DEFAULT 0,
+  guilty BIGINT NOT NULL DEFAULT 0,
+  not_guilty BIGINT NOT NULL DEFAULT 0,
+  other_judgment BIGINT NOT NULL DEFAULT 0,  -- 유죄/무죄 이외의 판단
+  parse_failures BIGINT NOT NULL DEFAULT 0,  -- sentence_judgment 가 비어 있음
+
+  fines BIGINT NOT NULL DEFAULT 0,       -- sentence_value > 0 인 건
+  fine_sum BIGINT NOT NULL DEFAULT 0,
+  fine_max BIGINT NOT NULL DEFAULT 0,
+
+  -- 벌금액 구간별 건수 (원, 이하)
+  fine_le_500k BIGINT NOT NULL DEFAULT 0,
+  fine_le_1m BIGINT NOT NULL DEFAULT 0,
+  fine_le_2m BIGINT NOT NULL DEFAULT 0,
+  fine_le_3m BIGINT NOT NULL DEFAULT 0,
+  fine_le_5m BIGINT NOT NULL DEFAULT 0,
+  fine_le_10m BIGINT NOT NULL DEFAULT 0,
+  fine_le_20m BIGINT NOT NULL DEFAULT 0,
+  fine_gt_20m BIGINT NOT NULL DEFAULT 0,
+
+  updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+  PRIMARY KEY (stat_date, model_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+
+-- =========================================================
+-- 기존 DB 보강 (CREATE TABLE IF NOT EXISTS 는 이미 있는 테이블에 컬럼을 더하지 않음)
+--  MySQL 8 에는 ADD COLUMN IF NOT EXISTS 가 없어서 information_schema 로 확인 후 있을 때만 건너뜀
+--  매 기동마다 실행되므로 반드시 멱등이어야 함. 새 컬럼/인덱스는 위 CREATE TABLE 과 여기 둘 다에 추가
+--  (새 테이블은 CREATE TABLE IF NOT EXISTS 만으로 생김)
+-- =========================================================
+
+-- models: 라우팅 정보 (ModelRegistry)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'models' AND COLUMN_NAME = 'endpoint_url') = 0,
+  'ALTER TABLE models ADD COLUMN endpoint_url VARCHAR(500) NULL', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'models' AND COLUMN_NAME = 'replica_urls') = 0,
+  'ALTER TABLE models ADD COLUMN replica_urls JSON NULL', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'models' AND COLUMN_NAME = 'max_concurrent') = 0,
+  'ALTER TABLE models ADD COLUMN max_concurrent INT NULL', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'models' AND COLUMN_NAME = 'version') = 0,
+  'ALTER TABLE models ADD COLUMN version BIGINT NOT NULL DEFAULT 0', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- classification_requests: 예측 캐시 / 유사 판례 / 근접 중복
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'classification_requests' AND COLUMN_NAME = 'input_hash') = 0,
+  'ALTER TABLE classification_requests ADD COLUMN input_hash CHAR(64) NULL AFTER sentence_judgment', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'classification_requests' AND COLUMN_NAME = 'generated_text') = 0,
+  'ALTER TABLE classification_requests ADD COLUMN generated_text LONGTEXT NULL AFTER input_hash', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'classification_requests' AND COLUMN_NAME = 'similar_case_ids') = 0,
+  'ALTER TABLE classification_requests ADD COLUMN similar_case_ids JSON NULL AFTER generated_text', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'classification_requests' AND COLUMN_NAME = 'simhash') = 0,
+  'ALTER TABLE classification_requests ADD COLUMN simhash BIGINT NULL AFTER similar_case_ids', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'classification_requests' AND COLUMN_NAME = 'reused_input_hash') = 0,
+  'ALTER TABLE classification_requests ADD COLUMN reused_input_hash CHAR(64) NULL AFTER simhash', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'classification_requests' AND INDEX_NAME = 'idx_cls_model_hash') = 0,
+  'CREATE INDEX idx_cls_model_hash ON classification_requests (model_id, input_hash)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- cases: 근접 중복
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'cases' AND COLUMN_NAME = 'simhash') = 0,
+  'ALTER TABLE cases ADD COLUMN simhash BIGINT NULL AFTER sentence_judgment', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- cases: 죄명도 전문 검색 대상 (InMemorySearchBackend 와 같은 컬럼). 예전 인덱스면 다시 만듦
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'cases' AND INDEX_NAME = 'ftx_cases_text') > 0
+    AND (SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'cases' AND INDEX_NAME = 'ftx_cases_text' AND COLUMN_NAME = 'case_names') = 0,
+  'ALTER TABLE cases DROP INDEX ftx_cases_text', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'cases' AND INDEX_NAME = 'ftx_cases_text') = 0,
+  'ALTER TABLE cases ADD FULLTEXT INDEX ftx_cases_text (problem_situation, defendant, sentence_reason, case_names) WITH PARSER ngram', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,52 @@
+package com.defamation.backend.service.retrieval;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API 내적 (CPU 가 지원하는 가장 넓은 float 레인 수)
+ * int8 은 같은 레인 수의 byte 벡터를 읽어서 float 로 변환 후 FMA
+ * 이 클래스는 DotKernel.best() 에서 모듈이 있을 때만 이름으로 로드됨 (별도 source set: src/simd/java)
+ */
+final class SimdDotKernel implements DotKernel {
+
+    private static final VectorSpecies<Float> F = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> B =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(F.length() * Byte.SIZE));
+
+    @Override
+    public float dot(float[] a, float[] b, int off, int len) {
+        FloatVector acc = FloatVector.zero(F);
+        int i = 0;
+        for (int upper = F.loopBound(len); i < upper; i += F.length()) {
+            FloatVector va = FloatVector.fromArray(F, a, i);
+            FloatVector vb = FloatVector.fromArray(F, b, off + i);
+            acc = va.fma(vb, acc);
+        }
+        float s = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) s += a[i] * b[off + i];
+        return s;
+    }
+
+    @Override
+    public float dotInt8(float[] q, byte[] codes, int off, int len) {
+        FloatVector acc = FloatVector.zero(F);
+        int i = 0;
+        for (int upper = F.loopBound(len); i < upper; i += F.length()) {
+            FloatVector vq = FloatVector.fromArray(F, q, i);
+            FloatVector vc = (FloatVector) ByteVector.fromArray(B, codes, off + i).castShape(F, 0);
+            acc = vq.fma(vc, acc);
+        }
+        float s = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < len; i++) s += q[i] * codes[off + i];
+        return s;
+    }
+
+    @Override
+    public String name() {
+        return "vector-api(" + F.length() + "x float)";
+    }
+}
@@ -0,0 +1,145 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.ClassificationRequest;
+import com.defamation.backend.repository.ClassificationRequestRepository;
+import com.defamation.backend.service.analytics.PredictionAnalytics;
+import com.defamation.backend.service.metrics.DefamationMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ClassificationLogWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger inserts = new AtomicInteger();
+    // n 번째 INSERT 를 실패시킬지 (1부터)
+    private volatile IntPredicate failOn = n -> false;
+
+    private final JdbcTemplate jdbc = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:cls-log-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1")) {
+        @Override
+        public int update(String sql, PreparedStatementSetter pss) {
+            if (failOn.test(inserts.incrementAndGet())) {
+                throw new DataAccessResourceFailureException("db down");
+            }
+            return super.update(sql, pss);
+        }
+    };
+
+    private final DefamationProperties props = new DefamationProperties();
+    private ClassificationLogWriter writer;
+
+    ClassificationLogWriterTest() {
+        jdbc.execute("""
+                CREATE TABLE classification_requests (
+                  id BIGINT PRIMARY KEY AUTO_INCREMENT, problem_situation CLOB, model_id BIGINT, case_names CLOB,
+                  sentence_type VARCHAR(50), sentence_value BIGINT, sentence_suspension INT,
+                  sentence_additional_order CLOB, sentence_reason CLOB, sentence_judgment VARCHAR(20),
+                  input_hash CHAR(64), generated_text CLOB, similar_case_ids CLOB, simhash BIGINT,
+                  reused_input_hash CHAR(64), is_deleted TINYINT DEFAULT 0, created_at TIMESTAMP)""");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) writer.stop();
+    }
+
+    private ClassificationLogWriter writer() {
+        props.getLogWriter().setSpillPath(dir.resolve("spill.jsonl").toString());
+        PredictionAnalytics analytics = mock(PredictionAnalytics.class);
+        doAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return null;
+        }).when(analytics).saveAndRecord(anyList(), any());
+        writer = new ClassificationLogWriter(props, jdbc, mock(ClassificationRequestRepository.class),
+                new ObjectMapper().findAndRegisterModules(), new DefamationMetrics(new SimpleMeterRegistry()), analytics);
+        return writer;
+    }
+
+    private static ClassificationRequest request(int i) {
+        return ClassificationRequest.builder()
+                .problemSituation("사건 " + i)
+                .modelId(1L)
+                .sentenceJudgment("유죄")
+                .inputHash("h" + i)
+                .createdAt(LocalDateTime.of(2024, 3, 1, 9, 0).plusMinutes(i))
+                .build();
+    }
+
+    private List<String> savedSituations() {
+        return jdbc.queryForList("SELECT problem_situation FROM classification_requests ORDER BY id", String.class);
+    }
+
+    @Test
+    void failedInsertIsSpilledToFile() throws Exception {
+        failOn = n -> true;
+        ClassificationLogWriter writer = writer();
+
+        // 기동 전에는 요청 스레드에서 바로 INSERT (실패하면 spill)
+        writer.submit(request(1));
+        writer.submit(request(2));
+
+        Path spill = dir.resolve("spill.jsonl");
+        List<String> lines = Files.readAllLines(spill, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("사건 1");
+        assertThat(lines.get(1)).contains("사건 2");
+        assertThat(writer.stats().getSpilled()).isEqualTo(2);
+        assertThat(writer.stats().getFailedFlushes()).isEqualTo(2);
+        assertThat(writer.stats().isSpillPending()).isTrue();
+        assertThat(savedSituations()).isEmpty();
+    }
+
+    @Test
+    void replayAfterPartialFailureInsertsEveryRowExactlyOnce() throws Exception {
+        props.getLogWriter().setBatchSize(2);
+        props.getLogWriter().setFlushInterval(Duration.ofMillis(20));
+        props.getLogWriter().setReplayInterval(Duration.ofMillis(50));
+        // 1~5: 적재 전 spill, 6: 재적재 첫 배치 성공, 7: 둘째 배치 실패 -> 남은 줄을 spill 로 되돌림, 이후 성공
+        failOn = n -> n <= 5 || n == 7;
+        ClassificationLogWriter writer = writer();
+        for (int i = 1; i <= 5; i++) writer.submit(request(i));
+        assertThat(writer.stats().getSpilled()).isEqualTo(5);
+
+        writer.start();
+
+        Path spill = dir.resolve("spill.jsonl");
+        Path replaying = dir.resolve("spill.jsonl.replaying");
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline
+                && (savedSituations().size() < 5 || Files.exists(spill) || Files.exists(replaying))) {
+            Thread.sleep(20);
+        }
+
+        assertThat(savedSituations()).containsExactly("사건 1", "사건 2", "사건 3", "사건 4", "사건 5");
+        assertThat(spill).doesNotExist();
+        assertThat(replaying).doesNotExist();
+        assertThat(inserts).hasValue(9);
+        assertThat(writer.stats().getReplayed()).isEqualTo(5);
+        assertThat(writer.stats().getDropped()).isZero();
+    }
+}
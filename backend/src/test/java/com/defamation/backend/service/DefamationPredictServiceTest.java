@@ -0,0 +1,202 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.ClassificationRequest;
+import com.defamation.backend.repository.ClassificationRequestRepository;
+import com.defamation.backend.service.dedup.NearDuplicateService;
+import com.defamation.backend.service.guard.ModelCallGuard;
+import com.defamation.backend.service.metrics.DefamationMetrics;
+import com.defamation.backend.service.registry.ModelRegistry;
+import com.defamation.backend.service.routing.ModelRouter;
+import com.defamation.backend.support.MockModelServer;
+import com.defamation.backend.support.TestModelRegistry;
+import com.defamation.backend.web.dto.SimilarCaseDto;
+import com.defamation.backend.web.dto.SimilarCasesResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DefamationPredictServiceTest {
+
+    private static final Duration OVERLAP_WAIT = Duration.ofSeconds(3);
+
+    private final MockModelServer server = MockModelServer.start();
+    private final CaseService caseService = mock(CaseService.class);
+    private final ClassificationLogWriter logWriter = mock(ClassificationLogWriter.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private DefamationPredictService service() {
+        DefamationProperties props = new DefamationProperties();
+        props.getCache().setEnabled(false);
+        return service(props, mock(NearDuplicateService.class));
+    }
+
+    private DefamationPredictService service(DefamationProperties props, NearDuplicateService nearDuplicates) {
+        props.getModelEndpoints().put(1L, server.url());
+        ModelRegistry modelRegistry = TestModelRegistry.of(props);
+
+        ModelCallGuard guard = new ModelCallGuard(props, modelRegistry);
+        return new DefamationPredictService(props, WebClient.create(),
+                new PredictionCache(props, mock(ClassificationRequestRepository.class), Schedulers.boundedElastic()),
+                new PredictBatcher(props, WebClient.create()),
+                logWriter, caseService, new ModelRouter(props, WebClient.create(), modelRegistry, guard),
+                guard, nearDuplicates,
+                new DefamationMetrics(registry), new ObjectMapper(), Schedulers.boundedElastic());
+    }
+
+    private static SimilarCasesResponse similarResponse() {
+        return SimilarCasesResponse.builder()
+                .items(List.of(
+                        SimilarCaseDto.builder().rank(1).caseId("12").score(0.03).evidence(List.of()).build(),
+                        SimilarCaseDto.builder().rank(2).caseId("40").score(0.02).evidence(List.of()).build()))
+                .timingsMs(Map.of())
+                .build();
+    }
+
+    @Test
+    void retrievalOverlapsModelCallAndIdsAreSaved() {
+        // 모델 서버와 검색이 서로 상대가 시작했는지 기다림: 순차 실행이면 먼저 시작한 쪽이 OVERLAP_WAIT 만큼 기다리다 false
+        CountDownLatch modelStarted = new CountDownLatch(1);
+        CountDownLatch retrievalStarted = new CountDownLatch(1);
+        AtomicBoolean modelSawRetrieval = new AtomicBoolean();
+        AtomicBoolean retrievalSawModel = new AtomicBoolean();
+
+        server.responder(in -> {
+            modelStarted.countDown();
+            modelSawRetrieval.set(await(retrievalStarted));
+            return MockModelServer.VERDICT;
+        });
+        when(caseService.similarCases(anyString(), anyInt())).thenAnswer(inv -> {
+            retrievalStarted.countDown();
+            retrievalSawModel.set(await(modelStarted));
+            return similarResponse();
+        });
+
+        DefamationPredictService.PredictionWithSimilar result = service()
+                .predictWithSimilar(1L, "사건 B", 5)
+                .block(Duration.ofSeconds(10));
+
+        assertThat(result.generatedText()).isEqualTo(MockModelServer.VERDICT.trim());
+        assertThat(result.similar().getItems()).extracting(SimilarCaseDto::getCaseId).containsExactly("12", "40");
+        // 모델 응답 전에 검색이 시작됐고, 검색이 끝나기 전에 모델 호출이 나감
+        assertThat(modelSawRetrieval).isTrue();
+        assertThat(retrievalSawModel).isTrue();
+
+        ArgumentCaptor<ClassificationRequest> saved = ArgumentCaptor.forClass(ClassificationRequest.class);
+        verify(logWriter).submit(saved.capture());
+        assertThat(saved.getValue().getProblemSituation()).isEqualTo("사건 B");
+        assertThat(saved.getValue().getSimilarCaseIds()).isEqualTo("[\"12\",\"40\"]");
+        verify(caseService, times(1)).similarCases("사건 B", 5);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(OVERLAP_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    void retrievalFailureStillReturnsPrediction() {
+        when(caseService.similarCases(anyString(), anyInt())).thenThrow(new IllegalStateException("boom"));
+
+        DefamationPredictService.PredictionWithSimilar result = service()
+                .predictWithSimilar(1L, "사건 C", 5)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(result.generatedText()).isEqualTo(MockModelServer.VERDICT.trim());
+        assertThat(result.similar().getItems()).isEmpty();
+    }
+
+    @Test
+    void unparseableOutputIsSavedAndCounted() {
+        server.delay(Duration.ZERO).responder(in -> "판단: 유죄");
+
+        String generated = service().predictAndSave(1L, "사건 D").block(Duration.ofSeconds(5));
+
+        assertThat(generated).isEqualTo("판단: 유죄");
+        verify(logWriter).submit(argThat(r -> "사건 D".equals(r.getProblemSituation()) && r.getSentenceJudgment() == null));
+        assertThat(registry.get("defamation.predict.parse.failures")
+                .tags("model", "1", "reason", "invalid_json").counter().count()).isEqualTo(1);
+        assertThat(registry.get("defamation.predict").tags("model", "1", "outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    // A 와 B 는 비식별 표기만 다른 근접 중복 (서명/거리는 목으로 고정)
+    private static final String NEAR_A = "피고인 A는 C교회 예배당에서 피해자 D에 대하여 헌금을 횡령하였다고 말하였다.";
+    private static final String NEAR_B = "피고인 B는 E교회 예배당에서 피해자 F에 대하여 헌금을 횡령하였다고 말하였다.";
+
+    private NearDuplicateService nearDuplicateOfA() {
+        NearDuplicateService nearDuplicates = mock(NearDuplicateService.class);
+        when(nearDuplicates.signature(anyString())).thenReturn(42L);
+        when(nearDuplicates.nearestRequest(eq(1L), eq(PredictionCache.hash(NEAR_B)), anyLong()))
+                .thenReturn(new NearDuplicateService.Match(PredictionCache.hash(NEAR_A), 2, false));
+        return nearDuplicates;
+    }
+
+    @Test
+    void reusedVerdictIsSavedButNotOfferedForFurtherReuse() {
+        server.delay(Duration.ZERO);
+        DefamationProperties props = new DefamationProperties();
+        props.getNearDuplicate().setReuseVerdict(true);
+        NearDuplicateService nearDuplicates = nearDuplicateOfA();
+        DefamationPredictService service = service(props, nearDuplicates);
+
+        service.predict(1L, NEAR_A).block(Duration.ofSeconds(5));
+        DefamationPredictService.Prediction b = service.predict(1L, NEAR_B).block(Duration.ofSeconds(5));
+
+        // B 는 모델 호출 없이 A 의 결과
+        assertThat(server.requestCount()).isEqualTo(1);
+        assertThat(b.generatedText()).isEqualTo(MockModelServer.VERDICT.trim());
+        assertThat(b.nearDuplicate().verdictReused()).isTrue();
+        assertThat(registry.get("defamation.predict.near_duplicate").tags("model", "1", "outcome", "reused")
+                .counter().count()).isEqualTo(1);
+
+        // A 만 재사용 후보, B 는 어느 입력의 결과인지와 함께 저장
+        verify(nearDuplicates).addRequest(PredictionCache.CacheKey.of(1L, NEAR_A), 42L);
+        verify(nearDuplicates, never()).addRequest(eq(PredictionCache.CacheKey.of(1L, NEAR_B)), anyLong());
+        verify(logWriter).submit(argThat(r -> NEAR_B.equals(r.getProblemSituation())
+                && PredictionCache.hash(NEAR_A).equals(r.getReusedInputHash())));
+    }
+
+    @Test
+    void nearDuplicateStillCallsModelByDefault() {
+        server.delay(Duration.ZERO);
+        NearDuplicateService nearDuplicates = nearDuplicateOfA();
+        DefamationPredictService service = service(new DefamationProperties(), nearDuplicates);
+
+        service.predict(1L, NEAR_A).block(Duration.ofSeconds(5));
+        DefamationPredictService.Prediction b = service.predict(1L, NEAR_B).block(Duration.ofSeconds(5));
+
+        assertThat(server.requestCount()).isEqualTo(2);
+        assertThat(b.nearDuplicate().inputHash()).isEqualTo(PredictionCache.hash(NEAR_A));
+        assertThat(b.nearDuplicate().verdictReused()).isFalse();
+        assertThat(registry.get("defamation.predict.near_duplicate").tags("model", "1", "outcome", "called")
+                .counter().count()).isEqualTo(1);
+        // 모델이 직접 만든 결과라 B 도 재사용 후보
+        verify(nearDuplicates).addRequest(PredictionCache.CacheKey.of(1L, NEAR_B), 42L);
+        verify(logWriter).submit(argThat(r -> NEAR_B.equals(r.getProblemSituation()) && r.getReusedInputHash() == null));
+    }
+}
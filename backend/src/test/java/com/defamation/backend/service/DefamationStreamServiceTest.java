@@ -0,0 +1,69 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.support.MockModelServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DefamationStreamServiceTest {
+
+    private final MockModelServer server = MockModelServer.start()
+            .responder(in -> "```json\n" + MockModelServer.VERDICT + "\n```");
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void relaysTokensEmitsClosedFieldsAndSavesOnCompletion() {
+        DefamationProperties props = new DefamationProperties();
+        props.getStreaming().setBaseUrl(server.baseUrl() + "/v1");
+        props.getStreaming().getModels().put(1L, "mock");
+
+        DefamationPredictService predictService = mock(DefamationPredictService.class);
+        when(predictService.saveResult(anyLong(), anyString(), anyString())).thenReturn(Mono.empty());
+
+        DefamationStreamService service = new DefamationStreamService(props, WebClient.create(), predictService, new ObjectMapper());
+
+        List<ServerSentEvent<Object>> events = service.stream(1L, "사건 내용")
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(events).isNotEmpty();
+        assertThat(events.get(events.size() - 1).event()).isEqualTo("done");
+
+        List<Object> fields = events.stream()
+                .filter(e -> "field".equals(e.event()))
+                .map(ServerSentEvent::data)
+                .toList();
+        assertThat(fields).contains(
+                new VerdictStreamParser.Field("판단", "유죄"),
+                new VerdictStreamParser.Field("형량.벌금액", 700000L),
+                new VerdictStreamParser.Field("죄명", List.of("명예훼손")));
+
+        // 판단 필드는 마지막 토큰보다 먼저 나와야 함
+        List<String> names = events.stream().map(ServerSentEvent::event).toList();
+        int judgmentAt = -1;
+        for (int i = 0; i < events.size(); i++) {
+            if (new VerdictStreamParser.Field("판단", "유죄").equals(events.get(i).data())) judgmentAt = i;
+        }
+        assertThat(judgmentAt).isBetween(0, names.lastIndexOf("token"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> done = (Map<String, Object>) events.get(events.size() - 1).data();
+        verify(predictService).saveResult(eq(1L), eq("사건 내용"), eq(done.get("generated_text").toString()));
+    }
+}
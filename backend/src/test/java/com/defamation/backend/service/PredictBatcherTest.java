@@ -0,0 +1,77 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.support.MockModelServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PredictBatcherTest {
+
+    private final MockModelServer server = MockModelServer.start().responder(in -> "out:" + in);
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private PredictBatcher batcher(int maxBatchSize, Duration linger, int maxQueueDepth) {
+        DefamationProperties.Batching cfg = new DefamationProperties.Batching();
+        cfg.setMaxBatchSize(maxBatchSize);
+        cfg.setLinger(linger);
+        cfg.setMaxQueueDepth(maxQueueDepth);
+
+        DefamationProperties props = new DefamationProperties();
+        props.getBatching().put(1L, cfg);
+        return new PredictBatcher(props, WebClient.create());
+    }
+
+    @Test
+    void coalescesConcurrentCallsAndFansResultsBack() {
+        PredictBatcher batcher = batcher(4, Duration.ofMillis(200), 64);
+
+        List<String> results = Flux.range(0, 8)
+                .flatMap(i -> batcher.submit(1L, server.url(), "in" + i).map(out -> i + "=" + out))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(8);
+        results.forEach(r -> assertThat(r).matches("(\\d)=out:in\\1"));
+        assertThat(server.itemCount()).isEqualTo(8);
+        assertThat(server.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        PredictBatcher batcher = batcher(10, Duration.ofSeconds(1), 2);
+
+        Mono<String> first = batcher.submit(1L, server.url(), "a");
+        Mono<String> second = batcher.submit(1L, server.url(), "b");
+        first.subscribe();
+        second.subscribe();
+
+        StepVerifier.create(batcher.submit(1L, server.url(), "c"))
+                .expectError(PredictBatcher.QueueFullException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void followsUrlChangeAfterRegistryReload() {
+        PredictBatcher batcher = batcher(1, Duration.ofMillis(10), 16);
+        try (MockModelServer moved = MockModelServer.start().responder(in -> "moved:" + in)) {
+            assertThat(batcher.submit(1L, server.url(), "a").block(Duration.ofSeconds(5))).isEqualTo("out:a");
+            // 레지스트리가 다른 URL 을 주면 이전 lane 을 버리고 새 URL 로
+            assertThat(batcher.submit(1L, moved.url(), "b").block(Duration.ofSeconds(5))).isEqualTo("moved:b");
+            assertThat(server.requestCount()).isEqualTo(1);
+            assertThat(moved.requestCount()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.repository.ClassificationRequestRepository;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class PredictionCacheTest {
+
+    private static final PredictionCache.CacheKey KEY = PredictionCache.CacheKey.of(1L, "사건 A");
+
+    private final DefamationProperties props = new DefamationProperties();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private PredictionCache cache() {
+        return new PredictionCache(props, mock(ClassificationRequestRepository.class), Schedulers.boundedElastic());
+    }
+
+    private Supplier<Mono<String>> loader(Mono<String> result) {
+        return () -> {
+            loads.incrementAndGet();
+            return result;
+        };
+    }
+
+    @Test
+    void concurrentIdenticalKeysLoadOnce() {
+        PredictionCache cache = cache();
+        Supplier<Mono<String>> slow = loader(Mono.delay(Duration.ofMillis(200)).thenReturn("판결"));
+
+        List<String> results = Flux.range(0, 32)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> cache.getOrLoad(KEY, slow))
+                .sequential()
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(32).containsOnly("판결");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+        assertThat(cache.stats().getCoalesced() + cache.stats().getHits()).isEqualTo(31);
+        assertThat(cache.stats().getInflight()).isZero();
+    }
+
+    @Test
+    void errorIsNotCached() {
+        PredictionCache cache = cache();
+
+        assertThatThrownBy(() -> cache.getOrLoad(KEY, loader(Mono.error(new IllegalStateException("upstream down"))))
+                .block(Duration.ofSeconds(5)))
+                .hasMessageContaining("upstream down");
+        assertThat(cache.stats().getInflight()).isZero();
+        assertThat(cache.stats().getSize()).isZero();
+
+        // 실패는 남기지 않으므로 다음 요청은 다시 로드
+        assertThat(cache.getOrLoad(KEY, loader(Mono.just("판결"))).block(Duration.ofSeconds(5))).isEqualTo("판결");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void entryExpiresAfterTtl() throws InterruptedException {
+        props.getCache().setTtl(Duration.ofMillis(100));
+        PredictionCache cache = cache();
+
+        assertThat(cache.getOrLoad(KEY, loader(Mono.just("v1"))).block(Duration.ofSeconds(5))).isEqualTo("v1");
+        assertThat(cache.getOrLoad(KEY, loader(Mono.just("v2"))).block(Duration.ofSeconds(5))).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+
+        Thread.sleep(200);
+
+        assertThat(cache.getOrLoad(KEY, loader(Mono.just("v2"))).block(Duration.ofSeconds(5))).isEqualTo("v2");
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().getExpirations()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.defamation.backend.service;
+
+import com.defamation.backend.domain.ClassificationRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerdictParserTest {
+
+    @Test
+    void bindsCleanJson() {
+        ClassificationRequest req = new ClassificationRequest();
+        VerdictParser.Result r = VerdictParser.parse("""
+                {"판단": "유죄", "형량": {"형종": "벌금", "벌금액": 700000, "집행유예_기간_월": null, "추가_조건": "노역장유치"},
+                 "양형이유": "초범", "죄명": ["명예훼손", "모욕"]}""", req);
+
+        assertThat(r.ok()).isTrue();
+        assertThat(r.artifacts()).isEmpty();
+        assertThat(req.getSentenceJudgment()).isEqualTo("유죄");
+        assertThat(req.getSentenceType()).isEqualTo("벌금");
+        assertThat(req.getSentenceValue()).isEqualTo(700_000L);
+        assertThat(req.getSentenceSuspension()).isNull();
+        assertThat(req.getSentenceAdditionalOrder()).isEqualTo("노역장유치");
+        assertThat(req.getSentenceReason()).isEqualTo("초범");
+        assertThat(req.getCaseNames()).isEqualTo("[\"명예훼손\",\"모욕\"]");
+    }
+
+    @Test
+    void toleratesFencesKoreanAmountsAndTrailingText() {
+        ClassificationRequest req = new ClassificationRequest();
+        VerdictParser.Result r = VerdictParser.parse("""
+                ```json
+                {'판단': '유죄', '형량': {'형종': '징역', '벌금액': '70만 원', '집행유예_기간_월': '1년 6개월',},
+                 '죄명': '명예훼손'}
+                ```
+                위와 같이 판단합니다.""", req);
+
+        assertThat(r.ok()).isTrue();
+        assertThat(r.artifacts()).containsExactly("code_fence", "amount_text", "period_text", "case_names_text",
+                "trailing_text");
+        assertThat(req.getSentenceValue()).isEqualTo(700_000L);
+        assertThat(req.getSentenceSuspension()).isEqualTo(18);
+        assertThat(req.getCaseNames()).isEqualTo("[\"명예훼손\"]");
+    }
+
+    @Test
+    void keepsFieldsReadBeforeTruncation() {
+        ClassificationRequest req = new ClassificationRequest();
+        VerdictParser.Result r = VerdictParser.parse("{\"판단\": \"무죄\", \"양형이유\": \"공익 목적", req);
+
+        assertThat(r.ok()).isTrue();
+        assertThat(r.artifacts()).containsExactly("truncated");
+        assertThat(req.getSentenceJudgment()).isEqualTo("무죄");
+        assertThat(req.getSentenceReason()).isNull();
+    }
+
+    @Test
+    void reportsFailures() {
+        assertThat(VerdictParser.parse("판단: 유죄", new ClassificationRequest()).failure()).isEqualTo("invalid_json");
+        assertThat(VerdictParser.parse("{\"형량\": {\"형종\": \"벌금\"}}", new ClassificationRequest()).failure())
+                .isEqualTo("missing_judgment");
+    }
+
+    @Test
+    void parsesKoreanAmounts() {
+        assertThat(VerdictParser.parseWon("1,500,000원")).isEqualTo(1_500_000L);
+        assertThat(VerdictParser.parseWon("1억 5천만 원")).isEqualTo(150_000_000L);
+        assertThat(VerdictParser.parseWon("칠십만 원")).isEqualTo(700_000L);
+        assertThat(VerdictParser.parseWon("없음")).isNull();
+        assertThat(VerdictParser.parseMonths("2년")).isEqualTo(24);
+    }
+}
@@ -0,0 +1,92 @@
+package com.defamation.backend.service.analytics;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.ClassificationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PredictionAnalyticsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    private final JdbcTemplate jdbc = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:analytics-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    private final PredictionAnalytics analytics = new PredictionAnalytics(new DefamationProperties(), jdbc);
+
+    PredictionAnalyticsTest() {
+        jdbc.execute("""
+                CREATE TABLE classification_requests (
+                  id BIGINT PRIMARY KEY AUTO_INCREMENT, model_id BIGINT, sentence_value BIGINT,
+                  sentence_judgment VARCHAR(20), is_deleted TINYINT DEFAULT 0, created_at TIMESTAMP)""");
+        jdbc.execute("""
+                CREATE TABLE prediction_daily_stats (
+                  stat_date DATE, model_id BIGINT, predictions BIGINT, guilty BIGINT, not_guilty BIGINT,
+                  other_judgment BIGINT, parse_failures BIGINT, fines BIGINT, fine_sum BIGINT, fine_max BIGINT,
+                  fine_le_500k BIGINT, fine_le_1m BIGINT, fine_le_2m BIGINT, fine_le_3m BIGINT, fine_le_5m BIGINT,
+                  fine_le_10m BIGINT, fine_le_20m BIGINT, fine_gt_20m BIGINT,
+                  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, PRIMARY KEY (stat_date, model_id))""");
+    }
+
+    private static ClassificationRequest row(long modelId, String judgment, Long fine, LocalDateTime at) {
+        return ClassificationRequest.builder().modelId(modelId).sentenceJudgment(judgment).sentenceValue(fine)
+                .createdAt(at).build();
+    }
+
+    private void save(ClassificationRequest... rows) {
+        List<ClassificationRequest> list = List.of(rows);
+        analytics.saveAndRecord(list, () -> list.forEach(r -> jdbc.update(
+                "INSERT INTO classification_requests (model_id, sentence_value, sentence_judgment, created_at) VALUES (?, ?, ?, ?)",
+                r.getModelId(), r.getSentenceValue(), r.getSentenceJudgment(), r.getCreatedAt())));
+    }
+
+    @Test
+    void bucketsFinesByUpperBound() {
+        assertThat(StatCounts.bucket(500_000)).isZero();
+        assertThat(StatCounts.bucket(700_000)).isEqualTo(1);
+        assertThat(StatCounts.bucket(20_000_000)).isEqualTo(6);
+        assertThat(StatCounts.bucket(30_000_000)).isEqualTo(StatCounts.BUCKETS - 1);
+    }
+
+    @Test
+    void incrementalCountsMatchBackfill() {
+        save(row(1, "유죄", 700_000L, DAY.atTime(9, 0)),
+                row(1, " 무죄 ", null, DAY.atTime(10, 0)),
+                row(2, null, null, DAY.atTime(11, 0)));
+        // flush 전에도 조회에 보임
+        Map<PredictionAnalytics.Key, StatCounts> pending = analytics.daily(DAY, DAY, null);
+        assertThat(pending.get(new PredictionAnalytics.Key(DAY, 1L)).predictions()).isEqualTo(2);
+
+        assertThat(analytics.flush()).isEqualTo(2);
+        // 개행/탭이 붙은 판단도 백필과 같은 칸으로 (SQL TRIM 은 공백만 뗌)
+        save(row(1, "유죄\n", 30_000_000L, DAY.atTime(12, 0)),
+                row(2, "\t", null, DAY.atTime(13, 0)),
+                row(1, "일부 유죄", 500_000L, DAY.plusDays(1).atTime(0, 0)));
+        analytics.flush();
+
+        Map<PredictionAnalytics.Key, StatCounts> live = analytics.daily(DAY, DAY.plusDays(1), null);
+        StatCounts model1 = live.get(new PredictionAnalytics.Key(DAY, 1L));
+        assertThat(model1.predictions()).isEqualTo(3);
+        assertThat(model1.guilty()).isEqualTo(2);
+        assertThat(model1.notGuilty()).isEqualTo(1);
+        assertThat(model1.fines()).isEqualTo(2);
+        assertThat(model1.fineSum()).isEqualTo(30_700_000L);
+        assertThat(model1.fineMax()).isEqualTo(30_000_000L);
+        assertThat(model1.fineHistogram()[1]).isEqualTo(1);
+        assertThat(model1.fineHistogram()[StatCounts.BUCKETS - 1]).isEqualTo(1);
+        assertThat(live.get(new PredictionAnalytics.Key(DAY, 2L)).parseFailures()).isEqualTo(2);
+        assertThat(live.get(new PredictionAnalytics.Key(DAY.plusDays(1), 1L)).otherJudgment()).isEqualTo(1);
+
+        PredictionAnalytics.BackfillResult result = analytics.backfill();
+        assertThat(result.groups()).isEqualTo(3);
+        assertThat(analytics.daily(DAY, DAY.plusDays(1), null)).isEqualTo(live);
+        assertThat(analytics.daily(DAY, DAY, 2L)).containsOnlyKeys(new PredictionAnalytics.Key(DAY, 2L));
+    }
+}
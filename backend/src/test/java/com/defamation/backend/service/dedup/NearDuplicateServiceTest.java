@@ -0,0 +1,68 @@
+package com.defamation.backend.service.dedup;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.ingest.CasesImportedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearDuplicateServiceTest {
+
+    private static final String CHURCH = "피고인 A는 2021. 3. 5. C교회 예배당에서 신도 약 30명이 있는 자리에서 피해자 D에 대하여 "
+            + "\"D 목사는 교회 헌금을 횡령하여 자기 집을 샀다\"라고 말하여 공연히 허위의 사실을 적시하여 피해자의 명예를 훼손하였다.";
+    private static final String RENAMED = "피고인 B는 2021. 3. 5. E교회 예배당에서 신도 약 30명이 있는 자리에서 피해자 F에 대하여 "
+            + "\"F 목사는 교회 헌금을 횡령하여 자기 집을 샀다\"라고 말하여 공연히 허위의 사실을 적시하여 피해자의 명예를 훼손하였다.";
+    private static final String ONLINE = "피고인은 2020. 11. 2. 인터넷 커뮤니티 게시판에 피해자가 운영하는 식당의 음식에서 "
+            + "벌레가 나왔다는 취지의 글을 게시하여 정보통신망을 통하여 비방할 목적으로 거짓의 사실을 드러냈다.";
+
+    private final JdbcTemplate jdbc = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:near-dup-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    private final DefamationProperties props = new DefamationProperties();
+    private NearDuplicateService service;
+
+    NearDuplicateServiceTest() {
+        jdbc.execute("CREATE TABLE cases (id BIGINT PRIMARY KEY, simhash BIGINT, is_deleted TINYINT DEFAULT 0)");
+        jdbc.execute("""
+                CREATE TABLE classification_requests (
+                  id BIGINT PRIMARY KEY AUTO_INCREMENT, model_id BIGINT, input_hash CHAR(64), simhash BIGINT,
+                  sentence_judgment VARCHAR(20), reused_input_hash CHAR(64), is_deleted TINYINT DEFAULT 0,
+                  created_at TIMESTAMP)""");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) service.stop();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) Thread.sleep(10);
+    }
+
+    @Test
+    void caseSignatureRewrittenByImportIsReloaded() throws InterruptedException {
+        // 주기 동기화는 끄고 적재 이벤트로만 반영되는지
+        props.getNearDuplicate().setSyncInterval(Duration.ZERO);
+        jdbc.update("INSERT INTO cases (id, simhash) VALUES (?, ?), (?, ?)", 1L, SimHash.of(CHURCH), 2L, SimHash.of(RENAMED));
+        service = new NearDuplicateService(props, jdbc);
+        service.start();
+        await(() -> service.stats().isReady());
+        assertThat(service.nearCases(1L)).containsExactly(2L);
+
+        // upsert 로 id 2 의 서술이 바뀜 -> 서명도 바뀜 / id 1 은 짧은 서술로 바뀌어 서명 NULL
+        jdbc.update("UPDATE cases SET simhash = ? WHERE id = 2", SimHash.of(ONLINE));
+        jdbc.update("UPDATE cases SET simhash = NULL WHERE id = 1");
+        service.onCasesImported(new CasesImportedEvent("cases.jsonl", 2));
+
+        await(() -> service.stats().getCases() == 1);
+        assertThat(service.nearCases(1L)).isEmpty();
+        assertThat(service.nearCases(2L)).isEmpty();
+        assertThat(service.stats().getCases()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.defamation.backend.service.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+    private static final String CHURCH = "피고인 A는 2021. 3. 5. C교회 예배당에서 신도 약 30명이 있는 자리에서 피해자 D에 대하여 "
+            + "\"D 목사는 교회 헌금을 횡령하여 자기 집을 샀다\"라고 말하여 공연히 허위의 사실을 적시하여 피해자의 명예를 훼손하였다.";
+    private static final String RENAMED = "피고인 B는 2021. 3. 5. E교회 예배당에서 신도 약 30명이 있는 자리에서 피해자 F에 대하여 "
+            + "\"F 목사는 교회 헌금을 횡령하여 자기 집을 샀다\"라고 말하여 공연히 허위의 사실을 적시하여 피해자의 명예를 훼손하였다.";
+    private static final String ONLINE = "피고인은 2020. 11. 2. 인터넷 커뮤니티 게시판에 피해자가 운영하는 식당의 음식에서 "
+            + "벌레가 나왔다는 취지의 글을 게시하여 정보통신망을 통하여 비방할 목적으로 거짓의 사실을 드러냈다.";
+
+    @Test
+    void placeholderRenamesStayNearAndDifferentFactsAreFar() {
+        long church = SimHash.of(CHURCH);
+        assertThat(SimHash.distance(church, SimHash.of(RENAMED))).isLessThanOrEqualTo(3);
+        assertThat(SimHash.distance(church, SimHash.of(ONLINE))).isGreaterThan(10);
+        // 너무 짧으면 서명 없음
+        assertThat(SimHash.of("짧은 글")).isZero();
+    }
+
+    @Test
+    void bandedIndexFindsEverySignatureWithinMaxDistance() {
+        Random random = new Random(7);
+        SimHashIndex<Integer> index = new SimHashIndex<>(3, 0);
+        long[] sigs = new long[5000];
+        for (int i = 0; i < sigs.length; i++) {
+            sigs[i] = random.nextLong() | 1;
+            index.put(i, sigs[i]);
+        }
+
+        for (int q = 0; q < 1000; q++) {
+            int target = random.nextInt(sigs.length);
+            long probe = sigs[target];
+            Set<Integer> bits = new HashSet<>();
+            int flips = random.nextInt(4);
+            while (bits.size() < flips) bits.add(random.nextInt(64));
+            for (int bit : bits) probe ^= 1L << bit;
+
+            assertThat(index.near(probe, 3))
+                    .anySatisfy(m -> {
+                        assertThat(m.key()).isEqualTo(target);
+                        assertThat(m.distance()).isEqualTo(flips);
+                    });
+        }
+    }
+
+    @Test
+    void replacesRemovesAndEvictsOldest() {
+        SimHashIndex<String> index = new SimHashIndex<>(3, 2);
+        index.put("a", 0b1111L);
+        index.put("a", 0xF0F0_0000_0000_0000L);
+        assertThat(index.near(0b1111L, 3)).isEmpty();
+        assertThat(index.near(0xF0F0_0000_0000_0001L, 3)).extracting(SimHashIndex.Match::key).containsExactly("a");
+
+        index.put("b", 0b1111L);
+        index.put("c", 0b1110L);
+        // 상한 2: 먼저 넣은 a 가 빠짐
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.signature("a")).isNull();
+        assertThat(index.near(0b1111L, 3)).extracting(SimHashIndex.Match::key).containsExactly("b", "c");
+
+        index.remove("b");
+        assertThat(index.near(0b1111L, 3)).extracting(SimHashIndex.Match::key).containsExactly("c");
+    }
+}
@@ -0,0 +1,30 @@
+package com.defamation.backend.service.export;
+
+import com.defamation.backend.config.DefamationProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportPermitsTest {
+
+    @Test
+    void rejectsBeyondMaxConcurrentAndReleasesOncePerPermit() {
+        DefamationProperties props = new DefamationProperties();
+        props.getExport().setMaxConcurrent(1);
+        ExportPermits permits = new ExportPermits(props);
+
+        ExportPermits.Permit first = permits.acquire();
+        assertThatThrownBy(permits::acquire)
+                .isInstanceOf(ExportPermits.ExportBusyException.class)
+                .satisfies(e -> assertThat(((ExportPermits.ExportBusyException) e).retryAfterSeconds()).isPositive());
+
+        // 스트림 종료 + 비동기 완료 양쪽에서 닫아도 자리는 1개만 돌아옴
+        first.close();
+        first.close();
+        assertThat(permits.available()).isEqualTo(1);
+
+        permits.acquire().close();
+        assertThat(permits.available()).isEqualTo(1);
+    }
+}
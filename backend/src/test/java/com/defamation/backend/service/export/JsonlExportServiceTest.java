@@ -0,0 +1,121 @@
+package com.defamation.backend.service.export;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.JsonListParser;
+import com.defamation.backend.service.metrics.DefamationMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonlExportServiceTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final JdbcTemplate jdbc = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:export-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JsonlExportService service = new JsonlExportService(new DefamationProperties(), jdbc,
+            new JsonListParser(om), om, new DefamationMetrics(registry));
+
+    JsonlExportServiceTest() {
+        jdbc.execute("""
+                CREATE TABLE cases (
+                  id BIGINT PRIMARY KEY AUTO_INCREMENT, raw_id BIGINT, problem_situation CLOB, participants CLOB,
+                  case_names VARCHAR(255), case_type VARCHAR(255), court_level TINYINT, defendant VARCHAR(255),
+                  label TINYINT, sentence_type VARCHAR(50), sentence_value VARCHAR(100),
+                  sentence_suspension VARCHAR(100), sentence_additional_order CLOB, sentence_reason CLOB,
+                  sentence_judgment VARCHAR(20), is_deleted TINYINT DEFAULT 0,
+                  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)""");
+        jdbc.execute("""
+                CREATE TABLE classification_requests (
+                  id BIGINT PRIMARY KEY AUTO_INCREMENT, problem_situation CLOB, model_id BIGINT, case_names CLOB,
+                  sentence_type VARCHAR(50), sentence_value BIGINT, sentence_suspension INT,
+                  sentence_additional_order CLOB, sentence_reason CLOB, sentence_judgment VARCHAR(20),
+                  input_hash CHAR(64), generated_text CLOB, is_deleted TINYINT DEFAULT 0,
+                  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)""");
+
+        String insertCase = """
+                INSERT INTO cases (raw_id, problem_situation, participants, case_names, case_type, court_level,
+                  defendant, label, sentence_type, sentence_value, sentence_judgment, is_deleted, created_at)
+                VALUES (?, ?, ?, ?, 'criminal', 1, 'A', ?, '벌금', ?, ?, ?, ?)""";
+        jdbc.update(insertCase, 1438, "피고인은 \"거짓말\"이라고 말하였다.\n둘째 줄", "[\"피고인(전도사)\", \"D씨(신도)\"]",
+                "[\"명예훼손\"]", 1, "70만 원", "유죄", 0, "2024-03-01 10:00:00");
+        jdbc.update(insertCase, 1439, "무죄 사건", "[]", "[\"명예훼손\"]", 0, null, "무죄", 0, "2024-03-02 10:00:00");
+        jdbc.update(insertCase, 1440, "삭제된 사건", "[]", "[\"명예훼손\"]", 1, null, "유죄", 1, "2024-03-02 11:00:00");
+        jdbc.update(insertCase, 1441, "늦은 사건", "[]", "명예훼손", 1, null, "유죄", 0, "2024-05-01 10:00:00");
+
+        String insertRequest = """
+                INSERT INTO classification_requests (problem_situation, model_id, case_names, sentence_type,
+                  sentence_value, sentence_judgment, input_hash, generated_text, created_at)
+                VALUES (?, ?, '["정보통신망법위반"]', '벌금', ?, '유죄', 'h', '{"판단": "유죄"}', '2024-03-01 09:00:00')""";
+        jdbc.update(insertRequest, "사건 1", 1L, 700000L);
+        jdbc.update(insertRequest, "사건 4", 4L, null);
+    }
+
+    private List<JsonNode> lines(JsonlExportService.Query query) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = service.write(query, out);
+        String text = out.toString(StandardCharsets.UTF_8);
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            assertThat(line).startsWith("{");
+            nodes.add(om.readTree(line));
+        }
+        assertThat(nodes).hasSize((int) rows);
+        return nodes;
+    }
+
+    @Test
+    void casesUseMergedDatasetKeyLayout() throws Exception {
+        List<JsonNode> all = lines(service.cases(new JsonlExportService.Filter(null, null, null, null, null)));
+        assertThat(all).extracting(n -> n.get("raw_id").asLong()).containsExactly(1438L, 1439L, 1441L);
+
+        JsonNode first = all.get(0);
+        List<String> keys = new ArrayList<>();
+        for (Iterator<String> it = first.fieldNames(); it.hasNext(); ) keys.add(it.next());
+        assertThat(keys).containsExactly("problem_situation", "participants", "raw_id", "case_names", "case_type",
+                "court_level", "defendant", "label", "sentence_type", "sentence_value", "sentence_suspension",
+                "sentence_additional_order", "sentence_reason", "sentence_judgment");
+        assertThat(first.get("problem_situation").asText()).isEqualTo("피고인은 \"거짓말\"이라고 말하였다.\n둘째 줄");
+        assertThat(first.get("participants").get(1).asText()).isEqualTo("D씨(신도)");
+        assertThat(first.get("sentence_suspension").isNull()).isTrue();
+        // JSON 배열이 아닌 예전 값도 리스트로
+        assertThat(all.get(2).get("case_names").get(0).asText()).isEqualTo("명예훼손");
+
+        assertThat(registry.get("defamation.export.rows").tag("target", "cases").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void filtersByDateJudgmentLabelAndModel() throws Exception {
+        LocalDate march = LocalDate.of(2024, 3, 1);
+        assertThat(lines(service.cases(new JsonlExportService.Filter(march, LocalDate.of(2024, 3, 31), null, "유죄", 1))))
+                .extracting(n -> n.get("raw_id").asLong()).containsExactly(1438L);
+
+        List<JsonNode> requests = lines(service.classificationRequests(
+                new JsonlExportService.Filter(march, march, 1L, null, null), false));
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).get("sentence_value").asLong()).isEqualTo(700000L);
+        assertThat(requests.get(0).has("generated_text")).isFalse();
+
+        assertThat(lines(service.classificationRequests(
+                new JsonlExportService.Filter(null, null, 4L, null, null), true)).get(0).get("generated_text").asText())
+                .contains("유죄");
+
+        assertThatThrownBy(() -> service.cases(new JsonlExportService.Filter(null, null, 1L, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.cases(new JsonlExportService.Filter(march.plusDays(1), march, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
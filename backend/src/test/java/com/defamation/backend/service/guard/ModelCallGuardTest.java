@@ -0,0 +1,121 @@
+package com.defamation.backend.service.guard;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.support.TestModelRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelCallGuardTest {
+
+    private static DefamationProperties props() {
+        DefamationProperties props = new DefamationProperties();
+        DefamationProperties.Guard cfg = props.getGuard();
+        cfg.setWindowSize(10);
+        cfg.setMinimumCalls(4);
+        cfg.setOpenDuration(Duration.ofMillis(300));
+        cfg.setHalfOpenCalls(1);
+        return props;
+    }
+
+    private static ModelCallGuard guard(DefamationProperties props) {
+        return new ModelCallGuard(props, TestModelRegistry.of(props));
+    }
+
+    @Test
+    void opensAfterFailuresFailsFastThenRecoversThroughHalfOpen() throws InterruptedException {
+        ModelCallGuard guard = guard(props());
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(new RuntimeException("FastAPI 응답이 비정상입니다."));
+        });
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(guard.guard(1L, () -> failing)).expectError(RuntimeException.class).verify();
+        }
+        assertThat(guard.snapshot().get(0).breakerState()).isEqualTo("OPEN");
+
+        // 열려 있는 동안은 upstream 호출 없이 즉시 503 용 예외
+        StepVerifier.create(guard.guard(1L, () -> failing))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOfSatisfying(ModelCallGuard.UpstreamUnavailableException.class,
+                                u -> assertThat(u.retryAfterSeconds()).isEqualTo(1)))
+                .verify();
+        assertThat(upstreamCalls.get()).isEqualTo(4);
+
+        Thread.sleep(350);
+        StepVerifier.create(guard.guard(1L, () -> Mono.just("ok"))).expectNext("ok").verifyComplete();
+        assertThat(guard.snapshot().get(0).breakerState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void clientErrorsReleaseTheSlotWithoutOpeningTheBreaker() {
+        ModelCallGuard guard = guard(props());
+
+        // 잘못된 입력의 4xx 는 몇 번이 와도 장애가 아님
+        for (int i = 0; i < 8; i++) {
+            StepVerifier.create(guard.guard(1L, () -> Mono.error(new ModelCallGuard.UpstreamStatusException(422))))
+                    .expectError(ModelCallGuard.UpstreamStatusException.class)
+                    .verify();
+        }
+        assertThat(guard.snapshot().get(0).breakerState()).isEqualTo("CLOSED");
+        assertThat(guard.snapshot().get(0).inflight()).isZero();
+
+        // 5xx / 429 는 장애
+        for (int status : new int[] {503, 429, 500, 502}) {
+            StepVerifier.create(guard.guard(1L, () -> Mono.error(new ModelCallGuard.UpstreamStatusException(status))))
+                    .expectError(ModelCallGuard.UpstreamStatusException.class)
+                    .verify();
+        }
+        assertThat(guard.snapshot().get(0).breakerState()).isEqualTo("OPEN");
+    }
+
+    @Test
+    void bulkheadRejectsBeyondLimitAndReleasesOnCompletion() {
+        DefamationProperties props = props();
+        props.getGuard().setAdaptive(false);
+        props.getGuard().setMaxConcurrent(2);
+        ModelCallGuard guard = guard(props);
+
+        Mono<String> slow = Mono.delay(Duration.ofMillis(200)).thenReturn("ok");
+        guard.guard(1L, () -> slow).subscribe();
+        guard.guard(1L, () -> slow).subscribe();
+
+        StepVerifier.create(guard.guard(1L, () -> slow))
+                .expectError(ModelCallGuard.UpstreamUnavailableException.class)
+                .verify();
+        assertThat(guard.snapshot().get(0).inflight()).isEqualTo(2);
+        assertThat(guard.snapshot().get(0).limitRejected()).isEqualTo(1);
+
+        StepVerifier.create(Mono.delay(Duration.ofMillis(300)).then(guard.guard(1L, () -> Mono.just("ok"))))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(guard.snapshot().get(0).inflight()).isZero();
+    }
+
+    @Test
+    void limitBacksOffWhenLatencyRisesAndGrowsBackWhenItFalls() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(true, 16, 2, 64, 0.9, 2.0, Duration.ofMinutes(1).toNanos());
+
+        // 기준 지연 10ms, 이후 50ms 가 계속되면 limit 감소
+        limiter.onSuccess(10_000_000L, 15);
+        for (int i = 0; i < 10; i++) limiter.onSuccess(50_000_000L, 15);
+        int reduced = limiter.limit();
+        assertThat(reduced).isLessThan(16);
+
+        // 다시 빨라지고 limit 을 꽉 채워 쓰면 증가
+        for (int i = 0; i < 200; i++) limiter.onSuccess(11_000_000L, reduced);
+        assertThat(limiter.limit()).isGreaterThan(reduced);
+
+        // 여유가 많으면 늘리지 않음
+        int before = limiter.limit();
+        for (int i = 0; i < 200; i++) limiter.onSuccess(11_000_000L, 0);
+        assertThat(limiter.limit()).isEqualTo(before);
+    }
+}
@@ -0,0 +1,89 @@
+package com.defamation.backend.service.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseJsonlReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private List<CaseRow> readAll(CaseJsonlReader reader) throws Exception {
+        List<CaseRow> rows = new ArrayList<>();
+        CaseRow row;
+        while ((row = reader.next()) != null) rows.add(row);
+        return rows;
+    }
+
+    @Test
+    void mapsMergedAndRawDatasetFormats() throws Exception {
+        Path file = dir.resolve("cases.jsonl");
+        Files.writeString(file, String.join("\n",
+                // merged_dataset 형식
+                """
+                {"problem_situation": "상황1", "participants": ["피고인", "피해자"], "raw_id": 10, "case_names": ["명예훼손"], "case_type": "criminal", "court_level": 1, "defendant": "A", "label": 1, "sentence_type": "벌금", "sentence_value": "70만 원", "sentence_suspension": null, "sentence_additional_order": "노역장유치", "sentence_reason": null, "sentence_judgment": "유죄"}""",
+                "",
+                // train/test 형식 (한글 키, 형량 객체, 모르는 키)
+                """
+                {"문제상황": "상황2", "등장인물": [], "형량": {"종류": "징역", "기간": 6, "집행유예": "1년", "부가명령": null, "이유": "반성", "판단": "유죄"}, "id": 11, "casenames": "모욕", "casetype": "criminal", "level": 2, "defendant": "B", "b": 0, "extra": {"x": [1, 2]}}""",
+                // 필수 값 없음 / 범위 밖 / 깨진 JSON
+                """
+                {"problem_situation": "상황3", "raw_id": 12, "case_type": "criminal", "court_level": 1}""",
+                """
+                {"problem_situation": "상황4", "raw_id": 13, "case_type": "criminal", "court_level": 9, "label": 1}""",
+                "{not json"
+        ), StandardCharsets.UTF_8);
+
+        try (CaseJsonlReader reader = new CaseJsonlReader(file, new ObjectMapper())) {
+            List<CaseRow> rows = readAll(reader);
+
+            assertThat(rows).hasSize(2);
+            assertThat(reader.skipped()).isEqualTo(3);
+            assertThat(reader.lineNumber()).isEqualTo(6);
+
+            CaseRow merged = rows.get(0);
+            assertThat(merged.rawId()).isEqualTo(10);
+            assertThat(merged.participants()).isEqualTo("[\"피고인\",\"피해자\"]");
+            assertThat(merged.caseNames()).isEqualTo("[\"명예훼손\"]");
+            assertThat(merged.sentenceValue()).isEqualTo("70만 원");
+            assertThat(merged.sentenceSuspension()).isNull();
+            assertThat(merged.sentenceJudgment()).isEqualTo("유죄");
+
+            CaseRow raw = rows.get(1);
+            assertThat(raw.rawId()).isEqualTo(11);
+            assertThat(raw.problemSituation()).isEqualTo("상황2");
+            assertThat(raw.participants()).isEqualTo("[]");
+            assertThat(raw.caseNames()).isEqualTo("[\"모욕\"]");
+            assertThat(raw.courtLevel()).isEqualTo(2);
+            assertThat(raw.label()).isZero();
+            assertThat(raw.sentenceType()).isEqualTo("징역");
+            assertThat(raw.sentenceValue()).isEqualTo("6");
+            assertThat(raw.sentenceReason()).isEqualTo("반성");
+        }
+    }
+
+    @Test
+    void skipLinesResumesAfterCheckpoint() throws Exception {
+        Path file = dir.resolve("resume.jsonl");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 5; i++) {
+            sb.append("{\"raw_id\": ").append(i)
+                    .append(", \"problem_situation\": \"p\", \"case_type\": \"criminal\", \"court_level\": 1, \"label\": 0}\n");
+        }
+        Files.writeString(file, sb.toString(), StandardCharsets.UTF_8);
+
+        try (CaseJsonlReader reader = new CaseJsonlReader(file, new ObjectMapper())) {
+            reader.skipLines(3);
+            assertThat(readAll(reader)).extracting(CaseRow::rawId).containsExactly(4L, 5L);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.defamation.backend.service.registry;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.Model;
+import com.defamation.backend.repository.ModelRepository;
+import com.defamation.backend.service.JsonListParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+class ModelRegistryTest {
+
+    private final ModelRepository repo = mock(ModelRepository.class);
+    private final DefamationProperties props = new DefamationProperties();
+
+    private ModelRegistry registry() {
+        return new ModelRegistry(props, repo, new JsonListParser(new ObjectMapper()));
+    }
+
+    private static Model model(long id, boolean enabled, String endpoint, String replicas, Integer maxConcurrent) {
+        return Model.builder().id(id).name("m" + id).displayName("모델 " + id).enabled(enabled)
+                .endpointUrl(endpoint).replicaUrls(replicas).maxConcurrent(maxConcurrent).build();
+    }
+
+    @Test
+    void tableWinsOverYamlAndYamlFillsGaps() {
+        props.getModelEndpoints().put(1L, "http://yaml-1/predict");
+        props.getModelEndpoints().put(2L, "http://yaml-2/predict");
+        props.getModelEndpoints().put(9L, "http://yaml-9/predict");
+        when(repo.findAll()).thenReturn(List.of(
+                model(1, true, "http://db-1/predict", null, 8),
+                model(2, true, null, null, null),
+                model(3, true, null, "[\"http://a/predict\", \"http://b/predict\"]", null),
+                model(4, false, "http://db-4/predict", null, null)));
+
+        ModelRegistry registry = registry();
+        registry.reload("test");
+
+        assertThat(registry.endpoints(1L)).containsExactly("http://db-1/predict");
+        assertThat(registry.endpoints(2L)).containsExactly("http://yaml-2/predict");
+        assertThat(registry.endpoints(3L)).containsExactly("http://a/predict", "http://b/predict");
+        // 비활성 모델은 URL 이 있어도 라우팅 안 함
+        assertThat(registry.endpoints(4L)).isEmpty();
+        assertThat(registry.maxConcurrent(1L, 64)).isEqualTo(8);
+        assertThat(registry.maxConcurrent(2L, 64)).isEqualTo(64);
+
+        // yaml 에만 있는 모델은 라우팅만 되고 목록에는 없음
+        assertThat(registry.routableIds()).containsExactly(1L, 2L, 3L, 9L);
+        assertThat(registry.enabledModels()).extracting(ModelRegistry.Entry::id).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void reloadSwapsSnapshotAndKeepsOldOneOnDbError() {
+        when(repo.findAll()).thenReturn(List.of(model(1, true, "http://a/predict", null, null)));
+        ModelRegistry registry = registry();
+        registry.reload("test");
+        ModelRegistry.Snapshot before = registry.snapshot();
+
+        when(repo.findAll()).thenReturn(List.of(model(1, true, null, "[\"http://a/predict\", \"http://b/predict\"]", null)));
+        registry.reload("test");
+
+        // 이전 스냅샷을 들고 있던 쪽은 그대로 (불변)
+        assertThat(before.models().get(1L).endpoints()).containsExactly("http://a/predict");
+        assertThat(registry.endpoints(1L)).containsExactly("http://a/predict", "http://b/predict");
+        assertThat(registry.generation()).isEqualTo(before.generation() + 1);
+
+        when(repo.findAll()).thenThrow(new IllegalStateException("db down"));
+        try {
+            registry.reload("test");
+        } catch (IllegalStateException ignored) {
+        }
+        assertThat(registry.endpoints(1L)).hasSize(2);
+    }
+
+    @Test
+    void failedStartupLoadIsNotReportedAsLoaded() {
+        props.getModelRegistry().setPollInterval(Duration.ZERO);
+        props.getModelEndpoints().put(1L, "http://yaml-1/predict");
+        when(repo.findAll()).thenThrow(new IllegalStateException("Unknown column 'endpoint_url'"));
+
+        ModelRegistry registry = registry();
+        registry.start();
+
+        // yaml 로 라우팅은 되지만, 비어 있는 목록을 테이블 내용으로 믿으면 안 됨
+        assertThat(registry.isLoaded()).isFalse();
+        assertThat(registry.endpoints(1L)).containsExactly("http://yaml-1/predict");
+        assertThat(registry.enabledModels()).isEmpty();
+
+        reset(repo);
+        when(repo.findAll()).thenReturn(List.of(model(1, true, null, null, null)));
+        registry.reload("retry");
+        assertThat(registry.isLoaded()).isTrue();
+        assertThat(registry.enabledModels()).extracting(ModelRegistry.Entry::id).containsExactly(1L);
+    }
+}
@@ -0,0 +1,93 @@
+package com.defamation.backend.service.retrieval;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class Bm25IndexTest {
+
+    @TempDir
+    Path dir;
+
+    private static final List<String> CORPUS = List.of(
+            "피고인은 인터넷 게시판에 피해자가 사기꾼이라는 허위 사실을 적시하였다.",
+            "피고인은 단체 채팅방에서 피해자에게 욕설을 하여 모욕하였다.",
+            "피해자의 명예를 훼손하였다. 벌금 70만 원.",
+            "피고인은 SNS 에 피해자 사진과 함께 허위 사실을 게시하였다. 허위 사실 유포.",
+            "공연히 사실을 적시하여 명예를 훼손하였으나 공익 목적이 인정되어 무죄."
+    );
+
+    @Test
+    void matchesRankBm25Scores() throws Exception {
+        Path file = dir.resolve(Bm25Index.FILE_NAME);
+        Bm25Index.build(CORPUS, file, Bm25Index.DEFAULT_K1, Bm25Index.DEFAULT_B);
+        Bm25Index index = Bm25Index.open(file);
+
+        String query = "허위 사실 적시 명예 훼손";
+        ScoredDocs hits = index.search(query, 3);
+        double[] expected = referenceScores(query);
+        int[] expectedOrder = IntStream.range(0, CORPUS.size()).boxed()
+                .filter(d -> expected[d] > 0)
+                .sorted(Comparator.<Integer>comparingDouble(d -> -expected[d]).thenComparing(d -> d))
+                .limit(3)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        assertThat(index.docCount()).isEqualTo(CORPUS.size());
+        assertThat(hits.docs()).containsExactly(expectedOrder);
+        for (int i = 0; i < hits.size(); i++) {
+            assertThat((double) hits.scores()[i]).isCloseTo(expected[hits.docs()[i]], within(1e-4));
+        }
+    }
+
+    @Test
+    void unknownOrEmptyQueryReturnsNothing() throws Exception {
+        Path file = dir.resolve(Bm25Index.FILE_NAME);
+        Bm25Index.build(CORPUS, file, Bm25Index.DEFAULT_K1, Bm25Index.DEFAULT_B);
+        Bm25Index index = Bm25Index.open(file);
+
+        assertThat(index.search("없는단어", 5).size()).isZero();
+        assertThat(index.search("  ...  ", 5).size()).isZero();
+        assertThat(index.search("피고인은", 10).size()).isEqualTo(3);
+    }
+
+    /**
+     * rank_bm25 BM25Okapi.get_scores 를 그대로 옮긴 참조 구현
+     */
+    private static double[] referenceScores(String query) {
+        int n = CORPUS.size();
+        List<List<String>> docs = CORPUS.stream().map(PassageTokenizer::tokenize).toList();
+        double avgdl = docs.stream().mapToInt(List::size).average().orElse(0);
+
+        Map<String, Integer> df = new HashMap<>();
+        for (List<String> d : docs) d.stream().distinct().forEach(t -> df.merge(t, 1, Integer::sum));
+        Map<String, Double> idf = new HashMap<>();
+        double sum = 0;
+        for (Map.Entry<String, Integer> e : df.entrySet()) {
+            double v = Math.log(n - e.getValue() + 0.5) - Math.log(e.getValue() + 0.5);
+            idf.put(e.getKey(), v);
+            sum += v;
+        }
+        double eps = 0.25 * sum / idf.size();
+        idf.replaceAll((t, v) -> v < 0 ? eps : v);
+
+        double[] scores = new double[n];
+        for (String q : PassageTokenizer.tokenize(query)) {
+            for (int d = 0; d < n; d++) {
+                long tf = docs.get(d).stream().filter(q::equals).count();
+                double k1 = Bm25Index.DEFAULT_K1, b = Bm25Index.DEFAULT_B;
+                scores[d] += idf.getOrDefault(q, 0.0) * (tf * (k1 + 1) / (tf + k1 * (1 - b + b * docs.get(d).size() / avgdl)));
+            }
+        }
+        return scores;
+    }
+}
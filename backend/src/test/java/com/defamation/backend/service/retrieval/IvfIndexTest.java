@@ -0,0 +1,116 @@
+package com.defamation.backend.service.retrieval;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class IvfIndexTest {
+
+    @TempDir
+    Path dir;
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 군집이 있는 L2 정규화 벡터 (실제 임베딩처럼 주제별로 몰려 있음)
+     */
+    private static float[][] clustered(int n, int dim, int clusters, Random rnd) {
+        float[][] centers = new float[clusters][dim];
+        for (float[] c : centers) for (int d = 0; d < dim; d++) c[d] = (float) rnd.nextGaussian();
+        float[][] rows = new float[n][];
+        for (int i = 0; i < n; i++) {
+            float[] c = centers[rnd.nextInt(clusters)];
+            float[] v = new float[dim];
+            double norm = 0;
+            for (int d = 0; d < dim; d++) {
+                v[d] = c[d] + 0.5f * (float) rnd.nextGaussian();
+                norm += v[d] * v[d];
+            }
+            for (int d = 0; d < dim; d++) v[d] /= (float) Math.sqrt(norm);
+            rows[i] = v;
+        }
+        return rows;
+    }
+
+    @Test
+    void npyRoundTrip() throws Exception {
+        float[][] rows = clustered(10, 7, 2, new Random(1));
+        Path npy = dir.resolve("vectors.npy");
+        MappedVectors.write(npy, rows, 7);
+
+        MappedVectors mv = MappedVectors.open(npy);
+        assertThat(mv.size()).isEqualTo(10);
+        assertThat(mv.dim()).isEqualTo(7);
+        float[] row = new float[7];
+        mv.copyRow(9, row);
+        assertThat(row).containsExactly(rows[9]);
+    }
+
+    @Test
+    void approximateSearchHasHighRecallAgainstExact() throws Exception {
+        Random rnd = new Random(7);
+        int n = 3000, dim = 32;
+        float[][] rows = clustered(n, dim, 40, rnd);
+        Path npy = dir.resolve("vectors.npy");
+        MappedVectors.write(npy, rows, dim);
+
+        IvfIndex index = IvfIndex.build(MappedVectors.open(npy), 0, 5000, 8, DotKernel.best(true), pool);
+
+        int queries = 100;
+        double recall = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = rows[rnd.nextInt(n)].clone();
+            for (int d = 0; d < dim; d++) query[d] += 0.05f * (float) rnd.nextGaussian();
+
+            ScoredDocs exact = index.exactSearch(query, 10);
+            ScoredDocs approx = index.search(query, 10, 16, 4, pool);
+
+            Set<Integer> truth = new HashSet<>();
+            for (int d : exact.docs()) truth.add(d);
+            int hit = 0;
+            for (int d : approx.docs()) if (truth.contains(d)) hit++;
+            recall += hit / 10.0;
+
+            // refine 단계는 float32 원본 점수
+            assertThat(approx.scores()[0]).isCloseTo(exact.scores()[0], within(1e-3f));
+        }
+        assertThat(recall / queries).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void simdAndScalarKernelsAgree() {
+        Random rnd = new Random(3);
+        float[] a = new float[1027];
+        float[] b = new float[1027 + 5];
+        byte[] codes = new byte[1027 + 5];
+        for (int i = 0; i < a.length; i++) a[i] = (float) rnd.nextGaussian();
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (float) rnd.nextGaussian();
+            codes[i] = (byte) (rnd.nextInt(255) - 127);
+        }
+
+        DotKernel scalar = DotKernel.best(false);
+        DotKernel best = DotKernel.best(true);
+        // test 는 --add-modules 로 도니까 simd source set 의 구현이 로드돼야 함
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            assertThat(best.name()).startsWith("vector-api");
+        }
+        assertThat(best.dot(a, b, 5, a.length)).isCloseTo(scalar.dot(a, b, 5, a.length), within(1e-2f));
+        assertThat(best.dotInt8(a, codes, 5, a.length)).isCloseTo(scalar.dotInt8(a, codes, 5, a.length), within(1e-1f));
+    }
+}
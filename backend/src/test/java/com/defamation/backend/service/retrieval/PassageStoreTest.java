@@ -0,0 +1,36 @@
+package com.defamation.backend.service.retrieval;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PassageStoreTest {
+
+    private static final List<Passage> PASSAGES = List.of(
+            new Passage("12", "12-0", "피고인은 단체 대화방에서 허위사실을 게시하였다."),
+            new Passage("12", "12-1", "피해자의 사회적 평가가 저하되었다."),
+            new Passage("40", "40-0", "피고인은 교회 예배당에서 피해자를 모욕하였다."));
+
+    @Test
+    void fingerprintSurvivesWriteAndRead(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve(PassageStore.FILE_NAME);
+        PassageStore.write(file, PASSAGES);
+
+        assertThat(PassageStore.read(file).fingerprint()).isEqualTo(new PassageStore(PASSAGES).fingerprint());
+    }
+
+    @Test
+    void fingerprintDiffersWhenContentChangesButCountDoesNot() {
+        List<Passage> edited = List.of(PASSAGES.get(0), PASSAGES.get(1),
+                new Passage("41", "41-0", "피고인은 인터넷 카페에 게시글을 올렸다."));
+        List<Passage> reordered = List.of(PASSAGES.get(1), PASSAGES.get(0), PASSAGES.get(2));
+
+        long original = new PassageStore(PASSAGES).fingerprint();
+        assertThat(new PassageStore(edited).fingerprint()).isNotEqualTo(original);
+        assertThat(new PassageStore(reordered).fingerprint()).isNotEqualTo(original);
+    }
+}
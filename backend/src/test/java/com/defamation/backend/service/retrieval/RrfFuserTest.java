@@ -0,0 +1,36 @@
+package com.defamation.backend.service.retrieval;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RrfFuserTest {
+
+    private static ScoredDocs ranks(int... docs) {
+        return new ScoredDocs(docs, new float[docs.length]);
+    }
+
+    @Test
+    void fusesReciprocalRanksAcrossLists() {
+        // search_hybrid_rerank.py rrf_fuse 와 같은 계산: Σ 1/(k + rank)
+        ScoredDocs fused = RrfFuser.fuse(List.of(ranks(3, 1, 7), ranks(1, 5)), 10, 60);
+
+        assertThat(fused.docs()).containsExactly(1, 3, 5, 7);
+        assertThat(fused.scores()[0]).isCloseTo(1f / 62 + 1f / 61, within(1e-7f));
+        assertThat(fused.scores()[1]).isCloseTo(1f / 61, within(1e-7f));
+        assertThat(fused.scores()[2]).isCloseTo(1f / 62, within(1e-7f));
+        assertThat(fused.scores()[3]).isCloseTo(1f / 63, within(1e-7f));
+    }
+
+    @Test
+    void scratchIsResetBetweenCalls() {
+        RrfFuser.fuse(List.of(ranks(0, 1, 2)), 4, 60);
+        ScoredDocs second = RrfFuser.fuse(List.of(ranks(2)), 4, 60);
+
+        assertThat(second.docs()).containsExactly(2);
+        assertThat(second.scores()[0]).isCloseTo(1f / 61, within(1e-7f));
+    }
+}
@@ -0,0 +1,168 @@
+package com.defamation.backend.service.routing;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.service.guard.ModelCallGuard;
+import com.defamation.backend.service.registry.ModelRegistry;
+import com.defamation.backend.support.MockModelServer;
+import com.defamation.backend.support.TestModelRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelRouterTest {
+
+    private static final Duration SLOW = Duration.ofMillis(800);
+
+    private final MockModelServer fast = MockModelServer.start().delay(Duration.ofMillis(20));
+    private final MockModelServer slow = MockModelServer.start().delay(SLOW);
+    private final WebClient client = WebClient.create();
+
+    @AfterEach
+    void tearDown() {
+        fast.close();
+        slow.close();
+    }
+
+    private ModelRouter router(boolean hedge, List<String> urls) {
+        DefamationProperties props = new DefamationProperties();
+        props.getModelReplicas().put(1L, urls);
+        props.getRouting().setHedgeEnabled(hedge);
+        props.getRouting().setHedgeInitialDelay(Duration.ofMillis(100));
+        props.getRouting().setHedgeMinSamples(10);
+        props.getRouting().setEjectAfterFailures(2);
+        ModelRegistry registry = TestModelRegistry.of(props);
+        return new ModelRouter(props, client, registry, new ModelCallGuard(props, registry));
+    }
+
+    private Mono<String> post(String url) {
+        return client.post().uri(url)
+                .bodyValue(Map.of("inputs", "사건"))
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    /**
+     * 동시 4건씩 40건, 복제본 하나가 느릴 때 p99
+     */
+    private long p99(ModelRouter router) {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        Flux.range(0, 40)
+                .flatMap(i -> {
+                    long t0 = System.nanoTime();
+                    return router.call(1L, this::post)
+                            .doOnSuccess(v -> latencies.add((System.nanoTime() - t0) / 1_000_000));
+                }, 4)
+                .blockLast(Duration.ofSeconds(30));
+
+        assertThat(latencies).hasSize(40);
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(0.99 * sorted.size()) - 1);
+    }
+
+    @Test
+    void hedgingCutsTailLatencyWhenOneReplicaIsSlow() {
+        long withoutHedge = p99(router(false, List.of(fast.url(), slow.url())));
+        long withHedge = p99(router(true, List.of(fast.url(), slow.url())));
+
+        assertThat(withoutHedge).isGreaterThanOrEqualTo(SLOW.toMillis());
+        assertThat(withHedge).isLessThan(SLOW.toMillis() / 2);
+    }
+
+    @Test
+    void losingHedgeIsCancelled() {
+        ModelRouter router = router(true, List.of(fast.url(), slow.url()));
+        for (int i = 0; i < 10; i++) {
+            router.call(1L, this::post).block(Duration.ofSeconds(5));
+        }
+
+        long cancelled = router.status().stream().mapToLong(ModelRouter.ReplicaStatus::cancelled).sum();
+        long slowRequests = router.status().stream()
+                .filter(s -> s.url().equals(slow.url()))
+                .mapToLong(ModelRouter.ReplicaStatus::requests)
+                .sum();
+        // 느린 쪽으로 간 요청은 전부 헤지에 져서 취소
+        assertThat(cancelled).isEqualTo(slowRequests);
+    }
+
+    @Test
+    void failingReplicaIsEjectedAndCallsStillSucceed() {
+        MockModelServer dead = MockModelServer.start();
+        String deadUrl = dead.url();
+        dead.close();
+
+        ModelRouter router = router(true, List.of(fast.url(), deadUrl));
+        for (int i = 0; i < 10; i++) {
+            assertThat(router.call(1L, this::post).block(Duration.ofSeconds(5))).contains("generated_text");
+        }
+
+        ModelRouter.ReplicaStatus deadStatus = router.status().stream()
+                .filter(s -> s.url().equals(deadUrl))
+                .findFirst()
+                .orElseThrow();
+        assertThat(deadStatus.healthy()).isFalse();
+        assertThat(deadStatus.failures()).isEqualTo(2);
+    }
+
+    @Test
+    void registryReloadAddsReplicaWithoutDroppingInFlightCall() {
+        DefamationProperties props = new DefamationProperties();
+        props.getModelReplicas().put(1L, new ArrayList<>(List.of(slow.url())));
+        props.getRouting().setHedgeEnabled(false);
+        ModelRegistry registry = TestModelRegistry.of(props);
+        ModelRouter router = new ModelRouter(props, client, registry, new ModelCallGuard(props, registry));
+
+        // 느린 복제본 하나로 시작한 호출이 도는 중에 복제본 추가
+        Mono<String> inFlight = router.call(1L, this::post).cache();
+        inFlight.subscribe();
+        sleep(100);
+        props.getModelReplicas().get(1L).add(fast.url());
+        registry.reload("test");
+
+        assertThat(inFlight.block(Duration.ofSeconds(5))).contains("generated_text");
+        assertThat(router.status()).extracting(ModelRouter.ReplicaStatus::url)
+                .containsExactly(slow.url(), fast.url());
+        // 남은 복제본은 기존 통계를 이어받음
+        ModelRouter.ReplicaStatus slowStatus = router.status().get(0);
+        assertThat(slowStatus.requests()).isEqualTo(1);
+        assertThat(slowStatus.outstanding()).isZero();
+    }
+
+    @Test
+    void hedgeNeedsItsOwnGuardSlot() {
+        try (MockModelServer slow2 = MockModelServer.start().delay(SLOW)) {
+            DefamationProperties props = new DefamationProperties();
+            props.getModelReplicas().put(1L, List.of(slow.url(), slow2.url()));
+            props.getRouting().setHedgeInitialDelay(Duration.ofMillis(100));
+            props.getGuard().setAdaptive(false);
+            props.getGuard().setMaxConcurrent(1);
+            ModelRegistry registry = TestModelRegistry.of(props);
+            ModelCallGuard guard = new ModelCallGuard(props, registry);
+            ModelRouter router = new ModelRouter(props, client, registry, guard);
+
+            // 슬롯이 1개라 p95 를 넘겨도 헤지는 못 나가고, 첫 요청 결과로 끝남
+            assertThat(router.call(1L, this::post).block(Duration.ofSeconds(5))).contains("generated_text");
+            assertThat(slow.requestCount() + slow2.requestCount()).isEqualTo(1);
+            assertThat(guard.snapshot().get(0).limitRejected()).isEqualTo(1);
+            assertThat(router.status()).allSatisfy(s -> assertThat(s.failures()).isZero());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
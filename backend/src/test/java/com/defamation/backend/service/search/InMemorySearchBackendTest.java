@@ -0,0 +1,47 @@
+package com.defamation.backend.service.search;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.Case;
+import com.defamation.backend.repository.CaseRepository;
+import com.defamation.backend.repository.ClassificationRequestRepository;
+import com.defamation.backend.service.ingest.CasesImportedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemorySearchBackendTest {
+
+    @Test
+    void rowRewrittenWithSameIdIsReindexedAfterImport() {
+        DefamationProperties props = new DefamationProperties();
+        props.getSearch().setSyncInterval(Duration.ZERO);
+        CaseRepository caseRepository = mock(CaseRepository.class);
+        AtomicReference<List<Case>> table = new AtomicReference<>(List.of(
+                Case.builder().id(1L).problemSituation("피고인은 단체 대화방에서 허위사실을 게시하였다.").build()));
+        when(caseRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenAnswer(inv -> {
+            long after = inv.getArgument(0);
+            return table.get().stream().filter(c -> c.getId() > after).toList();
+        });
+        InMemorySearchBackend backend = new InMemorySearchBackend(props, caseRepository,
+                mock(ClassificationRequestRepository.class));
+
+        assertThat(backend.countCases("단체 대화방")).isEqualTo(1);
+
+        // upsert: raw_id 가 같아서 id 1 을 그대로 두고 본문만 바뀜
+        table.set(List.of(Case.builder().id(1L).problemSituation("피고인은 교회 예배당에서 피해자를 모욕하였다.").build()));
+        assertThat(backend.countCases("교회 예배당")).isZero();
+
+        backend.onCasesImported(new CasesImportedEvent("cases.jsonl", 1));
+        assertThat(backend.countCases("교회 예배당")).isEqualTo(1);
+        assertThat(backend.countCases("단체 대화방")).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package com.defamation.backend.service.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * merged_dataset.jsonl 로 역색인 결과가 선형 LIKE 스캔 결과를 모두 포함하는지 확인
+ * (데이터 파일이 없으면 skip, 지연 비교는 jmh 의 SearchScoringBenchmark)
+ */
+class NgramInvertedIndexTest {
+
+    private static final Path DATASET = Paths.get("../merged_dataset.jsonl");
+    private static final List<String> QUERIES = List.of(
+            "명예훼손", "허위사실", "단체 대화방", "카카오톡", "교회", "인터넷 카페", "모욕", "페이스북 게시글");
+
+    @Test
+    void rankedSearchFindsEveryLikeMatch() throws Exception {
+        assumeTrue(Files.exists(DATASET), "merged_dataset.jsonl 없음");
+
+        ObjectMapper om = new ObjectMapper();
+        List<String> docs = new ArrayList<>();
+        try (BufferedReader r = Files.newBufferedReader(DATASET, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = r.readLine()) != null) {
+                if (line.isBlank()) continue;
+                JsonNode n = om.readTree(line);
+                docs.add(n.path("problem_situation").asText("") + " " + n.path("defendant").asText(""));
+            }
+        }
+
+        NgramInvertedIndex index = new NgramInvertedIndex();
+        for (int i = 0; i < docs.size(); i++) index.add(i, docs.get(i));
+
+        for (String q : QUERIES) {
+            Set<Long> like = new HashSet<>();
+            for (int i = 0; i < docs.size(); i++) {
+                if (docs.get(i).toLowerCase(Locale.ROOT).contains(q.toLowerCase(Locale.ROOT))) like.add((long) i);
+            }
+
+            Set<Long> found = new HashSet<>();
+            index.search(q).forEach(h -> found.add(h.docId()));
+            assertThat(found).as("query=%s", q).containsAll(like);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.defamation.backend.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 테스트용 FastAPI /predict 대역
+ * - {"inputs": "..."}   -> {"generated_text": "..."}
+ * - {"inputs": [..]}    -> {"generated_text": [..]} (배치)
+ * - /v1/chat/completions (stream) -> OpenAI 호환 SSE 청크
+ */
+public class MockModelServer implements AutoCloseable {
+
+    public static final String VERDICT = """
+            {"판단": "유죄", "형량": {"형종": "벌금", "벌금액": 700000, "집행유예_기간_월": null, "추가_조건": "노역장유치"}, "양형이유": "초범", "죄명": ["명예훼손"]}""";
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger items = new AtomicInteger();
+
+    private volatile Duration delay = Duration.ZERO;
+    private volatile Function<String, String> responder = inputs -> VERDICT;
+
+    private MockModelServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/predict", this::handle);
+        server.createContext("/v1/chat/completions", this::handleStream);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public static MockModelServer start() {
+        try {
+            return new MockModelServer();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String url() {
+        return baseUrl() + "/predict";
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public MockModelServer delay(Duration delay) {
+        this.delay = delay;
+        return this;
+    }
+
+    public MockModelServer responder(Function<String, String> responder) {
+        this.responder = responder;
+        return this;
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    public int itemCount() {
+        return items.get();
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        requests.incrementAndGet();
+        JsonNode inputs = om.readTree(ex.getRequestBody()).path("inputs");
+
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Object generated;
+        if (inputs.isArray()) {
+            List<String> out = new ArrayList<>();
+            inputs.forEach(n -> out.add(responder.apply(n.asText())));
+            items.addAndGet(out.size());
+            generated = out;
+        } else {
+            items.incrementAndGet();
+            generated = responder.apply(inputs.asText());
+        }
+
+        byte[] body = om.writeValueAsString(Map.of("generated_text", generated)).getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, body.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private void handleStream(HttpExchange ex) throws IOException {
+        requests.incrementAndGet();
+        JsonNode messages = om.readTree(ex.getRequestBody()).path("messages");
+        String prompt = messages.path(messages.size() - 1).path("content").asText();
+        String text = responder.apply(prompt);
+
+        ex.getResponseHeaders().add("Content-Type", "text/event-stream");
+        ex.sendResponseHeaders(200, 0);
+        try (OutputStream os = ex.getResponseBody()) {
+            for (int i = 0; i < text.length(); i += 4) {
+                String piece = text.substring(i, Math.min(text.length(), i + 4));
+                Map<String, Object> chunk = Map.of("choices", List.of(Map.of("delta", Map.of("content", piece))));
+                os.write(("data: " + om.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                os.flush();
+            }
+            os.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+        items.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
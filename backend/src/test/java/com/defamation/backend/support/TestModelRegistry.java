@@ -0,0 +1,30 @@
+package com.defamation.backend.support;
+
+import com.defamation.backend.config.DefamationProperties;
+import com.defamation.backend.domain.Model;
+import com.defamation.backend.repository.ModelRepository;
+import com.defamation.backend.service.JsonListParser;
+import com.defamation.backend.service.registry.ModelRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DB 없이 쓰는 ModelRegistry (models 행은 주어진 것만, 나머지는 props 의 yaml 값)
+ */
+public final class TestModelRegistry {
+
+    private TestModelRegistry() {
+    }
+
+    public static ModelRegistry of(DefamationProperties props, Model... rows) {
+        ModelRepository repo = mock(ModelRepository.class);
+        when(repo.findAll()).thenReturn(List.of(rows));
+        ModelRegistry registry = new ModelRegistry(props, repo, new JsonListParser(new ObjectMapper()));
+        registry.reload("test");
+        return registry;
+    }
+}
@@ -0,0 +1,110 @@
+package com.defamation.backend.web.asset;
+
+import com.defamation.backend.config.DefamationProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.HttpRequestHandler;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticAssetHandlerTest {
+
+    private static final byte[] VIDEO = new byte[10_000];
+    private static final String JS = "console.log('명예훼손');\n".repeat(200);
+
+    static {
+        for (int i = 0; i < VIDEO.length; i++) VIDEO[i] = (byte) i;
+    }
+
+    private final DefamationProperties props = new DefamationProperties();
+    private final StaticAssetStore store = new StaticAssetStore(props);
+    private final StaticAssetHandlerMapping mapping =
+            new StaticAssetHandlerMapping(store, new StaticAssetHandler(props), props);
+
+    StaticAssetHandlerTest() {
+        store.put("/index.html", "<!doctype html><div id=app></div>".getBytes(StandardCharsets.UTF_8), null);
+        store.put("/assets/index-8LIS3yzH.js", JS.getBytes(StandardCharsets.UTF_8), new byte[]{1, 2, 3});
+        store.put("/assets/law-BbILsAhn.mp4", VIDEO, null);
+    }
+
+    private MockHttpServletResponse get(String path, String... headers) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", path);
+        for (int i = 0; i < headers.length; i += 2) req.addHeader(headers[i], headers[i + 1]);
+        Object handler = mapping.getHandlerInternal(req);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        if (handler == null) {
+            res.setStatus(404);
+        } else {
+            ((HttpRequestHandler) handler).handleRequest(req, res);
+        }
+        return res;
+    }
+
+    @Test
+    void picksEncodingAndMarksHashedAssetsImmutable() throws Exception {
+        MockHttpServletResponse br = get("/assets/index-8LIS3yzH.js", "Accept-Encoding", "gzip, deflate, br");
+        assertThat(br.getHeader("Content-Encoding")).isEqualTo("br");
+        assertThat(br.getContentAsByteArray()).containsExactly(1, 2, 3);
+        assertThat(br.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(br.getHeader("Cache-Control")).isEqualTo("public, max-age=31536000, immutable");
+
+        // br 을 q=0 으로 거절하면 기동 시 만든 gzip
+        MockHttpServletResponse gz = get("/assets/index-8LIS3yzH.js", "Accept-Encoding", "br;q=0, gzip");
+        assertThat(gz.getHeader("Content-Encoding")).isEqualTo("gzip");
+        byte[] unzipped = new GZIPInputStream(new ByteArrayInputStream(gz.getContentAsByteArray())).readAllBytes();
+        assertThat(new String(unzipped, StandardCharsets.UTF_8)).isEqualTo(JS);
+
+        MockHttpServletResponse plain = get("/assets/index-8LIS3yzH.js");
+        assertThat(plain.getHeader("Content-Encoding")).isNull();
+        assertThat(plain.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(JS);
+        assertThat(plain.getHeader("ETag")).isNotEqualTo(gz.getHeader("ETag"));
+    }
+
+    @Test
+    void servesByteRangesOfVideo() throws Exception {
+        MockHttpServletResponse part = get("/assets/law-BbILsAhn.mp4", "Range", "bytes=100-199");
+        assertThat(part.getStatus()).isEqualTo(206);
+        assertThat(part.getHeader("Content-Range")).isEqualTo("bytes 100-199/10000");
+        assertThat(part.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(VIDEO, 100, 200));
+
+        MockHttpServletResponse tail = get("/assets/law-BbILsAhn.mp4", "Range", "bytes=-10");
+        assertThat(tail.getHeader("Content-Range")).isEqualTo("bytes 9990-9999/10000");
+        assertThat(tail.getContentAsByteArray()).hasSize(10);
+
+        MockHttpServletResponse open = get("/assets/law-BbILsAhn.mp4", "Range", "bytes=9000-");
+        assertThat(open.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(VIDEO, 9000, 10_000));
+
+        assertThat(get("/assets/law-BbILsAhn.mp4", "Range", "bytes=20000-").getStatus()).isEqualTo(416);
+        // 여러 구간은 전체로
+        assertThat(get("/assets/law-BbILsAhn.mp4", "Range", "bytes=0-1,5-6").getContentAsByteArray()).hasSize(10_000);
+    }
+
+    @Test
+    void revalidatesIndexWithEtag() throws Exception {
+        MockHttpServletResponse first = get("/index.html");
+        assertThat(first.getHeader("Cache-Control")).isEqualTo("no-cache");
+
+        MockHttpServletResponse again = get("/index.html", "If-None-Match", first.getHeader("ETag"));
+        assertThat(again.getStatus()).isEqualTo(304);
+        assertThat(again.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void fallsBackToIndexForFrontendRoutesOnly() throws Exception {
+        assertThat(get("/cases", "Accept", "text/html").getContentAsString()).contains("id=app");
+        assertThat(get("/history/3", "Accept", "text/html,application/xhtml+xml").getContentAsString())
+                .contains("id=app");
+        assertThat(get("/").getContentAsString()).contains("id=app");
+
+        assertThat(get("/api/cases/999", "Accept", "text/html").getStatus()).isEqualTo(404);
+        assertThat(get("/actuator/prometheus").getStatus()).isEqualTo(404);
+        assertThat(get("/cases", "Accept", "application/json").getStatus()).isEqualTo(404);
+        assertThat(get("/missing.js").getStatus()).isEqualTo(404);
+    }
+}
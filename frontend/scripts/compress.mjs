@@ -0,0 +1,39 @@
+// vite build 후 텍스트 계열 산출물 옆에 .br / .gz 생성 (백엔드 StaticAssetStore 가 Accept-Encoding 으로 골라 서빙)
+// 사용: node scripts/compress.mjs [dir=dist]
+import { readdir, readFile, stat, writeFile } from 'node:fs/promises'
+import { join, extname } from 'node:path'
+import { brotliCompressSync, gzipSync, constants } from 'node:zlib'
+
+const dir = process.argv[2] ?? 'dist'
+const COMPRESSIBLE = new Set(['.html', '.js', '.mjs', '.css', '.svg', '.json', '.txt', '.xml', '.map'])
+const MIN_BYTES = 1024
+// 원본 대비 이보다 작을 때만 남김
+const MIN_SAVING = 0.9
+
+async function* files(d) {
+  for (const entry of await readdir(d, { withFileTypes: true })) {
+    const p = join(d, entry.name)
+    if (entry.isDirectory()) yield* files(p)
+    else yield p
+  }
+}
+
+let count = 0
+for await (const file of files(dir)) {
+  if (!COMPRESSIBLE.has(extname(file))) continue
+  if ((await stat(file)).size < MIN_BYTES) continue
+
+  const src = await readFile(file)
+  const br = brotliCompressSync(src, {
+    params: {
+      [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+      [constants.BROTLI_PARAM_SIZE_HINT]: src.length,
+    },
+  })
+  const gz = gzipSync(src, { level: 9 })
+  if (br.length < src.length * MIN_SAVING) await writeFile(file + '.br', br)
+  if (gz.length < src.length * MIN_SAVING) await writeFile(file + '.gz', gz)
+  count++
+  console.log(`${file}: ${src.length} -> br ${br.length}, gzip ${gz.length}`)
+}
+console.log(`compressed ${count} files in ${dir}`)
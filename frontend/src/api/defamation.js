@@ -18,3 +18,10 @@ export const fetchRecentCases = (limit=10, q='') =>
 
 export const fetchRecentModelCases = (limit=10, q='') =>
   http.get('/classification-requests', { params: pageParams(limit, q) }).then(r => r.data)
+
+// 상세 (목록의 sentenceReason 은 앞부분 미리보기라 전체 본문은 여기서)
+export const fetchCaseDetail = (id) =>
+  http.get(`/cases/${id}`).then(r => r.data)
+
+export const fetchModelCaseDetail = (id) =>
+  http.get(`/classification-requests/${id}`).then(r => r.data)
@@ -0,0 +1,61 @@
+# scripts/compare_jmh.py
+# 두 JMH JSON 결과(backend/jmh-results/<commit>.json) 비교
+#   python scripts/compare_jmh.py backend/jmh-results/abc1234.json backend/jmh-results/def5678.json [--threshold 10]
+# 기준 대비 threshold(%) 이상 느려진 항목이 있으면 종료 코드 1
+import sys, json, argparse
+from pathlib import Path
+
+def load(p: Path):
+    with open(p, "r", encoding="utf-8") as f:
+        rows = json.load(f)
+    out = {}
+    for r in rows:
+        params = r.get("params") or {}
+        key = r["benchmark"].rsplit(".", 2)[-2:]
+        key = ".".join(key)
+        if params:
+            key += " [" + ", ".join(f"{k}={v}" for k, v in sorted(params.items())) + "]"
+        m = r["primaryMetric"]
+        out[key] = (m["score"], m.get("scoreError") or 0.0, m["scoreUnit"], r.get("mode", "avgt"))
+    return out
+
+def main():
+    ap = argparse.ArgumentParser()
+    ap.add_argument("base")
+    ap.add_argument("head")
+    ap.add_argument("--threshold", type=float, default=10.0, help="회귀로 볼 변화율(%%)")
+    args = ap.parse_args()
+
+    base = load(Path(args.base))
+    head = load(Path(args.head))
+
+    regressions = 0
+    width = max((len(k) for k in head), default=10)
+    print(f"{'benchmark':<{width}}  {'base':>12}  {'head':>12}  {'change':>8}  unit")
+    for key in sorted(set(base) | set(head)):
+        if key not in base or key not in head:
+            side = "head only" if key in head else "base only"
+            print(f"{key:<{width}}  {side}")
+            continue
+        b, berr, unit, mode = base[key]
+        h, herr, _, _ = head[key]
+        # avgt/sample/ss 는 작을수록, thrpt 는 클수록 좋음
+        lower_better = mode != "thrpt"
+        change = (h - b) / b * 100 if b else 0.0
+        worse = change if lower_better else -change
+        # 오차 범위가 겹치면 회귀로 보지 않음
+        overlap = abs(h - b) <= (berr + herr)
+        mark = ""
+        if worse >= args.threshold and not overlap:
+            mark = "  REGRESSION"
+            regressions += 1
+        elif -worse >= args.threshold and not overlap:
+            mark = "  improved"
+        print(f"{key:<{width}}  {b:>12.3f}  {h:>12.3f}  {change:>+7.1f}%  {unit}{mark}")
+
+    if regressions:
+        print(f"\n{regressions} regression(s) over {args.threshold}%")
+        sys.exit(1)
+
+if __name__ == "__main__":
+    main()